@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.benchmark;
+
+import de.cuioss.sheriff.oauth.core.pipeline.DecodedJwt;
+import de.cuioss.sheriff.oauth.core.pipeline.NonValidatingJwtParser;
+import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micro benchmark for Base64URL decoding of JWT segments across token size classes.
+ * <p>
+ * Compares the former decoding path of {@link NonValidatingJwtParser} (decode to String and
+ * re-encode to bytes for DSL-JSON) with the direct byte path, and measures the complete
+ * structural decoding of a token of the given size class.
+ * <p>
+ * Token size classes (encoded payload length):
+ * <ul>
+ *   <li><strong>512</strong>: Minimal access token</li>
+ *   <li><strong>2048</strong>: Typical access token</li>
+ *   <li><strong>4096</strong>: Large access token (many roles/groups)</li>
+ *   <li><strong>7168</strong>: Close to the default maximum token size</li>
+ * </ul>
+ * <p>
+ * Run with {@code -Djmh.include=.*Base64UrlDecodingBenchmark.*}, it is not part of the standard suite.
+ *
+ * @author Oliver Wolff
+ * @since 1.0
+ */
+@State(Scope.Benchmark) @BenchmarkMode(Mode.AverageTime) @OutputTimeUnit(TimeUnit.NANOSECONDS) public class Base64UrlDecodingBenchmark {
+
+    private static final String HEADER = "{\"alg\":\"RS256\",\"typ\":\"JWT\",\"kid\":\"default-key-id\"}";
+
+    @Param({"512", "2048", "4096", "7168"}) private int encodedPayloadSize;
+
+    private String encodedPayload;
+    private String token;
+    private NonValidatingJwtParser parser;
+
+    @Setup(Level.Trial) public void setup() {
+        // Pad a realistic claim set up to the requested size class
+        int rawSize = encodedPayloadSize * 3 / 4;
+        String prefix = "{\"iss\":\"https://issuer.example.com\",\"sub\":\"benchmark\",\"exp\":4102444800,\"data\":\"";
+        String payload = prefix + "x".repeat(Math.max(0, rawSize - prefix.length() - 2)) + "\"}";
+
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        encodedPayload = encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        token = encoder.encodeToString(HEADER.getBytes(StandardCharsets.UTF_8)) + "." + encodedPayload + "."
+                + encoder.encodeToString(new byte[256]);
+        parser = NonValidatingJwtParser.builder().securityEventCounter(new SecurityEventCounter()).build();
+    }
+
+    /**
+     * Former path: decode to String and convert back to bytes for DSL-JSON.
+     *
+     * @return the bytes handed to the JSON parser
+     */
+    @Benchmark public byte[] decodeViaStringRoundTrip() {
+        String json = new String(Base64.getUrlDecoder().decode(encodedPayload), StandardCharsets.UTF_8);
+        return json.getBytes();
+    }
+
+    /**
+     * Current path: intrinsic JDK decoder, bytes handed to DSL-JSON directly.
+     *
+     * @return the bytes handed to the JSON parser
+     */
+    @Benchmark public byte[] decodeDirect() {
+        return Base64.getUrlDecoder().decode(encodedPayload);
+    }
+
+    /**
+     * Complete structural decoding (size check, split, Base64URL, JSON) of a token of the size class.
+     *
+     * @return the decoded token
+     */
+    @Benchmark public DecodedJwt parseToken() {
+        return parser.decode(token);
+    }
+}
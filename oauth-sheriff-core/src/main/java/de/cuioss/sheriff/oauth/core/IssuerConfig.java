@@ -20,7 +20,9 @@ import de.cuioss.http.client.LoadingStatusProvider;
 import de.cuioss.sheriff.oauth.core.domain.claim.mapper.ClaimMapper;
 import de.cuioss.sheriff.oauth.core.jwks.JwksLoader;
 import de.cuioss.sheriff.oauth.core.jwks.JwksLoaderFactory;
+import de.cuioss.sheriff.oauth.core.jwks.file.FileJwksLoaderConfig;
 import de.cuioss.sheriff.oauth.core.jwks.http.HttpJwksLoaderConfig;
+import de.cuioss.sheriff.oauth.core.pipeline.validator.ClaimValidationStep;
 import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
 import de.cuioss.sheriff.oauth.core.security.SignatureAlgorithmPreferences;
 import de.cuioss.tools.base.Preconditions;
@@ -84,6 +86,11 @@ public class IssuerConfig implements LoadingStatusProvider {
 
     private static final CuiLogger LOGGER = new CuiLogger(IssuerConfig.class);
 
+    /**
+     * Default maximum number of key trial verifications per second and issuer.
+     */
+    public static final int DEFAULT_KEY_TRIALS_PER_SECOND = 100;
+
     /**
      * Whether this issuer configuration is enabled.
      * <p>
@@ -145,6 +152,55 @@ public class IssuerConfig implements LoadingStatusProvider {
      */
     boolean claimSubOptional;
 
+    /**
+     * Whether cheap claim checks are performed before the signature verification.
+     * <p>
+     * When set to {@code true}, the access token pipeline checks the "aud", "nbf" and "exp" claims
+     * directly on the decoded payload and rejects mismatching tokens before the expensive
+     * signature verification. Rejections use the same log messages, security events and
+     * exceptions as the regular claim validation, which still runs after the signature verification.
+     * The checks follow the order of the regular claim validation, so tokens missing a mandatory
+     * claim are still reported as such.
+     * </p>
+     * <p>
+     * <strong>Note:</strong> A token that is both forged and expired (or not yet valid, or issued for
+     * another audience) is reported by its claim violation instead of {@code SIGNATURE_VALIDATION_FAILED},
+     * because the signature is never checked. This changes the reported security events, which is why
+     * the option must be enabled explicitly.
+     * </p>
+     * <p>
+     * Default value is {@code false}.
+     * </p>
+     */
+    boolean preSignatureClaimValidation;
+
+    /**
+     * Maximum number of keys tried for a token identifying its key neither by "kid" nor by
+     * "x5t#S256".
+     * <p>
+     * Such tokens are verified against at most this many keys compatible with their algorithm,
+     * the keys that verified tokens most recently first. With {@code 0} these tokens are rejected
+     * as missing the "kid" claim. Tokens carrying "x5t#S256" are always resolved by thumbprint.
+     * </p>
+     * <p>
+     * Default value is {@code 0}.
+     * </p>
+     */
+    int maxKeyTrials;
+
+    /**
+     * Maximum number of key trial verifications per second for this issuer.
+     * <p>
+     * Every key tried for a token without key identifier costs one signature verification. Tokens
+     * exceeding this limit are rejected with {@code KEY_TRIAL_RATE_LIMITED}, so that a flood of
+     * such tokens cannot multiply the verification load by the number of keys.
+     * </p>
+     * <p>
+     * Default value is {@value #DEFAULT_KEY_TRIALS_PER_SECOND}.
+     * </p>
+     */
+    int keyTrialsPerSecond;
+
     SignatureAlgorithmPreferences algorithmPreferences;
 
     /**
@@ -153,6 +209,12 @@ public class IssuerConfig implements LoadingStatusProvider {
      */
     Map<String, ClaimMapper> claimMappers;
 
+    /**
+     * Custom claim validation steps, executed after the built-in claim validation.
+     * Never null, defaults to an empty list.
+     */
+    List<ClaimValidationStep> claimValidationSteps;
+
     /**
      * The JwksLoader instance used for loading JWKS keys.
      * This can be null initially and will be initialized
@@ -168,6 +230,7 @@ public class IssuerConfig implements LoadingStatusProvider {
      * It will initialize the JwksLoader based on the first available configuration in the following order:
      * <ol>
      *   <li>HTTP JwksLoader (httpJwksLoaderConfig)</li>
+     *   <li>Watching file JwksLoader (fileJwksLoaderConfig)</li>
      *   <li>File JwksLoader (jwksFilePath)</li>
      *   <li>In-memory JwksLoader (jwksContent)</li>
      * </ol>
@@ -297,11 +360,16 @@ public class IssuerConfig implements LoadingStatusProvider {
         private Set<String> expectedAudience;
         private Set<String> expectedClientId;
         private boolean claimSubOptional = false;
+        private boolean preSignatureClaimValidation = false;
+        private int maxKeyTrials = 0;
+        private int keyTrialsPerSecond = DEFAULT_KEY_TRIALS_PER_SECOND;
         private SignatureAlgorithmPreferences algorithmPreferences = new SignatureAlgorithmPreferences();
         private Map<String, ClaimMapper> claimMappers;
+        private List<ClaimValidationStep> claimValidationSteps;
         private JwksLoader jwksLoader;
 
         private HttpJwksLoaderConfig httpJwksLoaderConfig;
+        private FileJwksLoaderConfig fileJwksLoaderConfig;
         private String jwksFilePath;
         private String jwksContent;
 
@@ -462,6 +530,69 @@ public class IssuerConfig implements LoadingStatusProvider {
             return this;
         }
 
+        /**
+         * Sets whether cheap claim checks are performed before the signature verification.
+         * <p>
+         * When set to {@code true}, access tokens with a mismatching "aud", a future "nbf" or an
+         * expired "exp" claim are rejected directly from the decoded payload, before the expensive
+         * signature verification. The regular claim validation is not affected.
+         * </p>
+         * <p>
+         * <strong>Note:</strong> Forged tokens violating one of these claims are reported by their claim
+         * violation instead of a signature failure.
+         * </p>
+         * <p>
+         * Default value is {@code false}.
+         * </p>
+         *
+         * @param preSignatureClaimValidation {@code true} to reject by claims before the signature verification,
+         *                                    {@code false} to always verify the signature first
+         * @return this builder instance for method chaining
+         */
+        public IssuerConfigBuilder preSignatureClaimValidation(boolean preSignatureClaimValidation) {
+            this.preSignatureClaimValidation = preSignatureClaimValidation;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of keys tried for a token without "kid" and "x5t#S256".
+         * <p>
+         * Some identity providers issue tokens without key identifier. Such tokens are verified
+         * against at most this many keys of the JWKS compatible with their algorithm, the keys that
+         * verified tokens most recently first.
+         * </p>
+         * <p>
+         * Default value is {@code 0}, rejecting these tokens as missing the "kid" claim.
+         * </p>
+         *
+         * @param maxKeyTrials the maximum number of keys to try, {@code 0} to disable, must not be negative
+         * @return this builder instance for method chaining
+         */
+        public IssuerConfigBuilder maxKeyTrials(int maxKeyTrials) {
+            Preconditions.checkArgument(maxKeyTrials >= 0, "maxKeyTrials must not be negative");
+            this.maxKeyTrials = maxKeyTrials;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of key trial verifications per second for this issuer.
+         * <p>
+         * Tokens without key identifier exceeding this limit are rejected without further
+         * verification. Only relevant if {@link #maxKeyTrials(int)} is positive.
+         * </p>
+         * <p>
+         * Default value is {@value IssuerConfig#DEFAULT_KEY_TRIALS_PER_SECOND}.
+         * </p>
+         *
+         * @param keyTrialsPerSecond the maximum number of trial verifications per second, must be positive
+         * @return this builder instance for method chaining
+         */
+        public IssuerConfigBuilder keyTrialsPerSecond(int keyTrialsPerSecond) {
+            Preconditions.checkArgument(keyTrialsPerSecond > 0, "keyTrialsPerSecond must be positive");
+            this.keyTrialsPerSecond = keyTrialsPerSecond;
+            return this;
+        }
+
         /**
          * Sets the signature algorithm preferences for token validation.
          * <p>
@@ -539,6 +670,49 @@ public class IssuerConfig implements LoadingStatusProvider {
             return this;
         }
 
+        /**
+         * Adds a custom claim validation step.
+         * <p>
+         * Custom steps become part of the compiled validation plan of the issuer and run after
+         * the built-in claim validation, in the order they were added. Multiple steps can be added
+         * by calling this method multiple times.
+         * </p>
+         * <p>
+         * Example usage:
+         * <pre>
+         * builder.claimValidationStep((token, context) -&gt; {
+         *     if (!token.getClaims().containsKey("tenant")) {
+         *         throw new TokenValidationException(EventType.MISSING_CLAIM, "Missing tenant claim");
+         *     }
+         * });
+         * </pre>
+         *
+         * @param claimValidationStep the custom validation step
+         * @return this builder instance for method chaining
+         * @see ClaimValidationStep
+         */
+        public IssuerConfigBuilder claimValidationStep(ClaimValidationStep claimValidationStep) {
+            if (this.claimValidationSteps == null) {
+                this.claimValidationSteps = new ArrayList<>();
+            }
+            this.claimValidationSteps.add(claimValidationStep);
+            return this;
+        }
+
+        /**
+         * Sets the complete list of custom claim validation steps.
+         * <p>
+         * This replaces any previously configured claim validation steps.
+         * </p>
+         *
+         * @param claimValidationSteps the custom validation steps in execution order
+         * @return this builder instance for method chaining
+         */
+        public IssuerConfigBuilder claimValidationSteps(List<ClaimValidationStep> claimValidationSteps) {
+            this.claimValidationSteps = claimValidationSteps;
+            return this;
+        }
+
         /**
          * Sets a custom JwksLoader implementation.
          * <p>
@@ -655,6 +829,34 @@ public class IssuerConfig implements LoadingStatusProvider {
             return this;
         }
 
+        /**
+         * Sets the configuration for loading JWKS from a local file that changes at runtime.
+         * <p>
+         * In contrast to {@link #jwksFilePath(String)}, the file is watched and reloaded whenever
+         * its content changes, e.g. when a mounted Kubernetes secret is rotated. Replaced keys stay
+         * valid for the configured grace period.
+         * </p>
+         * <p>
+         * Example usage:
+         * <pre>
+         * builder.fileJwksLoaderConfig(FileJwksLoaderConfig.builder()
+         *     .file(Path.of("/etc/jwks/jwks.json"))
+         *     .build());
+         * </pre>
+         * <p>
+         * <strong>Required:</strong> As for {@link #jwksFilePath(String)}, the
+         * {@link #issuerIdentifier(String)} must be explicitly provided.
+         * </p>
+         *
+         * @param fileJwksLoaderConfig the configuration of the watched JWKS file
+         * @return this builder instance for method chaining
+         * @see FileJwksLoaderConfig
+         */
+        public IssuerConfigBuilder fileJwksLoaderConfig(FileJwksLoaderConfig fileJwksLoaderConfig) {
+            this.fileJwksLoaderConfig = fileJwksLoaderConfig;
+            return this;
+        }
+
         /**
          * Sets the JWKS content directly as a JSON string.
          * <p>
@@ -720,6 +922,7 @@ public class IssuerConfig implements LoadingStatusProvider {
          * <ol>
          *   <li>Custom {@link JwksLoader} (if provided via {@link #jwksLoader(JwksLoader)})</li>
          *   <li>HTTP-based loader (if {@link #httpJwksLoaderConfig(HttpJwksLoaderConfig)} is configured)</li>
+         *   <li>Watching file-based loader (if {@link #fileJwksLoaderConfig(FileJwksLoaderConfig)} is configured)</li>
          *   <li>File-based loader (if {@link #jwksFilePath(String)} is configured)</li>
          *   <li>In-memory loader (if {@link #jwksContent(String)} is configured)</li>
          * </ol>
@@ -745,16 +948,17 @@ public class IssuerConfig implements LoadingStatusProvider {
             }
 
             return new IssuerConfig(enabled, issuerIdentifier, expectedAudience, expectedClientId,
-                    claimSubOptional, algorithmPreferences, claimMappers, jwksLoader);
+                    claimSubOptional, preSignatureClaimValidation, maxKeyTrials, keyTrialsPerSecond,
+                    algorithmPreferences, claimMappers, claimValidationSteps, jwksLoader);
         }
 
         private void validateConfiguration() {
             // Validate that at least one JWKS loading method is configured
-            if (httpJwksLoaderConfig == null && jwksFilePath == null &&
+            if (httpJwksLoaderConfig == null && fileJwksLoaderConfig == null && jwksFilePath == null &&
                     jwksContent == null && jwksLoader == null) {
                 throw new IllegalArgumentException("""
                         No JwksLoader configuration is present for enabled issuer. \
-                        One of httpJwksLoaderConfig, jwksFilePath, jwksContent, or a custom jwksLoader must be provided.""");
+                        One of httpJwksLoaderConfig, fileJwksLoaderConfig, jwksFilePath, jwksContent, or a custom jwksLoader must be provided.""");
             }
 
             // Validate issuerIdentifier requirements based on JWKS loading method
@@ -765,7 +969,7 @@ public class IssuerConfig implements LoadingStatusProvider {
                 }
             } else {
                 // For built-in JWKS loading methods, validate issuerIdentifier requirements
-                if ((jwksFilePath != null || jwksContent != null) && issuerIdentifier == null) {
+                if ((fileJwksLoaderConfig != null || jwksFilePath != null || jwksContent != null) && issuerIdentifier == null) {
                     throw new IllegalArgumentException("issuerIdentifier is required for file-based and in-memory JWKS loading");
                 }
                 // For HTTP well-known discovery, issuerIdentifier is optional (will be extracted from discovery)
@@ -778,6 +982,8 @@ public class IssuerConfig implements LoadingStatusProvider {
                 // SecurityEventCounter will be set later via initJWKSLoader()
                 if (httpJwksLoaderConfig != null) {
                     jwksLoader = JwksLoaderFactory.createHttpLoader(httpJwksLoaderConfig);
+                } else if (fileJwksLoaderConfig != null) {
+                    jwksLoader = JwksLoaderFactory.createFileLoader(fileJwksLoaderConfig);
                 } else if (jwksFilePath != null) {
                     jwksLoader = JwksLoaderFactory.createFileLoader(jwksFilePath);
                 } else if (jwksContent != null) {
@@ -793,15 +999,21 @@ public class IssuerConfig implements LoadingStatusProvider {
      */
     @SuppressWarnings("java:S107") // ok for private constructor
     private IssuerConfig(boolean enabled, @Nullable String issuerIdentifier, @Nullable Set<String> expectedAudience,
-            @Nullable Set<String> expectedClientId, boolean claimSubOptional, @Nullable SignatureAlgorithmPreferences algorithmPreferences,
-            @Nullable Map<String, ClaimMapper> claimMappers, @Nullable JwksLoader jwksLoader) {
+            @Nullable Set<String> expectedClientId, boolean claimSubOptional, boolean preSignatureClaimValidation,
+            int maxKeyTrials, int keyTrialsPerSecond, @Nullable SignatureAlgorithmPreferences algorithmPreferences,
+            @Nullable Map<String, ClaimMapper> claimMappers, @Nullable List<ClaimValidationStep> claimValidationSteps,
+            @Nullable JwksLoader jwksLoader) {
         this.enabled = enabled;
         this.issuerIdentifier = issuerIdentifier;
         this.expectedAudience = expectedAudience != null ? expectedAudience : Set.of();
         this.expectedClientId = expectedClientId != null ? expectedClientId : Set.of();
         this.claimSubOptional = claimSubOptional;
+        this.preSignatureClaimValidation = preSignatureClaimValidation;
+        this.maxKeyTrials = maxKeyTrials;
+        this.keyTrialsPerSecond = keyTrialsPerSecond;
         this.algorithmPreferences = algorithmPreferences != null ? algorithmPreferences : new SignatureAlgorithmPreferences();
         this.claimMappers = claimMappers != null ? claimMappers : Map.of();
+        this.claimValidationSteps = claimValidationSteps != null ? List.copyOf(claimValidationSteps) : List.of();
         this.jwksLoader = jwksLoader;
     }
 
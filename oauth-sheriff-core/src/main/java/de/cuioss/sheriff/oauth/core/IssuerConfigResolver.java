@@ -18,14 +18,19 @@ package de.cuioss.sheriff.oauth.core;
 import de.cuioss.http.client.LoaderStatus;
 import de.cuioss.sheriff.oauth.core.exception.TokenValidationException;
 import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
+import de.cuioss.tools.base.Preconditions;
 import de.cuioss.tools.logging.CuiLogger;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.jspecify.annotations.Nullable;
 
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 import static de.cuioss.sheriff.oauth.core.JWTValidationLogMessages.ERROR;
 import static de.cuioss.sheriff.oauth.core.JWTValidationLogMessages.INFO;
@@ -39,6 +44,25 @@ import static de.cuioss.sheriff.oauth.core.JWTValidationLogMessages.WARN;
  * This eliminates initialization race conditions and provides central coordination,
  * replacing the need for JwksStartupService.
  * <p>
+ * The issuers are initialized in parallel on virtual threads, limited and bounded in time
+ * by the {@link IssuerStartupConfig}. Each issuer becomes available as soon as its own keys
+ * are loaded, independent of slower issuers. Issuers still loading after the startup deadline
+ * are reported and rejected immediately instead of being waited for, until their loading
+ * eventually completes.
+ * <p>
+ * With {@link IssuerStartupConfig#isLazyActivation()} no issuer is initialized during
+ * construction. An issuer is activated by its first token instead, with all tokens arriving
+ * during the activation waiting for the same loading. Active issuers without tokens for the
+ * idle timeout, checked as tokens arrive, and the least recently used issuer beyond the maximum
+ * number of active issuers are released and activated again by their next token. A failed
+ * activation is retried after {@link #ACTIVATION_RETRY_SECONDS} at the earliest.
+ * <p>
+ * Issuers can be added, replaced and removed at runtime via {@link #register(IssuerConfig, Runnable)}
+ * and {@link #unregister(String)}. A replaced issuer keeps serving its previous configuration until
+ * the new one is loaded, the caches are updated copy-on-write. Issuers unknown to the resolver
+ * can be instantiated on their first token by an issuer factory, e.g. from the
+ * {@link IssuerTemplate}s of the {@link TokenValidator}.
+ * <p>
  * The resolver uses a dual-cache approach:
  * <ul>
  *   <li>A ConcurrentHashMap for mutable cache during initialization</li>
@@ -51,6 +75,19 @@ public class IssuerConfigResolver {
 
     private static final CuiLogger LOGGER = new CuiLogger(IssuerConfigResolver.class);
 
+    /**
+     * Maximum time to wait for the JWKS of an issuer that is still loading.
+     */
+    private static final long LOADING_TIMEOUT_SECONDS = 5;
+
+    /**
+     * Minimum time between two activation attempts of a lazily activated issuer that failed to load.
+     */
+    static final long ACTIVATION_RETRY_SECONDS = 30;
+
+    private static final Runnable NOTHING_BEFORE_PUBLISH = () -> {
+    };
+
     /**
      * Mutable cache used during initialization phase.
      * This ConcurrentHashMap allows thread-safe writes while configs are being resolved.
@@ -76,6 +113,66 @@ public class IssuerConfigResolver {
      */
     private final SecurityEventCounter securityEventCounter;
 
+    /**
+     * Lets initializations wait for a permit on virtual threads instead of blocking the constructor.
+     */
+    private final Executor initializationExecutor;
+
+    /**
+     * Limits the number of issuers loading at the same time.
+     */
+    private final Semaphore initializationPermits;
+
+    /**
+     * Enabled configurations by issuer identifier, activated on their first token.
+     * Empty unless lazy activation is configured.
+     */
+    private final Map<String, IssuerConfig> lazyConfigs;
+
+    /**
+     * Time of the last token of each active issuer, in {@link System#nanoTime()}.
+     */
+    private final ConcurrentHashMap<String, AtomicLong> lastActivity;
+
+    /**
+     * Earliest time of the next check for idle issuers, in {@link System#nanoTime()}.
+     */
+    private final AtomicLong nextIdleCheck;
+
+    /**
+     * Configurations registered at runtime whose loading has not completed yet, by issuer identifier.
+     * A registration superseded by a later one or by {@link #unregister(String)} is not published.
+     */
+    private final ConcurrentHashMap<String, IssuerConfig> pendingRegistrations;
+
+    /**
+     * Configurations whose initial loading failed, published once their loader recovers, e.g. a
+     * follower of a JWKS exchange file receiving the first publication. Not used with lazy
+     * activation, which retries failed activations instead.
+     */
+    private final ConcurrentHashMap<String, IssuerConfig> awaitingRecovery;
+
+    /**
+     * Instantiates issuers unknown to the resolver on their first token, e.g. from issuer
+     * templates, {@code null} if not configured.
+     */
+    private final @Nullable Function<String, @Nullable CompletableFuture<LoaderStatus>> issuerFactory;
+
+    private final boolean lazyActivation;
+    private final long idleTimeoutNanos;
+    private final int maxActiveIssuers;
+
+    /**
+     * Creates a new resolver with the given configurations and the default {@link IssuerStartupConfig}.
+     *
+     * @param issuerConfigs        collection of issuer configurations to manage, must not be null
+     * @param securityEventCounter counter for security events, must not be null
+     */
+    IssuerConfigResolver(Collection<IssuerConfig> issuerConfigs,
+            SecurityEventCounter securityEventCounter) {
+        this(issuerConfigs, securityEventCounter, IssuerStartupConfig.defaultConfig());
+    }
+
     /**
      * Creates a new resolver with the given configurations.
      * Triggers async loading for all enabled configurations immediately.
@@ -83,13 +180,69 @@ public class IssuerConfigResolver {
      *
      * @param issuerConfigs        collection of issuer configurations to manage, must not be null
      * @param securityEventCounter counter for security events, must not be null
+     * @param startupConfig        concurrency and deadline of the initialization, must not be null
+     * @throws IllegalArgumentException if the startup configuration is invalid
      */
     IssuerConfigResolver(Collection<IssuerConfig> issuerConfigs,
-            SecurityEventCounter securityEventCounter) {
+            SecurityEventCounter securityEventCounter, IssuerStartupConfig startupConfig) {
+        this(issuerConfigs, securityEventCounter, startupConfig, null);
+    }
+
+    /**
+     * Creates a new resolver with the given configurations and a factory for unknown issuers.
+     *
+     * @param issuerConfigs        collection of issuer configurations to manage, must not be null
+     * @param securityEventCounter counter for security events, must not be null
+     * @param startupConfig        concurrency and deadline of the initialization, must not be null
+     * @param issuerFactory        called with an issuer unknown to the resolver, registers it via
+     *                             {@link #register(IssuerConfig, Runnable)} and returns the future of
+     *                             its loading, or {@code null} if the issuer cannot be instantiated;
+     *                             may be null
+     * @throws IllegalArgumentException if the startup configuration is invalid
+     */
+    IssuerConfigResolver(Collection<IssuerConfig> issuerConfigs,
+            SecurityEventCounter securityEventCounter, IssuerStartupConfig startupConfig,
+            @Nullable Function<String, @Nullable CompletableFuture<LoaderStatus>> issuerFactory) {
+        Preconditions.checkArgument(startupConfig.getMaxConcurrentInitializations() > 0,
+                "maxConcurrentInitializations must be positive");
+        Preconditions.checkArgument(startupConfig.getStartupDeadline() != null
+                && startupConfig.getStartupDeadline().isPositive(), "startupDeadline must be positive");
+        Preconditions.checkArgument(startupConfig.getIdleTimeout() != null
+                && startupConfig.getIdleTimeout().isPositive(), "idleTimeout must be positive");
+        Preconditions.checkArgument(startupConfig.getMaxActiveIssuers() > 0, "maxActiveIssuers must be positive");
         this.securityEventCounter = securityEventCounter;
         this.mutableCache = new ConcurrentHashMap<>();
         this.loadingFutures = new ConcurrentHashMap<>();
         this.immutableCache = null; // Will be set after all loading completes
+        this.initializationExecutor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("issuer-init-", 0).factory());
+        this.initializationPermits = new Semaphore(startupConfig.getMaxConcurrentInitializations());
+        this.lazyConfigs = new ConcurrentHashMap<>();
+        this.lastActivity = new ConcurrentHashMap<>();
+        this.pendingRegistrations = new ConcurrentHashMap<>();
+        this.awaitingRecovery = new ConcurrentHashMap<>();
+        this.lazyActivation = startupConfig.isLazyActivation();
+        this.idleTimeoutNanos = startupConfig.getIdleTimeout().toNanos();
+        this.maxActiveIssuers = startupConfig.getMaxActiveIssuers();
+        this.issuerFactory = issuerFactory;
+        this.nextIdleCheck = new AtomicLong(System.nanoTime() + idleTimeoutNanos / 4);
+
+        if (lazyActivation) {
+            for (IssuerConfig config : issuerConfigs) {
+                if (config.isEnabled()) {
+                    lazyConfigs.put(config.getIssuerIdentifier(), config);
+                } else {
+                    LOGGER.info(INFO.ISSUER_CONFIG_SKIPPED, config);
+                }
+            }
+            // The caches stay mutable, as issuers are activated and released at runtime
+            LOGGER.debug("IssuerConfigResolver initialized with %s lazily activated configurations (%s total)",
+                    lazyConfigs.size(), issuerConfigs.size());
+            return;
+        }
+
+        long deadlineMillis = startupConfig.getStartupDeadline().toMillis();
+        Map<String, CompletableFuture<LoaderStatus>> initializations = new ConcurrentHashMap<>();
 
         // Trigger ALL async loading in constructor
         int enabledCount = 0;
@@ -98,24 +251,16 @@ public class IssuerConfigResolver {
             if (config.isEnabled()) {
                 String issuer = config.getIssuerIdentifier();
 
-                // Initialize security event counter
-                config.initSecurityEventCounter(securityEventCounter);
+                // Start loading without waiting, initJWKSLoader also hands over the security event counter.
+                // When loading completes successfully, cache the config.
+                // Tracking the chained future ensures the config is cached before any waiter resumes.
+                CompletableFuture<LoaderStatus> initialization = initialize(config)
+                        .thenApply(status -> publishOnRecovery(config, onInitialized(config, status), NOTHING_BEFORE_PUBLISH));
+                initializations.put(issuer, initialization);
 
-                // Initialize and start loading
-                CompletableFuture<LoaderStatus> future =
-                        config.getJwksLoader().initJWKSLoader(securityEventCounter);
-
-                loadingFutures.put(issuer, future);
-
-                // When loading completes successfully, cache the config
-                future.thenAccept(status -> {
-                    if (status == LoaderStatus.OK) {
-                        mutableCache.put(issuer, config);
-                        LOGGER.info(INFO.ISSUER_CONFIG_LOADED, issuer);
-                    } else {
-                        LOGGER.warn(WARN.ISSUER_CONFIG_LOAD_FAILED, issuer, status);
-                    }
-                });
+                // Waiters stop waiting at the deadline, the copy keeps the initialization itself running
+                loadingFutures.put(issuer, initialization.copy()
+                        .completeOnTimeout(LoaderStatus.LOADING, deadlineMillis, TimeUnit.MILLISECONDS));
 
                 enabledCount++;
                 LOGGER.debug("Triggered async loading for issuer: %s", issuer);
@@ -129,13 +274,216 @@ public class IssuerConfigResolver {
         // After all futures are registered, create a combined future to optimize cache when all complete
         if (!loadingFutures.isEmpty()) {
             CompletableFuture.allOf(loadingFutures.values().toArray(new CompletableFuture[0]))
-                    .thenRun(this::checkAndOptimize);
+                    .whenComplete((ignored, error) -> {
+                        reportPendingInitializations(initializations, startupConfig);
+                        checkAndOptimize();
+                    });
         } else {
             // No configs to load, optimize immediately
             checkAndOptimize();
         }
     }
 
+    /**
+     * Adds an issuer at runtime or replaces the configuration of a registered issuer.
+     * <p>
+     * The new configuration is loaded with the same concurrency limit as on startup. Tokens of a
+     * new issuer wait for its loading, a replaced issuer keeps serving its previous configuration
+     * until the new one is loaded, or permanently if the loading fails. A new issuer whose loading
+     * fails is published once its loader reports {@link LoaderStatus#OK}. Once loaded,
+     * {@code beforePublish} runs and the configuration is published, unless the registration was
+     * superseded meanwhile by another one or by {@link #unregister(String)}. With lazy activation, the
+     * configuration is published immediately and loaded by the next token of the issuer.
+     * <p>
+     * The caller is responsible for releasing the loader of a replaced configuration.
+     *
+     * @param config        the enabled configuration to add, must not be null
+     * @param beforePublish run right before the configuration becomes resolvable, e.g. to
+     *                      register the validators of the issuer
+     * @return a future completing with the loader status of the new configuration once it is
+     * published or its loading has failed, {@link LoaderStatus#UNDEFINED} if it was superseded
+     */
+    public CompletableFuture<LoaderStatus> register(IssuerConfig config, Runnable beforePublish) {
+        String issuer = config.getIssuerIdentifier();
+        if (lazyActivation) {
+            release(issuer, "configuration replaced");
+            beforePublish.run();
+            lazyConfigs.put(issuer, config);
+            return CompletableFuture.completedFuture(LoaderStatus.UNDEFINED);
+        }
+
+        boolean replacing = getCachedConfig(issuer) != null;
+        awaitingRecovery.remove(issuer);
+        pendingRegistrations.put(issuer, config);
+        CompletableFuture<LoaderStatus> loading = initialize(config).thenApply(status -> {
+            if (!pendingRegistrations.remove(issuer, config)) {
+                LOGGER.debug("Registration of issuer %s was superseded, discarding it", issuer);
+                config.getJwksLoader().release();
+                return LoaderStatus.UNDEFINED;
+            }
+            if (status == LoaderStatus.OK) {
+                beforePublish.run();
+                mutableCache.put(issuer, config);
+                republish();
+                LOGGER.info(INFO.ISSUER_CONFIG_LOADED, issuer);
+            } else {
+                LOGGER.warn(WARN.ISSUER_CONFIG_LOAD_FAILED, issuer, status);
+                if (!replacing) {
+                    publishOnRecovery(config, status, beforePublish);
+                }
+            }
+            return status;
+        });
+        if (!replacing) {
+            // Tokens of a new issuer wait for its loading instead of being rejected
+            loadingFutures.put(issuer, loading);
+            loading.whenComplete((status, error) -> {
+                if (status == LoaderStatus.OK) {
+                    loadingFutures.remove(issuer, loading);
+                }
+            });
+        }
+        LOGGER.debug("Registering issuer at runtime: %s", issuer);
+        return loading;
+    }
+
+    /**
+     * Removes an issuer at runtime. Its tokens are rejected from now on.
+     * <p>
+     * The caller is responsible for releasing the loader of the removed configuration.
+     *
+     * @param issuer the identifier of the issuer to remove
+     */
+    public void unregister(String issuer) {
+        pendingRegistrations.remove(issuer);
+        awaitingRecovery.remove(issuer);
+        if (lazyActivation) {
+            release(issuer, "unregistered");
+            lazyConfigs.remove(issuer);
+        }
+        loadingFutures.remove(issuer);
+        mutableCache.remove(issuer);
+        republish();
+        LOGGER.debug("Unregistered issuer: %s", issuer);
+    }
+
+    /**
+     * Publishes a copy of the mutable cache as immutable cache, if the cache was already optimized.
+     */
+    private synchronized void republish() {
+        if (immutableCache != null) {
+            immutableCache = Map.copyOf(mutableCache);
+        }
+    }
+
+    /**
+     * Initializes the JWKS loader of the given issuer once a permit is available.
+     * <p>
+     * The permit is held until the loading completes. Loaders completing immediately, e.g. for
+     * in-memory or file based keys, are initialized directly while permits are available, so
+     * these issuers are resolvable as soon as the constructor returns.
+     *
+     * @param config the issuer configuration to initialize
+     * @return the future of the resulting loader status
+     */
+    private CompletableFuture<LoaderStatus> initialize(IssuerConfig config) {
+        if (initializationPermits.tryAcquire()) {
+            return startInitialization(config);
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                initializationPermits.acquire();
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOGGER.warn(WARN.JWKS_LOAD_INTERRUPTED, config.getIssuerIdentifier());
+                return false;
+            }
+        }, initializationExecutor).thenCompose(acquired -> Boolean.TRUE.equals(acquired)
+                ? startInitialization(config)
+                : CompletableFuture.completedFuture(LoaderStatus.ERROR));
+    }
+
+    /**
+     * Caches the configuration if its loader is ready and logs the outcome.
+     *
+     * @param config the initialized issuer configuration
+     * @param status the resulting loader status
+     * @return the given status
+     */
+    private LoaderStatus onInitialized(IssuerConfig config, LoaderStatus status) {
+        String issuer = config.getIssuerIdentifier();
+        if (status == LoaderStatus.OK) {
+            mutableCache.put(issuer, config);
+            LOGGER.info(INFO.ISSUER_CONFIG_LOADED, issuer);
+        } else {
+            LOGGER.warn(WARN.ISSUER_CONFIG_LOAD_FAILED, issuer, status);
+        }
+        return status;
+    }
+
+    /**
+     * Publishes a configuration whose initial loading failed once its loader reports
+     * {@link LoaderStatus#OK}, unless it was replaced or unregistered meanwhile. Loaders without
+     * change notifications stay unpublished.
+     *
+     * @param config        the initialized issuer configuration
+     * @param status        the resulting loader status
+     * @param beforePublish run right before the configuration becomes resolvable
+     * @return the given status
+     */
+    private LoaderStatus publishOnRecovery(IssuerConfig config, LoaderStatus status, Runnable beforePublish) {
+        if (status == LoaderStatus.OK) {
+            return status;
+        }
+        String issuer = config.getIssuerIdentifier();
+        awaitingRecovery.put(issuer, config);
+        Runnable onChange = () -> {
+            if (config.getJwksLoader().getLoaderStatus() == LoaderStatus.OK && awaitingRecovery.remove(issuer, config)) {
+                beforePublish.run();
+                mutableCache.put(issuer, config);
+                republish();
+                LOGGER.info(INFO.ISSUER_CONFIG_LOADED, issuer);
+            }
+        };
+        if (config.getJwksLoader().addKeyChangeListener(onChange)) {
+            // The loader may have recovered before the listener was added
+            onChange.run();
+        } else {
+            awaitingRecovery.remove(issuer, config);
+        }
+        return status;
+    }
+
+    private CompletableFuture<LoaderStatus> startInitialization(IssuerConfig config) {
+        CompletableFuture<LoaderStatus> loading;
+        try {
+            loading = config.getJwksLoader().initJWKSLoader(securityEventCounter);
+        } catch (RuntimeException e) {
+            initializationPermits.release();
+            throw e;
+        }
+        return loading.whenComplete((status, error) -> initializationPermits.release());
+    }
+
+    /**
+     * Logs the issuers whose initialization did not complete within the startup deadline.
+     *
+     * @param initializations the initialization futures by issuer identifier
+     * @param startupConfig   the startup configuration providing the deadline
+     */
+    private static void reportPendingInitializations(Map<String, CompletableFuture<LoaderStatus>> initializations,
+            IssuerStartupConfig startupConfig) {
+        List<String> pending = initializations.entrySet().stream()
+                .filter(entry -> !entry.getValue().isDone())
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList();
+        if (!pending.isEmpty()) {
+            LOGGER.warn(WARN.ISSUER_STARTUP_DEADLINE_EXCEEDED, startupConfig.getStartupDeadline(), pending);
+        }
+    }
+
     /**
      * Resolves the issuer configuration for the given issuer identifier.
      * <p>
@@ -156,15 +504,16 @@ public class IssuerConfigResolver {
         // Fast path - check cache for already loaded configs
         IssuerConfig cached = getCachedConfig(issuer);
         if (cached != null && cached.getJwksLoader().getLoaderStatus() == LoaderStatus.OK) {
+            recordActivity(issuer);
             return cached;
         }
 
-        // Check if loading is in progress
-        CompletableFuture<LoaderStatus> future = loadingFutures.get(issuer);
+        // Check if loading is in progress, activating the issuer if configured lazily
+        CompletableFuture<LoaderStatus> future = loadingFuture(issuer);
         if (future != null) {
             try {
                 // Wait for loading to complete (with timeout)
-                LoaderStatus status = future.get(5, TimeUnit.SECONDS);
+                LoaderStatus status = future.get(LOADING_TIMEOUT_SECONDS, TimeUnit.SECONDS);
                 if (status == LoaderStatus.OK) {
                     IssuerConfig loadedConfig = getCachedConfig(issuer);
                     if (loadedConfig != null) {
@@ -182,8 +531,213 @@ public class IssuerConfigResolver {
         }
 
         // Not found or not healthy
-        handleIssuerNotFound(issuer);
-        throw new IllegalStateException("handleIssuerNotFound should have thrown an exception");
+        throw issuerNotFound(issuer);
+    }
+
+    /**
+     * Resolves the issuer configuration without blocking the calling thread.
+     * <p>
+     * Applies the same resolution strategy as {@link #resolveConfig(String)}, but instead of
+     * waiting for an ongoing JWKS loading, the returned future is chained on the loading
+     * future. Configurations that are already loaded yield a completed future.
+     *
+     * @param issuer the issuer identifier to resolve, must not be null
+     * @return a future completing with the resolved issuer configuration, or exceptionally with a
+     * {@link TokenValidationException} if no healthy configuration is found for the issuer
+     */
+    public CompletableFuture<IssuerConfig> resolveConfigAsync(String issuer) {
+        // Fast path - check cache for already loaded configs
+        IssuerConfig cached = getCachedConfig(issuer);
+        if (cached != null && cached.getJwksLoader().getLoaderStatus() == LoaderStatus.OK) {
+            recordActivity(issuer);
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        CompletableFuture<LoaderStatus> future = loadingFuture(issuer);
+        if (future == null) {
+            return CompletableFuture.failedFuture(issuerNotFound(issuer));
+        }
+
+        // The copy keeps the timeout from completing the shared loading future
+        return future.copy()
+                .orTimeout(LOADING_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .handle((status, error) -> {
+                    if (error != null) {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause() : error;
+                        if (cause instanceof TimeoutException) {
+                            LOGGER.warn(WARN.JWKS_LOAD_TIMEOUT, issuer);
+                        } else {
+                            LOGGER.error(cause, ERROR.JWKS_LOAD_EXECUTION_FAILED, issuer);
+                        }
+                    } else if (status == LoaderStatus.OK) {
+                        IssuerConfig loadedConfig = getCachedConfig(issuer);
+                        if (loadedConfig != null) {
+                            return loadedConfig;
+                        }
+                    }
+                    throw issuerNotFound(issuer);
+                });
+    }
+
+    /**
+     * Returns the loading future of the given issuer, activating a lazily configured issuer
+     * that is not active yet and instantiating an unknown issuer via the issuer factory.
+     *
+     * @param issuer the issuer identifier
+     * @return the loading future, null if the issuer is unknown or its loading has completed
+     */
+    private @Nullable CompletableFuture<LoaderStatus> loadingFuture(String issuer) {
+        CompletableFuture<LoaderStatus> future = loadingFutures.get(issuer);
+        if (future == null) {
+            IssuerConfig config = lazyConfigs.get(issuer);
+            if (config != null) {
+                return activate(config);
+            }
+            if (issuerFactory != null && getCachedConfig(issuer) == null) {
+                future = issuerFactory.apply(issuer);
+                // With lazy activation, the instantiated issuer is registered but not yet loaded
+                IssuerConfig instantiated = lazyConfigs.get(issuer);
+                if (future != null && instantiated != null) {
+                    return activate(instantiated);
+                }
+            }
+        }
+        return future;
+    }
+
+    /**
+     * Activates an issuer registered for lazy activation, e.g. to follow the outcome of an
+     * issuer instantiated on its first token.
+     *
+     * @param issuer the issuer identifier
+     * @return the activation future shared by all tokens of the issuer, or {@code null} if the
+     * issuer is not configured for lazy activation
+     */
+    @Nullable CompletableFuture<LoaderStatus> activateLazily(String issuer) {
+        IssuerConfig config = lazyConfigs.get(issuer);
+        return config != null ? activate(config) : null;
+    }
+
+    /**
+     * Starts the activation of a lazily configured issuer unless another token already did.
+     * <p>
+     * The loading future stays registered while the issuer is active. If the activation fails,
+     * the loader is released and the future is kept for {@link #ACTIVATION_RETRY_SECONDS},
+     * so tokens arriving meanwhile are rejected immediately instead of triggering new loads.
+     *
+     * @param config the configuration of the issuer to activate
+     * @return the loading future shared by all tokens of the issuer
+     */
+    private CompletableFuture<LoaderStatus> activate(IssuerConfig config) {
+        String issuer = config.getIssuerIdentifier();
+        CompletableFuture<LoaderStatus> activation = new CompletableFuture<>();
+        CompletableFuture<LoaderStatus> existing = loadingFutures.putIfAbsent(issuer, activation);
+        if (existing != null) {
+            return existing;
+        }
+        long now = System.nanoTime();
+        lastActivity.put(issuer, new AtomicLong(now));
+        releaseIdleIssuers(now);
+        releaseLeastRecentlyUsed(issuer);
+        LOGGER.debug("Activating issuer on first token: %s", issuer);
+
+        CompletableFuture<LoaderStatus> initialization;
+        try {
+            initialization = initialize(config).thenApply(status -> onInitialized(config, status));
+        } catch (RuntimeException e) {
+            initialization = CompletableFuture.failedFuture(e);
+        }
+        initialization.whenComplete((status, error) -> {
+            if (error != null || status != LoaderStatus.OK) {
+                config.getJwksLoader().release();
+                CompletableFuture.delayedExecutor(ACTIVATION_RETRY_SECONDS, TimeUnit.SECONDS).execute(() -> {
+                    if (loadingFutures.remove(issuer, activation)) {
+                        lastActivity.remove(issuer);
+                    }
+                });
+            }
+            if (error != null) {
+                activation.completeExceptionally(error);
+            } else {
+                activation.complete(status);
+            }
+        });
+        return activation;
+    }
+
+    /**
+     * Records a token of a lazily activated issuer and releases idle issuers if due.
+     *
+     * @param issuer the issuer identifier of the token
+     */
+    private void recordActivity(String issuer) {
+        AtomicLong last = lastActivity.get(issuer);
+        if (last != null) {
+            long now = System.nanoTime();
+            last.set(now);
+            releaseIdleIssuers(now);
+        }
+    }
+
+    /**
+     * Releases the active issuers without tokens for the idle timeout. Runs at most every
+     * quarter of the idle timeout, by the thread of the first token after that.
+     *
+     * @param now the current {@link System#nanoTime()}
+     */
+    private void releaseIdleIssuers(long now) {
+        long due = nextIdleCheck.get();
+        if (now - due < 0 || !nextIdleCheck.compareAndSet(due, now + idleTimeoutNanos / 4)) {
+            return;
+        }
+        lastActivity.forEach((issuer, last) -> {
+            if (now - last.get() > idleTimeoutNanos) {
+                release(issuer, "idle");
+            }
+        });
+    }
+
+    /**
+     * Releases the least recently used active issuers while more issuers than allowed are active.
+     *
+     * @param activated the issuer being activated, never released here
+     */
+    private void releaseLeastRecentlyUsed(String activated) {
+        while (loadingFutures.size() > maxActiveIssuers) {
+            String leastRecentlyUsed = lastActivity.entrySet().stream()
+                    .filter(entry -> !entry.getKey().equals(activated))
+                    .filter(entry -> isSettled(entry.getKey()))
+                    .min(Comparator.comparingLong(entry -> entry.getValue().get()))
+                    .map(Map.Entry::getKey)
+                    .orElse(null);
+            if (leastRecentlyUsed == null) {
+                return;
+            }
+            release(leastRecentlyUsed, "limit of " + maxActiveIssuers + " active issuers reached");
+        }
+    }
+
+    /**
+     * Releases an active issuer whose activation has completed. Its next token activates it again.
+     *
+     * @param issuer the issuer identifier
+     * @param reason the reason for the log message
+     */
+    private void release(String issuer, String reason) {
+        CompletableFuture<LoaderStatus> future = loadingFutures.get(issuer);
+        if (future == null || !future.isDone() || !loadingFutures.remove(issuer, future)) {
+            return;
+        }
+        lastActivity.remove(issuer);
+        mutableCache.remove(issuer);
+        lazyConfigs.get(issuer).getJwksLoader().release();
+        LOGGER.info(INFO.ISSUER_RELEASED, issuer, reason);
+    }
+
+    private boolean isSettled(String issuer) {
+        CompletableFuture<LoaderStatus> future = loadingFutures.get(issuer);
+        return future != null && future.isDone();
     }
 
     /**
@@ -246,17 +800,19 @@ public class IssuerConfigResolver {
      * Handles the case where no issuer configuration is found.
      * <p>
      * This method logs a warning, increments the security event counter,
-     * and throws a TokenValidationException with appropriate details.
+     * and creates a TokenValidationException with appropriate details.
      *
      * @param issuer the issuer identifier that wasn't found
-     * @throws TokenValidationException always thrown with NO_ISSUER_CONFIG event type
+     * @return the exception to be thrown, with NO_ISSUER_CONFIG event type
      */
-    private void handleIssuerNotFound(String issuer) {
-        LOGGER.warn(WARN.NO_ISSUER_CONFIG, issuer);
+    private TokenValidationException issuerNotFound(String issuer) {
+        if (securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.NO_ISSUER_CONFIG)) {
+            LOGGER.warn(WARN.NO_ISSUER_CONFIG, issuer);
+        }
         securityEventCounter.increment(SecurityEventCounter.EventType.NO_ISSUER_CONFIG);
-        throw new TokenValidationException(
+        return new TokenValidationException(
                 SecurityEventCounter.EventType.NO_ISSUER_CONFIG,
-                "No healthy issuer configuration found for issuer: " + issuer
+                () -> "No healthy issuer configuration found for issuer: " + issuer
         );
     }
 }
\ No newline at end of file
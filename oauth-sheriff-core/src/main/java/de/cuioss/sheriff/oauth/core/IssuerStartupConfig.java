@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the initialization of the issuers of a {@link TokenValidator}, see
+ * {@link IssuerConfigResolver}.
+ * <p>
+ * All enabled issuers are initialized in parallel on virtual threads, with at most
+ * {@link #getMaxConcurrentInitializations()} loading at the same time. Each issuer serves
+ * tokens as soon as its own keys are loaded. Issuers still loading after
+ * {@link #getStartupDeadline()} are reported, and tokens of these issuers are rejected
+ * immediately instead of waiting for them, until their loading completes.
+ * <p>
+ * With {@link #isLazyActivation()} no issuer is loaded on startup. Instead, an issuer is
+ * activated when its first token arrives, concurrent tokens waiting for the same activation.
+ * It stays active while tokens arrive and is released after {@link #getIdleTimeout()} without
+ * tokens. At most {@link #getMaxActiveIssuers()} issuers are active at the same time, the least
+ * recently used issuer is released to activate another one. Startup time and memory then
+ * depend on the number of issuers in use instead of the number configured.
+ * <p>
+ * Usage example:
+ * <pre>
+ * IssuerStartupConfig config = IssuerStartupConfig.builder()
+ *     .maxConcurrentInitializations(32)
+ *     .startupDeadline(Duration.ofSeconds(10))
+ *     .build();
+ *
+ * IssuerStartupConfig lazyConfig = IssuerStartupConfig.builder()
+ *     .lazyActivation(true)
+ *     .idleTimeout(Duration.ofHours(2))
+ *     .maxActiveIssuers(500)
+ *     .build();
+ * </pre>
+ *
+ * @author Oliver Wolff
+ * @since 1.0
+ */
+@Builder
+@Getter
+@ToString
+public class IssuerStartupConfig {
+
+    /**
+     * Default maximum number of issuers loading at the same time.
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_INITIALIZATIONS = 16;
+
+    /**
+     * Default time after which issuers still loading are reported.
+     */
+    public static final Duration DEFAULT_STARTUP_DEADLINE = Duration.ofSeconds(30);
+
+    /**
+     * Default time without tokens after which a lazily activated issuer is released.
+     */
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofHours(1);
+
+    /**
+     * Default maximum number of lazily activated issuers: unlimited.
+     */
+    public static final int DEFAULT_MAX_ACTIVE_ISSUERS = Integer.MAX_VALUE;
+
+    /**
+     * The maximum number of issuers loading at the same time, must be positive.
+     */
+    @Builder.Default
+    private final int maxConcurrentInitializations = DEFAULT_MAX_CONCURRENT_INITIALIZATIONS;
+
+    /**
+     * The time after construction of the resolver by which all issuers should be loaded, must be positive.
+     */
+    @Builder.Default
+    private final Duration startupDeadline = DEFAULT_STARTUP_DEADLINE;
+
+    /**
+     * Whether issuers are activated on their first token instead of on startup.
+     */
+    @Builder.Default
+    private final boolean lazyActivation = false;
+
+    /**
+     * The time without tokens after which a lazily activated issuer is released, must be positive.
+     */
+    @Builder.Default
+    private final Duration idleTimeout = DEFAULT_IDLE_TIMEOUT;
+
+    /**
+     * The maximum number of lazily activated issuers, must be positive.
+     */
+    @Builder.Default
+    private final int maxActiveIssuers = DEFAULT_MAX_ACTIVE_ISSUERS;
+
+    /**
+     * Creates a default configuration.
+     *
+     * @return a configuration loading up to 16 issuers at the same time with a deadline of 30 seconds
+     */
+    public static IssuerStartupConfig defaultConfig() {
+        return IssuerStartupConfig.builder().build();
+    }
+}
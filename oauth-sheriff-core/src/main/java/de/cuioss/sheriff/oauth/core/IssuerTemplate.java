@@ -0,0 +1,202 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core;
+
+import de.cuioss.sheriff.oauth.core.jwks.http.HttpJwksLoaderConfig;
+import de.cuioss.tools.base.Preconditions;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.jspecify.annotations.Nullable;
+
+import java.util.function.Consumer;
+
+/**
+ * Template of issuers sharing everything but a single variable part of their identifier, e.g.
+ * the realms of a multi-tenant identity provider.
+ * <p>
+ * The issuer pattern contains exactly one placeholder in braces, e.g.
+ * {@code https://idp.example.com/realms/{realm}}, and the JWKS URL pattern uses the same
+ * placeholder, e.g. {@code https://idp.example.com/realms/{realm}/protocol/openid-connect/certs}.
+ * A token whose {@code iss} claim matches the issuer pattern instantiates the concrete
+ * {@link IssuerConfig} of its tenant on first use, see {@link TokenValidator}. The JWKS URL is
+ * derived by substituting the placeholder, all further settings shared by the tenants are
+ * applied by the {@link #getIssuerConfigCustomizer()}, e.g. the expected audience, and the
+ * {@link #getJwksLoaderCustomizer()}, e.g. the refresh interval.
+ * <p>
+ * The value of the placeholder is restricted to {@link #MAX_VALUE_LENGTH} characters out of
+ * letters, digits, {@code -}, {@code .}, {@code _} and {@code ~}, excluding the dot segments
+ * {@code .} and {@code ..}, so that the untrusted {@code iss} claim cannot redirect the JWKS
+ * URL to another path or host. As every matching
+ * tenant costs a JWKS load before its tokens are verified, at most {@link #getMaxInstances()}
+ * issuers are instantiated per template.
+ * <p>
+ * Usage example:
+ * <pre>
+ * IssuerTemplate template = IssuerTemplate.builder()
+ *     .issuerPattern("https://idp.example.com/realms/{realm}")
+ *     .jwksUrlPattern("https://idp.example.com/realms/{realm}/protocol/openid-connect/certs")
+ *     .issuerConfigCustomizer(builder -&gt; builder.expectedAudience("my-client"))
+ *     .jwksLoaderCustomizer(builder -&gt; builder.refreshIntervalSeconds(300))
+ *     .maxInstances(5000)
+ *     .build();
+ * </pre>
+ *
+ * @author Oliver Wolff
+ * @since 1.0
+ */
+@Getter
+@EqualsAndHashCode(of = {"issuerPattern", "jwksUrlPattern"})
+@ToString(of = {"issuerPattern", "jwksUrlPattern", "maxInstances"})
+public class IssuerTemplate {
+
+    /**
+     * Default maximum number of issuers instantiated from a template.
+     */
+    public static final int DEFAULT_MAX_INSTANCES = 1000;
+
+    /**
+     * Maximum length of the value substituted for the placeholder.
+     */
+    public static final int MAX_VALUE_LENGTH = 255;
+
+    /**
+     * The issuer identifier with exactly one placeholder, e.g. {@code https://idp.example.com/realms/{realm}}.
+     */
+    private final String issuerPattern;
+
+    /**
+     * The JWKS URL with the placeholder of the {@link #issuerPattern}.
+     */
+    private final String jwksUrlPattern;
+
+    /**
+     * Applies the settings shared by all instantiated issuers. The issuer identifier and the
+     * JWKS loading are set by the template and must not be configured here.
+     */
+    private final Consumer<IssuerConfig.IssuerConfigBuilder> issuerConfigCustomizer;
+
+    /**
+     * Applies the JWKS loading settings shared by all instantiated issuers. The endpoint and the
+     * issuer identifier are set by the template, a snapshot file would be shared by all issuers
+     * and must not be configured either.
+     */
+    private final Consumer<HttpJwksLoaderConfig.HttpJwksLoaderConfigBuilder> jwksLoaderCustomizer;
+
+    /**
+     * The maximum number of issuers instantiated from this template.
+     */
+    private final int maxInstances;
+
+    @Getter(AccessLevel.NONE)
+    private final String placeholder;
+
+    @Getter(AccessLevel.PACKAGE)
+    private final String prefix;
+
+    @Getter(AccessLevel.PACKAGE)
+    private final String suffix;
+
+    /**
+     * @param issuerPattern          the issuer identifier with exactly one placeholder, must not be null
+     * @param jwksUrlPattern         the JWKS URL containing the placeholder, must not be null
+     * @param issuerConfigCustomizer the settings shared by all issuers, may be null
+     * @param jwksLoaderCustomizer   the JWKS loading settings shared by all issuers, may be null
+     * @param maxInstances           the maximum number of instantiated issuers, defaults to {@link #DEFAULT_MAX_INSTANCES}
+     * @throws IllegalArgumentException if a pattern is missing or has no single placeholder
+     */
+    @Builder
+    private IssuerTemplate(String issuerPattern, String jwksUrlPattern,
+            @Nullable Consumer<IssuerConfig.IssuerConfigBuilder> issuerConfigCustomizer,
+            @Nullable Consumer<HttpJwksLoaderConfig.HttpJwksLoaderConfigBuilder> jwksLoaderCustomizer,
+            @Nullable Integer maxInstances) {
+        Preconditions.checkArgument(issuerPattern != null, "issuerPattern must not be null");
+        Preconditions.checkArgument(jwksUrlPattern != null, "jwksUrlPattern must not be null");
+        int start = issuerPattern.indexOf('{');
+        int end = issuerPattern.indexOf('}', start + 1);
+        Preconditions.checkArgument(start >= 0 && end > start + 1,
+                "issuerPattern must contain a placeholder like {tenant}: %s", issuerPattern);
+        Preconditions.checkArgument(issuerPattern.indexOf('{', end) < 0,
+                "issuerPattern must contain exactly one placeholder: %s", issuerPattern);
+        this.placeholder = issuerPattern.substring(start, end + 1);
+        Preconditions.checkArgument(jwksUrlPattern.contains(placeholder),
+                "jwksUrlPattern must contain the placeholder %s: %s", placeholder, jwksUrlPattern);
+        Preconditions.checkArgument(maxInstances == null || maxInstances > 0, "maxInstances must be positive");
+
+        this.issuerPattern = issuerPattern;
+        this.jwksUrlPattern = jwksUrlPattern;
+        this.issuerConfigCustomizer = issuerConfigCustomizer != null ? issuerConfigCustomizer : builder -> {
+        };
+        this.jwksLoaderCustomizer = jwksLoaderCustomizer != null ? jwksLoaderCustomizer : builder -> {
+        };
+        this.maxInstances = maxInstances != null ? maxInstances : DEFAULT_MAX_INSTANCES;
+        this.prefix = issuerPattern.substring(0, start);
+        this.suffix = issuerPattern.substring(end + 1);
+    }
+
+    /**
+     * Extracts the value of the placeholder from the given issuer, which is known to start with
+     * the {@link #getPrefix()}.
+     *
+     * @param issuer the issuer identifier of a token
+     * @return the value of the placeholder, or {@code null} if the issuer does not match this template
+     */
+    @Nullable
+    String extractValue(String issuer) {
+        int valueEnd = issuer.length() - suffix.length();
+        int length = valueEnd - prefix.length();
+        if (length <= 0 || length > MAX_VALUE_LENGTH || !issuer.endsWith(suffix)) {
+            return null;
+        }
+        for (int i = prefix.length(); i < valueEnd; i++) {
+            if (!isAllowed(issuer.charAt(i))) {
+                return null;
+            }
+        }
+        String value = issuer.substring(prefix.length(), valueEnd);
+        // Dot segments would let the derived JWKS URL point to another path
+        return ".".equals(value) || "..".equals(value) ? null : value;
+    }
+
+    /**
+     * Creates the configuration of the issuer instantiated for the given placeholder value.
+     *
+     * @param value the value of the placeholder, as returned by {@link #extractValue(String)}
+     * @return the enabled issuer configuration loading its JWKS from the derived URL
+     */
+    IssuerConfig createIssuerConfig(String value) {
+        String issuer = prefix + value + suffix;
+        HttpJwksLoaderConfig.HttpJwksLoaderConfigBuilder jwksBuilder = HttpJwksLoaderConfig.builder();
+        jwksLoaderCustomizer.accept(jwksBuilder);
+        IssuerConfig.IssuerConfigBuilder builder = IssuerConfig.builder();
+        issuerConfigCustomizer.accept(builder);
+        return builder
+                .enabled(true)
+                .issuerIdentifier(issuer)
+                .httpJwksLoaderConfig(jwksBuilder
+                        .jwksUrl(jwksUrlPattern.replace(placeholder, value))
+                        .issuerIdentifier(issuer)
+                        .build())
+                .build();
+    }
+
+    private static boolean isAllowed(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '.' || c == '_' || c == '~';
+    }
+}
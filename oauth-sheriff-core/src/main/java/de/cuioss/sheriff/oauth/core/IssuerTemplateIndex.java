@@ -0,0 +1,152 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core;
+
+import de.cuioss.tools.base.Preconditions;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Prefix trie over the {@link IssuerTemplate}s of a {@link TokenValidator}.
+ * <p>
+ * The trie is compiled once from the constant prefixes of the issuer patterns, i.e. the part in
+ * front of the placeholder. Matching walks the issuer of a token character by character and
+ * checks the templates ending at the visited nodes for their suffix and a valid placeholder
+ * value, so resolution takes time linear to the length of the issuer and uses no regular
+ * expressions. If several templates match, the one with the longest prefix wins.
+ * <p>
+ * This class is immutable and thread-safe.
+ *
+ * @author Oliver Wolff
+ * @since 1.0
+ */
+final class IssuerTemplateIndex {
+
+    /**
+     * A template matching an issuer together with the value of its placeholder.
+     *
+     * @param template the matching template
+     * @param value    the value of the placeholder in the issuer
+     */
+    record Match(IssuerTemplate template, String value) {
+    }
+
+    private static final class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private IssuerTemplate[] templates = new IssuerTemplate[0];
+
+        @Nullable
+        Node child(char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node addChild(char key) {
+            Node existing = child(key);
+            if (existing != null) {
+                return existing;
+            }
+            Node node = new Node();
+            keys = Arrays.copyOf(keys, keys.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            keys[keys.length - 1] = key;
+            children[children.length - 1] = node;
+            return node;
+        }
+
+        void addTemplate(IssuerTemplate template) {
+            templates = Arrays.copyOf(templates, templates.length + 1);
+            templates[templates.length - 1] = template;
+        }
+    }
+
+    private final Node root = new Node();
+    private final boolean empty;
+
+    /**
+     * Compiles the trie of the given templates.
+     *
+     * @param templates the templates, must not contain two templates with the same issuer pattern
+     * @throws IllegalArgumentException if an issuer pattern is configured twice
+     */
+    IssuerTemplateIndex(Collection<IssuerTemplate> templates) {
+        Set<String> patterns = new HashSet<>();
+        for (IssuerTemplate template : templates) {
+            Preconditions.checkArgument(patterns.add(template.getIssuerPattern()),
+                    "Duplicate issuer template: %s", template.getIssuerPattern());
+            Node node = root;
+            String prefix = template.getPrefix();
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.addChild(prefix.charAt(i));
+            }
+            node.addTemplate(template);
+        }
+        this.empty = templates.isEmpty();
+    }
+
+    /**
+     * @return {@code true} if no template is configured
+     */
+    boolean isEmpty() {
+        return empty;
+    }
+
+    /**
+     * Finds the template matching the given issuer.
+     *
+     * @param issuer the issuer identifier of a token
+     * @return the match of the template with the longest prefix, or {@code null} if no template matches
+     */
+    @Nullable
+    Match match(String issuer) {
+        if (empty) {
+            return null;
+        }
+        Match match = matchTemplates(root, issuer);
+        Node node = root;
+        for (int i = 0; i < issuer.length(); i++) {
+            node = node.child(issuer.charAt(i));
+            if (node == null) {
+                break;
+            }
+            Match deeper = matchTemplates(node, issuer);
+            if (deeper != null) {
+                match = deeper;
+            }
+        }
+        return match;
+    }
+
+    @Nullable
+    private static Match matchTemplates(Node node, String issuer) {
+        for (IssuerTemplate template : node.templates) {
+            String value = template.extractValue(issuer);
+            if (value != null) {
+                return new Match(template, value);
+            }
+        }
+        return null;
+    }
+}
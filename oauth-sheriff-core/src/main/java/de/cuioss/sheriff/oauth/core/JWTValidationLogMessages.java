@@ -191,6 +191,72 @@ public final class JWTValidationLogMessages {
                 .identifier(10)
                 .template("Issuer configuration loaded successfully: %s")
                 .build();
+
+        public static final LogRecord WARMUP_COMPLETED = LogRecordModel.builder()
+                .prefix(PREFIX)
+                .identifier(11)
+                .template("JIT warmup completed: %s validations for algorithms %s in %sms")
+                .build();
+
+        public static final LogRecord JWKS_ON_DEMAND_REFRESH = LogRecordModel.builder()
+                .prefix(PREFIX)
+                .identifier(12)
+                .template("Unknown key ID '%s' for issuer %s, triggering on-demand JWKS refresh")
+                .build();
+
+        public static final LogRecord JWKS_SNAPSHOT_LOADED = LogRecordModel.builder()
+                .prefix(PREFIX)
+                .identifier(13)
+                .template("Loaded JWKS snapshot for issuer %s saved at %s, revalidating in background")
+                .build();
+
+        public static final LogRecord ISSUER_RELEASED = LogRecordModel.builder()
+                .prefix(PREFIX)
+                .identifier(14)
+                .template("Released issuer %s: %s")
+                .build();
+
+        public static final LogRecord ISSUER_REGISTERED = LogRecordModel.builder()
+                .prefix(PREFIX)
+                .identifier(15)
+                .template("Registered issuer %s at runtime")
+                .build();
+
+        public static final LogRecord ISSUER_UPDATED = LogRecordModel.builder()
+                .prefix(PREFIX)
+                .identifier(16)
+                .template("Updated issuer %s at runtime, invalidated %s cached tokens")
+                .build();
+
+        public static final LogRecord ISSUER_UNREGISTERED = LogRecordModel.builder()
+                .prefix(PREFIX)
+                .identifier(17)
+                .template("Unregistered issuer %s at runtime, invalidated %s cached tokens")
+                .build();
+
+        public static final LogRecord JWKS_FILE_LOADED = LogRecordModel.builder()
+                .prefix(PREFIX)
+                .identifier(18)
+                .template("Loaded %s keys from JWKS file %s")
+                .build();
+
+        public static final LogRecord JWKS_EXCHANGE_FETCHING = LogRecordModel.builder()
+                .prefix(PREFIX)
+                .identifier(19)
+                .template("Fetching JWKS for issuer %s on behalf of all processes sharing %s")
+                .build();
+
+        public static final LogRecord JWKS_EXCHANGE_FOLLOWING = LogRecordModel.builder()
+                .prefix(PREFIX)
+                .identifier(20)
+                .template("Reading JWKS for issuer %s fetched by another process from %s")
+                .build();
+
+        public static final LogRecord JWKS_URI_CHANGED = LogRecordModel.builder()
+                .prefix(PREFIX)
+                .identifier(21)
+                .template("JWKS URI of issuer %s changed from %s to %s, switching to the new endpoint")
+                .build();
     }
 
     /**
@@ -483,6 +549,78 @@ public final class JWTValidationLogMessages {
                 .identifier(146)
                 .template("Failed to parse JWKS content: %s")
                 .build();
+
+        public static final LogRecord SECURITY_EVENTS_SUPPRESSED = LogRecordModel.builder()
+                .prefix(PREFIX)
+                .identifier(147)
+                .template("Suppressed %s similar security events of type %s within the last %s seconds")
+                .build();
+
+        public static final LogRecord SIGNATURE_VERIFICATION_OVERLOADED = LogRecordModel.builder()
+                .prefix(PREFIX)
+                .identifier(148)
+                .template("Signature verification rejected due to overload: %s verifications in flight, concurrency limit is %s")
+                .build();
+
+        public static final LogRecord VERIFICATION_EXECUTOR_SATURATED = LogRecordModel.builder()
+                .prefix(PREFIX)
+                .identifier(149)
+                .template("Token validation rejected, the verification executor is saturated")
+                .build();
+
+        public static final LogRecord WARMUP_ABORTED = LogRecordModel.builder()
+                .prefix(PREFIX)
+                .identifier(150)
+                .template("JIT warmup aborted, synthetic token rejected with %s after %s validations")
+                .build();
+
+        public static final LogRecord JWKS_SNAPSHOT_READ_FAILED = LogRecordModel.builder()
+                .prefix(PREFIX)
+                .identifier(151)
+                .template("Failed to read JWKS snapshot from %s: %s")
+                .build();
+
+        public static final LogRecord JWKS_SNAPSHOT_WRITE_FAILED = LogRecordModel.builder()
+                .prefix(PREFIX)
+                .identifier(152)
+                .template("Failed to write JWKS snapshot to %s: %s")
+                .build();
+
+        public static final LogRecord JWKS_SNAPSHOT_EXPIRED = LogRecordModel.builder()
+                .prefix(PREFIX)
+                .identifier(153)
+                .template("JWKS snapshot for issuer %s exceeded the maximum stale age of %s without successful revalidation, discarding its keys")
+                .build();
+
+        public static final LogRecord ISSUER_STARTUP_DEADLINE_EXCEEDED = LogRecordModel.builder()
+                .prefix(PREFIX)
+                .identifier(154)
+                .template("Issuer initialization did not complete within %s, issuers still loading: %s")
+                .build();
+
+        public static final LogRecord ISSUER_TEMPLATE_LIMIT_REACHED = LogRecordModel.builder()
+                .prefix(PREFIX)
+                .identifier(155)
+                .template("Issuer template %s reached its limit of %s issuers, rejecting issuer %s")
+                .build();
+
+        public static final LogRecord JWKS_FILE_LOAD_FAILED = LogRecordModel.builder()
+                .prefix(PREFIX)
+                .identifier(156)
+                .template("Failed to load JWKS file %s, keeping the current keys: %s")
+                .build();
+
+        public static final LogRecord JWKS_EXCHANGE_FAILED = LogRecordModel.builder()
+                .prefix(PREFIX)
+                .identifier(157)
+                .template("Failed to access JWKS exchange file %s, fetching the JWKS in this process: %s")
+                .build();
+
+        public static final LogRecord KEY_TRIAL_RATE_LIMITED = LogRecordModel.builder()
+                .prefix(PREFIX)
+                .identifier(158)
+                .template("Token without key ID rejected for issuer %s: more than %s key trial verifications per second")
+                .build();
     }
 
 }
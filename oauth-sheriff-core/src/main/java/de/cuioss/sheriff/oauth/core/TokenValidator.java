@@ -15,27 +15,45 @@
  */
 package de.cuioss.sheriff.oauth.core;
 
+import de.cuioss.http.client.LoaderStatus;
 import de.cuioss.sheriff.oauth.core.cache.AccessTokenCacheConfig;
 import de.cuioss.sheriff.oauth.core.domain.token.AccessTokenContent;
 import de.cuioss.sheriff.oauth.core.domain.token.IdTokenContent;
 import de.cuioss.sheriff.oauth.core.domain.token.RefreshTokenContent;
 import de.cuioss.sheriff.oauth.core.exception.TokenValidationException;
+import de.cuioss.sheriff.oauth.core.jwks.http.SharedJwksEndpoints;
 import de.cuioss.sheriff.oauth.core.metrics.*;
 import de.cuioss.sheriff.oauth.core.pipeline.*;
-import de.cuioss.sheriff.oauth.core.pipeline.validator.TokenClaimValidator;
-import de.cuioss.sheriff.oauth.core.pipeline.validator.TokenHeaderValidator;
-import de.cuioss.sheriff.oauth.core.pipeline.validator.TokenSignatureValidator;
 import de.cuioss.sheriff.oauth.core.pipeline.validator.TokenStringValidator;
 import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
+import de.cuioss.sheriff.oauth.core.security.SecurityEventLogConfig;
+import de.cuioss.sheriff.oauth.core.security.SignatureAlgorithmPreferences;
+import de.cuioss.tools.base.Preconditions;
 import de.cuioss.tools.logging.CuiLogger;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Singular;
 import org.jspecify.annotations.Nullable;
 
-import java.util.HashMap;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Main entry point for creating and validating JWT tokens.
@@ -56,6 +74,17 @@ import java.util.Map;
  * This class is thread-safe after construction.
  * All validation methods can be called concurrently from multiple threads.
  * <p>
+ * Issuers can be added, replaced and removed while the validator is in use, see
+ * {@link #registerIssuer(IssuerConfig)}, {@link #updateIssuer(IssuerConfig)} and
+ * {@link #unregisterIssuer(String)}. The validators of each issuer are bundled immutably and
+ * swapped copy-on-write, so lookups stay lock-free, and only the cached tokens of the changed
+ * issuer are dropped.
+ * <p>
+ * For multi-tenant identity providers, {@link IssuerTemplate}s replace enumerating an issuer
+ * per tenant: the first token of an unknown issuer matching a template instantiates and
+ * registers the issuer of its tenant, with the JWKS URL derived from the template. Templates
+ * are matched by a prefix trie in time linear to the length of the issuer.
+ * <p>
  * <strong>Design Note:</strong> This class intentionally implements the facade/factory pattern,
  * orchestrating the creation and wiring of all JWT validation components. The higher dependency
  * count is a natural consequence of this design pattern and is acceptable for a public API
@@ -95,6 +124,11 @@ import java.util.Map;
  *     .issuerConfig(issuerConfig)
  *     .monitorConfig(metricsConfig)  // Optional: null means no types monitored
  *     .cacheConfig(cacheConfig)      // Optional: null means default caching enabled
+ *     .securityEventLogConfig(SecurityEventLogConfig.defaultConfig()) // Optional: rate limits for rejection warnings
+ *     .signatureVerificationLimiterConfig(SignatureVerificationLimiterConfig.defaultConfig()) // Optional: null means no admission control
+ *     .verificationExecutor(executor) // Optional: null means a bounded default executor for async validation
+ *     .issuerStartupConfig(IssuerStartupConfig.defaultConfig()) // Optional: concurrency and deadline of the issuer initialization
+ *     .issuerTemplate(realmTemplate) // Optional: instantiates the issuers of matching tenants on their first token
  *     .build();
  *
  * // Parse an access token
@@ -106,6 +140,22 @@ import java.util.Map;
  * // Parse a refresh token
  * Optional&lt;RefreshTokenContent&gt; refreshToken = tokenValidator.createRefreshToken(tokenString);
  *
+ * // Validate without blocking the calling thread, e.g. on an event loop
+ * CompletionStage&lt;AccessTokenContent&gt; asyncToken = tokenValidator.createAccessTokenAsync(tokenString);
+ *
+ * // Validate without exceptions on rejection, e.g. for high rejection rates
+ * ValidationResult&lt;AccessTokenContent&gt; result = tokenValidator.validateAccessToken(tokenString);
+ *
+ * // Warm up the JIT compilation during startup, before reporting readiness
+ * tokenValidator.warmup(TokenValidator.DEFAULT_WARMUP_ITERATIONS);
+ *
+ * // Onboard a tenant without rebuilding the validator, the future completes once its keys are loaded
+ * tokenValidator.registerIssuer(tenantIssuerConfig).join();
+ * tokenValidator.unregisterIssuer("https://tenant.example.com");
+ *
+ * // Validate a batch of tokens, sharing the verifier setup per issuer, key and algorithm
+ * List&lt;ValidationResult&lt;AccessTokenContent&gt;&gt; results = tokenValidator.createAccessTokens(tokenStrings, ForkJoinPool.commonPool());
+ *
  * // Access the security event counter for monitoring
  * SecurityEventCounter securityEventCounter = tokenValidator.getSecurityEventCounter();
  *
@@ -132,6 +182,16 @@ public class TokenValidator {
 
     private static final CuiLogger LOGGER = new CuiLogger(TokenValidator.class);
 
+    /**
+     * Number of validations the default verification executor queues before rejecting further ones.
+     */
+    public static final int DEFAULT_VERIFICATION_QUEUE_CAPACITY = 1024;
+
+    /**
+     * Default number of warmup validations per algorithm, see {@link #warmup(int)}.
+     */
+    public static final int DEFAULT_WARMUP_ITERATIONS = 2000;
+
     /**
      * Counter for security events that occur during token processing.
      * This counter is thread-safe and can be accessed from outside to monitor security events.
@@ -146,6 +206,27 @@ public class TokenValidator {
     @Getter
     private final TokenValidatorMonitor performanceMonitor;
 
+    /**
+     * Admission control for the signature verification of access tokens, {@code null} if not configured.
+     */
+    @Nullable
+    private final SignatureVerificationLimiter signatureVerificationLimiter;
+
+    /**
+     * Executor running asynchronous validations of access tokens that are not cached.
+     */
+    private final Executor verificationExecutor;
+
+    /**
+     * Parser configuration, reused for the JIT warmup.
+     */
+    private final ParserConfig parserConfig;
+
+    /**
+     * Signature algorithms accepted by the enabled issuers, warmed up by {@link #warmup(int)}.
+     */
+    private final List<String> warmupAlgorithms;
+
     /**
      * Validator for pre-pipeline token string validation (null, blank, size checks).
      * This validator runs before any pipeline processing to fail fast on invalid inputs.
@@ -170,6 +251,59 @@ public class TokenValidator {
      */
     private final RefreshTokenValidationPipeline refreshTokenPipeline;
 
+    /**
+     * Resolver of the issuer configurations, shared by the pipelines.
+     */
+    private final IssuerConfigResolver issuerConfigResolver;
+
+    /**
+     * Pre-created validators of all registered issuers, shared by the pipelines.
+     */
+    private final IssuerValidatorRegistry issuerValidators;
+
+    /**
+     * Key ID index of the access token pipeline.
+     */
+    private final KeyIdIssuerIndex keyIdIssuerIndex;
+
+    /**
+     * Serializes the runtime changes of the registered issuers.
+     */
+    private final Object issuerRegistryLock = new Object();
+
+    /**
+     * Compiled issuer templates, matched against issuers unknown to the resolver.
+     */
+    private final IssuerTemplateIndex issuerTemplates;
+
+    /**
+     * Issuers instantiated from a template by issuer identifier, including failed ones until
+     * they are discarded.
+     */
+    private final ConcurrentHashMap<String, TemplateInstance> templateInstances = new ConcurrentHashMap<>();
+
+    /**
+     * Number of {@link #templateInstances} per template, checked against its maximum number of
+     * instances without scanning the instances.
+     */
+    private final Map<IssuerTemplate, AtomicInteger> templateInstanceCounts;
+
+    /**
+     * JWKS endpoints shared by the loaders of issuers referencing the same JWKS URI.
+     */
+    private final SharedJwksEndpoints sharedJwksEndpoints = new SharedJwksEndpoints();
+
+    /**
+     * An issuer instantiated from a template.
+     *
+     * @param template     the template the issuer was instantiated from
+     * @param issuerConfig the configuration created from the template
+     * @param loading      the future of its registration, or of its activation if activated lazily
+     */
+    private record TemplateInstance(IssuerTemplate template, IssuerConfig issuerConfig,
+            CompletableFuture<LoaderStatus> loading) {
+    }
+
 
     /**
      * Private constructor used by builder.
@@ -179,10 +313,15 @@ public class TokenValidator {
             @Nullable ParserConfig parserConfig,
             @Singular List<IssuerConfig> issuerConfigs,
             @Nullable TokenValidatorMonitorConfig monitorConfig,
-            @Nullable AccessTokenCacheConfig cacheConfig) {
-
-        if (issuerConfigs.isEmpty()) {
-            throw new IllegalArgumentException("At least one issuer configuration must be provided");
+            @Nullable AccessTokenCacheConfig cacheConfig,
+            @Nullable SecurityEventLogConfig securityEventLogConfig,
+            @Nullable SignatureVerificationLimiterConfig signatureVerificationLimiterConfig,
+            @Nullable Executor verificationExecutor,
+            @Nullable IssuerStartupConfig issuerStartupConfig,
+            @Singular List<IssuerTemplate> issuerTemplates) {
+
+        if (issuerConfigs.isEmpty() && issuerTemplates.isEmpty()) {
+            throw new IllegalArgumentException("At least one issuer configuration or issuer template must be provided");
         }
 
         // Use default ParserConfig if not provided
@@ -191,9 +330,23 @@ public class TokenValidator {
         }
 
         LOGGER.debug("Initialize token validator with %s and %s issuer configurations", parserConfig, issuerConfigs.size());
+        this.parserConfig = parserConfig;
+        Stream<String> algorithms = issuerConfigs.stream()
+                .filter(IssuerConfig::isEnabled)
+                .flatMap(issuerConfig -> issuerConfig.getAlgorithmPreferences().getPreferredAlgorithms().stream());
+        if (!issuerTemplates.isEmpty()) {
+            // The algorithms of template issuers are only known once instantiated
+            algorithms = Stream.concat(algorithms, SignatureAlgorithmPreferences.getDefaultPreferredAlgorithms().stream());
+        }
+        this.warmupAlgorithms = algorithms.distinct().toList();
+        this.issuerTemplates = new IssuerTemplateIndex(issuerTemplates);
+        this.templateInstanceCounts = issuerTemplates.stream()
+                .collect(Collectors.toUnmodifiableMap(Function.identity(), template -> new AtomicInteger()));
 
         // Always create new instances internally
-        this.securityEventCounter = new SecurityEventCounter();
+        this.securityEventCounter = securityEventLogConfig != null
+                ? new SecurityEventCounter(securityEventLogConfig)
+                : new SecurityEventCounter();
 
         // Create monitor based on configuration
         if (monitorConfig != null) {
@@ -209,54 +362,36 @@ public class TokenValidator {
                 .securityEventCounter(this.securityEventCounter)
                 .build();
 
+        // Issuers with a common JWKS URI load its keys only once
+        issuerConfigs.forEach(issuerConfig -> sharedJwksEndpoints.attach(issuerConfig.getJwksLoader()));
+
         // Let the IssuerConfigResolver handle all issuer config processing
-        IssuerConfigResolver issuerConfigResolver = new IssuerConfigResolver(issuerConfigs, this.securityEventCounter);
-
-        // Initialize immutable map of TokenSignatureValidator instances for each issuer
-        // This eliminates the performance bottleneck of creating new instances on every validation
-        Map<String, TokenSignatureValidator> signatureValidatorsMap = new HashMap<>();
-        Map<String, TokenBuilder> tokenBuildersMap = new HashMap<>();
-        Map<String, TokenClaimValidator> claimValidatorsMap = new HashMap<>();
-        Map<String, TokenHeaderValidator> headerValidatorsMap = new HashMap<>();
-
-        for (IssuerConfig issuerConfig : issuerConfigs) {
-            String issuerIdentifier = issuerConfig.getIssuerIdentifier();
-
-            // Initialize signature validator
-            TokenSignatureValidator signatureValidator = new TokenSignatureValidator(
-                    issuerConfig.getJwksLoader(),
-                    this.securityEventCounter,
-                    issuerConfig.getAlgorithmPreferences()
-            );
-            signatureValidatorsMap.put(issuerIdentifier, signatureValidator);
-            LOGGER.debug("Pre-created TokenSignatureValidator for issuer: %s", issuerIdentifier);
-
-            // Initialize token builder
-            TokenBuilder tokenBuilder = new TokenBuilder(issuerConfig);
-            tokenBuildersMap.put(issuerIdentifier, tokenBuilder);
-            LOGGER.debug("Pre-created TokenBuilder for issuer: %s", issuerIdentifier);
-
-            // Initialize claim validator
-            TokenClaimValidator claimValidator = new TokenClaimValidator(issuerConfig, this.securityEventCounter);
-            claimValidatorsMap.put(issuerIdentifier, claimValidator);
-            LOGGER.debug("Pre-created TokenClaimValidator for issuer: %s", issuerIdentifier);
-
-            // Initialize header validator
-            TokenHeaderValidator headerValidator = new TokenHeaderValidator(issuerConfig, this.securityEventCounter);
-            headerValidatorsMap.put(issuerIdentifier, headerValidator);
-            LOGGER.debug("Pre-created TokenHeaderValidator for issuer: %s", issuerIdentifier);
-        }
+        // Issuers unknown to the resolver are instantiated from the templates on their first token
+        this.issuerConfigResolver = new IssuerConfigResolver(issuerConfigs, this.securityEventCounter,
+                issuerStartupConfig != null ? issuerStartupConfig : IssuerStartupConfig.defaultConfig(),
+                this.issuerTemplates.isEmpty() ? null : this::instantiateFromTemplate);
 
-        Map<String, TokenSignatureValidator> signatureValidators = Map.copyOf(signatureValidatorsMap);
-        Map<String, TokenBuilder> tokenBuilders = Map.copyOf(tokenBuildersMap);
-        Map<String, TokenClaimValidator> claimValidators = Map.copyOf(claimValidatorsMap);
-        Map<String, TokenHeaderValidator> headerValidators = Map.copyOf(headerValidatorsMap);
+        // Pre-create the validators of each issuer once instead of on every validation
+        this.issuerValidators = new IssuerValidatorRegistry(issuerConfigs.stream()
+                .map(issuerConfig -> IssuerValidators.create(issuerConfig, this.securityEventCounter))
+                .toList(), this.securityEventCounter);
+        this.keyIdIssuerIndex = new KeyIdIssuerIndex(issuerConfigs, !this.issuerTemplates.isEmpty());
 
         // Use default cache config if not provided
         if (cacheConfig == null) {
             cacheConfig = AccessTokenCacheConfig.defaultConfig();
         }
 
+        // Admission control for signature verifications is opt-in
+        this.signatureVerificationLimiter = signatureVerificationLimiterConfig != null
+                ? new SignatureVerificationLimiter(signatureVerificationLimiterConfig, this.securityEventCounter)
+                : null;
+
+        // Threads of the default executor are only started by asynchronous validations
+        this.verificationExecutor = verificationExecutor != null
+                ? verificationExecutor
+                : createDefaultVerificationExecutor();
+
         // Construct TokenStringValidator for pre-pipeline validation
         this.tokenStringValidator = new TokenStringValidator(
                 parserConfig, this.securityEventCounter);
@@ -271,10 +406,7 @@ public class TokenValidator {
         this.idTokenPipeline = new IdTokenValidationPipeline(
                 jwtParser,
                 issuerConfigResolver,
-                signatureValidators,
-                tokenBuilders,
-                claimValidators,
-                headerValidators,
+                issuerValidators,
                 this.securityEventCounter);
         LOGGER.debug("IdTokenValidationPipeline initialized");
 
@@ -283,10 +415,9 @@ public class TokenValidator {
         this.accessTokenPipeline = new AccessTokenValidationPipeline(
                 jwtParser,
                 issuerConfigResolver,
-                signatureValidators,
-                tokenBuilders,
-                claimValidators,
-                headerValidators,
+                issuerValidators,
+                keyIdIssuerIndex,
+                this.signatureVerificationLimiter,
                 cacheConfig,
                 this.securityEventCounter,
                 this.performanceMonitor);
@@ -326,6 +457,116 @@ public class TokenValidator {
         }
     }
 
+    /**
+     * Creates an access token from the given token string without blocking the calling thread.
+     * <p>
+     * Cached tokens complete inline. Other tokens are validated on the verification executor,
+     * configured by the {@code verificationExecutor} builder option. If the JWKS of the token
+     * issuer is still loading, the validation is chained on the loading instead of waiting for it.
+     * This makes the method suitable for event loop threads.
+     * <p>
+     * If the verification executor is saturated, the token is rejected with
+     * {@link SecurityEventCounter.EventType#SIGNATURE_VERIFICATION_OVERLOADED}.
+     *
+     * @param tokenString The token string to parse, must not be null
+     * @return a stage completing with the parsed access token, or exceptionally with the
+     * {@link TokenValidationException} rejecting the token
+     * @see #createAccessToken(String)
+     */
+    public CompletionStage<AccessTokenContent> createAccessTokenAsync(String tokenString) {
+        LOGGER.debug("Creating access token asynchronously");
+
+        // Record complete validation time
+        MetricsTicker completeTicker = MetricsTickerFactory.createStartedTicker(MeasurementType.COMPLETE_VALIDATION, performanceMonitor);
+        CompletableFuture<AccessTokenContent> validation;
+        try {
+            // Pre-pipeline validation (null, blank, size)
+            tokenStringValidator.validate(tokenString);
+
+            validation = accessTokenPipeline.validateAsync(tokenString, verificationExecutor);
+        } catch (TokenValidationException e) {
+            completeTicker.stopAndRecord();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        // Completes with the unwrapped exception, consistent with the synchronous API
+        CompletableFuture<AccessTokenContent> result = new CompletableFuture<>();
+        validation.whenComplete((token, error) -> {
+            completeTicker.stopAndRecord();
+            if (error == null) {
+                LOGGER.debug("Successfully created access token");
+                securityEventCounter.increment(SecurityEventCounter.EventType.ACCESS_TOKEN_CREATED);
+                result.complete(token);
+            } else {
+                result.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Creates access tokens from a batch of token strings, e.g. for audit replay or bulk message
+     * consumption.
+     * <p>
+     * Equivalent to {@link #createAccessTokens(Collection, Executor)} without executor, so all
+     * tokens are validated on the calling thread.
+     *
+     * @param tokenStrings The token strings to parse, must not be null
+     * @return the validation results in the iteration order of the given token strings
+     */
+    public List<ValidationResult<AccessTokenContent>> createAccessTokens(Collection<String> tokenStrings) {
+        return createAccessTokens(tokenStrings, null);
+    }
+
+    /**
+     * Creates access tokens from a batch of token strings, reporting a result per token.
+     * <p>
+     * Each token is validated like by {@link #createAccessToken(String)}, including caching,
+     * logging and security event counting, but a rejected token does not abort the batch. Cache
+     * misses are grouped by issuer, key ID and algorithm, so each group initializes its signature
+     * verifier once. If an executor such as a {@link java.util.concurrent.ForkJoinPool} is given,
+     * the groups are validated concurrently on it.
+     * <p>
+     * The step metrics are recorded per token, {@link MeasurementType#COMPLETE_VALIDATION} is
+     * not recorded for batches.
+     *
+     * @param tokenStrings The token strings to parse, must not be null
+     * @param executor the executor validating the groups concurrently, may be null
+     * @return the validation results in the iteration order of the given token strings
+     */
+    public List<ValidationResult<AccessTokenContent>> createAccessTokens(Collection<String> tokenStrings,
+            @Nullable Executor executor) {
+        LOGGER.debug("Creating %s access tokens", tokenStrings.size());
+
+        // Pre-pipeline validation (null, blank, size) per token
+        List<ValidationResult<AccessTokenContent>> results = new ArrayList<>(tokenStrings.size());
+        List<String> validStrings = new ArrayList<>(tokenStrings.size());
+        for (String tokenString : tokenStrings) {
+            try {
+                tokenStringValidator.validate(tokenString);
+                validStrings.add(tokenString);
+                results.add(null);
+            } catch (TokenValidationException e) {
+                results.add(new ValidationResult.Failure<>(e));
+            }
+        }
+
+        // Delegate to access token pipeline (handles caching, grouping, full validation)
+        Iterator<ValidationResult<AccessTokenContent>> pipelineResults =
+                accessTokenPipeline.validateBatch(validStrings, executor).iterator();
+        for (int index = 0; index < results.size(); index++) {
+            if (results.get(index) == null) {
+                ValidationResult<AccessTokenContent> result = pipelineResults.next();
+                if (result.isValid()) {
+                    securityEventCounter.increment(SecurityEventCounter.EventType.ACCESS_TOKEN_CREATED);
+                }
+                results.set(index, result);
+            }
+        }
+        return results;
+    }
+
     /**
      * Creates an ID token from the given token string.
      *
@@ -371,4 +612,331 @@ public class TokenValidator {
 
         return refreshToken;
     }
-}
\ No newline at end of file
+
+    /**
+     * Validates an access token without throwing on rejection.
+     * <p>
+     * Behaves exactly like {@link #createAccessToken(String)}, including metrics, caching,
+     * logging and security event counting, but reports a rejected token as
+     * {@link ValidationResult.Failure} instead of throwing.
+     *
+     * @param tokenString The token string to validate, must not be null
+     * @return the validation result, never null
+     */
+    public ValidationResult<AccessTokenContent> validateAccessToken(String tokenString) {
+        try {
+            return new ValidationResult.Success<>(createAccessToken(tokenString));
+        } catch (TokenValidationException e) {
+            return new ValidationResult.Failure<>(e);
+        }
+    }
+
+    /**
+     * Validates an ID token without throwing on rejection.
+     *
+     * @param tokenString The token string to validate, must not be null
+     * @return the validation result, never null
+     * @see #createIdToken(String)
+     */
+    public ValidationResult<IdTokenContent> validateIdToken(String tokenString) {
+        try {
+            return new ValidationResult.Success<>(createIdToken(tokenString));
+        } catch (TokenValidationException e) {
+            return new ValidationResult.Failure<>(e);
+        }
+    }
+
+    /**
+     * Validates a refresh token without throwing on rejection.
+     *
+     * @param tokenString The token string to validate, must not be null
+     * @return the validation result, never null
+     * @see #createRefreshToken(String)
+     */
+    public ValidationResult<RefreshTokenContent> validateRefreshToken(String tokenString) {
+        try {
+            return new ValidationResult.Success<>(createRefreshToken(tokenString));
+        } catch (TokenValidationException e) {
+            return new ValidationResult.Failure<>(e);
+        }
+    }
+
+    /**
+     * Creates the bounded executor used for asynchronous validations if none is configured.
+     * <p>
+     * It runs up to one validation per available processor and queues up to
+     * {@link #DEFAULT_VERIFICATION_QUEUE_CAPACITY} further ones; idle threads terminate.
+     */
+    private static Executor createDefaultVerificationExecutor() {
+        int threads = Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(DEFAULT_VERIFICATION_QUEUE_CAPACITY), r -> {
+                    Thread thread = new Thread(r, "TokenValidator-Verification-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Warms up the JIT compilation of the access token validation.
+     * <p>
+     * The first validations after startup run interpreted code of the parser, the JSON
+     * converters, the signature providers and the claim validation and are therefore much slower.
+     * This method mints synthetic access tokens with ephemeral keys for each algorithm accepted by
+     * the configured issuers and validates them through the full pipeline of a separate, internal
+     * validator. Neither the access token cache nor the security event counter or the metrics of
+     * this validator are touched.
+     * <p>
+     * The call blocks until the warmup has finished and should therefore be made during startup,
+     * before the application reports readiness.
+     *
+     * @param iterations the number of validations per algorithm, e.g. {@link #DEFAULT_WARMUP_ITERATIONS}
+     * @return the number of validations performed
+     */
+    public long warmup(int iterations) {
+        TokenValidatorWarmup warmup = new TokenValidatorWarmup(parserConfig, warmupAlgorithms);
+        long validations = (long) iterations * warmup.getAlgorithms().size();
+        return warmup.run(performed -> performed < validations);
+    }
+
+    /**
+     * Warms up the JIT compilation of the access token validation for the given duration.
+     * <p>
+     * Behaves like {@link #warmup(int)}, but validates synthetic tokens until the duration has
+     * elapsed. The time for creating the ephemeral keys is not included.
+     *
+     * @param duration the duration of the warmup
+     * @return the number of validations performed
+     */
+    public long warmup(Duration duration) {
+        TokenValidatorWarmup warmup = new TokenValidatorWarmup(parserConfig, warmupAlgorithms);
+        long deadline = System.nanoTime() + duration.toNanos();
+        return warmup.run(performed -> System.nanoTime() - deadline < 0);
+    }
+
+    /**
+     * Adds an issuer to the running validator.
+     * <p>
+     * The JWKS of the issuer is loaded with the concurrency limit of the
+     * {@link IssuerStartupConfig}; tokens of the issuer arriving meanwhile wait for it. The
+     * validators and cached tokens of all other issuers are not affected. With lazy activation,
+     * the issuer is loaded by its first token instead.
+     *
+     * @param issuerConfig the enabled configuration of the new issuer, must not be null
+     * @return a future completing with the loader status once the issuer is published or its
+     * loading has failed; a failed issuer can be registered again
+     * @throws IllegalArgumentException if the configuration is disabled or the issuer is already
+     *                                  registered, see {@link #updateIssuer(IssuerConfig)}
+     */
+    public CompletableFuture<LoaderStatus> registerIssuer(IssuerConfig issuerConfig) {
+        Preconditions.checkArgument(issuerConfig.isEnabled(), "issuerConfig must be enabled");
+        String issuer = issuerConfig.getIssuerIdentifier();
+        synchronized (issuerRegistryLock) {
+            Preconditions.checkArgument(issuerValidators.get(issuer) == null,
+                    "Issuer %s is already registered, use updateIssuer", issuer);
+            return publishIssuer(issuerConfig, null);
+        }
+    }
+
+    /**
+     * Replaces the configuration of a registered issuer, e.g. after changing its audience or JWKS source.
+     * <p>
+     * The issuer keeps being validated with its previous configuration until the new one is
+     * loaded, or permanently if the loading fails. Once the new configuration is published, the
+     * cached tokens of the issuer are dropped and the previous JWKS loader is released.
+     *
+     * @param issuerConfig the enabled new configuration of the issuer, must not be null
+     * @return a future completing with the loader status once the configuration is published or
+     * its loading has failed
+     * @throws IllegalArgumentException if the configuration is disabled or the issuer is not registered
+     */
+    public CompletableFuture<LoaderStatus> updateIssuer(IssuerConfig issuerConfig) {
+        Preconditions.checkArgument(issuerConfig.isEnabled(), "issuerConfig must be enabled");
+        String issuer = issuerConfig.getIssuerIdentifier();
+        synchronized (issuerRegistryLock) {
+            IssuerValidators previous = issuerValidators.get(issuer);
+            Preconditions.checkArgument(previous != null, "Issuer %s is not registered, use registerIssuer", issuer);
+            return publishIssuer(issuerConfig, previous);
+        }
+    }
+
+    /**
+     * Removes an issuer from the running validator. Its tokens are rejected from now on, its
+     * cached tokens are dropped and its JWKS loader is released.
+     *
+     * @param issuer the identifier of the issuer to remove
+     * @return {@code true} if the issuer was registered
+     */
+    public boolean unregisterIssuer(String issuer) {
+        synchronized (issuerRegistryLock) {
+            IssuerValidators previous = issuerValidators.remove(issuer);
+            if (previous == null) {
+                return false;
+            }
+            removeTemplateInstance(issuer);
+            issuerConfigResolver.unregister(issuer);
+            keyIdIssuerIndex.unregister(issuer);
+            int invalidated = accessTokenPipeline.invalidateIssuer(issuer);
+            previous.issuerConfig().getJwksLoader().release();
+            LOGGER.info(JWTValidationLogMessages.INFO.ISSUER_UNREGISTERED, issuer, invalidated);
+            return true;
+        }
+    }
+
+    /**
+     * Instantiates and registers the issuer of a token matching one of the issuer templates.
+     * Called by the issuer resolver for issuers it does not know.
+     * <p>
+     * Concurrent tokens of the same issuer share one instantiation. If the JWKS of the issuer
+     * cannot be loaded, e.g. because the tenant does not exist, its tokens are rejected without
+     * loading again until the instance is discarded after
+     * {@link IssuerConfigResolver#ACTIVATION_RETRY_SECONDS}. With lazy activation, the instance is
+     * activated right away, so that a failed activation discards it as well and issuers of
+     * unverified tokens do not use up the instances of the template.
+     *
+     * @param issuer the issuer identifier of the token
+     * @return the future of the registration or activation, or {@code null} if no template
+     * matches or the matching template reached its maximum number of instances
+     */
+    private @Nullable CompletableFuture<LoaderStatus> instantiateFromTemplate(String issuer) {
+        IssuerTemplateIndex.Match match = issuerTemplates.match(issuer);
+        if (match == null) {
+            return null;
+        }
+        TemplateInstance existing = templateInstances.get(issuer);
+        if (existing != null) {
+            return existing.loading();
+        }
+        IssuerTemplate template = match.template();
+        AtomicInteger instances = templateInstanceCounts.get(template);
+        // Checked again under the lock, rejecting early keeps floods of new issuers off the lock
+        if (instances.get() >= template.getMaxInstances()) {
+            return rejectTemplateLimit(template, issuer);
+        }
+        synchronized (issuerRegistryLock) {
+            existing = templateInstances.get(issuer);
+            if (existing != null) {
+                return existing.loading();
+            }
+            if (issuerValidators.get(issuer) != null) {
+                // Registered meanwhile, the resolver looks it up again
+                return CompletableFuture.completedFuture(LoaderStatus.OK);
+            }
+            if (instances.get() >= template.getMaxInstances()) {
+                return rejectTemplateLimit(template, issuer);
+            }
+
+            LOGGER.debug("Instantiating issuer %s from template %s", issuer, template.getIssuerPattern());
+            IssuerConfig issuerConfig = template.createIssuerConfig(match.value());
+            CompletableFuture<LoaderStatus> registration = publishIssuer(issuerConfig, null);
+            CompletableFuture<LoaderStatus> activation = issuerConfigResolver.activateLazily(issuer);
+            CompletableFuture<LoaderStatus> loading = activation != null ? activation : registration;
+            templateInstances.put(issuer, new TemplateInstance(template, issuerConfig, loading));
+            instances.incrementAndGet();
+            loading.whenComplete((status, error) -> {
+                if (error != null || status != LoaderStatus.OK) {
+                    CompletableFuture.delayedExecutor(IssuerConfigResolver.ACTIVATION_RETRY_SECONDS, TimeUnit.SECONDS)
+                            .execute(() -> discardTemplateInstance(issuer, loading));
+                }
+            });
+            return loading;
+        }
+    }
+
+    private @Nullable CompletableFuture<LoaderStatus> rejectTemplateLimit(IssuerTemplate template, String issuer) {
+        if (securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.NO_ISSUER_CONFIG)) {
+            LOGGER.warn(JWTValidationLogMessages.WARN.ISSUER_TEMPLATE_LIMIT_REACHED,
+                    template.getIssuerPattern(), template.getMaxInstances(), issuer);
+        }
+        return null;
+    }
+
+    /**
+     * Removes a template instance whose loading or activation failed, so that its next token
+     * instantiates it again. An instance activated lazily is registered with its validators
+     * and is only discarded if its loader did not recover or get activated again meanwhile.
+     *
+     * @param issuer  the issuer identifier
+     * @param loading the future of the failed registration or activation
+     */
+    private void discardTemplateInstance(String issuer, CompletableFuture<LoaderStatus> loading) {
+        synchronized (issuerRegistryLock) {
+            TemplateInstance instance = templateInstances.get(issuer);
+            if (instance == null || instance.loading() != loading) {
+                return;
+            }
+            IssuerValidators registered = issuerValidators.get(issuer);
+            if (registered == null) {
+                removeTemplateInstance(issuer);
+                issuerConfigResolver.unregister(issuer);
+                LOGGER.debug("Discarded failed instance of issuer %s", issuer);
+            } else if (registered.issuerConfig() == instance.issuerConfig() && !isLoadingOrLoaded(instance.issuerConfig())) {
+                issuerValidators.remove(issuer);
+                removeTemplateInstance(issuer);
+                issuerConfigResolver.unregister(issuer);
+                keyIdIssuerIndex.unregister(issuer);
+                instance.issuerConfig().getJwksLoader().release();
+                LOGGER.debug("Discarded failed activation of issuer %s", issuer);
+            }
+        }
+    }
+
+    private static boolean isLoadingOrLoaded(IssuerConfig issuerConfig) {
+        LoaderStatus status = issuerConfig.getJwksLoader().getLoaderStatus();
+        return status == LoaderStatus.OK || status == LoaderStatus.LOADING;
+    }
+
+    private void removeTemplateInstance(String issuer) {
+        TemplateInstance removed = templateInstances.remove(issuer);
+        if (removed != null) {
+            templateInstanceCounts.get(removed.template()).decrementAndGet();
+        }
+    }
+
+    /**
+     * Loads the given configuration and publishes it together with its validators.
+     *
+     * @param issuerConfig the configuration to publish
+     * @param previous     the validators of the replaced configuration, {@code null} for a new issuer
+     * @return the future of the loader status
+     */
+    private CompletableFuture<LoaderStatus> publishIssuer(IssuerConfig issuerConfig, @Nullable IssuerValidators previous) {
+        String issuer = issuerConfig.getIssuerIdentifier();
+        IssuerValidators validators = IssuerValidators.create(issuerConfig, this.securityEventCounter);
+        sharedJwksEndpoints.attach(issuerConfig.getJwksLoader());
+        return issuerConfigResolver.register(issuerConfig, () -> {
+            issuerValidators.put(validators);
+            keyIdIssuerIndex.register(issuerConfig);
+        }).thenApply(status -> {
+            boolean published = issuerValidators.get(issuer) == validators;
+            if (!published) {
+                // Failed or superseded, the registered validators keep their own loader
+                if (previous == null || previous.issuerConfig().getJwksLoader() != issuerConfig.getJwksLoader()) {
+                    issuerConfig.getJwksLoader().release();
+                }
+            } else if (previous == null) {
+                LOGGER.info(JWTValidationLogMessages.INFO.ISSUER_REGISTERED, issuer);
+            } else {
+                int invalidated = accessTokenPipeline.invalidateIssuer(issuer);
+                if (previous.issuerConfig().getJwksLoader() != issuerConfig.getJwksLoader()) {
+                    previous.issuerConfig().getJwksLoader().release();
+                }
+                LOGGER.info(JWTValidationLogMessages.INFO.ISSUER_UPDATED, issuer, invalidated);
+            }
+            return status;
+        });
+    }
+
+    /**
+     * Provides the admission control for signature verifications, e.g. for exposing its
+     * limit and rejection count as metrics.
+     *
+     * @return the limiter, or empty if no {@link SignatureVerificationLimiterConfig} was configured
+     */
+    public Optional<SignatureVerificationLimiter> getSignatureVerificationLimiter() {
+        return Optional.ofNullable(signatureVerificationLimiter);
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core;
+
+import de.cuioss.sheriff.oauth.core.cache.AccessTokenCacheConfig;
+import de.cuioss.sheriff.oauth.core.exception.TokenValidationException;
+import de.cuioss.sheriff.oauth.core.security.SignatureAlgorithmPreferences;
+import de.cuioss.tools.logging.CuiLogger;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.MGF1ParameterSpec;
+import java.security.spec.PSSParameterSpec;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.function.LongPredicate;
+
+/**
+ * JIT warmup of the access token validation, see {@link TokenValidator#warmup(int)}.
+ * <p>
+ * Creates an ephemeral key pair per algorithm, mints synthetic access tokens signed with these
+ * keys and validates them with a separate {@link TokenValidator} configured for a synthetic
+ * issuer. The warmup validator has its own security event counter and no access token cache, so
+ * every validation runs the full pipeline, from parsing the JSON to verifying the signature and
+ * validating the claims, without touching the state of the validator being warmed up.
+ * <p>
+ * Algorithms without a known signing scheme are skipped. The private keys never leave this
+ * instance.
+ *
+ * @author Oliver Wolff
+ * @since 1.0
+ */
+final class TokenValidatorWarmup {
+
+    private static final CuiLogger LOGGER = new CuiLogger(TokenValidatorWarmup.class);
+
+    /**
+     * Issuer of the synthetic tokens, using a reserved top-level domain.
+     */
+    static final String WARMUP_ISSUER = "https://warmup.oauth-sheriff.invalid";
+
+    private static final String WARMUP_AUDIENCE = "warmup";
+    private static final String WARMUP_CLIENT_ID = "warmup-client";
+    private static final String KEY_ID_PREFIX = "warmup-";
+
+    /**
+     * Number of distinct tokens per algorithm, so the payloads differ between validations.
+     */
+    private static final int TOKENS_PER_ALGORITHM = 8;
+    private static final long TOKEN_LIFETIME_SECONDS = 3600;
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final List<String> algorithms = new ArrayList<>();
+    private final List<String> tokens = new ArrayList<>();
+    private final TokenValidator warmupValidator;
+
+    /**
+     * Creates the keys, tokens and the warmup validator.
+     *
+     * @param parserConfig the parser configuration of the validator being warmed up
+     * @param requestedAlgorithms the signature algorithms to warm up
+     */
+    TokenValidatorWarmup(ParserConfig parserConfig, Collection<String> requestedAlgorithms) {
+        Map<String, KeyPair> keyPairs = new HashMap<>();
+        StringJoiner jwks = new StringJoiner(",", "{\"keys\":[", "]}");
+        long now = Instant.now().getEpochSecond();
+        for (String algorithm : requestedAlgorithms) {
+            try {
+                KeyPair keyPair = keyPairs.computeIfAbsent(keyFamily(algorithm), family -> generateKeyPair(algorithm));
+                jwks.add(toJwk(algorithm, keyPair));
+                for (int index = 0; index < TOKENS_PER_ALGORITHM; index++) {
+                    tokens.add(mintToken(algorithm, keyPair, now, index));
+                }
+                algorithms.add(algorithm);
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                LOGGER.debug("Skipping warmup for algorithm %s: %s", algorithm, e.getMessage());
+            }
+        }
+
+        IssuerConfig issuerConfig = IssuerConfig.builder()
+                .issuerIdentifier(WARMUP_ISSUER)
+                .expectedAudience(WARMUP_AUDIENCE)
+                .expectedClientId(WARMUP_CLIENT_ID)
+                .algorithmPreferences(new SignatureAlgorithmPreferences(List.copyOf(algorithms)))
+                .jwksContent(jwks.toString())
+                .build();
+        this.warmupValidator = TokenValidator.builder()
+                .parserConfig(parserConfig)
+                .issuerConfig(issuerConfig)
+                .cacheConfig(AccessTokenCacheConfig.disabled())
+                .build();
+    }
+
+    /**
+     * Validates the synthetic tokens round-robin as long as the given condition holds.
+     * <p>
+     * A rejected synthetic token aborts the warmup, since it indicates that the warmup no longer
+     * exercises the regular validation path.
+     *
+     * @param continueWarmup receives the number of validations performed so far and decides
+     *                       whether to perform another one
+     * @return the number of validations performed
+     */
+    long run(LongPredicate continueWarmup) {
+        if (tokens.isEmpty()) {
+            LOGGER.debug("No supported algorithm to warm up");
+            return 0;
+        }
+        long start = System.nanoTime();
+        long validations = 0;
+        try {
+            while (continueWarmup.test(validations)) {
+                warmupValidator.createAccessToken(tokens.get((int) (validations % tokens.size())));
+                validations++;
+            }
+        } catch (TokenValidationException e) {
+            LOGGER.warn(JWTValidationLogMessages.WARN.WARMUP_ABORTED, e.getEventType(), validations);
+        }
+        LOGGER.info(JWTValidationLogMessages.INFO.WARMUP_COMPLETED, validations, algorithms,
+                (System.nanoTime() - start) / 1_000_000);
+        return validations;
+    }
+
+    /**
+     * @return the algorithms actually warmed up
+     */
+    List<String> getAlgorithms() {
+        return List.copyOf(algorithms);
+    }
+
+    /**
+     * @return the warmup validator, exposed for tests
+     */
+    TokenValidator getWarmupValidator() {
+        return warmupValidator;
+    }
+
+    private static String keyFamily(String algorithm) {
+        return switch (algorithm) {
+            case "RS256", "RS384", "RS512", "PS256", "PS384", "PS512" -> "RSA";
+            case "ES256" -> "secp256r1";
+            case "ES384" -> "secp384r1";
+            case "ES512" -> "secp521r1";
+            default -> throw new IllegalArgumentException("No signing scheme for algorithm " + algorithm);
+        };
+    }
+
+    private static KeyPair generateKeyPair(String algorithm) {
+        String family = keyFamily(algorithm);
+        try {
+            KeyPairGenerator generator;
+            if ("RSA".equals(family)) {
+                generator = KeyPairGenerator.getInstance("RSA");
+                generator.initialize(2048);
+            } else {
+                generator = KeyPairGenerator.getInstance("EC");
+                generator.initialize(new ECGenParameterSpec(family));
+            }
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to generate key pair: " + e.getMessage(), e);
+        }
+    }
+
+    private static String toJwk(String algorithm, KeyPair keyPair) {
+        String kid = KEY_ID_PREFIX + algorithm;
+        if (keyPair.getPublic() instanceof RSAPublicKey rsaKey) {
+            return "{\"kty\":\"RSA\",\"use\":\"sig\",\"kid\":\"%s\",\"alg\":\"%s\",\"n\":\"%s\",\"e\":\"%s\"}"
+                    .formatted(kid, algorithm, encodeUnsigned(rsaKey.getModulus()), encodeUnsigned(rsaKey.getPublicExponent()));
+        }
+        ECPublicKey ecKey = (ECPublicKey) keyPair.getPublic();
+        int fieldSize = (ecKey.getParams().getCurve().getField().getFieldSize() + 7) / 8;
+        String curve = switch (algorithm) {
+            case "ES256" -> "P-256";
+            case "ES384" -> "P-384";
+            default -> "P-521";
+        };
+        return "{\"kty\":\"EC\",\"use\":\"sig\",\"kid\":\"%s\",\"alg\":\"%s\",\"crv\":\"%s\",\"x\":\"%s\",\"y\":\"%s\"}"
+                .formatted(kid, algorithm, curve,
+                        BASE64_URL.encodeToString(toFixedLength(ecKey.getW().getAffineX(), fieldSize)),
+                        BASE64_URL.encodeToString(toFixedLength(ecKey.getW().getAffineY(), fieldSize)));
+    }
+
+    private static String mintToken(String algorithm, KeyPair keyPair, long now, int index) {
+        String header = "{\"alg\":\"%s\",\"typ\":\"JWT\",\"kid\":\"%s\"}".formatted(algorithm, KEY_ID_PREFIX + algorithm);
+        String payload = """
+                {"iss":"%s","sub":"warmup-%s","aud":"%s","azp":"%s","scope":"openid warmup","typ":"Bearer",\
+                "iat":%s,"nbf":%s,"exp":%s,"jti":"warmup-%s-%s"}"""
+                .formatted(WARMUP_ISSUER, index, WARMUP_AUDIENCE, WARMUP_CLIENT_ID,
+                        now, now, now + TOKEN_LIFETIME_SECONDS, algorithm, index);
+        String signingInput = BASE64_URL.encodeToString(header.getBytes(StandardCharsets.UTF_8))
+                + "." + BASE64_URL.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        try {
+            Signature signer = signer(algorithm);
+            signer.initSign(keyPair.getPrivate());
+            signer.update(signingInput.getBytes(StandardCharsets.UTF_8));
+            return signingInput + "." + BASE64_URL.encodeToString(signer.sign());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to sign warmup token: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Creates the signer for the given algorithm; ECDSA signatures are created in the
+     * IEEE P1363 format required by JWS.
+     */
+    private static Signature signer(String algorithm) throws GeneralSecurityException {
+        String bits = algorithm.substring(2);
+        return switch (algorithm.substring(0, 2)) {
+            case "RS" -> Signature.getInstance("SHA" + bits + "withRSA");
+            case "ES" -> Signature.getInstance("SHA" + bits + "withECDSAinP1363Format");
+            default -> {
+                String digest = "SHA-" + bits;
+                Signature signature = Signature.getInstance("RSASSA-PSS");
+                signature.setParameter(new PSSParameterSpec(digest, "MGF1", new MGF1ParameterSpec(digest),
+                        Integer.parseInt(bits) / 8, 1));
+                yield signature;
+            }
+        };
+    }
+
+    private static String encodeUnsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return BASE64_URL.encodeToString(bytes);
+    }
+
+    private static byte[] toFixedLength(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length == length) {
+            return bytes;
+        }
+        byte[] result = new byte[length];
+        int copy = Math.min(bytes.length, length);
+        System.arraycopy(bytes, bytes.length - copy, result, length - copy, copy);
+        return result;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core;
+
+import de.cuioss.sheriff.oauth.core.domain.token.TokenContent;
+import de.cuioss.sheriff.oauth.core.exception.TokenValidationException;
+import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter.EventType;
+
+import java.util.Optional;
+
+/**
+ * Outcome of a token validation that does not throw on rejection.
+ * <p>
+ * Returned by the {@code validate*} methods of {@link TokenValidator}. A result is either a
+ * {@link Success} carrying the validated token content, or a {@link Failure} carrying the
+ * {@link EventType} that caused the rejection. Callers can switch over the sealed hierarchy:
+ * <pre>
+ * switch (tokenValidator.validateAccessToken(tokenString)) {
+ *     case ValidationResult.Success&lt;AccessTokenContent&gt; success -&gt; handle(success.content());
+ *     case ValidationResult.Failure&lt;AccessTokenContent&gt; failure -&gt; reject(failure.eventType());
+ * }
+ * </pre>
+ * <p>
+ * The detail message of a failure is only built if {@link Failure#message()} is called, so
+ * rejecting a token via this API costs neither a stack trace nor string formatting.
+ *
+ * @param <T> the type of the validated token content
+ * @author Oliver Wolff
+ * @since 1.0
+ */
+public sealed interface ValidationResult<T extends TokenContent>
+        permits ValidationResult.Success, ValidationResult.Failure {
+
+    /**
+     * @return {@code true} if the token was validated successfully
+     */
+    boolean isValid();
+
+    /**
+     * @return the validated token content, empty for a failure
+     */
+    Optional<T> toOptional();
+
+    /**
+     * Successful validation.
+     *
+     * @param content the validated token content
+     * @param <T> the type of the validated token content
+     */
+    record Success<T extends TokenContent>(T content) implements ValidationResult<T> {
+
+        @Override
+        public boolean isValid() {
+            return true;
+        }
+
+        @Override
+        public Optional<T> toOptional() {
+            return Optional.of(content);
+        }
+    }
+
+    /**
+     * Rejected validation.
+     * <p>
+     * The security event has already been counted and logged by the validation pipeline.
+     *
+     * @param exception the (stackless) exception describing the rejection
+     * @param <T> the type of the token content that was requested
+     */
+    record Failure<T extends TokenContent>(TokenValidationException exception) implements ValidationResult<T> {
+
+        /**
+         * @return the event type that caused the rejection
+         */
+        public EventType eventType() {
+            return exception.getEventType();
+        }
+
+        /**
+         * @return the detail message of the rejection, built on first access
+         */
+        public String message() {
+            return exception.getMessage();
+        }
+
+        @Override
+        public boolean isValid() {
+            return false;
+        }
+
+        @Override
+        public Optional<T> toOptional() {
+            return Optional.empty();
+        }
+    }
+}
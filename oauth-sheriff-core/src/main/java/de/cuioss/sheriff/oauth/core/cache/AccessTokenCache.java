@@ -246,6 +246,24 @@ public class AccessTokenCache {
     }
 
 
+    /**
+     * Removes the cached tokens of the given issuer, e.g. after its configuration was changed
+     * or removed at runtime. The tokens of all other issuers stay cached.
+     *
+     * @param issuer the issuer identifier
+     * @return the number of removed tokens
+     */
+    public int invalidateIssuer(String issuer) {
+        if (cache == null) {
+            return 0;
+        }
+        int sizeBefore = cache.size();
+        cache.values().removeIf(cachedToken -> issuer.equals(cachedToken.getContent().getIssuer()));
+        int removed = Math.max(0, sizeBefore - cache.size());
+        LOGGER.debug("Invalidated %s cached tokens of issuer %s", removed, issuer);
+        return removed;
+    }
+
     /**
      * Enforces cache size limit by evicting entries when cache exceeds maxSize.
      * <p>
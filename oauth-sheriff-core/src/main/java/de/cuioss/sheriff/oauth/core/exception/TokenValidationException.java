@@ -18,8 +18,12 @@ package de.cuioss.sheriff.oauth.core.exception;
 import de.cuioss.sheriff.oauth.core.security.EventCategory;
 import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter.EventType;
 import lombok.Getter;
+import org.jspecify.annotations.Nullable;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serial;
+import java.util.function.Supplier;
 
 /**
  * Exception thrown when token validation fails.
@@ -35,6 +39,12 @@ import java.io.Serial;
  * <p>
  * This exception is thrown by the validation pipeline when a token fails
  * validation.
+ * <p>
+ * <strong>Performance:</strong> Rejections are a regular outcome, e.g. for expired tokens or under
+ * credential-stuffing load. Therefore this exception is stackless: it neither captures a stack trace
+ * nor records suppressed exceptions. The event type identifies the failure, and the cause, if any,
+ * keeps its own stack trace. The detail message can be provided as {@link Supplier}, in which case
+ * it is only built if {@link #getMessage()} is actually called.
  *
  * @author Oliver Wolff
  * @since 1.0
@@ -42,7 +52,7 @@ import java.io.Serial;
 public class TokenValidationException extends RuntimeException {
 
     @Serial
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
 
     /**
      * The event type that caused the validation failure.
@@ -50,6 +60,15 @@ public class TokenValidationException extends RuntimeException {
     @Getter
     private final EventType eventType;
 
+    /**
+     * The detail message, resolved from {@link #messageSupplier} on first access.
+     */
+    @Nullable
+    private String message;
+
+    @Nullable
+    private transient Supplier<String> messageSupplier;
+
     /**
      * Constructs a new TokenValidationException with the specified event type and detail message.
      *
@@ -57,8 +76,21 @@ public class TokenValidationException extends RuntimeException {
      * @param message the detail message
      */
     public TokenValidationException(EventType eventType, String message) {
-        super(message);
+        super(null, null, false, false);
         this.eventType = eventType;
+        this.message = message;
+    }
+
+    /**
+     * Constructs a new TokenValidationException with the specified event type and a lazily built detail message.
+     *
+     * @param eventType the event type that caused the validation failure
+     * @param messageSupplier supplies the detail message, only called if the message is requested
+     */
+    public TokenValidationException(EventType eventType, Supplier<String> messageSupplier) {
+        super(null, null, false, false);
+        this.eventType = eventType;
+        this.messageSupplier = messageSupplier;
     }
 
     /**
@@ -69,8 +101,32 @@ public class TokenValidationException extends RuntimeException {
      * @param cause the cause of the validation failure
      */
     public TokenValidationException(EventType eventType, String message, Throwable cause) {
-        super(message, cause);
+        super(null, cause, false, false);
         this.eventType = eventType;
+        this.message = message;
+    }
+
+    /**
+     * Constructs a new TokenValidationException with the specified event type, a lazily built
+     * detail message, and cause.
+     *
+     * @param eventType the event type that caused the validation failure
+     * @param messageSupplier supplies the detail message, only called if the message is requested
+     * @param cause the cause of the validation failure
+     */
+    public TokenValidationException(EventType eventType, Supplier<String> messageSupplier, Throwable cause) {
+        super(null, cause, false, false);
+        this.eventType = eventType;
+        this.messageSupplier = messageSupplier;
+    }
+
+    @Override
+    public synchronized String getMessage() {
+        if (messageSupplier != null) {
+            message = messageSupplier.get();
+            messageSupplier = null;
+        }
+        return message;
     }
 
     /**
@@ -83,4 +139,11 @@ public class TokenValidationException extends RuntimeException {
     public EventCategory getCategory() {
         return eventType.getCategory();
     }
-}
\ No newline at end of file
+
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        // Resolve the lazy message, the supplier itself is not serializable
+        getMessage();
+        out.defaultWriteObject();
+    }
+}
@@ -16,6 +16,7 @@
 package de.cuioss.sheriff.oauth.core.json;
 
 import com.dslplatform.json.CompiledJson;
+import com.dslplatform.json.JsonAttribute;
 import de.cuioss.tools.logging.CuiLogger;
 
 import java.math.BigInteger;
@@ -34,6 +35,9 @@ import static de.cuioss.sheriff.oauth.core.JWTValidationLogMessages.WARN;
  * RSA keys have: kty, kid, alg, n (modulus), e (exponent)
  * EC keys have: kty, kid, alg, crv (curve), x, y (coordinates)
  * <p>
+ * Both may carry the SHA-256 thumbprint of their X.509 certificate as "x5t#S256", which
+ * tokens without "kid" may use to identify the key.
+ * <p>
  * The kty field is nullable to support permissive JSON parsing - business rule
  * validation should happen later in the validation chain.
  * 
@@ -49,7 +53,9 @@ String n,     // RSA modulus (Base64url-encoded, RSA only)
 String e,     // RSA exponent (Base64url-encoded, RSA only)
 String crv,   // EC curve: "P-256", "P-384", "P-521" (EC only)
 String x,     // EC x coordinate (Base64url-encoded, EC only)
-String y      // EC y coordinate (Base64url-encoded, EC only)
+String y,     // EC y coordinate (Base64url-encoded, EC only)
+@JsonAttribute(name = "x5t#S256")
+String x5tS256 // X.509 certificate SHA-256 thumbprint (Base64url-encoded, optional)
 ) {
 
     private static final Pattern BASE64_URL_PATTERN = Pattern.compile("^[A-Za-z0-9\\-_]*=*$");
@@ -127,6 +133,15 @@ String y      // EC y coordinate (Base64url-encoded, EC only)
         return Optional.ofNullable(y);
     }
 
+    /**
+     * Gets the X.509 certificate SHA-256 thumbprint ("x5t#S256") as Optional.
+     * 
+     * @return Optional containing the thumbprint, empty if null
+     */
+    public Optional<String> getX5tS256() {
+        return Optional.ofNullable(x5tS256);
+    }
+
     /**
      * Gets the RSA modulus as BigInteger with Base64 URL decoding and validation.
      * 
@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.json;
+
+import com.dslplatform.json.CompiledJson;
+
+import java.time.Instant;
+
+/**
+ * Persisted state of an HTTP based JWKS loader for DSL-JSON mapping.
+ * <p>
+ * Holds the last JWKS successfully loaded from the endpoint together with the issuer and
+ * JWKS URI it was resolved for, either configured directly or discovered via the well-known
+ * endpoint. A loader restarting with a recent snapshot can serve these keys immediately and
+ * revalidate them against the endpoint in the background.
+ *
+ * @param issuer  the issuer identifier the JWKS belongs to
+ * @param jwksUri the URI the JWKS was loaded from
+ * @param savedAt the time of the last successful load, in milliseconds since the epoch
+ * @param jwks    the loaded JWKS
+ * @author Oliver Wolff
+ * @since 1.0
+ */
+@CompiledJson
+public record JwksSnapshot(String issuer, String jwksUri, long savedAt, Jwks jwks) {
+
+    /**
+     * @return the time of the last successful load
+     */
+    public Instant getSavedAt() {
+        return Instant.ofEpochMilli(savedAt);
+    }
+}
@@ -16,6 +16,7 @@
 package de.cuioss.sheriff.oauth.core.json;
 
 import com.dslplatform.json.CompiledJson;
+import com.dslplatform.json.JsonAttribute;
 
 import java.util.Optional;
 
@@ -82,6 +83,7 @@ String jwk,
 String x5u,
 String x5c,
 String x5t,
+@JsonAttribute(name = "x5t#S256")
 String x5tS256,
 String cty,
 String crit
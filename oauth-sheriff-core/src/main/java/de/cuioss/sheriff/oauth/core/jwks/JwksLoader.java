@@ -20,6 +20,7 @@ import de.cuioss.http.client.LoadingStatusProvider;
 import de.cuioss.sheriff.oauth.core.jwks.key.KeyInfo;
 import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -56,6 +57,76 @@ public interface JwksLoader extends LoadingStatusProvider {
      */
     Optional<KeyInfo> getKeyInfo(String kid);
 
+    /**
+     * Retrieves a key by the SHA-256 thumbprint of its X.509 certificate ("x5t#S256"),
+     * for tokens identifying their key by thumbprint instead of key ID.
+     * <p>
+     * This method performs retrieval only, like {@link #getKeyInfo(String)}.
+     *
+     * @param x5tS256 the Base64url-encoded certificate thumbprint
+     * @return an Optional containing the key info if found, empty otherwise
+     */
+    default Optional<KeyInfo> getKeyInfoByThumbprint(String x5tS256) {
+        return Optional.empty();
+    }
+
+    /**
+     * Provides all keys currently usable for signature verification, the candidates for
+     * tokens identifying their key neither by key ID nor by thumbprint.
+     * <p>
+     * This method performs retrieval only, like {@link #getKeyInfo(String)}.
+     *
+     * @return the usable keys, empty if no keys are loaded
+     */
+    default List<KeyInfo> getAvailableKeys() {
+        return List.of();
+    }
+
+    /**
+     * Registers a listener notified after the keys served by this loader or its status changed,
+     * e.g. to keep an index of the key IDs of all issuers up to date without probing the
+     * loaders for every token.
+     * <p>
+     * The listener runs on the thread performing the change and must not block. The default
+     * implementation does not support notifications: the keys of such loaders can be looked up,
+     * but not indexed.
+     *
+     * @param listener the listener to notify
+     * @return true if the listener is notified of every change, false if this loader does not
+     * support change notifications
+     */
+    default boolean addKeyChangeListener(Runnable listener) {
+        return false;
+    }
+
+    /**
+     * Checks whether {@link #getKeyInfo(String)} refreshes the keys on demand for unknown key IDs,
+     * so that a key ID missing from the currently loaded keys may still be resolved by it.
+     * <p>
+     * Callers must therefore only look up key IDs of tokens issued for this loader's issuer with
+     * {@link #getKeyInfo(String)}. Lookups across issuers use {@link #getAvailableKeys()}, which
+     * never triggers a refresh.
+     *
+     * @return true if unknown key IDs trigger a refresh, false by default
+     */
+    default boolean isRefreshedOnDemand() {
+        return false;
+    }
+
+    /**
+     * Checks whether a lookup of an unknown key ID with {@link #getKeyInfo(String)} would
+     * currently start an on-demand refresh or join a running one.
+     * <p>
+     * While the rate limit of the on-demand refresh is cooling down, a key ID missing from the
+     * loaded keys stays unknown, so that tokens carrying it can be rejected without lookup.
+     *
+     * @return true if an unknown key ID may currently be resolved by a refresh, the value of
+     * {@link #isRefreshedOnDemand()} by default
+     */
+    default boolean isOnDemandRefreshAvailable() {
+        return isRefreshedOnDemand();
+    }
+
     /**
      * Gets the type of JWKS source used by this loader.
      *
@@ -94,4 +165,16 @@ public interface JwksLoader extends LoadingStatusProvider {
      * @throws NullPointerException if securityEventCounter is null
      */
     CompletableFuture<LoaderStatus> initJWKSLoader(SecurityEventCounter securityEventCounter);
+
+    /**
+     * Releases the loaded key material and any background activity, so that the next call of
+     * {@link #initJWKSLoader(SecurityEventCounter)} loads the keys again.
+     * <p>
+     * Used for issuers that are activated on their first token and released when idle. The
+     * default implementation keeps the key material, which suits loaders without a remote source.
+     * </p>
+     */
+    default void release() {
+        // Local key material is cheap to keep
+    }
 }
@@ -15,6 +15,8 @@
  */
 package de.cuioss.sheriff.oauth.core.jwks;
 
+import de.cuioss.sheriff.oauth.core.jwks.file.FileJwksLoader;
+import de.cuioss.sheriff.oauth.core.jwks.file.FileJwksLoaderConfig;
 import de.cuioss.sheriff.oauth.core.jwks.http.HttpJwksLoader;
 import de.cuioss.sheriff.oauth.core.jwks.http.HttpJwksLoaderConfig;
 import de.cuioss.sheriff.oauth.core.jwks.key.JWKSKeyLoader;
@@ -86,6 +88,19 @@ public class JwksLoaderFactory {
                 .build();
     }
 
+    /**
+     * Creates a JwksLoader that loads JWKS from a file and reloads it whenever it changes.
+     * The SecurityEventCounter must be initialized separately via initJWKSLoader().
+     *
+     * @param config the configuration of the watched file
+     * @return an instance of JwksLoader
+     */
+   
+    public static JwksLoader createFileLoader(FileJwksLoaderConfig config) {
+        LOGGER.debug("Resolving watching key loader for JWKS file: %s", config.getFile());
+        return new FileJwksLoader(config);
+    }
+
     /**
      * Creates a JwksLoader that loads JWKS from in-memory string content.
      * The SecurityEventCounter must be initialized separately via initJWKSLoader().
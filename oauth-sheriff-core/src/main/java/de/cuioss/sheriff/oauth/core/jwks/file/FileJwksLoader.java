@@ -0,0 +1,304 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.jwks.file;
+
+import de.cuioss.http.client.LoaderStatus;
+import de.cuioss.sheriff.oauth.core.jwks.JwksLoader;
+import de.cuioss.sheriff.oauth.core.jwks.JwksType;
+import de.cuioss.sheriff.oauth.core.jwks.key.JWKSKeyLoader;
+import de.cuioss.sheriff.oauth.core.jwks.key.KeyInfo;
+import de.cuioss.sheriff.oauth.core.jwks.key.VersionedKeyRegistry;
+import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
+import de.cuioss.tools.logging.CuiLogger;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static de.cuioss.sheriff.oauth.core.JWTValidationLogMessages.INFO;
+import static de.cuioss.sheriff.oauth.core.JWTValidationLogMessages.WARN;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+/**
+ * JWKS loader reading a local file and reloading it whenever it changes, e.g. a JWKS delivered
+ * by a mounted Kubernetes secret that is rotated without restarting the application.
+ * <p>
+ * After the initial load on {@link #initJWKSLoader(SecurityEventCounter)} a virtual thread
+ * watches the directory of the file with a {@link WatchService} and additionally checks the
+ * file every {@link FileJwksLoaderConfig#getPollInterval()}. A check compares the resolved real
+ * path, the modification time and the size of the file, so that a symbolic link swapped by the
+ * Kubernetes atomic writer is detected as well as changes the file system does not report.
+ * <p>
+ * Reloads run on the watcher thread, never on the validation path:
+ * <ul>
+ *   <li>Content identical to the current one is skipped</li>
+ *   <li>Unchanged keys are reused instead of being built again</li>
+ *   <li>The keys are swapped atomically; the replaced keys stay valid for the
+ *       {@link FileJwksLoaderConfig#getKeyRotationGracePeriod()}, as for HTTP loaders</li>
+ *   <li>A file that cannot be read or contains no valid keys, e.g. while it is still being
+ *       written, keeps the current keys until the next change</li>
+ * </ul>
+ * If the file is missing or invalid on initialization, the status is {@link LoaderStatus#ERROR}
+ * and the watcher keeps checking, so that the keys become available once the file appears.
+ *
+ * @author Oliver Wolff
+ * @since 1.0
+ */
+public class FileJwksLoader implements JwksLoader, AutoCloseable {
+
+    private static final CuiLogger LOGGER = new CuiLogger(FileJwksLoader.class);
+
+    private final FileJwksLoaderConfig config;
+    private final AtomicReference<LoaderStatus> status = new AtomicReference<>(LoaderStatus.UNDEFINED);
+    private final AtomicReference<VersionedKeyRegistry> keys = new AtomicReference<>(VersionedKeyRegistry.EMPTY);
+    private final AtomicReference<Thread> watcher = new AtomicReference<>();
+    private final List<Runnable> keyChangeListeners = new CopyOnWriteArrayList<>();
+    private SecurityEventCounter securityEventCounter;
+    private @Nullable FileState lastState;
+    private byte[] currentContent;
+
+    /**
+     * Constructor with no I/O operations, the file is loaded in {@link #initJWKSLoader(SecurityEventCounter)}.
+     *
+     * @param config the configuration of this loader
+     */
+    public FileJwksLoader(FileJwksLoaderConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Loads the file synchronously and starts watching it. Further calls return the current status.
+     */
+    @Override
+    public synchronized CompletableFuture<LoaderStatus> initJWKSLoader(SecurityEventCounter counter) {
+        if (watcher.get() == null) {
+            this.securityEventCounter = counter;
+            reloadIfChanged();
+            if (status.get() != LoaderStatus.OK) {
+                status.set(LoaderStatus.ERROR);
+                notifyKeyChange();
+            }
+            Thread thread = Thread.ofVirtual().name("jwks-file-watcher").unstarted(this::watch);
+            watcher.set(thread);
+            thread.start();
+        }
+        return CompletableFuture.completedFuture(status.get());
+    }
+
+    @Override
+    public Optional<KeyInfo> getKeyInfo(String kid) {
+        return keys.get().lookup(kid);
+    }
+
+    @Override
+    public Optional<KeyInfo> getKeyInfoByThumbprint(String x5tS256) {
+        return keys.get().lookupByThumbprint(x5tS256);
+    }
+
+    @Override
+    public List<KeyInfo> getAvailableKeys() {
+        return keys.get().availableKeys();
+    }
+
+    @Override
+    public boolean addKeyChangeListener(Runnable listener) {
+        keyChangeListeners.add(listener);
+        return true;
+    }
+
+    private void notifyKeyChange() {
+        keyChangeListeners.forEach(Runnable::run);
+    }
+
+    @Override
+    public LoaderStatus getLoaderStatus() {
+        return status.get();
+    }
+
+    @Override
+    public JwksType getJwksType() {
+        return JwksType.FILE;
+    }
+
+    @Override
+    public Optional<String> getIssuerIdentifier() {
+        // The file does not tell its issuer, the issuer configuration provides it
+        return Optional.empty();
+    }
+
+    /**
+     * Checks the file and reloads it if its real path, modification time or size changed.
+     * Package-private for testing purposes only.
+     */
+    synchronized void reloadIfChanged() {
+        FileState state = FileState.of(config.getFile());
+        if (Objects.equals(state, lastState)) {
+            return;
+        }
+        lastState = state;
+        if (state == null) {
+            LOGGER.warn(WARN.JWKS_FILE_LOAD_FAILED, config.getFile(), "file not found");
+            return;
+        }
+        reload();
+    }
+
+    private void reload() {
+        byte[] content;
+        try {
+            content = Files.readAllBytes(config.getFile());
+        } catch (IOException e) {
+            LOGGER.warn(WARN.JWKS_FILE_LOAD_FAILED, config.getFile(), e.getMessage());
+            return;
+        }
+        if (Arrays.equals(content, currentContent)) {
+            LOGGER.debug("JWKS file %s changed without content change, skipping reload", config.getFile());
+            return;
+        }
+
+        // Keys unchanged since the last load are reused instead of being built again
+        JWKSKeyLoader next = JWKSKeyLoader.builder()
+                .jwksContent(new String(content, StandardCharsets.UTF_8))
+                .jwksType(JwksType.FILE)
+                .previousKeys(keys.get().current())
+                .build();
+        next.initJWKSLoader(securityEventCounter);
+        if (!next.isLoaderStatusOK()) {
+            LOGGER.warn(WARN.JWKS_FILE_LOAD_FAILED, config.getFile(), "no valid keys");
+            return;
+        }
+
+        currentContent = content;
+        keys.set(keys.get().rotate(next, Instant.now(), config.getKeyRotationGracePeriod(), config.getMaxRetiredKeySets()));
+        status.set(LoaderStatus.OK);
+        notifyKeyChange();
+        LOGGER.info(INFO.JWKS_FILE_LOADED, next.getKeyInfos().size(), config.getFile());
+    }
+
+    private void watch() {
+        Path directory = config.getFile().toAbsolutePath().getParent();
+        try (WatchService watchService = directory.getFileSystem().newWatchService()) {
+            directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            awaitChanges(watchService);
+        } catch (IOException | UnsupportedOperationException e) {
+            LOGGER.debug("Cannot watch %s, checking JWKS file every %s: %s", directory, config.getPollInterval(), e.getMessage());
+            awaitChanges(null);
+        }
+    }
+
+    private void awaitChanges(@Nullable WatchService watchService) {
+        long pollMillis = config.getPollInterval().toMillis();
+        WatchService events = watchService;
+        try {
+            while (!Thread.currentThread().isInterrupted() && isCurrentWatcher()) {
+                if (events == null) {
+                    Thread.sleep(pollMillis);
+                } else {
+                    WatchKey key = events.poll(pollMillis, TimeUnit.MILLISECONDS);
+                    // Any entry counts: swapping a symbolic link of a Kubernetes volume does not touch the file name
+                    if (key != null) {
+                        key.pollEvents();
+                        if (!key.reset()) {
+                            LOGGER.debug("Watched directory of JWKS file %s no longer accessible, polling", config.getFile());
+                            events = null;
+                        }
+                    }
+                }
+                checkFromWatcher();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            LOGGER.debug("Stopped watching JWKS file %s", config.getFile());
+        }
+    }
+
+    private boolean isCurrentWatcher() {
+        return watcher.get() == Thread.currentThread();
+    }
+
+    private synchronized void checkFromWatcher() {
+        // A watcher stopped by close() must not load the keys again
+        if (isCurrentWatcher()) {
+            reloadIfChanged();
+        }
+    }
+
+    /**
+     * Stops watching the file and drops the keys.
+     */
+    @Override
+    public synchronized void close() {
+        Thread thread = watcher.getAndSet(null);
+        if (thread != null) {
+            thread.interrupt();
+        }
+        keys.set(VersionedKeyRegistry.EMPTY);
+        status.set(LoaderStatus.UNDEFINED);
+        lastState = null;
+        currentContent = null;
+        notifyKeyChange();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Stops watching the file, so that idle issuers do not keep a thread.
+     */
+    @Override
+    public void release() {
+        close();
+    }
+
+    /**
+     * Identifies a version of the file without reading it.
+     *
+     * @param realPath     the path with all symbolic links resolved
+     * @param lastModified the modification time
+     * @param size         the size in bytes
+     */
+    private record FileState(Path realPath, FileTime lastModified, long size) {
+
+        @Nullable
+        static FileState of(Path file) {
+            try {
+                Path realPath = file.toRealPath();
+                return new FileState(realPath, Files.getLastModifiedTime(realPath), Files.size(realPath));
+            } catch (IOException e) {
+                return null;
+            }
+        }
+    }
+}
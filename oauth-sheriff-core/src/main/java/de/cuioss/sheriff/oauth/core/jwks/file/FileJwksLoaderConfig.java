@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.jwks.file;
+
+import de.cuioss.tools.base.Preconditions;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.jspecify.annotations.Nullable;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration of a {@link FileJwksLoader}.
+ * <p>
+ * Usage example:
+ * <pre>
+ * FileJwksLoaderConfig config = FileJwksLoaderConfig.builder()
+ *     .file(Path.of("/etc/jwks/jwks.json"))
+ *     .pollInterval(Duration.ofSeconds(30))
+ *     .keyRotationGracePeriod(Duration.ofMinutes(5))
+ *     .build();
+ * </pre>
+ *
+ * @author Oliver Wolff
+ * @since 1.0
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class FileJwksLoaderConfig {
+
+    /**
+     * Default interval of 10 seconds between two checks of the file, independent of change events.
+     */
+    public static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(10);
+
+    /**
+     * Default key rotation grace period of 5 minutes, as for HTTP loaders.
+     */
+    public static final Duration DEFAULT_KEY_ROTATION_GRACE_PERIOD = Duration.ofMinutes(5);
+
+    /**
+     * Default maximum number of retired key sets to keep.
+     */
+    public static final int DEFAULT_MAX_RETIRED_KEY_SETS = 3;
+
+    /**
+     * The JWKS file, may be a symbolic link, e.g. into a mounted Kubernetes secret.
+     */
+    private final Path file;
+
+    /**
+     * The interval between two checks of the file. Catches the changes not reported by the file
+     * system, e.g. of network file systems or of symbolic links swapped outside the watched directory.
+     */
+    private final Duration pollInterval;
+
+    /**
+     * The period the keys of a replaced JWKS stay valid. Zero discards them immediately.
+     */
+    private final Duration keyRotationGracePeriod;
+
+    /**
+     * The maximum number of retired key sets to keep.
+     */
+    private final int maxRetiredKeySets;
+
+    /**
+     * @param file                   the JWKS file, must not be null
+     * @param pollInterval           the interval between two checks of the file, must be positive,
+     *                               defaults to {@link #DEFAULT_POLL_INTERVAL}
+     * @param keyRotationGracePeriod the grace period of replaced keys, must not be negative,
+     *                               defaults to {@link #DEFAULT_KEY_ROTATION_GRACE_PERIOD}
+     * @param maxRetiredKeySets      the maximum number of retired key sets, must be positive,
+     *                               defaults to {@link #DEFAULT_MAX_RETIRED_KEY_SETS}
+     * @throws IllegalArgumentException if a parameter is invalid
+     */
+    @Builder
+    private FileJwksLoaderConfig(Path file, @Nullable Duration pollInterval,
+            @Nullable Duration keyRotationGracePeriod, @Nullable Integer maxRetiredKeySets) {
+        Preconditions.checkArgument(file != null, "file must not be null");
+        Preconditions.checkArgument(pollInterval == null || pollInterval.isPositive(), "pollInterval must be positive");
+        Preconditions.checkArgument(keyRotationGracePeriod == null || !keyRotationGracePeriod.isNegative(),
+                "keyRotationGracePeriod must not be negative");
+        Preconditions.checkArgument(maxRetiredKeySets == null || maxRetiredKeySets > 0, "maxRetiredKeySets must be positive");
+
+        this.file = file;
+        this.pollInterval = pollInterval != null ? pollInterval : DEFAULT_POLL_INTERVAL;
+        this.keyRotationGracePeriod = keyRotationGracePeriod != null ? keyRotationGracePeriod : DEFAULT_KEY_ROTATION_GRACE_PERIOD;
+        this.maxRetiredKeySets = maxRetiredKeySets != null ? maxRetiredKeySets : DEFAULT_MAX_RETIRED_KEY_SETS;
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * Provides the loading of JSON Web Key Sets (JWKS) from local files that change at runtime.
+ * <p>
+ * Key components:
+ * <ul>
+ *   <li>{@link de.cuioss.sheriff.oauth.core.jwks.file.FileJwksLoader} - Watches a JWKS file and
+ *       swaps its keys atomically on every content change, with a grace period for replaced keys</li>
+ *   <li>{@link de.cuioss.sheriff.oauth.core.jwks.file.FileJwksLoaderConfig} - Configuration of the
+ *       watched file, its poll interval and the key rotation grace period</li>
+ * </ul>
+ * <p>
+ * Files that never change can still be loaded once via
+ * {@link de.cuioss.sheriff.oauth.core.jwks.JwksLoaderFactory#createFileLoader(String)}.
+ *
+ * @since 1.0
+ * @see de.cuioss.sheriff.oauth.core.jwks.JwksLoader
+ */
+package de.cuioss.sheriff.oauth.core.jwks.file;
@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.jwks.http;
+
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link JwksHttpContentConverter} that additionally records the cache lifetime announced by
+ * the JWKS endpoint.
+ * <p>
+ * The body handler inspects the headers of every response, including {@code 304 Not Modified},
+ * and derives the lifetime from {@code Cache-Control: max-age} or, if absent, from
+ * {@code Expires} relative to {@code Date}. {@code no-cache} and {@code no-store} result in a
+ * lifetime of zero. {@link HttpJwksLoader} uses the lifetime of the last response to schedule
+ * the next background refresh.
+ *
+ * @author Oliver Wolff
+ * @since 1.0
+ */
+class CacheLifetimeJwksConverter extends JwksHttpContentConverter {
+
+    private static final String MAX_AGE = "max-age=";
+
+    private final AtomicReference<Optional<Duration>> lastCacheLifetime = new AtomicReference<>(Optional.empty());
+
+    @Override
+    public HttpResponse.BodyHandler<String> getBodyHandler() {
+        HttpResponse.BodyHandler<String> delegate = HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8);
+        return responseInfo -> {
+            lastCacheLifetime.set(cacheLifetime(responseInfo.headers(), Instant.now()));
+            return delegate.apply(responseInfo);
+        };
+    }
+
+    /**
+     * @return the cache lifetime announced by the last response, empty if it announced none
+     */
+    Optional<Duration> getLastCacheLifetime() {
+        return lastCacheLifetime.get();
+    }
+
+    /**
+     * Derives the cache lifetime from the given response headers.
+     *
+     * @param headers the response headers
+     * @param now the current time, used if the response has no valid {@code Date} header
+     * @return the cache lifetime, never negative, empty if the headers announce none
+     */
+    static Optional<Duration> cacheLifetime(HttpHeaders headers, Instant now) {
+        Optional<String> cacheControl = headers.firstValue("Cache-Control");
+        if (cacheControl.isPresent()) {
+            for (String directive : cacheControl.get().toLowerCase(Locale.ROOT).split(",")) {
+                String trimmed = directive.trim();
+                if ("no-cache".equals(trimmed) || "no-store".equals(trimmed)) {
+                    return Optional.of(Duration.ZERO);
+                }
+                if (trimmed.startsWith(MAX_AGE)) {
+                    try {
+                        long seconds = Long.parseLong(trimmed.substring(MAX_AGE.length()).replace("\"", ""));
+                        return Optional.of(Duration.ofSeconds(Math.max(0, seconds)));
+                    } catch (NumberFormatException e) {
+                        // Invalid max-age, fall through to Expires
+                    }
+                }
+            }
+        }
+
+        Optional<String> expires = headers.firstValue("Expires");
+        if (expires.isEmpty()) {
+            return Optional.empty();
+        }
+        Instant date = headers.firstValue("Date").flatMap(CacheLifetimeJwksConverter::parseDate).orElse(now);
+        // An invalid Expires value, e.g. "0", means already expired (RFC 9111, section 5.3)
+        return Optional.of(parseDate(expires.get())
+                .map(expiry -> Duration.between(date, expiry))
+                .filter(lifetime -> !lifetime.isNegative())
+                .orElse(Duration.ZERO));
+    }
+
+    private static Optional<Instant> parseDate(String value) {
+        try {
+            return Optional.of(ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant());
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+}
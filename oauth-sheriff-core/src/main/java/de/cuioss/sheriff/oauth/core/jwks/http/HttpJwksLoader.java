@@ -21,21 +21,36 @@ import de.cuioss.http.client.ResilientHttpHandler;
 import de.cuioss.http.client.handler.HttpHandler;
 import de.cuioss.http.client.result.HttpResult;
 import de.cuioss.sheriff.oauth.core.json.Jwks;
+import de.cuioss.sheriff.oauth.core.json.JwksSnapshot;
+import de.cuioss.sheriff.oauth.core.json.WellKnownResult;
 import de.cuioss.sheriff.oauth.core.jwks.JwksLoader;
 import de.cuioss.sheriff.oauth.core.jwks.JwksType;
 import de.cuioss.sheriff.oauth.core.jwks.key.JWKSKeyLoader;
 import de.cuioss.sheriff.oauth.core.jwks.key.KeyInfo;
+import de.cuioss.sheriff.oauth.core.jwks.key.VersionedKeyRegistry;
 import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
 import de.cuioss.sheriff.oauth.core.well_known.HttpWellKnownResolver;
 import de.cuioss.tools.logging.CuiLogger;
+import org.jspecify.annotations.Nullable;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 
 import static de.cuioss.sheriff.oauth.core.JWTValidationLogMessages.ERROR;
 import static de.cuioss.sheriff.oauth.core.JWTValidationLogMessages.INFO;
@@ -52,10 +67,55 @@ import static de.cuioss.sheriff.oauth.core.JWTValidationLogMessages.WARN;
  *   <li>Simple constructor with no I/O operations</li>
  *   <li>Async initialization via CompletableFuture</li>
  *   <li>Lock-free status checks using AtomicReference</li>
- *   <li>Key rotation grace period support for Issue #110</li>
+ *   <li>Key rotation grace period support for Issue #110, with current and retired keys in one
+ *       immutable map swapped on rotation</li>
+ *   <li>On-demand refresh for unknown key IDs</li>
  *   <li>Proper separation of concerns</li>
  * </ul>
  * <p>
+ * A lookup of an unknown key ID, typically the first token after the identity provider rotated
+ * its keys, triggers a refresh in the background instead of waiting for the next scheduled one.
+ * The refresh is single-flight, concurrent misses share it, and rate-limited by
+ * {@link HttpJwksLoaderConfig#getOnDemandRefreshInterval()} measured from the last load of any
+ * kind, so tokens with made-up key IDs cannot multiply the requests to the JWKS endpoint.
+ * Optionally the lookup waits up to {@link HttpJwksLoaderConfig#getOnDemandRefreshWait()} for
+ * the refresh and retries.
+ * <p>
+ * The background refresh schedules each run individually: after a successful load the next run
+ * follows the cache lifetime announced by the endpoint ({@code Cache-Control: max-age} or
+ * {@code Expires}), clamped to the configured bounds, or the configured refresh interval if none
+ * is announced. After failed loads the delay grows exponentially, starting at the minimum
+ * refresh interval and capped at the refresh interval. Every delay is randomized by
+ * {@link HttpJwksLoaderConfig#getRefreshJitter()}, so that many instances started together do
+ * not poll the endpoint in lockstep. All loads share one {@link ResilientHttpHandler}, which
+ * sends conditional requests based on the ETag of the last response.
+ * <p>
+ * With well-known discovery, the loader keeps one {@link HttpWellKnownResolver} that re-resolves
+ * the discovery document in the background once it is older than
+ * {@link HttpJwksLoaderConfig#getWellKnownResolutionTtl()}, triggered by the refreshes. If the
+ * document announces a different JWKS URI, the loader switches to it and loads the keys from
+ * there on a refresh thread. A discovery that failed on initialization is retried by the
+ * background refresh. Request threads never wait for discovery.
+ * <p>
+ * With {@link HttpJwksLoaderConfig#getSnapshotFile()} configured, every successful load is
+ * persisted together with the resolved issuer and JWKS URI. Initialization then starts from a
+ * snapshot not older than {@link HttpJwksLoaderConfig#getSnapshotMaxStale()} without waiting
+ * for well-known discovery or the JWKS endpoint, and revalidates it in the background.
+ * <p>
+ * With {@link HttpJwksLoaderConfig#getExchangeFile()} configured, only one process per host
+ * fetches the JWKS: the loader holding the lock of the {@link JwksExchangeFile} loads as described
+ * above and publishes every changed key set, the loaders of all other processes read the keys
+ * from the file, parse them only when its version changed, and take over fetching once the lock
+ * is released. Loaders reading the file do not refresh on demand, they pick up keys fetched by the
+ * fetching process within {@link HttpJwksLoaderConfig#getExchangePollInterval()}.
+ * <p>
+ * Loaders attached to {@link SharedJwksEndpoints} do not load themselves: they acquire the
+ * endpoint loader shared by all issuers with the same JWKS URI and TLS context and serve its keys
+ * and status, so that the key set is fetched, parsed and stored only once. With a directly
+ * configured URL the endpoint is acquired on initialization; with well-known discovery the loader
+ * resolves the discovery document itself, acquires the endpoint of the discovered JWKS URI and
+ * uses its background refresh only to retry a failed discovery and re-resolve the document.
+ * <p>
  * Implements Requirement CUI-JWT-4.5: Key Rotation Grace Period
  *
  * @author Oliver Wolff
@@ -71,13 +131,35 @@ public class HttpJwksLoader implements JwksLoader, LoadingStatusProvider, AutoCl
 
     private final HttpJwksLoaderConfig config;
     private final AtomicReference<LoaderStatus> status = new AtomicReference<>(LoaderStatus.UNDEFINED);
-    private final AtomicReference<JWKSKeyLoader> currentKeys = new AtomicReference<>();
-    private final ConcurrentLinkedDeque<RetiredKeySet> retiredKeys = new ConcurrentLinkedDeque<>();
+    private final AtomicReference<VersionedKeyRegistry> keys = new AtomicReference<>(VersionedKeyRegistry.EMPTY);
     private final AtomicReference<ResilientHttpHandler<Jwks>> httpHandler = new AtomicReference<>();
     private final AtomicReference<ScheduledFuture<?>> refreshTask = new AtomicReference<>();
     private SecurityEventCounter securityEventCounter;
     private final AtomicReference<String> resolvedIssuerIdentifier = new AtomicReference<>();
     private final AtomicReference<Jwks> currentJwksContent = new AtomicReference<>();
+    private final AtomicLong lastLoadNanos = new AtomicLong(System.nanoTime());
+    private final AtomicReference<CompletableFuture<Void>> onDemandRefresh = new AtomicReference<>();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    /**
+     * Incremented on {@link #close()}, so that loads started before a release do not apply their
+     * results to the released or re-initialized loader.
+     */
+    private final AtomicLong generation = new AtomicLong();
+    private final CacheLifetimeJwksConverter contentConverter = new CacheLifetimeJwksConverter();
+    private final AtomicReference<String> resolvedJwksUri = new AtomicReference<>();
+    private final AtomicBoolean servingSnapshot = new AtomicBoolean();
+    private final AtomicReference<CompletableFuture<Void>> snapshotExpiry = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<LoaderStatus>> initialization = new AtomicReference<>();
+    private final JwksSnapshotStore snapshotStore;
+    private final AtomicReference<SharedJwksEndpoints> sharedEndpoints = new AtomicReference<>();
+    private final AtomicReference<HttpJwksLoader> endpointLoader = new AtomicReference<>();
+    private final AtomicReference<JwksExchangeFile> exchange = new AtomicReference<>();
+    private final AtomicReference<ScheduledFuture<?>> exchangePoll = new AtomicReference<>();
+    private final AtomicReference<Jwks> publishedJwks = new AtomicReference<>();
+    private final AtomicReference<HttpWellKnownResolver> wellKnownResolver = new AtomicReference<>();
+    private final List<Runnable> keyChangeListeners = new CopyOnWriteArrayList<>();
+    private final Runnable endpointChangeForwarder = this::notifyKeyChange;
 
     /**
      * Constructor using HttpJwksLoaderConfig.
@@ -87,76 +169,514 @@ public class HttpJwksLoader implements JwksLoader, LoadingStatusProvider, AutoCl
      */
     public HttpJwksLoader(HttpJwksLoaderConfig config) {
         this.config = config;
+        this.snapshotStore = config.isSnapshotEnabled() ? new JwksSnapshotStore(config.getSnapshotFile()) : null;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The initial load runs on a virtual thread of the {@link JwksLoaderInfrastructure}. Only
+     * the first call starts it, further calls return the same pending or completed initialization.
+     * A loader sharing its endpoint acquires the endpoint loader instead, after the well-known
+     * discovery if configured, and joins its initialization.
+     */
     @Override
-    @SuppressWarnings("java:S3776") // Cognitive complexity - initialization logic requires these checks
     public CompletableFuture<LoaderStatus> initJWKSLoader(SecurityEventCounter counter) {
+        CompletableFuture<LoaderStatus> started = new CompletableFuture<>();
+        if (!initialization.compareAndSet(null, started)) {
+            LOGGER.debug("JWKS loader initialization already started");
+            return initialization.get().copy();
+        }
+        SharedJwksEndpoints endpoints = sharedEndpoints.get();
+        if (endpoints != null && config.getWellKnownConfig() == null) {
+            HttpJwksLoader endpoint = endpoints.acquire(config);
+            endpointLoader.set(endpoint);
+            endpoint.addKeyChangeListener(endpointChangeForwarder);
+            notifyKeyChange();
+            endpoint.initJWKSLoader(counter).whenComplete(completing(started));
+            return started.copy();
+        }
         this.securityEventCounter = counter;
+        closed.set(false);
+        long loadGeneration = generation.get();
+
+        if (endpoints != null) {
+            config.getInfrastructure().submitInitialization(() -> initSharedDiscovery(loadGeneration))
+                    .thenCompose(endpoint -> endpoint
+                            .map(loader -> loader.initJWKSLoader(counter))
+                            .orElseGet(() -> CompletableFuture.completedFuture(getLoaderStatus())))
+                    .whenComplete(completing(started));
+            return started.copy();
+        }
 
         // Execute initialization asynchronously
-        return CompletableFuture.supplyAsync(() -> {
-            status.set(LoaderStatus.LOADING);
-
-            // Resolve the handler (may involve well-known discovery)
-            Optional<ResilientHttpHandler<Jwks>> handlerOpt = resolveJWKSHandler();
-            if (handlerOpt.isEmpty()) {
-                status.set(LoaderStatus.ERROR);
-                String errorDetail = config.getWellKnownConfig() != null
-                        ? "Well-known discovery failed"
-                        : "No HTTP handler configured";
-
-                // Log appropriate message based on failure type
-                if (config.getWellKnownConfig() != null) {
-                    LOGGER.warn(WARN.JWKS_URI_RESOLUTION_FAILED);
-                }
-                LOGGER.error(ERROR.JWKS_INITIALIZATION_FAILED, errorDetail, getIssuerIdentifier().orElse(ISSUER_NOT_CONFIGURED));
-                return LoaderStatus.ERROR;
+        config.getInfrastructure().submitInitialization(() -> {
+            if (isReleasedSince(loadGeneration)) {
+                return LoaderStatus.UNDEFINED;
             }
+            setStatus(LoaderStatus.LOADING);
 
-            ResilientHttpHandler<Jwks> handler = handlerOpt.get();
-            httpHandler.set(handler);
+            if (config.isExchangeEnabled() && !leadExchange()) {
+                return followExchange();
+            }
 
-            // Load JWKS via ResilientHttpHandler
-            HttpResult<Jwks> result = handler.load();
+            if (restoreSnapshot(loadGeneration)) {
+                config.getInfrastructure().submitRefresh(() -> revalidateSnapshot(loadGeneration));
+                return LoaderStatus.OK;
+            }
 
-            // Start background refresh if configured (regardless of initial load status to enable retries)
-            boolean backgroundRefreshEnabled = config.isBackgroundRefreshEnabled();
-            if (backgroundRefreshEnabled) {
-                startBackgroundRefresh();
+            LoaderStatus loaded = loadFromEndpoint(loadGeneration);
+            if (isReleasedSince(loadGeneration)) {
+                // Released during the load, the result belongs to no initialization
+                return LoaderStatus.UNDEFINED;
             }
+            setStatus(loaded);
+            return loaded;
+        }).whenComplete(completing(started));
+        return started.copy();
+    }
 
-            if (result.isSuccess()) {
-                result.getContent().ifPresent(this::updateKeys);
+    private static BiConsumer<LoaderStatus, Throwable> completing(CompletableFuture<LoaderStatus> target) {
+        return (loaded, error) -> {
+            if (error != null) {
+                target.completeExceptionally(error);
+            } else {
+                target.complete(loaded);
+            }
+        };
+    }
 
-                // Log successful HTTP load
-                LOGGER.info(INFO.JWKS_LOADED, getIssuerIdentifier().orElseThrow(() -> new IllegalStateException(ISSUER_MUST_BE_RESOLVED)));
+    /**
+     * Lets this loader serve the keys of the endpoint loader shared via the given instance.
+     *
+     * @param endpoints the shared endpoints
+     * @return true if attached, false if the configuration is not eligible or the loader is
+     * already initialized or attached
+     */
+    boolean shareEndpoint(SharedJwksEndpoints endpoints) {
+        return !config.isSnapshotEnabled()
+                && !config.isExchangeEnabled()
+                && initialization.get() == null
+                && sharedEndpoints.compareAndSet(null, endpoints);
+    }
 
-                status.set(LoaderStatus.OK);
-                return LoaderStatus.OK;
+    /**
+     * @return the configuration of this loader, used by {@link SharedJwksEndpoints} to identify
+     * the endpoint of an endpoint loader
+     */
+    HttpJwksLoaderConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * @param loadGeneration the {@link #generation} a load was started in
+     * @return true if the loader was released after the load was started
+     */
+    private boolean isReleasedSince(long loadGeneration) {
+        return generation.get() != loadGeneration;
+    }
+
+    /**
+     * Resolves the JWKS endpoint and performs the initial load.
+     *
+     * @param loadGeneration the {@link #generation} the load belongs to
+     * @return the resulting loader status, not yet applied to {@link #status}
+     */
+    @SuppressWarnings("java:S3776") // Cognitive complexity - initialization logic requires these checks
+    private LoaderStatus loadFromEndpoint(long loadGeneration) {
+        // Resolve the handler (may involve well-known discovery)
+        Optional<ResilientHttpHandler<Jwks>> handlerOpt = resolveJWKSHandler();
+        if (handlerOpt.isEmpty()) {
+            String errorDetail = config.getWellKnownConfig() != null
+                    ? "Well-known discovery failed"
+                    : "No HTTP handler configured";
+
+            // Log appropriate message based on failure type
+            if (config.getWellKnownConfig() != null) {
+                LOGGER.warn(WARN.JWKS_URI_RESOLUTION_FAILED);
+            }
+            LOGGER.error(ERROR.JWKS_INITIALIZATION_FAILED, errorDetail, getIssuerIdentifier().orElse(ISSUER_NOT_CONFIGURED));
+            if (config.getWellKnownConfig() != null && config.isBackgroundRefreshEnabled()) {
+                // Retry the discovery with the background refresh instead of waiting for a restart
+                recordLoadOutcome(false);
+                startBackgroundRefresh(loadGeneration);
             }
+            return LoaderStatus.ERROR;
+        }
 
-            // Log appropriate warning if no cached content
-            result.getErrorMessage().ifPresent(msg -> {
-                if (msg.contains("no cached content")) {
-                    LOGGER.warn(WARN.JWKS_LOAD_FAILED_NO_CACHE);
-                }
-            });
+        ResilientHttpHandler<Jwks> handler = handlerOpt.get();
+        httpHandler.set(handler);
 
-            LOGGER.error(ERROR.JWKS_LOAD_FAILED, result.getErrorMessage().orElse("Unknown error"), getIssuerIdentifier().orElseThrow(() -> new IllegalStateException(ISSUER_MUST_BE_RESOLVED)));
+        // Load JWKS via ResilientHttpHandler
+        lastLoadNanos.set(System.nanoTime());
+        HttpResult<Jwks> result = handler.load();
+        if (isReleasedSince(loadGeneration)) {
+            LOGGER.debug("Discarding JWKS loaded before the loader was released");
+            return LoaderStatus.UNDEFINED;
+        }
 
-            // If background refresh is enabled, keep status as UNDEFINED to allow retries
-            // Otherwise set to ERROR for permanent failure
-            if (backgroundRefreshEnabled) {
-                status.set(LoaderStatus.UNDEFINED);
-                return LoaderStatus.UNDEFINED;
+        // Start background refresh if configured (regardless of initial load status to enable retries)
+        boolean backgroundRefreshEnabled = config.isBackgroundRefreshEnabled();
+        if (backgroundRefreshEnabled) {
+            recordLoadOutcome(result.isSuccess());
+            startBackgroundRefresh(loadGeneration);
+        }
+
+        if (result.isSuccess()) {
+            result.getContent().ifPresent(jwks -> updateKeys(jwks, loadGeneration));
+            onEndpointLoadSucceeded();
+
+            // Log successful HTTP load
+            LOGGER.info(INFO.JWKS_LOADED, getIssuerIdentifier().orElseThrow(() -> new IllegalStateException(ISSUER_MUST_BE_RESOLVED)));
+            return LoaderStatus.OK;
+        }
+
+        // Log appropriate warning if no cached content
+        result.getErrorMessage().ifPresent(msg -> {
+            if (msg.contains("no cached content")) {
+                LOGGER.warn(WARN.JWKS_LOAD_FAILED_NO_CACHE);
+            }
+        });
+
+        LOGGER.error(ERROR.JWKS_LOAD_FAILED, result.getErrorMessage().orElse("Unknown error"), getIssuerIdentifier().orElseThrow(() -> new IllegalStateException(ISSUER_MUST_BE_RESOLVED)));
+
+        // If background refresh is enabled, keep status as UNDEFINED to allow retries
+        // Otherwise set to ERROR for permanent failure
+        return backgroundRefreshEnabled ? LoaderStatus.UNDEFINED : LoaderStatus.ERROR;
+    }
+
+    /**
+     * Performs the initial well-known discovery of a loader sharing its endpoint.
+     *
+     * @param loadGeneration the {@link #generation} the initialization belongs to
+     * @return the attached endpoint loader, not yet initialized, empty if the discovery failed
+     * or the loader was released meanwhile
+     */
+    private Optional<HttpJwksLoader> initSharedDiscovery(long loadGeneration) {
+        if (isReleasedSince(loadGeneration)) {
+            return Optional.empty();
+        }
+        setStatus(LoaderStatus.LOADING);
+        Optional<HttpJwksLoader> endpoint = attachDiscoveredEndpoint(loadGeneration);
+        if (endpoint.isEmpty() && !isReleasedSince(loadGeneration)) {
+            LOGGER.warn(WARN.JWKS_URI_RESOLUTION_FAILED);
+            LOGGER.error(ERROR.JWKS_INITIALIZATION_FAILED, "Well-known discovery failed", getIssuerIdentifier().orElse(ISSUER_NOT_CONFIGURED));
+            recordLoadOutcome(false);
+            setStatus(LoaderStatus.ERROR);
+        }
+        if (config.isBackgroundRefreshEnabled()) {
+            // Retries a failed discovery and re-resolves the document, the endpoint loader refreshes the keys
+            startBackgroundRefresh(loadGeneration);
+        }
+        return endpoint;
+    }
+
+    /**
+     * Background refresh of a loader sharing the endpoint of its well-known discovery.
+     *
+     * @param loadGeneration the {@link #generation} the refresh belongs to
+     */
+    private void refreshSharedDiscovery(long loadGeneration) {
+        if (endpointLoader.get() != null) {
+            // Re-resolves a stale document, see switchSharedEndpoint
+            wellKnownResolver().resolve();
+            return;
+        }
+        Optional<HttpJwksLoader> endpoint = attachDiscoveredEndpoint(loadGeneration);
+        recordLoadOutcome(endpoint.isPresent());
+        endpoint.ifPresent(loader -> loader.initJWKSLoader(securityEventCounter));
+    }
+
+    /**
+     * Resolves the well-known document and attaches this loader to the endpoint loader of the
+     * discovered JWKS URI.
+     *
+     * @param loadGeneration the {@link #generation} the discovery belongs to
+     * @return the attached endpoint loader, empty if the discovery failed or the loader was
+     * released or attached meanwhile
+     */
+    private Optional<HttpJwksLoader> attachDiscoveredEndpoint(long loadGeneration) {
+        if (resolveJWKSHandler().isEmpty() || isReleasedSince(loadGeneration)) {
+            return Optional.empty();
+        }
+        HttpJwksLoader endpoint = sharedEndpoints.get().acquire(config.forDiscoveredEndpoint(
+                resolvedJwksUri.get(), getIssuerIdentifier().orElse(ISSUER_NOT_CONFIGURED)));
+        endpoint.addKeyChangeListener(endpointChangeForwarder);
+        if (!endpointLoader.compareAndSet(null, endpoint)) {
+            detachEndpoint(endpoint);
+            return Optional.empty();
+        }
+        // close() detaches the endpoint if it ran after the compare-and-set
+        if (isReleasedSince(loadGeneration)) {
+            if (endpointLoader.compareAndSet(endpoint, null)) {
+                detachEndpoint(endpoint);
+            }
+            return Optional.empty();
+        }
+        notifyKeyChange();
+        return Optional.of(endpoint);
+    }
+
+    /**
+     * Switches a loader sharing its endpoint to the JWKS URI of a re-resolved well-known
+     * document. The previous endpoint keeps serving the keys until the new one is loaded.
+     *
+     * @param discovered the re-resolved document
+     */
+    private void switchSharedEndpoint(WellKnownResult discovered) {
+        HttpJwksLoader previous = endpointLoader.get();
+        if (previous == null) {
+            // Completes a discovery that failed so far
+            long loadGeneration = generation.get();
+            config.getInfrastructure().submitRefresh(() -> refreshSharedDiscovery(loadGeneration));
+            return;
+        }
+        Optional<String> jwksUri = discovered.getJwksUri();
+        String current = resolvedJwksUri.get();
+        if (jwksUri.isEmpty() || jwksUri.get().equals(current)) {
+            return;
+        }
+        String issuer = getIssuerIdentifier().orElse(ISSUER_NOT_CONFIGURED);
+        LOGGER.info(INFO.JWKS_URI_CHANGED, issuer, current, jwksUri.get());
+        resolvedJwksUri.set(jwksUri.get());
+        HttpJwksLoader endpoint = sharedEndpoints.get().acquire(config.forDiscoveredEndpoint(jwksUri.get(), issuer));
+        endpoint.addKeyChangeListener(endpointChangeForwarder);
+        endpoint.initJWKSLoader(securityEventCounter).whenComplete((loaded, error) -> {
+            // Fails if the loader was released or switched again meanwhile
+            if (endpointLoader.compareAndSet(previous, endpoint)) {
+                detachEndpoint(previous);
+                notifyKeyChange();
             } else {
-                status.set(LoaderStatus.ERROR);
-                return LoaderStatus.ERROR;
+                detachEndpoint(endpoint);
             }
         });
     }
 
+    private void detachEndpoint(HttpJwksLoader endpoint) {
+        endpoint.removeKeyChangeListener(endpointChangeForwarder);
+        sharedEndpoints.get().release(endpoint);
+    }
+
+    /**
+     * Serves the keys of a persisted snapshot if one is configured and still usable.
+     *
+     * @param loadGeneration the {@link #generation} the initialization belongs to
+     * @return true if the snapshot was restored, false if the endpoint must be loaded first
+     */
+    private boolean restoreSnapshot(long loadGeneration) {
+        if (snapshotStore == null) {
+            return false;
+        }
+        Optional<JwksSnapshot> snapshot = snapshotStore.read().filter(this::isSnapshotUsable);
+        if (snapshot.isEmpty()) {
+            return false;
+        }
+
+        JwksSnapshot restored = snapshot.get();
+        resolvedIssuerIdentifier.set(restored.issuer());
+        resolvedJwksUri.set(restored.jwksUri());
+        updateKeys(restored.jwks(), loadGeneration);
+        servingSnapshot.set(true);
+        setStatus(LoaderStatus.OK);
+        LOGGER.info(INFO.JWKS_SNAPSHOT_LOADED, restored.issuer(), restored.getSavedAt());
+
+        // Without successful revalidation the snapshot keys must not be served beyond the maximum stale age
+        Duration remaining = config.getSnapshotMaxStale().minus(Duration.between(restored.getSavedAt(), Instant.now()));
+        // Cancelled on close, the generation guards against a timer firing concurrently
+        cancelSnapshotExpiry(snapshotExpiry.getAndSet(CompletableFuture.runAsync(() -> expireSnapshot(loadGeneration),
+                CompletableFuture.delayedExecutor(remaining.toMillis(), TimeUnit.MILLISECONDS))));
+        return true;
+    }
+
+    private boolean isSnapshotUsable(JwksSnapshot snapshot) {
+        Duration age = Duration.between(snapshot.getSavedAt(), Instant.now());
+        if (age.isNegative() || age.compareTo(config.getSnapshotMaxStale()) > 0) {
+            LOGGER.debug("Ignoring JWKS snapshot saved at %s, exceeds maximum stale age %s",
+                    snapshot.getSavedAt(), config.getSnapshotMaxStale());
+            return false;
+        }
+        if (snapshot.issuer() == null || snapshot.jwks().isEmpty()) {
+            LOGGER.debug("Ignoring incomplete JWKS snapshot");
+            return false;
+        }
+        // Configuration changes invalidate the snapshot
+        if (config.getIssuerIdentifier() != null && !config.getIssuerIdentifier().equals(snapshot.issuer())) {
+            LOGGER.debug("Ignoring JWKS snapshot for issuer %s, configured issuer is %s",
+                    snapshot.issuer(), config.getIssuerIdentifier());
+            return false;
+        }
+        if (config.getWellKnownConfig() == null
+                && !config.getHttpHandler().getUri().toString().equals(snapshot.jwksUri())) {
+            LOGGER.debug("Ignoring JWKS snapshot for %s, configured JWKS URI is %s",
+                    snapshot.jwksUri(), config.getHttpHandler().getUri());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Loads the endpoint after starting from a snapshot. Failures keep the snapshot keys until
+     * they expire; the background refresh, if enabled, continues to retry.
+     */
+    private void revalidateSnapshot(long loadGeneration) {
+        LoaderStatus loaded = loadFromEndpoint(loadGeneration);
+        if (loaded == LoaderStatus.OK && !isReleasedSince(loadGeneration)) {
+            setStatus(LoaderStatus.OK);
+        } else {
+            LOGGER.debug("Revalidation of JWKS snapshot failed, continuing with snapshot keys");
+        }
+    }
+
+    private void expireSnapshot(long loadGeneration) {
+        if (!closed.get() && !isReleasedSince(loadGeneration) && servingSnapshot.compareAndSet(true, false)) {
+            LOGGER.warn(WARN.JWKS_SNAPSHOT_EXPIRED, getIssuerIdentifier().orElse(ISSUER_NOT_CONFIGURED),
+                    config.getSnapshotMaxStale());
+            keys.set(VersionedKeyRegistry.EMPTY);
+            currentJwksContent.set(null);
+            notifyKeyChange();
+            setStatus(config.isBackgroundRefreshEnabled() ? LoaderStatus.UNDEFINED : LoaderStatus.ERROR);
+        }
+    }
+
+    private static void cancelSnapshotExpiry(@Nullable CompletableFuture<Void> expiry) {
+        if (expiry != null) {
+            expiry.cancel(false);
+        }
+    }
+
+    /**
+     * Marks the current keys as confirmed by the endpoint, persists them if snapshots are enabled
+     * and publishes them to the other processes if they changed and an exchange file is configured.
+     */
+    private void onEndpointLoadSucceeded() {
+        servingSnapshot.set(false);
+        Jwks jwks = currentJwksContent.get();
+        String issuer = resolvedIssuerIdentifier.get();
+        if (jwks == null || issuer == null) {
+            return;
+        }
+        JwksSnapshot loaded = new JwksSnapshot(issuer, resolvedJwksUri.get(), System.currentTimeMillis(), jwks);
+        if (snapshotStore != null) {
+            snapshotStore.write(loaded);
+        }
+        JwksExchangeFile file = exchange.get();
+        if (file != null && !jwks.equals(publishedJwks.get())) {
+            try {
+                file.publish(loaded);
+                publishedJwks.set(jwks);
+            } catch (IOException e) {
+                abandonExchange(file, e);
+            }
+        }
+    }
+
+    /**
+     * Opens the exchange file and tries to become the process fetching the JWKS.
+     *
+     * @return true if this process fetches the JWKS, for all processes or, if the exchange file
+     * is not accessible, only for itself; false if another process fetches it
+     */
+    private boolean leadExchange() {
+        JwksExchangeFile file = new JwksExchangeFile(config.getExchangeFile());
+        exchange.set(file);
+        try {
+            if (!file.tryLead()) {
+                return false;
+            }
+            LOGGER.info(INFO.JWKS_EXCHANGE_FETCHING, getIssuerIdentifier().orElse(ISSUER_NOT_CONFIGURED), file.getFile());
+        } catch (IOException e) {
+            abandonExchange(file, e);
+        }
+        return true;
+    }
+
+    /**
+     * Serves the keys published by the fetching process and keeps polling the exchange file.
+     *
+     * @return OK if the keys are already published, otherwise UNDEFINED until they are
+     */
+    private LoaderStatus followExchange() {
+        JwksExchangeFile file = exchange.get();
+        LOGGER.info(INFO.JWKS_EXCHANGE_FOLLOWING, getIssuerIdentifier().orElse(ISSUER_NOT_CONFIGURED), file.getFile());
+        pollExchange(file);
+        if (status.compareAndSet(LoaderStatus.LOADING, LoaderStatus.UNDEFINED)) {
+            notifyKeyChange();
+        }
+        return status.get();
+    }
+
+    /**
+     * Takes over fetching if the lock of the exchange file is free, otherwise applies a newly
+     * published version and schedules the next poll.
+     *
+     * @param file the exchange file polled, ignored if no longer the current one
+     */
+    private void pollExchange(JwksExchangeFile file) {
+        // The exchange file is replaced on every initialization, so it identifies the generation
+        long loadGeneration = generation.get();
+        if (closed.get() || exchange.get() != file) {
+            return;
+        }
+        try {
+            if (file.tryLead()) {
+                LOGGER.info(INFO.JWKS_EXCHANGE_FETCHING, getIssuerIdentifier().orElse(ISSUER_NOT_CONFIGURED), file.getFile());
+                takeOverFetching(loadGeneration);
+                return;
+            }
+            file.readIfChanged().ifPresent(published -> applyExchangeSnapshot(published, loadGeneration));
+        } catch (IOException e) {
+            abandonExchange(file, e);
+            takeOverFetching(loadGeneration);
+            return;
+        }
+
+        long delayMillis = config.getExchangePollInterval().toMillis();
+        try {
+            // Polls are scheduled one after the other, so versions are applied in order
+            exchangePoll.set(config.getInfrastructure().getScheduler().schedule(
+                    () -> config.getInfrastructure().submitRefresh(() -> pollExchange(file)),
+                    delayMillis, TimeUnit.MILLISECONDS));
+        } catch (RejectedExecutionException e) {
+            LOGGER.debug("JWKS exchange poll rejected: %s", e.getMessage());
+            exchangePoll.set(null);
+        }
+    }
+
+    private void applyExchangeSnapshot(JwksSnapshot published, long loadGeneration) {
+        if (config.getIssuerIdentifier() != null && !config.getIssuerIdentifier().equals(published.issuer())) {
+            LOGGER.debug("Ignoring JWKS of issuer %s from exchange file, configured issuer is %s",
+                    published.issuer(), config.getIssuerIdentifier());
+            return;
+        }
+        resolvedIssuerIdentifier.set(published.issuer());
+        resolvedJwksUri.set(published.jwksUri());
+        updateKeys(published.jwks(), loadGeneration);
+        if (!isReleasedSince(loadGeneration)) {
+            setStatus(LoaderStatus.OK);
+        }
+    }
+
+    /**
+     * Fetches the JWKS in this process after following the exchange file. Keys read from the
+     * file stay in use if the load fails; the background refresh, if enabled, continues to retry.
+     */
+    private void takeOverFetching(long loadGeneration) {
+        LoaderStatus loaded = loadFromEndpoint(loadGeneration);
+        if (isReleasedSince(loadGeneration)) {
+            return;
+        }
+        if (loaded == LoaderStatus.OK || status.get() != LoaderStatus.OK) {
+            setStatus(loaded);
+        }
+    }
+
+    private void abandonExchange(JwksExchangeFile file, IOException e) {
+        if (exchange.compareAndSet(file, null)) {
+            LOGGER.warn(WARN.JWKS_EXCHANGE_FAILED, file.getFile(), e.getMessage());
+        }
+        file.close();
+    }
+
     /**
      * Resolves the JWKS handler based on configuration.
      * For well-known: performs discovery to get JWKS URL and validates issuer
@@ -170,16 +690,15 @@ public class HttpJwksLoader implements JwksLoader, LoadingStatusProvider, AutoCl
 
         if (config.getWellKnownConfig() != null) {
             // Well-known discovery - the resolver itself uses ResilientHttpHandler for retry!
-            HttpWellKnownResolver resolver = config.getWellKnownConfig().createResolver();
-
-            // This call may block but we're in async context
-            Optional<String> jwksUri = resolver.getJwksUri();
+            // This call blocks only for the first resolution, but we're in async context
+            Optional<WellKnownResult> discovered = wellKnownResolver().resolve().join();
+            Optional<String> jwksUri = discovered.flatMap(WellKnownResult::getJwksUri);
             if (jwksUri.isEmpty()) {
                 return Optional.empty();
             }
 
             // Resolve issuer from well-known document
-            Optional<String> discoveredIssuer = resolver.getIssuer();
+            Optional<String> discoveredIssuer = discovered.flatMap(WellKnownResult::getIssuer);
             String configuredIssuer = config.getIssuerIdentifier();
 
             if (discoveredIssuer.isPresent()) {
@@ -208,41 +727,172 @@ public class HttpJwksLoader implements JwksLoader, LoadingStatusProvider, AutoCl
 
             // Use overloaded method to create handler for discovered JWKS URL
             handler = config.getHttpHandler(jwksUri.get());
+            resolvedJwksUri.set(jwksUri.get());
         } else {
             // Direct HTTP configuration - use existing handler from config
             handler = config.getHttpHandler();
             resolvedIssuerIdentifier.set(config.getIssuerIdentifier());
+            resolvedJwksUri.set(handler.getUri().toString());
+        }
+        return Optional.of(new ResilientHttpHandler<>(handler, config.getRetryStrategy(), contentConverter));
+    }
+
+    /**
+     * @return the resolver of the well-known configuration, created on first use
+     */
+    private HttpWellKnownResolver wellKnownResolver() {
+        HttpWellKnownResolver resolver = wellKnownResolver.get();
+        if (resolver != null) {
+            return resolver;
+        }
+        HttpWellKnownResolver created = config.getWellKnownConfig().createResolver(config.getWellKnownResolutionTtl());
+        if (wellKnownResolver.compareAndSet(null, created)) {
+            created.addChangeListener(this::onWellKnownChanged);
+            return created;
+        }
+        return wellKnownResolver.get();
+    }
+
+    /**
+     * Switches to the JWKS URI of a re-resolved well-known document. Runs on the resolving
+     * thread, the keys are loaded on a refresh thread.
+     *
+     * @param discovered the re-resolved document
+     */
+    private void onWellKnownChanged(WellKnownResult discovered) {
+        if (closed.get() || initialization.get() == null) {
+            return;
+        }
+        if (sharedEndpoints.get() != null) {
+            switchSharedEndpoint(discovered);
+            return;
+        }
+        if (httpHandler.get() != null) {
+            Optional<String> jwksUri = discovered.getJwksUri();
+            String current = resolvedJwksUri.get();
+            if (jwksUri.isEmpty() || jwksUri.get().equals(current)) {
+                return;
+            }
+            LOGGER.info(INFO.JWKS_URI_CHANGED, getIssuerIdentifier().orElse(ISSUER_NOT_CONFIGURED), current, jwksUri.get());
+            httpHandler.set(new ResilientHttpHandler<>(config.getHttpHandler(jwksUri.get()), config.getRetryStrategy(), contentConverter));
+            resolvedJwksUri.set(jwksUri.get());
         }
-        return Optional.of(new ResilientHttpHandler<>(handler, config.getRetryStrategy(), new JwksHttpContentConverter()));
+        // Loads from the new endpoint, or completes a discovery that failed so far
+        config.getInfrastructure().submitRefresh(this::refreshKeys);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Unknown key IDs trigger the rate-limited on-demand refresh, see {@link #isRefreshedOnDemand()}.
+     */
     @Override
     public Optional<KeyInfo> getKeyInfo(String kid) {
-        // Check current keys
-        JWKSKeyLoader current = currentKeys.get();
-        if (current != null) {
-            Optional<KeyInfo> key = current.getKeyInfo(kid);
-            if (key.isPresent()) return key;
-        }
-
-        // Check retired keys (grace period for Issue #110)
-        // Skip checking retired keys if grace period is zero
-        if (!config.getKeyRotationGracePeriod().isZero()) {
-            Instant cutoff = Instant.now().minus(config.getKeyRotationGracePeriod());
-            for (RetiredKeySet retired : retiredKeys) {
-                if (retired.retiredAt.isAfter(cutoff)) {
-                    Optional<KeyInfo> key = retired.loader.getKeyInfo(kid);
-                    if (key.isPresent()) return key;
-                }
-            }
+        HttpJwksLoader endpoint = endpointLoader.get();
+        if (endpoint != null) {
+            return endpoint.getKeyInfo(kid);
+        }
+        Optional<KeyInfo> key = lookupKey(kid);
+        if (key.isPresent() || kid == null || !config.isOnDemandRefreshEnabled()) {
+            return key;
+        }
+
+        Optional<CompletableFuture<Void>> refresh = requestOnDemandRefresh(kid);
+        if (refresh.isEmpty() || config.getOnDemandRefreshWait().isZero()) {
+            return key;
+        }
+        awaitOnDemandRefresh(refresh.get());
+        return lookupKey(kid);
+    }
+
+    private Optional<KeyInfo> lookupKey(String kid) {
+        // Current and retired keys within their grace period (Issue #110), one hash probe
+        return keys.get().lookup(kid);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Unknown thumbprints do not trigger an on-demand refresh.
+     */
+    @Override
+    public Optional<KeyInfo> getKeyInfoByThumbprint(String x5tS256) {
+        HttpJwksLoader endpoint = endpointLoader.get();
+        if (endpoint != null) {
+            return endpoint.getKeyInfoByThumbprint(x5tS256);
         }
+        return keys.get().lookupByThumbprint(x5tS256);
+    }
+
+    @Override
+    public boolean isRefreshedOnDemand() {
+        return config.isOnDemandRefreshEnabled();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Available while an on-demand refresh is running or the last load is older than the
+     * on-demand refresh interval.
+     */
+    @Override
+    public boolean isOnDemandRefreshAvailable() {
+        HttpJwksLoader endpoint = endpointLoader.get();
+        if (endpoint != null) {
+            return endpoint.isOnDemandRefreshAvailable();
+        }
+        if (!config.isOnDemandRefreshEnabled() || httpHandler.get() == null) {
+            return false;
+        }
+        CompletableFuture<Void> running = onDemandRefresh.get();
+        return running != null && !running.isDone()
+                || System.nanoTime() - lastLoadNanos.get() >= config.getOnDemandRefreshInterval().toNanos();
+    }
+
+    @Override
+    public List<KeyInfo> getAvailableKeys() {
+        HttpJwksLoader endpoint = endpointLoader.get();
+        if (endpoint != null) {
+            return endpoint.getAvailableKeys();
+        }
+        return keys.get().availableKeys();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A loader sharing its endpoint forwards the notifications of the endpoint loader.
+     */
+    @Override
+    public boolean addKeyChangeListener(Runnable listener) {
+        keyChangeListeners.add(listener);
+        return true;
+    }
+
+    /**
+     * Removes a listener registered via {@link #addKeyChangeListener(Runnable)}, used by the
+     * loaders sharing this endpoint loader when they are closed.
+     *
+     * @param listener the listener to remove
+     */
+    void removeKeyChangeListener(Runnable listener) {
+        keyChangeListeners.remove(listener);
+    }
 
-        return Optional.empty();
+    private void notifyKeyChange() {
+        keyChangeListeners.forEach(Runnable::run);
+    }
+
+    private void setStatus(LoaderStatus next) {
+        if (status.getAndSet(next) != next) {
+            notifyKeyChange();
+        }
     }
 
     @Override
     public LoaderStatus getLoaderStatus() {
-        return status.get(); // Pure atomic read
+        HttpJwksLoader endpoint = endpointLoader.get();
+        return endpoint != null ? endpoint.getLoaderStatus() : status.get(); // Pure atomic reads
     }
 
     @Override
@@ -260,7 +910,17 @@ public class HttpJwksLoader implements JwksLoader, LoadingStatusProvider, AutoCl
         return Optional.ofNullable(config.getIssuerIdentifier());
     }
 
-    private void updateKeys(Jwks newJwks) {
+    /**
+     * Rotates to the given keys, unless the loader was released since the load was started.
+     *
+     * @param newJwks        the loaded JWKS
+     * @param loadGeneration the {@link #generation} the load was started in
+     */
+    private void updateKeys(Jwks newJwks, long loadGeneration) {
+        if (isReleasedSince(loadGeneration)) {
+            LOGGER.debug("Discarding JWKS loaded before the loader was released");
+            return;
+        }
         // Check if content has actually changed (Issue #110)
         Jwks currentJwks = currentJwksContent.get();
         if (currentJwks != null && currentJwks.equals(newJwks)) {
@@ -271,87 +931,274 @@ public class HttpJwksLoader implements JwksLoader, LoadingStatusProvider, AutoCl
         // Content has changed, update the reference
         currentJwksContent.set(newJwks);
 
+        // Keys unchanged since the last update are reused instead of being built again
         JWKSKeyLoader newLoader = JWKSKeyLoader.builder()
                 .jwksContent(newJwks)
                 .jwksType(config.getJwksType())
+                .previousKeys(keys.get().current())
                 .build();
         newLoader.initJWKSLoader(securityEventCounter);
 
-        // Use a single timestamp to avoid timing issues (Issue #110)
+        // Retire the old keys with grace period, a zero grace period discards them immediately
         Instant now = Instant.now();
+        VersionedKeyRegistry rotated = keys.updateAndGet(registry -> registry.rotate(newLoader, now,
+                config.getKeyRotationGracePeriod(), config.getMaxRetiredKeySets()));
+        if (isReleasedSince(loadGeneration)) {
+            // Released meanwhile: close() may have cleared the keys before this rotation
+            keys.compareAndSet(rotated, VersionedKeyRegistry.EMPTY);
+            currentJwksContent.compareAndSet(newJwks, null);
+            return;
+        }
+        notifyKeyChange();
 
-        // Retire old keys with grace period
-        JWKSKeyLoader oldLoader = currentKeys.getAndSet(newLoader);
-        if (oldLoader != null) {
-            // Special handling for zero grace period - don't retain retired keys
-            if (config.getKeyRotationGracePeriod().isZero()) {
-                // With zero grace period, immediately discard old keys
-                // Don't add to retiredKeys at all
-            } else {
-                retiredKeys.addFirst(new RetiredKeySet(oldLoader, now));
+        // Log keys update
+        LOGGER.info(INFO.JWKS_KEYS_UPDATED, status.get());
+    }
+
+    /**
+     * Triggers an on-demand refresh for the given unknown key ID or joins the running one.
+     * <p>
+     * A new refresh is only started if the last load is older than the configured interval.
+     * The compare-and-set on the load timestamp guarantees that at most one refresh is started
+     * per interval, regardless of the number of concurrent misses.
+     *
+     * @param kid the unknown key ID, used for logging only
+     * @return the running refresh, empty if none is running and the rate limit prevents a new one
+     */
+    private Optional<CompletableFuture<Void>> requestOnDemandRefresh(String kid) {
+        CompletableFuture<Void> running = onDemandRefresh.get();
+        if (running != null && !running.isDone()) {
+            return Optional.of(running);
+        }
+        if (httpHandler.get() == null) {
+            return Optional.empty();
+        }
+
+        long lastLoad = lastLoadNanos.get();
+        long now = System.nanoTime();
+        if (now - lastLoad < config.getOnDemandRefreshInterval().toNanos()
+                || !lastLoadNanos.compareAndSet(lastLoad, now)) {
+            return Optional.empty();
+        }
+
+        LOGGER.info(INFO.JWKS_ON_DEMAND_REFRESH, kid, getIssuerIdentifier().orElse(ISSUER_NOT_CONFIGURED));
+        CompletableFuture<Void> refresh = config.getInfrastructure().submitRefresh(this::refreshKeys);
+        onDemandRefresh.set(refresh);
+        return Optional.of(refresh);
+    }
+
+    private void awaitOnDemandRefresh(CompletableFuture<Void> refresh) {
+        try {
+            refresh.get(config.getOnDemandRefreshWait().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            LOGGER.debug("On-demand JWKS refresh not completed in time: %s", e.getMessage());
+        }
+    }
+
+    /**
+     * Loads the JWKS and updates the keys if changed. Used by the on-demand refresh and on JWKS URI changes.
+     *
+     * @return true if the JWKS was loaded or is unchanged, false if the load failed
+     */
+    private boolean refreshKeys() {
+        return refreshKeys(generation.get());
+    }
 
-                // Clean up expired retired keys
-                Instant cutoff = now.minus(config.getKeyRotationGracePeriod());
-                retiredKeys.removeIf(retired -> retired.retiredAt.isBefore(cutoff));
+    /**
+     * Loads the JWKS and updates the keys if changed.
+     *
+     * @param loadGeneration the {@link #generation} the refresh belongs to
+     * @return true if the JWKS was loaded or is unchanged, false if the load failed
+     */
+    private boolean refreshKeys(long loadGeneration) {
+        boolean success = false;
+        try {
+            ResilientHttpHandler<Jwks> handler = httpHandler.get();
+            if (config.getWellKnownConfig() != null) {
+                if (handler == null) {
+                    // Discovery failed so far, retry it on this refresh thread
+                    handler = resolveJWKSHandler().orElse(null);
+                    httpHandler.compareAndSet(null, handler);
+                } else {
+                    // Re-resolves a stale document in the background, see onWellKnownChanged
+                    wellKnownResolver().resolve();
+                }
+            }
+            if (handler == null) {
+                LOGGER.warn(WARN.BACKGROUND_REFRESH_NO_HANDLER);
+                return false;
+            }
+
+            lastLoadNanos.set(System.nanoTime());
+            HttpResult<Jwks> result = handler.load();
+            if (isReleasedSince(loadGeneration)) {
+                LOGGER.debug("Discarding JWKS loaded before the loader was released");
+                return false;
+            }
 
-                // Keep max N retired sets
-                while (retiredKeys.size() > config.getMaxRetiredKeySets()) {
-                    retiredKeys.removeLast();
+            boolean notModified = result.getHttpStatus().map(s -> s == 304).orElse(false);
+            if (notModified || result.isSuccess() && result.getHttpStatus().map(s -> s == 200).orElse(false)) {
+                // Unchanged content is skipped, cached content restores keys discarded by an expired snapshot
+                result.getContent().ifPresent(jwks -> updateKeys(jwks, loadGeneration));
+                onEndpointLoadSucceeded();
+                // Recovers from a failed initialization, e.g. of the well-known discovery, or an expired snapshot
+                if (currentJwksContent.get() != null && !isReleasedSince(loadGeneration)) {
+                    setStatus(LoaderStatus.OK);
                 }
+                LOGGER.debug(notModified ? "Background refresh: keys unchanged (304)" : "Background refresh updated keys");
+                success = true;
+            } else {
+                String statusDesc = result.getErrorMessage()
+                        .orElseGet(() -> "HTTP status: " + result.getHttpStatus().map(String::valueOf).orElse("N/A"));
+                LOGGER.warn(WARN.BACKGROUND_REFRESH_FAILED, statusDesc);
             }
+        } catch (IllegalArgumentException e) {
+            // JSON parsing or validation errors
+            LOGGER.warn(WARN.BACKGROUND_REFRESH_PARSE_ERROR, e.getMessage(), getIssuerIdentifier().orElseThrow(() -> new IllegalStateException(ISSUER_MUST_BE_RESOLVED)));
+        } catch (IllegalStateException e) {
+            // State errors (e.g., from orElseThrow when issuer not resolved)
+            LOGGER.warn(WARN.BACKGROUND_REFRESH_FAILED, e.getMessage());
         }
-
-        // Log keys update
-        LOGGER.info(INFO.JWKS_KEYS_UPDATED, status.get());
+        recordLoadOutcome(success);
+        return success;
     }
 
-    private void startBackgroundRefresh() {
-        refreshTask.set(config.getScheduledExecutorService().scheduleAtFixedRate(() -> {
-                    try {
-                        ResilientHttpHandler<Jwks> handler = httpHandler.get();
-                        if (handler == null) {
-                            LOGGER.warn(WARN.BACKGROUND_REFRESH_NO_HANDLER);
-                            return;
-                        }
-
-                        HttpResult<Jwks> result = handler.load();
-
-                        if (result.isSuccess() && result.getHttpStatus().map(s -> s == 200).orElse(false)) {
-                            result.getContent().ifPresent(this::updateKeys);
-                            LOGGER.debug("Background refresh updated keys");
-                        } else if (result.getHttpStatus().map(s -> s == 304).orElse(false)) {
-                            LOGGER.debug("Background refresh: keys unchanged (304)");
-                        } else {
-                            String statusDesc = result.getErrorMessage()
-                                    .orElseGet(() -> "HTTP status: " + result.getHttpStatus().map(String::valueOf).orElse("N/A"));
-                            LOGGER.warn(WARN.BACKGROUND_REFRESH_FAILED, statusDesc);
-                        }
-                    } catch (IllegalArgumentException e) {
-                        // JSON parsing or validation errors
-                        LOGGER.warn(WARN.BACKGROUND_REFRESH_PARSE_ERROR, e.getMessage(), getIssuerIdentifier().orElseThrow(() -> new IllegalStateException(ISSUER_MUST_BE_RESOLVED)));
-                    } catch (IllegalStateException e) {
-                        // State errors (e.g., from orElseThrow when issuer not resolved)
-                        LOGGER.warn(WARN.BACKGROUND_REFRESH_FAILED, e.getMessage());
-                    }
-                },
-                config.getRefreshIntervalSeconds(),
-                config.getRefreshIntervalSeconds(),
-                TimeUnit.SECONDS));
+    private void recordLoadOutcome(boolean success) {
+        if (success) {
+            consecutiveFailures.set(0);
+        } else {
+            consecutiveFailures.incrementAndGet();
+        }
+    }
 
+    /**
+     * Starts the background refresh, unless the loader was released since the initialization
+     * was started: {@link #closed} is only reset by {@link #initJWKSLoader(SecurityEventCounter)}.
+     *
+     * @param loadGeneration the {@link #generation} of the initialization starting the refresh
+     */
+    private void startBackgroundRefresh(long loadGeneration) {
+        if (closed.get() || isReleasedSince(loadGeneration)) {
+            return;
+        }
+        scheduleNextRefresh(loadGeneration);
         LOGGER.info(INFO.JWKS_BACKGROUND_REFRESH_STARTED, config.getRefreshIntervalSeconds());
     }
 
+    private void runBackgroundRefresh(long loadGeneration) {
+        if (isReleasedSince(loadGeneration)) {
+            return;
+        }
+        if (sharedEndpoints.get() != null) {
+            refreshSharedDiscovery(loadGeneration);
+        } else {
+            refreshKeys(loadGeneration);
+        }
+        scheduleNextRefresh(loadGeneration);
+    }
+
+    private void scheduleNextRefresh(long loadGeneration) {
+        if (closed.get() || isReleasedSince(loadGeneration)) {
+            return;
+        }
+        long delayMillis = nextRefreshDelay(consecutiveFailures.get(), contentConverter.getLastCacheLifetime())
+                .toMillis();
+        LOGGER.debug("Next background JWKS refresh in %sms", delayMillis);
+        try {
+            // The scheduler only times the refresh, the blocking load runs on the shared refresh threads
+            refreshTask.set(config.getScheduledExecutorService().schedule(
+                    () -> config.getInfrastructure().submitRefresh(() -> runBackgroundRefresh(loadGeneration)),
+                    delayMillis, TimeUnit.MILLISECONDS));
+        } catch (RejectedExecutionException e) {
+            LOGGER.debug("Background JWKS refresh rejected: %s", e.getMessage());
+            refreshTask.set(null);
+        }
+    }
+
+    /**
+     * Computes the delay until the next background refresh.
+     * Package-private for testing purposes only.
+     *
+     * @param failures the number of consecutive failed loads
+     * @param cacheLifetime the cache lifetime announced by the last response, if any
+     * @return the randomized delay
+     */
+    Duration nextRefreshDelay(int failures, Optional<Duration> cacheLifetime) {
+        Duration refreshInterval = Duration.ofSeconds(config.getRefreshIntervalSeconds());
+        Duration delay;
+        if (failures > 0) {
+            // Exponential backoff, starting at the minimum interval and capped at the refresh interval
+            Duration initial = refreshInterval.compareTo(config.getMinRefreshInterval()) < 0
+                    ? refreshInterval : config.getMinRefreshInterval();
+            delay = initial.multipliedBy(1L << Math.min(failures - 1, 20));
+            if (delay.compareTo(refreshInterval) > 0) {
+                delay = refreshInterval;
+            }
+        } else if (cacheLifetime.isPresent()) {
+            delay = cacheLifetime.get();
+            if (delay.compareTo(config.getMinRefreshInterval()) < 0) {
+                delay = config.getMinRefreshInterval();
+            } else if (delay.compareTo(config.getMaxRefreshInterval()) > 0) {
+                delay = config.getMaxRefreshInterval();
+            }
+        } else {
+            delay = refreshInterval;
+        }
+
+        double jitter = config.getRefreshJitter();
+        if (jitter > 0) {
+            double factor = 1 + ThreadLocalRandom.current().nextDouble(-jitter, jitter);
+            delay = Duration.ofMillis((long) (delay.toMillis() * factor));
+        }
+        return delay;
+    }
+
     @Override
     public void close() {
+        HttpJwksLoader endpoint = endpointLoader.getAndSet(null);
+        if (endpoint != null) {
+            detachEndpoint(endpoint);
+        }
+        generation.incrementAndGet();
+        closed.set(true);
         ScheduledFuture<?> task = refreshTask.get();
         if (task != null) {
             task.cancel(false);
         }
-        currentKeys.set(null);
-        retiredKeys.clear();
+        cancelSnapshotExpiry(snapshotExpiry.getAndSet(null));
+        ScheduledFuture<?> poll = exchangePoll.getAndSet(null);
+        if (poll != null) {
+            poll.cancel(false);
+        }
+        JwksExchangeFile file = exchange.getAndSet(null);
+        if (file != null) {
+            file.close();
+        }
+        publishedJwks.set(null);
+        keys.set(VersionedKeyRegistry.EMPTY);
         httpHandler.set(null);
         currentJwksContent.set(null);
-        status.set(LoaderStatus.UNDEFINED);
+        setStatus(LoaderStatus.UNDEFINED);
+        notifyKeyChange();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Stops the background refresh and drops the current and retired keys. The persisted
+     * snapshot, if configured, is kept, so that a later initialization starts from it. The lock
+     * of the exchange file, if configured, is released, so that another process takes over. A loader
+     * sharing its endpoint only releases its reference to the endpoint loader.
+     */
+    @Override
+    public void release() {
+        close();
+        servingSnapshot.set(false);
+        consecutiveFailures.set(0);
+        initialization.set(null);
+        LOGGER.debug("Released JWKS loader for issuer %s", getIssuerIdentifier().orElse(ISSUER_NOT_CONFIGURED));
     }
 
     /**
@@ -361,14 +1208,11 @@ public class HttpJwksLoader implements JwksLoader, LoadingStatusProvider, AutoCl
      * @return true if background refresh is active, false otherwise
      */
     boolean isBackgroundRefreshActive() {
+        HttpJwksLoader endpoint = endpointLoader.get();
+        if (endpoint != null) {
+            return endpoint.isBackgroundRefreshActive();
+        }
         ScheduledFuture<?> task = refreshTask.get();
-        return task != null && !task.isCancelled() && !task.isDone();
-    }
-
-
-    /**
-     * Private record to hold retired key sets with their retirement timestamp.
-     */
-    private record RetiredKeySet(JWKSKeyLoader loader, Instant retiredAt) {
+        return !closed.get() && task != null && !task.isCancelled();
     }
 }
\ No newline at end of file
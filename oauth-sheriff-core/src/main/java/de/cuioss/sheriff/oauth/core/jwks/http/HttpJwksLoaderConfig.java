@@ -24,6 +24,7 @@ import de.cuioss.sheriff.oauth.core.JWTValidationLogMessages;
 import de.cuioss.sheriff.oauth.core.JWTValidationLogMessages.WARN;
 import de.cuioss.sheriff.oauth.core.ParserConfig;
 import de.cuioss.sheriff.oauth.core.jwks.JwksType;
+import de.cuioss.sheriff.oauth.core.well_known.HttpWellKnownResolver;
 import de.cuioss.sheriff.oauth.core.well_known.WellKnownConfig;
 import de.cuioss.tools.base.Preconditions;
 import de.cuioss.tools.logging.CuiLogger;
@@ -33,8 +34,8 @@ import lombok.ToString;
 
 import javax.net.ssl.SSLContext;
 import java.net.URI;
+import java.nio.file.Path;
 import java.time.Duration;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 
 /**
@@ -75,6 +76,36 @@ public class HttpJwksLoaderConfig implements HttpHandlerProvider {
      */
     private static final int DEFAULT_MAX_RETIRED_KEY_SETS = 3;
 
+    /**
+     * Default minimum interval of 30 seconds between two JWKS loads triggered by unknown key IDs.
+     */
+    private static final Duration DEFAULT_ON_DEMAND_REFRESH_INTERVAL = Duration.ofSeconds(30);
+
+    /**
+     * Default lower bound of 30 seconds for refresh intervals derived from cache headers.
+     */
+    private static final Duration DEFAULT_MIN_REFRESH_INTERVAL = Duration.ofSeconds(30);
+
+    /**
+     * Default upper bound of 24 hours for refresh intervals derived from cache headers.
+     */
+    private static final Duration DEFAULT_MAX_REFRESH_INTERVAL = Duration.ofHours(24);
+
+    /**
+     * Default jitter of 10% applied to every background refresh delay.
+     */
+    private static final double DEFAULT_REFRESH_JITTER = 0.1;
+
+    /**
+     * Default maximum age of a JWKS snapshot the loader starts from.
+     */
+    private static final Duration DEFAULT_SNAPSHOT_MAX_STALE = Duration.ofHours(24);
+
+    /**
+     * Default interval at which processes not fetching themselves check the JWKS exchange file.
+     */
+    private static final Duration DEFAULT_EXCHANGE_POLL_INTERVAL = Duration.ofSeconds(1);
+
     /**
      * The interval in seconds at which to refresh the keys.
      * If set to 0, no time-based caching will be used.
@@ -111,13 +142,22 @@ public class HttpJwksLoaderConfig implements HttpHandlerProvider {
     private final RetryStrategy retryStrategy;
 
     /**
-     * The ScheduledExecutorService used for background refresh operations.
+     * The ScheduledExecutorService timing the background refresh operations.
+     * Defaults to the scheduler of the {@link #getInfrastructure() infrastructure}.
      * Can be null if no background refresh is needed.
      */
     @Getter
     @EqualsAndHashCode.Exclude
     private final ScheduledExecutorService scheduledExecutorService;
 
+    /**
+     * The infrastructure running the refreshes, shared by all loaders by default.
+     */
+    @Getter
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final JwksLoaderInfrastructure infrastructure;
+
     /**
      * The issuer identifier for this JWKS configuration.
      * Used for logging and identification purposes.
@@ -137,23 +177,138 @@ public class HttpJwksLoaderConfig implements HttpHandlerProvider {
     @Getter
     private final int maxRetiredKeySets;
 
+    /**
+     * Minimum interval between the last JWKS load and a refresh triggered by an unknown key ID.
+     * {@link Duration#ZERO} disables on-demand refreshes.
+     */
+    @Getter
+    private final Duration onDemandRefreshInterval;
+
+    /**
+     * Maximum time a key lookup waits for an on-demand refresh it triggered or joined.
+     * {@link Duration#ZERO} returns immediately and lets the refresh complete in the background.
+     */
+    @Getter
+    private final Duration onDemandRefreshWait;
+
+    /**
+     * Lower bound for refresh intervals derived from the cache headers of the JWKS endpoint.
+     * Also the initial delay of the exponential backoff after failed refreshes.
+     */
+    @Getter
+    private final Duration minRefreshInterval;
+
+    /**
+     * Upper bound for refresh intervals derived from the cache headers of the JWKS endpoint.
+     */
+    @Getter
+    private final Duration maxRefreshInterval;
+
+    /**
+     * Relative random deviation applied to every background refresh delay, between 0 and 0.5.
+     */
+    @Getter
+    private final double refreshJitter;
+
+    /**
+     * File the last successfully loaded JWKS is persisted to, {@code null} if snapshots are disabled.
+     */
+    @Getter
+    private final Path snapshotFile;
+
+    /**
+     * Maximum age of a snapshot the loader starts from. Keys of a snapshot are discarded once
+     * it exceeds this age without successful revalidation against the endpoint.
+     */
+    @Getter
+    private final Duration snapshotMaxStale;
+
+    /**
+     * File the JWKS is exchanged through with the other processes of the host, {@code null} if
+     * every process fetches the JWKS itself.
+     */
+    @Getter
+    private final Path exchangeFile;
+
+    /**
+     * Interval at which a process reading the {@link #exchangeFile} checks it for a new version
+     * and whether the fetching process is gone.
+     */
+    @Getter
+    private final Duration exchangePollInterval;
+
+    /**
+     * Time a discovered well-known document is used before it is re-resolved in the background.
+     */
+    @Getter
+    private final Duration wellKnownResolutionTtl;
+
     @SuppressWarnings("java:S107") // ok for builder
     private HttpJwksLoaderConfig(int refreshIntervalSeconds,
             HttpHandler httpHandler,
             WellKnownConfig wellKnownConfig,
             RetryStrategy retryStrategy,
             ScheduledExecutorService scheduledExecutorService,
+            JwksLoaderInfrastructure infrastructure,
             String issuerIdentifier,
             Duration keyRotationGracePeriod,
-            int maxRetiredKeySets) {
+            int maxRetiredKeySets,
+            Duration onDemandRefreshInterval,
+            Duration onDemandRefreshWait,
+            Duration minRefreshInterval,
+            Duration maxRefreshInterval,
+            double refreshJitter,
+            Path snapshotFile,
+            Duration snapshotMaxStale,
+            Path exchangeFile,
+            Duration exchangePollInterval,
+            Duration wellKnownResolutionTtl) {
         this.refreshIntervalSeconds = refreshIntervalSeconds;
         this.httpHandler = httpHandler;
         this.wellKnownConfig = wellKnownConfig;
         this.retryStrategy = retryStrategy;
         this.scheduledExecutorService = scheduledExecutorService;
+        this.infrastructure = infrastructure;
         this.issuerIdentifier = issuerIdentifier;
         this.keyRotationGracePeriod = keyRotationGracePeriod;
         this.maxRetiredKeySets = maxRetiredKeySets;
+        this.onDemandRefreshInterval = onDemandRefreshInterval;
+        this.onDemandRefreshWait = onDemandRefreshWait;
+        this.minRefreshInterval = minRefreshInterval;
+        this.maxRefreshInterval = maxRefreshInterval;
+        this.refreshJitter = refreshJitter;
+        this.snapshotFile = snapshotFile;
+        this.snapshotMaxStale = snapshotMaxStale;
+        this.exchangeFile = exchangeFile;
+        this.exchangePollInterval = exchangePollInterval;
+        this.wellKnownResolutionTtl = wellKnownResolutionTtl;
+    }
+
+    /**
+     * Checks whether a key lookup for an unknown key ID triggers a refresh of the JWKS.
+     *
+     * @return true if on-demand refresh is enabled, false otherwise
+     */
+    public boolean isOnDemandRefreshEnabled() {
+        return !onDemandRefreshInterval.isZero();
+    }
+
+    /**
+     * Checks whether the loaded JWKS is persisted and used for the next startup.
+     *
+     * @return true if a snapshot file is configured, false otherwise
+     */
+    public boolean isSnapshotEnabled() {
+        return snapshotFile != null;
+    }
+
+    /**
+     * Checks whether the JWKS is fetched by one process per host and exchanged via a file.
+     *
+     * @return true if an exchange file is configured, false otherwise
+     */
+    public boolean isExchangeEnabled() {
+        return exchangeFile != null;
     }
 
     /**
@@ -201,6 +356,38 @@ public class HttpJwksLoaderConfig implements HttpHandlerProvider {
                 .build();
     }
 
+    /**
+     * Creates the configuration of the endpoint loader for a JWKS URI discovered via well-known,
+     * used by {@link SharedJwksEndpoints}: the discovered URI is loaded directly, with the HTTP,
+     * refresh and rotation settings of this configuration.
+     *
+     * @param jwksUri the discovered JWKS URI
+     * @param issuer  the resolved issuer identifier of the discovering loader
+     * @return a configuration without well-known discovery, snapshot and exchange file
+     */
+    HttpJwksLoaderConfig forDiscoveredEndpoint(String jwksUri, String issuer) {
+        return new HttpJwksLoaderConfig(
+                refreshIntervalSeconds,
+                getHttpHandler(jwksUri),
+                null,
+                retryStrategy,
+                scheduledExecutorService,
+                infrastructure,
+                issuer,
+                keyRotationGracePeriod,
+                maxRetiredKeySets,
+                onDemandRefreshInterval,
+                onDemandRefreshWait,
+                minRefreshInterval,
+                maxRefreshInterval,
+                refreshJitter,
+                null,
+                snapshotMaxStale,
+                null,
+                exchangePollInterval,
+                wellKnownResolutionTtl);
+    }
+
     /**
      * Determines if background refresh is enabled based on configuration.
      * Background refresh is enabled when both a ScheduledExecutorService is configured
@@ -254,10 +441,22 @@ public class HttpJwksLoaderConfig implements HttpHandlerProvider {
         private final HttpHandler.HttpHandlerBuilder httpHandlerBuilder;
         private RetryStrategy retryStrategy;
         private ScheduledExecutorService scheduledExecutorService;
+        private JwksLoaderInfrastructure infrastructure = JwksLoaderInfrastructure.shared();
+        private boolean customTls;
         private WellKnownConfig wellKnownConfig;
         private String issuerIdentifier;
         private Duration keyRotationGracePeriod = DEFAULT_KEY_ROTATION_GRACE_PERIOD;
         private int maxRetiredKeySets = DEFAULT_MAX_RETIRED_KEY_SETS;
+        private Duration onDemandRefreshInterval = DEFAULT_ON_DEMAND_REFRESH_INTERVAL;
+        private Duration onDemandRefreshWait = Duration.ZERO;
+        private Duration minRefreshInterval = DEFAULT_MIN_REFRESH_INTERVAL;
+        private Duration maxRefreshInterval = DEFAULT_MAX_REFRESH_INTERVAL;
+        private double refreshJitter = DEFAULT_REFRESH_JITTER;
+        private Path snapshotFile;
+        private Duration snapshotMaxStale = DEFAULT_SNAPSHOT_MAX_STALE;
+        private Path exchangeFile;
+        private Duration exchangePollInterval = DEFAULT_EXCHANGE_POLL_INTERVAL;
+        private Duration wellKnownResolutionTtl = HttpWellKnownResolver.DEFAULT_RESOLUTION_TTL;
 
         // Track which endpoint configuration method was used to ensure mutual exclusivity
         private EndpointSource endpointSource = null;
@@ -307,6 +506,181 @@ public class HttpJwksLoaderConfig implements HttpHandlerProvider {
             return this;
         }
 
+        /**
+         * Sets the minimum interval between the last JWKS load and a refresh triggered by an
+         * unknown key ID.
+         * <p>
+         * A key lookup for an unknown key ID, e.g. after the identity provider rotated its keys,
+         * triggers a refresh of the JWKS in the background. Concurrent misses share one refresh,
+         * and no refresh is triggered if the JWKS was loaded within this interval, so tokens
+         * with arbitrary key IDs cannot cause more than one load per interval.
+         * Defaults to 30 seconds, {@link Duration#ZERO} disables on-demand refreshes.
+         * </p>
+         *
+         * @param onDemandRefreshInterval the minimum interval between two loads
+         * @return this builder instance
+         */
+        public HttpJwksLoaderConfigBuilder onDemandRefreshInterval(Duration onDemandRefreshInterval) {
+            Preconditions.checkArgument(!onDemandRefreshInterval.isNegative(), "onDemandRefreshInterval must not be negative");
+            this.onDemandRefreshInterval = onDemandRefreshInterval;
+            return this;
+        }
+
+        /**
+         * Sets the maximum time a key lookup waits for an on-demand refresh it triggered or joined.
+         * <p>
+         * Defaults to {@link Duration#ZERO}: the lookup returns immediately and the token is
+         * rejected, while the refresh completes in the background for subsequent tokens.
+         * </p>
+         *
+         * @param onDemandRefreshWait the maximum time to wait for the refresh
+         * @return this builder instance
+         */
+        public HttpJwksLoaderConfigBuilder onDemandRefreshWait(Duration onDemandRefreshWait) {
+            Preconditions.checkArgument(!onDemandRefreshWait.isNegative(), "onDemandRefreshWait must not be negative");
+            this.onDemandRefreshWait = onDemandRefreshWait;
+            return this;
+        }
+
+        /**
+         * Sets the lower bound for background refresh intervals derived from the cache headers
+         * of the JWKS endpoint.
+         * <p>
+         * If a response carries {@code Cache-Control: max-age} or {@code Expires}, the next
+         * background refresh is scheduled after this lifetime, clamped to the minimum and
+         * maximum refresh interval, instead of after {@link #refreshIntervalSeconds(int)}. The
+         * minimum is also the initial delay of the exponential backoff after failed refreshes,
+         * which is capped at the refresh interval. Defaults to 30 seconds.
+         * </p>
+         *
+         * @param minRefreshInterval the lower bound, must be positive
+         * @return this builder instance
+         */
+        public HttpJwksLoaderConfigBuilder minRefreshInterval(Duration minRefreshInterval) {
+            Preconditions.checkArgument(minRefreshInterval.isPositive(), "minRefreshInterval must be positive");
+            this.minRefreshInterval = minRefreshInterval;
+            return this;
+        }
+
+        /**
+         * Sets the upper bound for background refresh intervals derived from the cache headers
+         * of the JWKS endpoint, see {@link #minRefreshInterval(Duration)}. Defaults to 24 hours.
+         *
+         * @param maxRefreshInterval the upper bound, must not be less than the lower bound
+         * @return this builder instance
+         */
+        public HttpJwksLoaderConfigBuilder maxRefreshInterval(Duration maxRefreshInterval) {
+            Preconditions.checkArgument(maxRefreshInterval.isPositive(), "maxRefreshInterval must be positive");
+            this.maxRefreshInterval = maxRefreshInterval;
+            return this;
+        }
+
+        /**
+         * Sets the relative random deviation applied to every background refresh delay.
+         * <p>
+         * Randomizing the delays spreads the requests of many instances started at the same
+         * time, which would otherwise poll the JWKS endpoint in lockstep. Defaults to 0.1,
+         * i.e. &plusmn;10%, 0 disables the jitter.
+         * </p>
+         *
+         * @param refreshJitter the jitter, between 0 and 0.5
+         * @return this builder instance
+         */
+        public HttpJwksLoaderConfigBuilder refreshJitter(double refreshJitter) {
+            Preconditions.checkArgument(refreshJitter >= 0 && refreshJitter <= 0.5, "refreshJitter must be between 0 and 0.5");
+            this.refreshJitter = refreshJitter;
+            return this;
+        }
+
+        /**
+         * Sets the file the last successfully loaded JWKS is persisted to.
+         * <p>
+         * The snapshot contains the JWKS together with the issuer and JWKS URI, including those
+         * discovered via the well-known endpoint. On the next startup a snapshot not older than
+         * {@link #snapshotMaxStale(Duration)} is served immediately and revalidated against the
+         * endpoint in the background, so that startup no longer waits for the identity provider
+         * and succeeds while it is unavailable. Not set by default, i.e. snapshots are disabled.
+         * </p>
+         * <p>
+         * Every loader needs its own file.
+         * </p>
+         *
+         * @param snapshotFile the snapshot file, {@code null} disables snapshots
+         * @return this builder instance
+         */
+        public HttpJwksLoaderConfigBuilder snapshotFile(Path snapshotFile) {
+            this.snapshotFile = snapshotFile;
+            return this;
+        }
+
+        /**
+         * Sets the maximum age of a snapshot the loader starts from. Older snapshots are ignored,
+         * and the keys of a snapshot are discarded once it exceeds this age without a successful
+         * load from the endpoint. Defaults to 24 hours.
+         *
+         * @param snapshotMaxStale the maximum age, must be positive
+         * @return this builder instance
+         */
+        public HttpJwksLoaderConfigBuilder snapshotMaxStale(Duration snapshotMaxStale) {
+            Preconditions.checkArgument(snapshotMaxStale.isPositive(), "snapshotMaxStale must be positive");
+            this.snapshotMaxStale = snapshotMaxStale;
+            return this;
+        }
+
+        /**
+         * Sets the file the JWKS is exchanged through with the other processes of the host.
+         * <p>
+         * Of all processes configured with the same file, only the one holding the lock of
+         * {@code <file>.lock} fetches the JWKS and publishes every changed key set to the
+         * memory-mapped file together with a version counter. The other processes read the keys
+         * from the file, parsing them only when the version changed, and start without waiting for
+         * the endpoint once the keys are published. If the fetching process ends, its lock is
+         * released and one of the others takes over within {@link #exchangePollInterval(Duration)}.
+         * Not set by default, i.e. every process fetches the JWKS itself.
+         * </p>
+         * <p>
+         * Every issuer needs its own file, on a local file system shared by the processes.
+         * </p>
+         *
+         * @param exchangeFile the exchange file, {@code null} disables the exchange
+         * @return this builder instance
+         */
+        public HttpJwksLoaderConfigBuilder exchangeFile(Path exchangeFile) {
+            this.exchangeFile = exchangeFile;
+            return this;
+        }
+
+        /**
+         * Sets the interval at which processes not fetching the JWKS check the exchange file for
+         * new keys and take over fetching if the fetching process is gone. Defaults to 1 second.
+         *
+         * @param exchangePollInterval the poll interval, must be positive
+         * @return this builder instance
+         */
+        public HttpJwksLoaderConfigBuilder exchangePollInterval(Duration exchangePollInterval) {
+            Preconditions.checkArgument(exchangePollInterval.isPositive(), "exchangePollInterval must be positive");
+            this.exchangePollInterval = exchangePollInterval;
+            return this;
+        }
+
+        /**
+         * Sets the time a discovered well-known document is used before it is re-resolved.
+         * <p>
+         * Re-resolution runs in the background while the loader keeps using the current JWKS URI.
+         * If the identity provider announces a different {@code jwks_uri}, the loader switches to it
+         * and loads the keys from there. Failed discoveries are retried after this time, at the
+         * latest after 30 seconds. Only applicable to well-known discovery, defaults to 1 hour.
+         * </p>
+         *
+         * @param wellKnownResolutionTtl the resolution TTL, must be positive
+         * @return this builder instance
+         */
+        public HttpJwksLoaderConfigBuilder wellKnownResolutionTtl(Duration wellKnownResolutionTtl) {
+            Preconditions.checkArgument(wellKnownResolutionTtl.isPositive(), "wellKnownResolutionTtl must be positive");
+            this.wellKnownResolutionTtl = wellKnownResolutionTtl;
+            return this;
+        }
+
         /**
          * Sets the JWKS URI directly.
          * <p>
@@ -405,6 +779,7 @@ public class HttpJwksLoaderConfig implements HttpHandlerProvider {
          */
         public HttpJwksLoaderConfigBuilder tlsVersions(SecureSSLContextProvider secureSSLContextProvider) {
             httpHandlerBuilder.tlsVersions(secureSSLContextProvider);
+            customTls = true;
             return this;
         }
 
@@ -436,6 +811,7 @@ public class HttpJwksLoaderConfig implements HttpHandlerProvider {
          */
         public HttpJwksLoaderConfigBuilder sslContext(SSLContext sslContext) {
             httpHandlerBuilder.sslContext(sslContext);
+            customTls = true;
             return this;
         }
 
@@ -478,7 +854,12 @@ public class HttpJwksLoaderConfig implements HttpHandlerProvider {
         }
 
         /**
-         * Sets the ScheduledExecutorService for background refresh operations.
+         * Sets the ScheduledExecutorService timing the background refresh operations.
+         * <p>
+         * The refreshes themselves run on the virtual threads of the
+         * {@link #infrastructure(JwksLoaderInfrastructure) infrastructure}, so the executor only
+         * needs a single thread. Defaults to the scheduler of the infrastructure.
+         * </p>
          *
          * @param scheduledExecutorService the executor service to use
          * @return this builder instance
@@ -488,6 +869,19 @@ public class HttpJwksLoaderConfig implements HttpHandlerProvider {
             return this;
         }
 
+        /**
+         * Sets the infrastructure providing the scheduler, the refresh threads and the shared
+         * TLS context. Defaults to {@link JwksLoaderInfrastructure#shared()}.
+         *
+         * @param infrastructure the infrastructure to use, must not be null
+         * @return this builder instance
+         */
+        public HttpJwksLoaderConfigBuilder infrastructure(JwksLoaderInfrastructure infrastructure) {
+            Preconditions.checkArgument(infrastructure != null, "infrastructure must not be null");
+            this.infrastructure = infrastructure;
+            return this;
+        }
+
         /**
          * Validates that the proposed endpoint source doesn't conflict with an already configured one.
          * <p>
@@ -526,6 +920,10 @@ public class HttpJwksLoaderConfig implements HttpHandlerProvider {
                         "No JWKS endpoint configured. Must call one of: jwksUri(), jwksUrl(), wellKnownUrl(), or wellKnownUri()");
             }
 
+            if (maxRefreshInterval.compareTo(minRefreshInterval) < 0) {
+                throw new IllegalArgumentException("maxRefreshInterval must not be less than minRefreshInterval");
+            }
+
             // Ensure RetryStrategy is configured
             if (retryStrategy == null) {
                 retryStrategy = RetryStrategies.exponentialBackoff();
@@ -534,12 +932,18 @@ public class HttpJwksLoaderConfig implements HttpHandlerProvider {
             HttpHandler jwksHttpHandler = null;
             WellKnownConfig configuredWellKnownConfig = null;
             if (endpointSource == EndpointSource.WELL_KNOWN_URL || endpointSource == EndpointSource.WELL_KNOWN_URI) {
-                // Use WellKnownConfig directly
-                configuredWellKnownConfig = this.wellKnownConfig;
+                configuredWellKnownConfig = shareDefaultSslContext(this.wellKnownConfig);
             } else {
                 // Build the HttpHandler for direct URL/URI configuration
                 try {
                     jwksHttpHandler = httpHandlerBuilder.build();
+                    if (!customTls) {
+                        // Share the default TLS context, enabling session resumption across loaders
+                        SSLContext shared = infrastructure.shareDefaultSslContext(jwksHttpHandler.getSslContext());
+                        if (shared != jwksHttpHandler.getSslContext()) {
+                            jwksHttpHandler = jwksHttpHandler.asBuilder().sslContext(shared).build();
+                        }
+                    }
 
                     // Check for insecure HTTP protocol
                     URI uri = jwksHttpHandler.getUri();
@@ -552,15 +956,10 @@ public class HttpJwksLoaderConfig implements HttpHandlerProvider {
                 }
             }
 
-            // Create default ScheduledExecutorService if not provided and refresh interval > 0
+            // Use the shared scheduler if not provided and refresh interval > 0
             ScheduledExecutorService executor = this.scheduledExecutorService;
             if (executor == null && refreshIntervalSeconds > 0) {
-                String hostName = jwksHttpHandler != null ? jwksHttpHandler.getUri().getHost() : "wellknown";
-                executor = Executors.newScheduledThreadPool(1, r -> {
-                    Thread t = new Thread(r, "jwks-refresh-" + hostName);
-                    t.setDaemon(true);
-                    return t;
-                });
+                executor = infrastructure.getScheduler();
             }
 
             // Validate issuer requirement
@@ -576,9 +975,46 @@ public class HttpJwksLoaderConfig implements HttpHandlerProvider {
                     configuredWellKnownConfig,
                     retryStrategy,
                     executor,
+                    infrastructure,
                     issuerIdentifier,
                     keyRotationGracePeriod,
-                    maxRetiredKeySets);
+                    maxRetiredKeySets,
+                    onDemandRefreshInterval,
+                    onDemandRefreshWait,
+                    minRefreshInterval,
+                    maxRefreshInterval,
+                    refreshJitter,
+                    snapshotFile,
+                    snapshotMaxStale,
+                    exchangeFile,
+                    exchangePollInterval,
+                    wellKnownResolutionTtl);
+        }
+
+        /**
+         * Shares the default TLS context with the well-known discovery. The handler of the
+         * discovered JWKS endpoint is derived from the discovery handler, see
+         * {@link HttpJwksLoaderConfig#getHttpHandler(String)}, and uses the same context.
+         *
+         * @param configured the well-known configuration created by {@link #wellKnownUrl(String)}
+         *                   or {@link #wellKnownUri(URI)}
+         * @return the given configuration, or an equal one using the shared TLS context
+         */
+        private WellKnownConfig shareDefaultSslContext(WellKnownConfig configured) {
+            if (customTls) {
+                return configured;
+            }
+            HttpHandler discoveryHandler = configured.getHttpHandler();
+            SSLContext shared = infrastructure.shareDefaultSslContext(discoveryHandler.getSslContext());
+            if (shared == discoveryHandler.getSslContext()) {
+                return configured;
+            }
+            return WellKnownConfig.builder()
+                    .wellKnownUri(discoveryHandler.getUri())
+                    .sslContext(shared)
+                    .retryStrategy(configured.getRetryStrategy())
+                    .parserConfig(configured.getParserConfig())
+                    .build();
         }
 
     }
@@ -0,0 +1,258 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.jwks.http;
+
+import com.dslplatform.json.DslJson;
+import de.cuioss.sheriff.oauth.core.ParserConfig;
+import de.cuioss.sheriff.oauth.core.json.JwksSnapshot;
+import de.cuioss.tools.logging.CuiLogger;
+import lombok.Getter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * Exchanges the JWKS of one issuer between the processes of a host via a memory-mapped file.
+ * <p>
+ * The process holding the lock of the companion file {@code <file>.lock} fetches the JWKS and
+ * publishes it, all other processes read it. A lock is released by the operating system when
+ * its process ends, so another process takes over on its next {@link #tryLead()}. Within one
+ * JVM the lock is held by at most one instance as well.
+ * <p>
+ * The file starts with a header of a magic number, the content length and a version counter,
+ * followed by the {@link JwksSnapshot} as JSON. The version is odd while the content is written,
+ * so readers copy the content, compare the version before and after and retry on the next poll
+ * if it changed. Reading an unchanged version costs a single memory access; the content is only
+ * copied and parsed after the version changed.
+ * <p>
+ * Instances are not reusable: after {@link #close()} the lock is released, {@link #tryLead()}
+ * returns false and nothing is read or published anymore.
+ *
+ * @author Oliver Wolff
+ * @since 1.0
+ */
+class JwksExchangeFile implements AutoCloseable {
+
+    private static final CuiLogger LOGGER = new CuiLogger(JwksExchangeFile.class);
+
+    private static final int MAGIC = 0x4A574B53; // "JWKS"
+    private static final int MAGIC_OFFSET = 0;
+    private static final int LENGTH_OFFSET = 4;
+    private static final int VERSION_OFFSET = 8;
+    private static final int HEADER_SIZE = 16;
+    private static final int PAGE_SIZE = 4096;
+    private static final VarHandle VERSION = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    @Getter
+    private final Path file;
+    private final Path lockFile;
+    private final DslJson<Object> dslJson;
+
+    private FileChannel lockChannel;
+    private FileLock lock;
+    private FileChannel channel;
+    private MappedByteBuffer mapped;
+    private long readVersion;
+    private boolean closed;
+
+    /**
+     * @param file the exchange file shared by all processes loading the same JWKS, must not be null
+     */
+    JwksExchangeFile(Path file) {
+        this.file = file.toAbsolutePath();
+        this.lockFile = this.file.resolveSibling(this.file.getFileName() + ".lock");
+        this.dslJson = ParserConfig.builder().build().getDslJson();
+    }
+
+    /**
+     * Tries to become the process fetching the JWKS. Never blocks.
+     *
+     * @return true if this instance holds the lock, false if another process or instance does
+     * or this instance is closed
+     * @throws IOException if the lock file cannot be created or locked
+     */
+    synchronized boolean tryLead() throws IOException {
+        if (closed) {
+            return false;
+        }
+        if (lock != null) {
+            return true;
+        }
+        if (lockChannel == null) {
+            Files.createDirectories(file.getParent());
+            lockChannel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        }
+        try {
+            lock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            // Held by another instance of this JVM
+            lock = null;
+        }
+        if (lock == null) {
+            return false;
+        }
+        // Remap writable on the next publication
+        unmap();
+        LOGGER.debug("Acquired lock %s", lockFile);
+        return true;
+    }
+
+    /**
+     * @return true if this instance holds the lock
+     */
+    synchronized boolean isLeading() {
+        return lock != null;
+    }
+
+    /**
+     * Publishes the given snapshot to all readers. Requires the lock.
+     *
+     * @param snapshot the snapshot to publish
+     * @throws IOException if the file cannot be written
+     */
+    synchronized void publish(JwksSnapshot snapshot) throws IOException {
+        if (closed || lock == null) {
+            return;
+        }
+        ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+        dslJson.serialize(snapshot, serialized);
+        byte[] content = serialized.toByteArray();
+
+        int required = HEADER_SIZE + content.length;
+        if (mapped == null || mapped.capacity() < required) {
+            map(required);
+        }
+        // Continue the version of a previous writer, an odd version is left by a writer that died while writing
+        long writing = ((long) VERSION.getVolatile(mapped, VERSION_OFFSET) + 1) | 1;
+        VERSION.setVolatile(mapped, VERSION_OFFSET, writing);
+        VarHandle.storeStoreFence();
+        mapped.putInt(MAGIC_OFFSET, MAGIC);
+        mapped.putInt(LENGTH_OFFSET, content.length);
+        mapped.put(HEADER_SIZE, content);
+        VERSION.setRelease(mapped, VERSION_OFFSET, writing + 1);
+        readVersion = writing + 1;
+        LOGGER.debug("Published JWKS for issuer %s to %s, version %s", snapshot.issuer(), file, writing + 1);
+    }
+
+    /**
+     * Reads the snapshot published by the leading process if its version changed since the last read.
+     *
+     * @return the new snapshot, empty if none is published yet, the version is unchanged or a
+     * write is in progress
+     * @throws IOException if the file cannot be mapped or its content cannot be parsed
+     */
+    synchronized Optional<JwksSnapshot> readIfChanged() throws IOException {
+        if (closed || (mapped == null && !map(0))) {
+            return Optional.empty();
+        }
+        long version = (long) VERSION.getAcquire(mapped, VERSION_OFFSET);
+        if (version == readVersion || (version & 1) != 0 || mapped.getInt(MAGIC_OFFSET) != MAGIC) {
+            return Optional.empty();
+        }
+        int length = mapped.getInt(LENGTH_OFFSET);
+        if (HEADER_SIZE + (long) length > mapped.capacity()) {
+            // The file grows with the content, a larger content requires a larger mapping
+            map(0);
+        }
+        if (length < 0 || HEADER_SIZE + (long) length > mapped.capacity()) {
+            return Optional.empty();
+        }
+        byte[] content = new byte[length];
+        mapped.get(HEADER_SIZE, content);
+        VarHandle.loadLoadFence();
+        if ((long) VERSION.getAcquire(mapped, VERSION_OFFSET) != version) {
+            LOGGER.debug("JWKS in %s changed while reading, retrying on the next poll", file);
+            return Optional.empty();
+        }
+        readVersion = version;
+        try {
+            JwksSnapshot snapshot = dslJson.deserialize(JwksSnapshot.class, content, content.length);
+            if (snapshot == null || snapshot.jwks() == null) {
+                throw new IOException("No JWKS content in version " + version);
+            }
+            return Optional.of(snapshot);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid JWKS content in version " + version, e);
+        }
+    }
+
+    /**
+     * Maps the file, writable with at least the given size if leading, otherwise read-only.
+     *
+     * @return false if the file does not exist yet or is too small for a header
+     */
+    private boolean map(int minimumSize) throws IOException {
+        if (channel == null) {
+            if (lock != null) {
+                channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            } else if (Files.isRegularFile(file)) {
+                channel = FileChannel.open(file, StandardOpenOption.READ);
+            } else {
+                return false;
+            }
+        }
+        long size = channel.size();
+        if (lock != null) {
+            // Mapping beyond the end grows the file, in whole pages to limit remapping
+            size = Math.max(size, (minimumSize + PAGE_SIZE - 1L) / PAGE_SIZE * PAGE_SIZE);
+            mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            return true;
+        }
+        if (size < HEADER_SIZE) {
+            return false;
+        }
+        mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        return true;
+    }
+
+    private void unmap() throws IOException {
+        mapped = null;
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    /**
+     * Releases the lock and the file. The file itself is kept for the other processes.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        try {
+            unmap();
+            if (lockChannel != null) {
+                // Closing the channel releases the lock
+                lockChannel.close();
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Failed to close JWKS exchange file %s: %s", file, e.getMessage());
+        }
+        lock = null;
+        lockChannel = null;
+    }
+}
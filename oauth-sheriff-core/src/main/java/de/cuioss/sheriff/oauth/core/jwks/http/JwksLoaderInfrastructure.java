@@ -0,0 +1,149 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.jwks.http;
+
+import de.cuioss.tools.base.Preconditions;
+import de.cuioss.tools.logging.CuiLogger;
+import lombok.Getter;
+
+import javax.net.ssl.SSLContext;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Infrastructure shared by the {@link HttpJwksLoader} instances of all issuers.
+ * <p>
+ * Without sharing, every loader configuration creates its own scheduler thread and its own
+ * TLS context, so thread count and TLS handshakes grow with the number of issuers. By default
+ * all {@link HttpJwksLoaderConfig}s use {@link #shared()}, which provides:
+ * <ul>
+ *   <li>A single daemon scheduler thread that only times the background refreshes</li>
+ *   <li>Virtual threads for the initial loads, so that the startup of many issuers neither
+ *       blocks nor occupies the common fork-join pool while waiting for the network</li>
+ *   <li>Virtual threads for the blocking fetches, limited to a maximum number of concurrent
+ *       refreshes across all issuers, so that a burst of due refreshes, e.g. after a common
+ *       startup, is spread instead of hitting the network at once</li>
+ *   <li>One {@link SSLContext} for all JWKS endpoints using the default TLS configuration,
+ *       so that TLS sessions are resumed across loaders connecting to the same host</li>
+ * </ul>
+ * Loaders with an explicitly configured SSL context or TLS versions keep their own context.
+ *
+ * @author Oliver Wolff
+ * @since 1.0
+ */
+public final class JwksLoaderInfrastructure {
+
+    private static final CuiLogger LOGGER = new CuiLogger(JwksLoaderInfrastructure.class);
+
+    /**
+     * Default maximum number of JWKS refreshes running concurrently across all issuers.
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_REFRESHES = 4;
+
+    private static final class SharedHolder {
+        private static final JwksLoaderInfrastructure INSTANCE =
+                new JwksLoaderInfrastructure(DEFAULT_MAX_CONCURRENT_REFRESHES);
+    }
+
+    /**
+     * The scheduler timing the background refreshes. Tasks submitted to it must not block.
+     */
+    @Getter
+    private final ScheduledExecutorService scheduler;
+
+    private final Executor initializationExecutor;
+    private final Executor refreshExecutor;
+    private final Semaphore refreshPermits;
+    private final AtomicReference<SSLContext> defaultSslContext = new AtomicReference<>();
+
+    /**
+     * Creates an infrastructure independent of {@link #shared()}, e.g. for isolated tests or
+     * for groups of issuers that must not influence each other.
+     *
+     * @param maxConcurrentRefreshes the maximum number of refreshes running concurrently, must be positive
+     */
+    public JwksLoaderInfrastructure(int maxConcurrentRefreshes) {
+        Preconditions.checkArgument(maxConcurrentRefreshes > 0, "maxConcurrentRefreshes must be positive");
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "jwks-refresh-scheduler");
+            t.setDaemon(true);
+            return t;
+        });
+        this.initializationExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("jwks-init-", 0).factory());
+        this.refreshExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("jwks-refresh-", 0).factory());
+        this.refreshPermits = new Semaphore(maxConcurrentRefreshes);
+    }
+
+    /**
+     * @return the infrastructure used by all loaders not configured otherwise
+     */
+    public static JwksLoaderInfrastructure shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    /**
+     * Runs the initial load of a loader on its own virtual thread. The number of concurrent
+     * initial loads is limited by the caller, e.g. the issuer resolver of the token validator.
+     *
+     * @param initialization the initial load, may block
+     * @param <T>            the result type
+     * @return a future completing with the result of the initial load
+     */
+    <T> CompletableFuture<T> submitInitialization(Supplier<T> initialization) {
+        return CompletableFuture.supplyAsync(initialization, initializationExecutor);
+    }
+
+    /**
+     * Runs the given refresh on a virtual thread as soon as one of the concurrent refresh
+     * permits is available.
+     *
+     * @param refresh the refresh to run, may block
+     * @return a future completing after the refresh has run
+     */
+    CompletableFuture<Void> submitRefresh(Runnable refresh) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                refreshPermits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOGGER.debug("Interrupted while waiting for a JWKS refresh permit");
+                return;
+            }
+            try {
+                refresh.run();
+            } finally {
+                refreshPermits.release();
+            }
+        }, refreshExecutor);
+    }
+
+    /**
+     * Returns the SSL context shared by all JWKS endpoints with the default TLS configuration.
+     * The first context offered becomes the shared one.
+     *
+     * @param candidate the context created for the default TLS configuration
+     * @return the shared context
+     */
+    SSLContext shareDefaultSslContext(SSLContext candidate) {
+        defaultSslContext.compareAndSet(null, candidate);
+        return defaultSslContext.get();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.jwks.http;
+
+import com.dslplatform.json.DslJson;
+import de.cuioss.sheriff.oauth.core.ParserConfig;
+import de.cuioss.sheriff.oauth.core.json.JwksSnapshot;
+import de.cuioss.tools.logging.CuiLogger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+import static de.cuioss.sheriff.oauth.core.JWTValidationLogMessages.WARN;
+
+/**
+ * Reads and writes the {@link JwksSnapshot} of a single {@link HttpJwksLoader}.
+ * <p>
+ * The snapshot is written to a temporary file in the target directory first and then moved
+ * into place, so a concurrent reader or a crash during the write never sees a partial file.
+ * Failures are logged and never propagated: a missing or unreadable snapshot only means that
+ * the loader has to wait for the endpoint as without snapshot.
+ *
+ * @author Oliver Wolff
+ * @since 1.0
+ */
+class JwksSnapshotStore {
+
+    private static final CuiLogger LOGGER = new CuiLogger(JwksSnapshotStore.class);
+
+    private final Path file;
+    private final DslJson<Object> dslJson;
+
+    /**
+     * @param file the snapshot file, must not be null
+     */
+    JwksSnapshotStore(Path file) {
+        this.file = file;
+        this.dslJson = ParserConfig.builder().build().getDslJson();
+    }
+
+    /**
+     * Reads the snapshot.
+     *
+     * @return the snapshot, empty if the file does not exist or cannot be parsed
+     */
+    Optional<JwksSnapshot> read() {
+        if (!Files.isRegularFile(file)) {
+            LOGGER.debug("No JWKS snapshot found at %s", file);
+            return Optional.empty();
+        }
+        try {
+            byte[] content = Files.readAllBytes(file);
+            JwksSnapshot snapshot = dslJson.deserialize(JwksSnapshot.class, content, content.length);
+            if (snapshot == null || snapshot.jwks() == null) {
+                LOGGER.warn(WARN.JWKS_SNAPSHOT_READ_FAILED, file, "no JWKS content");
+                return Optional.empty();
+            }
+            return Optional.of(snapshot);
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.warn(WARN.JWKS_SNAPSHOT_READ_FAILED, file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Replaces the snapshot atomically if supported by the file system.
+     *
+     * @param snapshot the snapshot to write
+     */
+    void write(JwksSnapshot snapshot) {
+        try {
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            dslJson.serialize(snapshot, content);
+
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try {
+                Files.write(temp, content.toByteArray());
+                try {
+                    Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            LOGGER.debug("Wrote JWKS snapshot for issuer %s to %s", snapshot.issuer(), file);
+        } catch (IOException e) {
+            LOGGER.warn(WARN.JWKS_SNAPSHOT_WRITE_FAILED, file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.jwks.http;
+
+import de.cuioss.sheriff.oauth.core.jwks.JwksLoader;
+import de.cuioss.tools.logging.CuiLogger;
+import org.jspecify.annotations.Nullable;
+
+import javax.net.ssl.SSLContext;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Deduplicates the {@link HttpJwksLoader}s of issuers that reference the same JWKS endpoint.
+ * <p>
+ * Some identity providers expose several issuer identifiers, e.g. one per realm or per tenant
+ * alias, with a common {@code jwks_uri}. Without sharing, the loader of every issuer fetches,
+ * parses and stores the same key set. Loaders attached via {@link #attach(JwksLoader)} instead
+ * acquire one endpoint loader per JWKS URI and TLS context and serve its keys and status, while
+ * their issuer identifier stays their own. The endpoint loader is closed once the last issuer
+ * referencing it is released.
+ * <p>
+ * Loaders with a directly configured JWKS URL acquire the endpoint on their initialization.
+ * Loaders using well-known discovery keep resolving their discovery document themselves and
+ * acquire the endpoint of the discovered {@code jwks_uri}, switching endpoints if a re-resolved
+ * document announces another one. Loaders with snapshot or exchange file are not shared, as
+ * these files belong to a single issuer. The endpoint loader uses the configuration of the first
+ * issuer acquiring it, so the refresh and rotation settings of issuers sharing an endpoint are
+ * expected to be equal.
+ * <p>
+ * The token validator uses one instance for all its issuers, so that loaders are never shared
+ * across validators. This class is thread-safe.
+ *
+ * @author Oliver Wolff
+ * @since 1.0
+ */
+public final class SharedJwksEndpoints {
+
+    private static final CuiLogger LOGGER = new CuiLogger(SharedJwksEndpoints.class);
+
+    private final Map<EndpointKey, Endpoint> endpoints = new HashMap<>();
+
+    /**
+     * Lets the given loader share its JWKS endpoint with the other loaders attached to this
+     * instance. Must be called before the loader is initialized.
+     *
+     * @param loader the loader of an issuer, may be null for issuers without loader
+     * @return true if the loader will share its endpoint, false if it is not eligible, already
+     * initialized or attached to another instance
+     */
+    public boolean attach(@Nullable JwksLoader loader) {
+        return loader instanceof HttpJwksLoader httpLoader && httpLoader.shareEndpoint(this);
+    }
+
+    /**
+     * Acquires the endpoint loader for the given configuration, creating it if no other issuer
+     * currently references the endpoint.
+     *
+     * @param config the configuration of the issuer acquiring the endpoint
+     * @return the endpoint loader, not yet initialized if newly created
+     */
+    synchronized HttpJwksLoader acquire(HttpJwksLoaderConfig config) {
+        Endpoint endpoint = endpoints.computeIfAbsent(EndpointKey.of(config),
+                key -> new Endpoint(new HttpJwksLoader(config)));
+        endpoint.references++;
+        LOGGER.debug("JWKS endpoint %s referenced by %s issuers, acquired by %s",
+                config.getHttpHandler().getUri(), endpoint.references, config.getIssuerIdentifier());
+        return endpoint.loader;
+    }
+
+    /**
+     * Releases a reference acquired via {@link #acquire(HttpJwksLoaderConfig)} and closes the
+     * endpoint loader if it was the last one.
+     *
+     * @param loader the endpoint loader returned on acquisition
+     */
+    void release(HttpJwksLoader loader) {
+        HttpJwksLoaderConfig config = loader.getConfig();
+        synchronized (this) {
+            EndpointKey key = EndpointKey.of(config);
+            Endpoint endpoint = endpoints.get(key);
+            if (endpoint == null || endpoint.loader != loader || --endpoint.references > 0) {
+                return;
+            }
+            endpoints.remove(key);
+        }
+        LOGGER.debug("JWKS endpoint %s no longer referenced, closing its loader", config.getHttpHandler().getUri());
+        loader.close();
+    }
+
+    /**
+     * @return the number of endpoints currently referenced, for testing purposes only
+     */
+    synchronized int size() {
+        return endpoints.size();
+    }
+
+    /**
+     * Identifies an endpoint by its URI and TLS context. Contexts are compared by identity; the
+     * default context is shared by all loaders of a {@link JwksLoaderInfrastructure}.
+     */
+    private record EndpointKey(String jwksUri, @Nullable SSLContext sslContext) {
+
+        static EndpointKey of(HttpJwksLoaderConfig config) {
+            return new EndpointKey(config.getHttpHandler().getUri().toString(),
+                    config.getHttpHandler().getSslContext());
+        }
+    }
+
+    private static final class Endpoint {
+        private final HttpJwksLoader loader;
+        private int references;
+
+        private Endpoint(HttpJwksLoader loader) {
+            this.loader = loader;
+        }
+    }
+}
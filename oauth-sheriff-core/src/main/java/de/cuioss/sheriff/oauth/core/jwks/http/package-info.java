@@ -25,6 +25,8 @@
  *       {@link de.cuioss.sheriff.oauth.core.jwks.JwksLoader} for HTTP-based JWKS sources</li>
  *   <li>{@link de.cuioss.sheriff.oauth.core.jwks.http.HttpJwksLoaderConfig} - Configuration parameters
  *       for the HTTP JWKS loader</li>
+ *   <li>{@link de.cuioss.sheriff.oauth.core.jwks.http.SharedJwksEndpoints} - Shares one loader between
+ *       the issuers referencing the same JWKS endpoint</li>
  *   <li>JwksHttpClient - Client for making HTTP requests
  *       to JWKS endpoints</li>
  *   <li>JwksCacheManager - Manages caching of JWKS keys</li>
@@ -85,7 +87,11 @@
  *   <li><strong>Fallback mechanism:</strong> Uses the last valid result if a new request fails</li>
  *   <li><strong>Multi-issuer support:</strong> Efficiently caches keys for multiple issuers</li>
  *   <li><strong>Adaptive caching:</strong> Adjusts cache behavior based on usage patterns</li>
- *   <li><strong>Background refresh:</strong> Preemptively refreshes keys before they expire</li>
+ *   <li><strong>Background refresh:</strong> Preemptively refreshes keys, scheduled from cache headers with jitter and backoff</li>
+ *   <li><strong>On-demand refresh:</strong> Refreshes keys rate-limited when a token references an unknown key ID</li>
+ *   <li><strong>Snapshots:</strong> Optionally persists the last loaded JWKS to start without waiting for the endpoint</li>
+ *   <li><strong>Host-wide exchange:</strong> Optionally lets one process per host fetch the JWKS and publish it to the others via a memory-mapped file</li>
+ *   <li><strong>Shared infrastructure:</strong> One scheduler, virtual threads for initial loads and bounded refreshes, and one TLS context for all issuers</li>
  *   <li><strong>Cache size limits:</strong> Prevents memory issues in multi-issuer environments</li>
  * </ul>
  * 
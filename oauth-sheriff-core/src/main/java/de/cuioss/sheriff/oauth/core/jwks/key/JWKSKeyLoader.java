@@ -33,11 +33,14 @@ import lombok.ToString;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Implementation of {@link JwksLoader} that loads JWKS from string content.
@@ -50,6 +53,9 @@ import java.util.concurrent.ConcurrentHashMap;
  * and algorithms, including RSA, EC, and RSA-PSS.
  * <p>
  * This class processes and stores the parsed JWKS keys in memory for efficient access.
+ * If built with {@link JWKSKeyLoaderBuilder#previousKeys(JWKSKeyLoader) previous keys}, JWKs
+ * identical to a key of the previous loader, i.e. same key ID, algorithm and key material,
+ * reuse its {@link KeyInfo} instead of building the public key again.
  * <p>
  * Security features:
  * <ul>
@@ -78,11 +84,16 @@ public class JWKSKeyLoader implements JwksLoader {
     private final JwksType jwksType;
     private volatile LoaderStatus status;
     private Map<String, KeyInfo> keyInfoMap;
+    private final List<Runnable> keyChangeListeners = new CopyOnWriteArrayList<>();
+    private Map<String, KeyInfo> keyInfoByThumbprint = Map.of();
+    private volatile Map<JwkKey, KeyInfo> keyInfoBySource = Map.of();
 
     // Fields for deferred initialization
     private final String jwksContent;
     private final Jwks jwks;
     private volatile boolean initialized = false;
+    // Only referenced until initialization to avoid retaining chains of replaced loaders
+    private JWKSKeyLoader previousKeys;
 
     /**
      * Builder for JWKSKeyLoader.
@@ -94,6 +105,7 @@ public class JWKSKeyLoader implements JwksLoader {
         private ParserConfig parserConfig = ParserConfig.builder().build();
         private JwkAlgorithmPreferences jwkAlgorithmPreferences = new JwkAlgorithmPreferences(); // Default instance
         private JwksType jwksType = JwksType.MEMORY; // Default to MEMORY type
+        private JWKSKeyLoader previousKeys;
 
         JWKSKeyLoaderBuilder() {
         }
@@ -169,6 +181,21 @@ public class JWKSKeyLoader implements JwksLoader {
             return this;
         }
 
+        /**
+         * Sets the loader whose keys this loader replaces.
+         * <p>
+         * JWKs identical to a key of the previous loader reuse its {@link KeyInfo}, so that a
+         * JWKS update only builds the public keys that actually changed. Keys are only reused
+         * if both loaders use the same supported algorithms.
+         *
+         * @param previousKeys the initialized loader being replaced, may be null
+         * @return this builder
+         */
+        public JWKSKeyLoaderBuilder previousKeys(JWKSKeyLoader previousKeys) {
+            this.previousKeys = previousKeys;
+            return this;
+        }
+
         /**
          * Builds a new JWKSKeyLoader with deferred initialization.
          * If jwksFilePath is provided, it will be resolved to content at build time.
@@ -183,17 +210,20 @@ public class JWKSKeyLoader implements JwksLoader {
                 throw new IllegalArgumentException("Either jwksContent, jwks, or jwksFilePath must be provided");
             }
 
+            JWKSKeyLoader loader;
             if (jwks != null) {
                 // Jwks content provided - most efficient
-                return new JWKSKeyLoader(jwks, parserConfig, jwkAlgorithmPreferences, jwksType);
+                loader = new JWKSKeyLoader(jwks, parserConfig, jwkAlgorithmPreferences, jwksType);
             } else if (jwksContent != null) {
                 // String content provided
-                return new JWKSKeyLoader(jwksContent, parserConfig, jwkAlgorithmPreferences, jwksType);
+                loader = new JWKSKeyLoader(jwksContent, parserConfig, jwkAlgorithmPreferences, jwksType);
             } else {
                 // File path provided - resolve at build time and fail fast if unable to read
                 String resolvedContent = loadJwksFromFile(jwksFilePath);
-                return new JWKSKeyLoader(resolvedContent, parserConfig, jwkAlgorithmPreferences, jwksType);
+                loader = new JWKSKeyLoader(resolvedContent, parserConfig, jwkAlgorithmPreferences, jwksType);
             }
+            loader.previousKeys = previousKeys;
+            return loader;
         }
 
         /**
@@ -299,6 +329,32 @@ public class JWKSKeyLoader implements JwksLoader {
         return Optional.ofNullable(keyInfoMap.get(kid));
     }
 
+    @Override
+    public Optional<KeyInfo> getKeyInfoByThumbprint(String x5tS256) {
+        ensureInitialized();
+        if (MoreStrings.isBlank(x5tS256)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(keyInfoByThumbprint.get(x5tS256));
+    }
+
+    @Override
+    public List<KeyInfo> getAvailableKeys() {
+        ensureInitialized();
+        return keyInfoMap != null ? List.copyOf(keyInfoMap.values()) : List.of();
+    }
+
+    /**
+     * Gets all keys of this loader by their key ID.
+     *
+     * @return an unmodifiable view of the keys, empty if none could be loaded
+     * @throws IllegalStateException if the loader is not initialized
+     */
+    public Map<String, KeyInfo> getKeyInfos() {
+        ensureInitialized();
+        return keyInfoMap != null ? Collections.unmodifiableMap(keyInfoMap) : Map.of();
+    }
+
 
     /**
      * Gets the type of JWKS source used by this loader.
@@ -329,12 +385,24 @@ public class JWKSKeyLoader implements JwksLoader {
         return Optional.empty();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The keys of this loader only change once, on initialization.
+     */
+    @Override
+    public boolean addKeyChangeListener(Runnable listener) {
+        keyChangeListeners.add(listener);
+        return true;
+    }
+
     @Override
     public CompletableFuture<LoaderStatus> initJWKSLoader(SecurityEventCounter securityEventCounter) {
         if (!initialized) {
             this.securityEventCounter = securityEventCounter;
             this.initialized = true;
             initializeKeys();
+            keyChangeListeners.forEach(Runnable::run);
             LOGGER.debug("JWKSKeyLoader initialized with SecurityEventCounter");
             // Return completed future with current status after initialization
             return CompletableFuture.completedFuture(status);
@@ -352,6 +420,7 @@ public class JWKSKeyLoader implements JwksLoader {
         } else {
             parseAndProcessKeys(jwksContent);
         }
+        previousKeys = null;
     }
 
     /**
@@ -393,17 +462,48 @@ public class JWKSKeyLoader implements JwksLoader {
      * @param processor the key processor
      */
     private void processKeys(List<JwkKey> jwkObjects, KeyProcessor processor) {
+        Map<JwkKey, KeyInfo> reusable = reusableKeys();
+
         // Process each key (includes key parameter validation)
         Map<String, KeyInfo> keyMap = new ConcurrentHashMap<>();
+        Map<String, KeyInfo> byThumbprint = new HashMap<>();
+        Map<JwkKey, KeyInfo> bySource = new HashMap<>();
+        int reused = 0;
         for (JwkKey jwk : jwkObjects) {
-            // Process JwkKey directly
-            var keyInfoOpt = processor.processKey(jwk);
-            keyInfoOpt.ifPresent(keyInfo -> keyMap.put(keyInfo.keyId(), keyInfo));
+            KeyInfo keyInfo = reusable.get(jwk);
+            if (keyInfo != null) {
+                // Unchanged key, reuse the already built public key
+                reused++;
+            } else {
+                // Process JwkKey directly
+                keyInfo = processor.processKey(jwk).orElse(null);
+            }
+            if (keyInfo != null) {
+                keyMap.put(keyInfo.keyId(), keyInfo);
+                if (keyInfo.x5tS256() != null) {
+                    byThumbprint.put(keyInfo.x5tS256(), keyInfo);
+                }
+                bySource.put(jwk, keyInfo);
+            }
         }
 
         this.keyInfoMap = keyMap;
+        this.keyInfoByThumbprint = Map.copyOf(byThumbprint);
+        this.keyInfoBySource = bySource;
         this.status = keyMap.isEmpty() ? LoaderStatus.ERROR : LoaderStatus.OK;
-        LOGGER.debug("Successfully loaded %s key(s)", keyMap.size());
+        LOGGER.debug("Successfully loaded %s key(s), reused %s unchanged key(s)", keyMap.size(), reused);
+    }
+
+    /**
+     * @return the keys of the previous loader by their JWK, empty if they must not be reused
+     */
+    private Map<JwkKey, KeyInfo> reusableKeys() {
+        if (previousKeys == null || !previousKeys.initialized
+                || !previousKeys.jwkAlgorithmPreferences.getSupportedAlgorithms()
+                .equals(jwkAlgorithmPreferences.getSupportedAlgorithms())) {
+            return Map.of();
+        }
+        return previousKeys.keyInfoBySource;
     }
 
 }
@@ -15,7 +15,10 @@
  */
 package de.cuioss.sheriff.oauth.core.jwks.key;
 
+import org.jspecify.annotations.Nullable;
+
 import java.security.PublicKey;
+import java.util.Optional;
 
 /**
  * Record that holds information about a key, including the key itself and its algorithm.
@@ -40,7 +43,10 @@ import java.security.PublicKey;
  *              verifying a JWT Token, the "kid" in the validation header is matched against
  *              this value to select the correct key for signature verification. Key IDs are
  *              particularly important in environments with key rotation, where multiple
- *              valid keys may exist simultaneously.
+ *              valid keys may exist simultaneously. Keys published without "kid" are
+ *              identified by their RFC 7638 JWK thumbprint.
+ * @param x5tS256 The SHA-256 thumbprint of the X.509 certificate of the key ("x5t#S256"),
+ *                if published in the JWK. Tokens without "kid" may identify the key by it.
  *
  * @author Oliver Wolff
  * @since 1.0
@@ -48,7 +54,8 @@ import java.security.PublicKey;
 public record KeyInfo(
 PublicKey key,
 String algorithm,
-String keyId
+String keyId,
+@Nullable String x5tS256
 ) {
     /**
      * Creates a new KeyInfo record with validation.
@@ -56,7 +63,8 @@ String keyId
      * @param key the public key used for JWT signature verification
      * @param algorithm the algorithm identifier associated with this key
      * @param keyId the unique identifier for this key
-     * @throws IllegalArgumentException if any parameter is null
+     * @param x5tS256 the SHA-256 thumbprint of the X.509 certificate, may be null
+     * @throws IllegalArgumentException if key, algorithm or keyId is null
      */
     public KeyInfo {
         if (key == null) {
@@ -69,4 +77,23 @@ String keyId
             throw new IllegalArgumentException("KeyId cannot be null");
         }
     }
+
+    /**
+     * Creates a new KeyInfo record without certificate thumbprint.
+     *
+     * @param key the public key used for JWT signature verification
+     * @param algorithm the algorithm identifier associated with this key
+     * @param keyId the unique identifier for this key
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    public KeyInfo(PublicKey key, String algorithm, String keyId) {
+        this(key, algorithm, keyId, null);
+    }
+
+    /**
+     * @return the SHA-256 thumbprint of the X.509 certificate, empty if not published
+     */
+    public Optional<String> getX5tS256() {
+        return Optional.ofNullable(x5tS256);
+    }
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.jwks.key;
+
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable view of the current and retired keys of a reloading JWKS loader by key ID.
+ * <p>
+ * Every rotation builds a new registry, in which each key ID maps to its key and the end of its
+ * validity: unlimited for the current keys, the end of the grace period for retired ones. A
+ * lookup is therefore a single hash probe, independent of the number of retired key sets, and
+ * unknown key IDs, e.g. from forged tokens, are rejected without scanning them. Current keys take
+ * precedence over retired keys with the same ID, newer retired keys over older ones. Keys
+ * publishing the thumbprint of their X.509 certificate ("x5t#S256") are indexed by it as well.
+ * <p>
+ * The retired key sets are only kept for building the next registry, so that expired sets and
+ * sets exceeding the configured maximum are dropped on rotation.
+ *
+ * @author Oliver Wolff
+ * @since 1.0
+ */
+public final class VersionedKeyRegistry {
+
+    /**
+     * The registry without any keys.
+     */
+    public static final VersionedKeyRegistry EMPTY = new VersionedKeyRegistry(null, List.of(), Map.of(), Map.of());
+
+    private final @Nullable JWKSKeyLoader current;
+    private final List<RetiredKeySet> retired;
+    private final Map<String, VersionedKey> keys;
+    private final Map<String, VersionedKey> thumbprints;
+
+    private VersionedKeyRegistry(@Nullable JWKSKeyLoader current, List<RetiredKeySet> retired,
+            Map<String, VersionedKey> keys, Map<String, VersionedKey> thumbprints) {
+        this.current = current;
+        this.retired = retired;
+        this.keys = keys;
+        this.thumbprints = thumbprints;
+    }
+
+    /**
+     * Looks up a key that is current or still within its grace period.
+     *
+     * @param kid the key ID, may be null
+     * @return the key, empty if unknown or retired beyond its grace period
+     */
+    public Optional<KeyInfo> lookup(@Nullable String kid) {
+        if (kid == null) {
+            return Optional.empty();
+        }
+        return validKey(keys.get(kid));
+    }
+
+    /**
+     * Looks up a key by the SHA-256 thumbprint of its X.509 certificate.
+     *
+     * @param x5tS256 the thumbprint, may be null
+     * @return the key, empty if unknown or retired beyond its grace period
+     */
+    public Optional<KeyInfo> lookupByThumbprint(@Nullable String x5tS256) {
+        if (x5tS256 == null) {
+            return Optional.empty();
+        }
+        return validKey(thumbprints.get(x5tS256));
+    }
+
+    /**
+     * @return the current keys and the retired keys still within their grace period
+     */
+    public List<KeyInfo> availableKeys() {
+        return keys.values().stream()
+                .filter(VersionedKey::isValid)
+                .map(VersionedKey::keyInfo)
+                .toList();
+    }
+
+    private static Optional<KeyInfo> validKey(@Nullable VersionedKey key) {
+        if (key == null || !key.isValid()) {
+            return Optional.empty();
+        }
+        return Optional.of(key.keyInfo());
+    }
+
+    /**
+     * @return the loader holding the current keys, null if no keys were loaded yet
+     */
+    @Nullable
+    public JWKSKeyLoader current() {
+        return current;
+    }
+
+    /**
+     * Creates the registry after a rotation to the given keys. The current keys of this registry
+     * are retired for the grace period, unless it is zero.
+     *
+     * @param next            the initialized loader holding the new current keys
+     * @param now             the time of the rotation
+     * @param gracePeriod     the period retired keys stay valid
+     * @param maxRetiredSets  the maximum number of retired key sets to keep
+     * @return the new registry
+     */
+    public VersionedKeyRegistry rotate(JWKSKeyLoader next, Instant now, Duration gracePeriod, int maxRetiredSets) {
+        List<RetiredKeySet> nextRetired = new ArrayList<>();
+        if (!gracePeriod.isZero()) {
+            long nowMillis = now.toEpochMilli();
+            if (current != null) {
+                nextRetired.add(new RetiredKeySet(current.getKeyInfos(), nowMillis + gracePeriod.toMillis()));
+            }
+            for (RetiredKeySet set : retired) {
+                if (nextRetired.size() >= maxRetiredSets) {
+                    break;
+                }
+                if (set.validUntil() > nowMillis) {
+                    nextRetired.add(set);
+                }
+            }
+        }
+
+        Map<String, VersionedKey> nextKeys = new HashMap<>();
+        // Oldest first, so that newer sets replace key IDs of older ones
+        for (int i = nextRetired.size() - 1; i >= 0; i--) {
+            RetiredKeySet set = nextRetired.get(i);
+            set.keys().forEach((kid, keyInfo) -> nextKeys.put(kid, new VersionedKey(keyInfo, set.validUntil())));
+        }
+        next.getKeyInfos().forEach((kid, keyInfo) -> nextKeys.put(kid, new VersionedKey(keyInfo, Long.MAX_VALUE)));
+
+        Map<String, VersionedKey> nextThumbprints = new HashMap<>();
+        for (VersionedKey key : nextKeys.values()) {
+            String thumbprint = key.keyInfo().x5tS256();
+            if (thumbprint != null) {
+                nextThumbprints.merge(thumbprint, key, (a, b) -> a.validUntil() >= b.validUntil() ? a : b);
+            }
+        }
+        return new VersionedKeyRegistry(next, List.copyOf(nextRetired), Map.copyOf(nextKeys), Map.copyOf(nextThumbprints));
+    }
+
+    /**
+     * A key with the end of its validity.
+     *
+     * @param keyInfo    the key
+     * @param validUntil the end of the validity in epoch milliseconds, {@link Long#MAX_VALUE} for current keys
+     */
+    private record VersionedKey(KeyInfo keyInfo, long validUntil) {
+
+        boolean isValid() {
+            // Current keys never need the clock
+            return validUntil == Long.MAX_VALUE || System.currentTimeMillis() < validUntil;
+        }
+    }
+
+    /**
+     * The keys of a replaced key set with the end of their grace period.
+     *
+     * @param keys       the keys by key ID
+     * @param validUntil the end of the grace period in epoch milliseconds
+     */
+    private record RetiredKeySet(Map<String, KeyInfo> keys, long validUntil) {
+    }
+}
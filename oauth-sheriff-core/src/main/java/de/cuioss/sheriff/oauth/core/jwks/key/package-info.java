@@ -24,6 +24,8 @@
  *   <li>{@link de.cuioss.sheriff.oauth.core.jwks.key.KeyInfo} - Holds information about a key, including the key itself and its algorithm</li>
  *   <li>{@link de.cuioss.sheriff.oauth.core.jwks.key.JwkKeyHandler} - Handles parsing and conversion of JWK keys</li>
  *   <li>{@link de.cuioss.sheriff.oauth.core.jwks.key.JWKSKeyLoader} - Loads and manages keys from a JWKS</li>
+ *   <li>{@link de.cuioss.sheriff.oauth.core.jwks.key.VersionedKeyRegistry} - Serves the current and retired
+ *       keys of reloading loaders with a single lookup</li>
  * </ul>
  * <p>
  * This package supports cryptographic agility by handling different key types and algorithms,
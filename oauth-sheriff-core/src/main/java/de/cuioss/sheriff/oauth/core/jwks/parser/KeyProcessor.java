@@ -24,7 +24,11 @@ import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
 import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter.EventType;
 import de.cuioss.tools.logging.CuiLogger;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.spec.InvalidKeySpecException;
+import java.util.Base64;
 import java.util.Optional;
 
 /**
@@ -34,6 +38,7 @@ import java.util.Optional;
  *   <li>Processing RSA keys</li>
  *   <li>Processing EC keys</li>
  *   <li>Determining appropriate algorithms</li>
+ *   <li>Identifying keys without "kid" by their RFC 7638 JWK thumbprint</li>
  *   <li>Error handling and logging</li>
  * </ul>
  */
@@ -75,7 +80,8 @@ public class KeyProcessor {
             return Optional.empty();
         }
 
-        String kid = jwk.getKid().isPresent() ? jwk.kid() : "default-key-id";
+        // Keys without kid get distinct, stable IDs instead of overwriting each other
+        String kid = jwk.getKid().isPresent() ? jwk.kid() : jwkThumbprint(jwk);
 
         KeyInfo keyInfo = switch (kty) {
             case RSA_KEY_TYPE -> processRsaKey(jwk, kid);
@@ -148,7 +154,7 @@ public class KeyProcessor {
             // Determine algorithm if not specified
             String alg = jwk.alg() != null ? jwk.alg() : "RS256"; // Default to RS256
             LOGGER.debug("Parsed RSA key with ID: %s and algorithm: %s", kid, alg);
-            return new KeyInfo(publicKey, alg, kid);
+            return new KeyInfo(publicKey, alg, kid, jwk.x5tS256());
         } catch (InvalidKeySpecException | IllegalStateException e) {
             LOGGER.warn(e, WARN.RSA_KEY_PARSE_FAILED, kid, e.getMessage());
             securityEventCounter.increment(EventType.JWKS_JSON_PARSE_FAILED);
@@ -169,7 +175,7 @@ public class KeyProcessor {
             // Determine algorithm
             String alg = determineEcAlgorithm(jwk);
             LOGGER.debug("Parsed EC key with ID: %s and algorithm: %s", kid, alg);
-            return new KeyInfo(publicKey, alg, kid);
+            return new KeyInfo(publicKey, alg, kid, jwk.x5tS256());
         } catch (InvalidKeySpecException | IllegalStateException e) {
             LOGGER.warn(e, WARN.EC_KEY_PARSE_FAILED, kid, e.getMessage());
             securityEventCounter.increment(EventType.JWKS_JSON_PARSE_FAILED);
@@ -192,4 +198,24 @@ public class KeyProcessor {
         String curve = jwk.crv() != null ? jwk.crv() : "P-256";
         return JwkKeyHandler.determineEcAlgorithm(curve);
     }
-}
\ No newline at end of file
+
+    /**
+     * Computes the JWK thumbprint as defined in RFC 7638: the Base64url-encoded SHA-256 hash
+     * of the required members of the key in lexicographic order.
+     *
+     * @param jwk the JWK object, must be of type RSA or EC
+     * @return the thumbprint
+     */
+    static String jwkThumbprint(JwkKey jwk) {
+        String members = RSA_KEY_TYPE.equals(jwk.kty())
+                ? "{\"e\":\"%s\",\"kty\":\"RSA\",\"n\":\"%s\"}".formatted(jwk.e(), jwk.n())
+                : "{\"crv\":\"%s\",\"kty\":\"EC\",\"x\":\"%s\",\"y\":\"%s\"}".formatted(jwk.crv(), jwk.x(), jwk.y());
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(members.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // Every JDK provides SHA-256
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -21,6 +21,7 @@
  * Key components:
  * <ul>
  *   <li>{@link de.cuioss.sheriff.oauth.core.TokenValidator} - Main entry point for creating and validating tokens</li>
+ *   <li>{@link de.cuioss.sheriff.oauth.core.ValidationResult} - Non-throwing outcome of a token validation</li>
  *   <li>{@link de.cuioss.sheriff.oauth.core.IssuerConfig} - Configuration for token issuers</li>
  *   <li>{@link de.cuioss.sheriff.oauth.core.ParserConfig} - Configuration for token parsing</li>
  *   <li>{@link de.cuioss.sheriff.oauth.core.JWTValidationLogMessages} - Structured logging messages</li>
@@ -18,23 +18,38 @@ package de.cuioss.sheriff.oauth.core.pipeline;
 import de.cuioss.sheriff.oauth.core.IssuerConfig;
 import de.cuioss.sheriff.oauth.core.IssuerConfigResolver;
 import de.cuioss.sheriff.oauth.core.JWTValidationLogMessages;
+import de.cuioss.sheriff.oauth.core.ValidationResult;
 import de.cuioss.sheriff.oauth.core.cache.AccessTokenCache;
 import de.cuioss.sheriff.oauth.core.cache.AccessTokenCacheConfig;
 import de.cuioss.sheriff.oauth.core.domain.context.ValidationContext;
 import de.cuioss.sheriff.oauth.core.domain.token.AccessTokenContent;
 import de.cuioss.sheriff.oauth.core.exception.TokenValidationException;
+import de.cuioss.sheriff.oauth.core.json.JwtHeader;
+import de.cuioss.sheriff.oauth.core.jwks.key.KeyInfo;
 import de.cuioss.sheriff.oauth.core.metrics.MeasurementType;
 import de.cuioss.sheriff.oauth.core.metrics.MetricsTicker;
 import de.cuioss.sheriff.oauth.core.metrics.MetricsTickerFactory;
 import de.cuioss.sheriff.oauth.core.metrics.TokenValidatorMonitor;
-import de.cuioss.sheriff.oauth.core.pipeline.validator.TokenClaimValidator;
-import de.cuioss.sheriff.oauth.core.pipeline.validator.TokenHeaderValidator;
+import de.cuioss.sheriff.oauth.core.pipeline.validator.PreSignatureClaimValidator;
+import de.cuioss.sheriff.oauth.core.pipeline.validator.SharedSignatureVerifier;
 import de.cuioss.sheriff.oauth.core.pipeline.validator.TokenSignatureValidator;
 import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
 import de.cuioss.tools.logging.CuiLogger;
+import org.jspecify.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
 
 /**
  * Pipeline for validating access tokens with caching support.
@@ -46,17 +61,48 @@ import java.util.Optional;
  * <p>
  * <strong>Validation Steps:</strong>
  * <ol>
- *   <li>Parse token into header and payload (metrics: TOKEN_PARSING)</li>
+ *   <li>Parse token header and pre-screen key ID and algorithm, then parse payload (metrics: TOKEN_PARSING)</li>
  *   <li>Extract and validate issuer claim (metrics: ISSUER_EXTRACTION)</li>
  *   <li><strong>CHECK CACHE - EARLY</strong> (metrics: CACHE_LOOKUP) ← Issue #131 optimization</li>
  *   <li>If cache miss, resolve issuer configuration (metrics: ISSUER_CONFIG_RESOLUTION)</li>
- *   <li>If cache miss, validate JWT header (metrics: HEADER_VALIDATION)</li>
+ *   <li>If cache miss, validate JWT header and pre-check aud, nbf and exp claims (metrics: HEADER_VALIDATION)</li>
  *   <li>If cache miss, validate JWT signature (metrics: SIGNATURE_VALIDATION) ← Most expensive</li>
  *   <li>If cache miss, build typed AccessTokenContent object (metrics: TOKEN_BUILDING)</li>
  *   <li>If cache miss, validate token claims (metrics: CLAIMS_VALIDATION)</li>
  *   <li>If cache miss, store in cache (metrics: CACHE_STORE)</li>
  * </ol>
  * <p>
+ * <strong>Header-First Pre-Screening:</strong> Before the payload is decoded, the header alone
+ * is checked against the {@link KeyIdIssuerIndex}. Tokens carrying a key ID that is not part of
+ * any loaded JWKS ({@code KEY_NOT_FOUND}) or an algorithm none of the owning issuers accepts
+ * ({@code UNSUPPORTED_ALGORITHM}) are rejected without decoding the payload, which makes junk
+ * tokens and tokens of foreign identity providers cheap to reject. Unknown key IDs are only
+ * rejected early while the JWKS of all issuers are loaded and none of them is refreshed on demand;
+ * otherwise, as well as for tokens without {@code kid} or {@code alg}, the regular validation steps
+ * decide, and only the issuer named in the token refreshes its JWKS.
+ * <p>
+ * <strong>Pre-Signature Claim Checks:</strong> For issuers with
+ * {@link IssuerConfig#isPreSignatureClaimValidation()} enabled (disabled by default), the
+ * {@code aud}, {@code nbf} and {@code exp} claims are checked directly on the decoded payload before
+ * the signature verification, in the order of the regular claim validation, see
+ * {@link PreSignatureClaimValidator}. Expired tokens, the most common rejection, thereby never
+ * reach the cryptographic verify. The same {@link ValidationContext} is used for these checks and the
+ * regular claim validation, which still runs completely after the signature verification.
+ * <p>
+ * <strong>Admission Control:</strong> If a {@link SignatureVerificationLimiter} is configured, the
+ * signature verification of step 6 only runs once the limiter admits it. Since the limiter is applied
+ * after the cache lookup, cache hits never wait behind verifications. Waiting for a permit is not part
+ * of the SIGNATURE_VALIDATION metrics; the limiter reports its own state.
+ * <p>
+ * <strong>Asynchronous Validation:</strong> {@link #validateAsync(String, Executor)} runs the same
+ * steps without blocking the caller: cache hits complete inline, misses are validated on the given
+ * verification executor, and tokens of issuers whose JWKS is still loading are chained on the loading
+ * future instead of waiting for it.
+ * <p>
+ * <strong>Batch Validation:</strong> {@link #validateBatch(List, Executor)} groups the cache misses of
+ * a batch by issuer, key ID and algorithm, so that the tokens of a group share one initialized
+ * signature verifier.
+ * <p>
  * <strong>Note:</strong> TokenStringValidator has already validated that the token
  * is non-null, non-blank, and within size limits before this pipeline is called.
  * <p>
@@ -69,8 +115,13 @@ import java.util.Optional;
  * <a href="https://github.com/cuioss/OAuth-Sheriff/issues/131">issue #131</a> by maximizing
  * cache hit performance.
  * <p>
+ * <strong>Runtime Issuer Changes:</strong> The validators are looked up once per token in the
+ * {@link IssuerValidatorRegistry}, which issuers can be added to and removed from at runtime.
+ * When an issuer changes, only its cached tokens are dropped via {@link #invalidateIssuer(String)},
+ * and a token validated with replaced validators is not cached.
+ * <p>
  * This class is thread-safe after construction. All validators are pre-created
- * and cached in immutable maps for optimal performance.
+ * and published in immutable maps for optimal performance.
  *
  * @author Oliver Wolff
  * @since 1.0
@@ -81,10 +132,10 @@ public class AccessTokenValidationPipeline {
 
     private final NonValidatingJwtParser jwtParser;
     private final IssuerConfigResolver issuerConfigResolver;
-    private final Map<String, TokenSignatureValidator> signatureValidators;
-    private final Map<String, TokenBuilder> tokenBuilders;
-    private final Map<String, TokenClaimValidator> claimValidators;
-    private final Map<String, TokenHeaderValidator> headerValidators;
+    private final IssuerValidatorRegistry issuerValidators;
+    private final KeyIdIssuerIndex keyIdIssuerIndex;
+    @Nullable
+    private final SignatureVerificationLimiter signatureVerificationLimiter;
     private final AccessTokenCache cache;
     private final SecurityEventCounter securityEventCounter;
     private final TokenValidatorMonitor performanceMonitor;
@@ -94,10 +145,10 @@ public class AccessTokenValidationPipeline {
      *
      * @param jwtParser the JWT parser for decoding tokens
      * @param issuerConfigResolver the resolver for issuer configurations
-     * @param signatureValidators pre-created signature validators keyed by issuer
-     * @param tokenBuilders pre-created token builders keyed by issuer
-     * @param claimValidators pre-created claim validators keyed by issuer
-     * @param headerValidators pre-created header validators keyed by issuer
+     * @param issuerValidators the registry of the pre-created validators keyed by issuer
+     * @param keyIdIssuerIndex the index of key IDs of all loaded JWKS used for header pre-screening
+     * @param signatureVerificationLimiter the admission control for signature verifications,
+     *                                     {@code null} for unlimited concurrent verifications
      * @param cacheConfig the cache configuration for access token caching
      * @param securityEventCounter the security event counter for tracking operations
      * @param performanceMonitor the monitor for recording performance metrics
@@ -105,19 +156,17 @@ public class AccessTokenValidationPipeline {
     @SuppressWarnings("java:S107") // Many dependencies are required
     public AccessTokenValidationPipeline(NonValidatingJwtParser jwtParser,
             IssuerConfigResolver issuerConfigResolver,
-            Map<String, TokenSignatureValidator> signatureValidators,
-            Map<String, TokenBuilder> tokenBuilders,
-            Map<String, TokenClaimValidator> claimValidators,
-            Map<String, TokenHeaderValidator> headerValidators,
+            IssuerValidatorRegistry issuerValidators,
+            KeyIdIssuerIndex keyIdIssuerIndex,
+            @Nullable SignatureVerificationLimiter signatureVerificationLimiter,
             AccessTokenCacheConfig cacheConfig,
             SecurityEventCounter securityEventCounter,
             TokenValidatorMonitor performanceMonitor) {
         this.jwtParser = jwtParser;
         this.issuerConfigResolver = issuerConfigResolver;
-        this.signatureValidators = signatureValidators;
-        this.tokenBuilders = tokenBuilders;
-        this.claimValidators = claimValidators;
-        this.headerValidators = headerValidators;
+        this.issuerValidators = issuerValidators;
+        this.keyIdIssuerIndex = keyIdIssuerIndex;
+        this.signatureVerificationLimiter = signatureVerificationLimiter;
         this.cache = new AccessTokenCache(cacheConfig, securityEventCounter);
         this.securityEventCounter = securityEventCounter;
         this.performanceMonitor = performanceMonitor;
@@ -149,21 +198,230 @@ public class AccessTokenValidationPipeline {
             return cached.get();
         }
 
+        // 2. and 3. Parse token and extract issuer
+        DecodedJwt decodedJwt = decode(tokenString);
+        String issuer = extractIssuer(decodedJwt);
+
+        // 4. Resolve issuer config
+        IssuerConfig issuerConfig = resolveConfig(issuer);
+
+        // 5. to 9.
+        return validateWithIssuerConfig(tokenString, decodedJwt, issuerConfig, null);
+    }
+
+    /**
+     * Validates an access token without blocking the calling thread.
+     * <p>
+     * Cache hits complete inline. On a cache miss, the token is validated on the given executor.
+     * If the JWKS of the token issuer is still loading, the validation continues on the executor
+     * once loading has completed, instead of blocking a thread while waiting for it.
+     *
+     * @param tokenString the token string to validate (guaranteed non-null, non-blank, within size limits)
+     * @param executor the executor running the validation of cache misses
+     * @return a future completing with the validated access token content, or exceptionally with a
+     * {@link TokenValidationException}, possibly wrapped in a {@link java.util.concurrent.CompletionException}
+     */
+    public CompletableFuture<AccessTokenContent> validateAsync(String tokenString, Executor executor) {
+        LOGGER.debug("Validating access token asynchronously");
+
+        // 1. CHECK CACHE FIRST - cache hits never leave the calling thread
+        Optional<AccessTokenContent> cached = cache.get(tokenString, performanceMonitor);
+        if (cached.isPresent()) {
+            LOGGER.debug("Access token retrieved from cache");
+            return CompletableFuture.completedFuture(cached.get());
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(() -> decode(tokenString), executor)
+                    .thenCompose(decodedJwt -> {
+                        CompletableFuture<IssuerConfig> configFuture = resolveConfigAsync(extractIssuer(decodedJwt));
+                        Function<IssuerConfig, AccessTokenContent> validation =
+                                issuerConfig -> validateWithIssuerConfig(tokenString, decodedJwt, issuerConfig, null);
+                        // Continue on the current thread if the config is available, otherwise on the executor
+                        // once the JWKS is loaded, so the validation never runs on the loading thread
+                        return configFuture.isDone()
+                                ? configFuture.thenApply(validation)
+                                : configFuture.thenApplyAsync(validation, executor)
+                                        // The executor rejects the continuation by completing it exceptionally
+                                        .exceptionallyCompose(e -> CompletableFuture.failedFuture(
+                                                e.getCause() instanceof RejectedExecutionException ? executorSaturated() : e));
+                    });
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(executorSaturated());
+        }
+    }
+
+    /**
+     * Records the rejection of a validation by the saturated executor of {@link #validateAsync(String, Executor)}.
+     *
+     * @return the exception to complete the validation with
+     */
+    private TokenValidationException executorSaturated() {
+        if (securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.SIGNATURE_VERIFICATION_OVERLOADED)) {
+            LOGGER.warn(JWTValidationLogMessages.WARN.VERIFICATION_EXECUTOR_SATURATED);
+        }
+        securityEventCounter.increment(SecurityEventCounter.EventType.SIGNATURE_VERIFICATION_OVERLOADED);
+        return new TokenValidationException(
+                SecurityEventCounter.EventType.SIGNATURE_VERIFICATION_OVERLOADED,
+                "Token validation rejected, the verification executor is saturated"
+        );
+    }
+
+    /**
+     * Validates a batch of access tokens, reporting a result per token.
+     * <p>
+     * Cached tokens are resolved first. The remaining tokens are decoded and grouped by issuer,
+     * key ID and algorithm; the tokens of a group share one {@link SharedSignatureVerifier}, so
+     * the verifier is created and initialized with the public key once per group instead of once
+     * per token. Duplicate tokens within the batch are validated once.
+     * <p>
+     * If an executor is given, the groups are validated concurrently on it, e.g. on a
+     * {@link java.util.concurrent.ForkJoinPool}; a group rejected by the executor is validated
+     * on the calling thread. Without executor, all groups are validated on the calling thread.
+     *
+     * @param tokenStrings the token strings to validate (each guaranteed non-null, non-blank, within size limits)
+     * @param executor the executor validating the groups concurrently, may be null
+     * @return the validation results in the order of the given token strings
+     */
+    public List<ValidationResult<AccessTokenContent>> validateBatch(List<String> tokenStrings, @Nullable Executor executor) {
+        LOGGER.debug("Validating batch of %s access tokens", tokenStrings.size());
+
+        List<ValidationResult<AccessTokenContent>> results = new ArrayList<>(Collections.nCopies(tokenStrings.size(), null));
+        Map<String, Integer> firstOccurrences = new HashMap<>();
+        Map<BatchGroupKey, List<BatchEntry>> groups = new LinkedHashMap<>();
+        for (int index = 0; index < tokenStrings.size(); index++) {
+            String tokenString = tokenStrings.get(index);
+            if (firstOccurrences.putIfAbsent(tokenString, index) != null) {
+                // Duplicate, takes over the result of the first occurrence
+                continue;
+            }
+
+            // 1. Check cache
+            Optional<AccessTokenContent> cached = cache.get(tokenString, performanceMonitor);
+            if (cached.isPresent()) {
+                results.set(index, new ValidationResult.Success<>(cached.get()));
+                continue;
+            }
+
+            // 2. to 4. Parse token, extract issuer and resolve issuer config
+            try {
+                DecodedJwt decodedJwt = decode(tokenString);
+                IssuerConfig issuerConfig = resolveConfig(extractIssuer(decodedJwt));
+                var groupKey = new BatchGroupKey(issuerConfig.getIssuerIdentifier(),
+                        decodedJwt.getKid().or(decodedJwt::getX5tS256).orElse(""), decodedJwt.getAlg().orElse(""));
+                groups.computeIfAbsent(groupKey, key -> new ArrayList<>())
+                        .add(new BatchEntry(index, tokenString, decodedJwt, issuerConfig));
+            } catch (TokenValidationException e) {
+                results.set(index, new ValidationResult.Failure<>(e));
+            }
+        }
+
+        // 5. to 9. per group
+        LOGGER.debug("Validating %s cache misses in %s groups", groups.values().stream().mapToInt(List::size).sum(), groups.size());
+        if (executor == null || groups.size() < 2) {
+            groups.values().forEach(group -> validateGroup(group, results));
+        } else {
+            validateGroupsConcurrently(groups.values(), results, executor);
+        }
+
+        for (int index = 0; index < tokenStrings.size(); index++) {
+            if (results.get(index) == null) {
+                results.set(index, results.get(firstOccurrences.get(tokenStrings.get(index))));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Drops the cached tokens of the given issuer, keeping those of all other issuers.
+     *
+     * @param issuer the identifier of the changed or removed issuer
+     * @return the number of dropped tokens
+     */
+    public int invalidateIssuer(String issuer) {
+        return cache.invalidateIssuer(issuer);
+    }
+
+    /**
+     * Validates each group of a batch as a task of the given executor and waits for all of them.
+     *
+     * @param groups the groups of cache misses
+     * @param results the results to fill, each task writes distinct indices
+     * @param executor the executor running the tasks
+     */
+    private void validateGroupsConcurrently(Collection<List<BatchEntry>> groups,
+            List<ValidationResult<AccessTokenContent>> results, Executor executor) {
+        List<CompletableFuture<Void>> tasks = new ArrayList<>(groups.size());
+        for (List<BatchEntry> group : groups) {
+            try {
+                tasks.add(CompletableFuture.runAsync(() -> validateGroup(group, results), executor));
+            } catch (RejectedExecutionException e) {
+                LOGGER.debug("Executor rejected batch group, validating on the calling thread");
+                validateGroup(group, results);
+            }
+        }
+        try {
+            CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Validates the tokens of one batch group, sharing one signature verifier.
+     *
+     * @param group the tokens sharing issuer, key ID and algorithm
+     * @param results the results to fill
+     */
+    private void validateGroup(List<BatchEntry> group, List<ValidationResult<AccessTokenContent>> results) {
+        SharedSignatureVerifier sharedVerifier = new SharedSignatureVerifier();
+        for (BatchEntry entry : group) {
+            try {
+                results.set(entry.index(), new ValidationResult.Success<>(
+                        validateWithIssuerConfig(entry.tokenString(), entry.decodedJwt(), entry.issuerConfig(), sharedVerifier)));
+            } catch (TokenValidationException e) {
+                results.set(entry.index(), new ValidationResult.Failure<>(e));
+            }
+        }
+    }
+
+    /**
+     * Parses the token, pre-screening the header before the payload is decoded.
+     *
+     * @param tokenString the token string to parse
+     * @return the decoded token
+     * @throws TokenValidationException if the token is malformed or rejected by the header pre-screening
+     */
+    private DecodedJwt decode(String tokenString) {
         // 2. Parse token (with TOKEN_PARSING metrics)
+        // The header is pre-screened before the payload is decoded, so junk and foreign tokens are
+        // rejected before the payload is touched
         MetricsTicker parsingTicker = MetricsTickerFactory.createStartedTicker(MeasurementType.TOKEN_PARSING, performanceMonitor);
-        DecodedJwt decodedJwt;
         try {
-            decodedJwt = jwtParser.decode(tokenString);
+            return jwtParser.decode(tokenString, this::preScreenHeader);
         } finally {
             parsingTicker.stopAndRecord();
         }
+    }
 
+    /**
+     * Extracts the issuer claim of the decoded token.
+     *
+     * @param decodedJwt the decoded token
+     * @return the issuer identifier
+     * @throws TokenValidationException if the issuer claim is missing
+     */
+    private String extractIssuer(DecodedJwt decodedJwt) {
         // 3. Extract issuer (with ISSUER_EXTRACTION metrics)
         MetricsTicker extractionTicker = MetricsTickerFactory.createStartedTicker(MeasurementType.ISSUER_EXTRACTION, performanceMonitor);
-        String issuer;
         try {
-            issuer = decodedJwt.getIssuer().orElseThrow(() -> {
-                LOGGER.warn(JWTValidationLogMessages.WARN.MISSING_CLAIM, "iss");
+            return decodedJwt.getIssuer().orElseThrow(() -> {
+                if (securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.MISSING_CLAIM)) {
+                    LOGGER.warn(JWTValidationLogMessages.WARN.MISSING_CLAIM, "iss");
+                }
                 securityEventCounter.increment(SecurityEventCounter.EventType.MISSING_CLAIM);
                 return new TokenValidationException(
                         SecurityEventCounter.EventType.MISSING_CLAIM,
@@ -173,43 +431,85 @@ public class AccessTokenValidationPipeline {
         } finally {
             extractionTicker.stopAndRecord();
         }
+    }
 
-        // 4. Resolve issuer config (with ISSUER_CONFIG_RESOLUTION metrics)
+    /**
+     * Resolves the issuer configuration, recording the ISSUER_CONFIG_RESOLUTION metrics.
+     *
+     * @param issuer the issuer identifier
+     * @return the issuer configuration
+     * @throws TokenValidationException if no healthy configuration is found for the issuer
+     */
+    private IssuerConfig resolveConfig(String issuer) {
         MetricsTicker configTicker = MetricsTickerFactory.createStartedTicker(MeasurementType.ISSUER_CONFIG_RESOLUTION, performanceMonitor);
-        IssuerConfig issuerConfig;
         try {
-            issuerConfig = issuerConfigResolver.resolveConfig(issuer);
+            return issuerConfigResolver.resolveConfig(issuer);
         } finally {
             configTicker.stopAndRecord();
         }
+    }
+
+    /**
+     * Resolves the issuer configuration without blocking, recording the ISSUER_CONFIG_RESOLUTION
+     * metrics once the resolution has completed.
+     *
+     * @param issuer the issuer identifier
+     * @return a future completing with the issuer configuration
+     */
+    private CompletableFuture<IssuerConfig> resolveConfigAsync(String issuer) {
+        MetricsTicker configTicker = MetricsTickerFactory.createStartedTicker(MeasurementType.ISSUER_CONFIG_RESOLUTION, performanceMonitor);
+        return issuerConfigResolver.resolveConfigAsync(issuer)
+                .whenComplete((config, error) -> configTicker.stopAndRecord());
+    }
+
+    /**
+     * Runs steps 5 to 9 of the validation for a cache miss with resolved issuer configuration.
+     *
+     * @param tokenString the token string, used as cache key
+     * @param decodedJwt the decoded token
+     * @param issuerConfig the configuration of the token issuer
+     * @param sharedVerifier the signature verifier shared within a batch group, may be null
+     * @return the validated access token content
+     * @throws TokenValidationException if any validation step fails
+     */
+    private AccessTokenContent validateWithIssuerConfig(String tokenString, DecodedJwt decodedJwt, IssuerConfig issuerConfig,
+            @Nullable SharedSignatureVerifier sharedVerifier) {
+        // Create ValidationContext with cached current time to eliminate synchronous OffsetDateTime.now() calls
+        // Use clock skew of 60 seconds as per ExpirationValidator.CLOCK_SKEW_SECONDS
+        ValidationContext context = new ValidationContext(60);
+
+        // One consistent set of validators for all steps, even if the issuer is updated meanwhile
+        IssuerValidators validators = issuerValidators.resolve(issuerConfig.getIssuerIdentifier());
 
         // 5. Validate header (with HEADER_VALIDATION metrics)
         MetricsTicker headerTicker = MetricsTickerFactory.createStartedTicker(MeasurementType.HEADER_VALIDATION, performanceMonitor);
         try {
-            TokenHeaderValidator headerValidator = headerValidators.get(issuerConfig.getIssuerIdentifier());
-            headerValidator.validate(decodedJwt);
+            validators.headerValidator().validate(decodedJwt);
+
+            // Reject by cheap claim checks before the expensive signature verification
+            PreSignatureClaimValidator preSignatureClaimValidator = validators.preSignatureClaimValidator();
+            if (preSignatureClaimValidator != null) {
+                preSignatureClaimValidator.validate(decodedJwt, context);
+            }
         } finally {
             headerTicker.stopAndRecord();
         }
 
         // 6. Validate signature (with SIGNATURE_VALIDATION metrics) ← MOST expensive operation
-        MetricsTicker signatureTicker = MetricsTickerFactory.createStartedTicker(MeasurementType.SIGNATURE_VALIDATION, performanceMonitor);
-        try {
-            TokenSignatureValidator signatureValidator = signatureValidators.get(issuerConfig.getIssuerIdentifier());
-            if (signatureValidator == null) {
-                throw new IllegalStateException("No signature validator found for issuer: " + issuerConfig.getIssuerIdentifier());
-            }
-            signatureValidator.validateSignature(decodedJwt);
-        } finally {
-            signatureTicker.stopAndRecord();
+        // The key is resolved before admission: waiting for an on-demand JWKS refresh holds no permit
+        TokenSignatureValidator signatureValidator = validators.signatureValidator();
+        KeyInfo keyInfo = signatureValidator.resolveKey(decodedJwt);
+        if (signatureVerificationLimiter != null) {
+            signatureVerificationLimiter.execute(() -> validateSignature(signatureValidator, decodedJwt, keyInfo, sharedVerifier));
+        } else {
+            validateSignature(signatureValidator, decodedJwt, keyInfo, sharedVerifier);
         }
 
         // 7. Build token (with TOKEN_BUILDING metrics)
         MetricsTicker buildingTicker = MetricsTickerFactory.createStartedTicker(MeasurementType.TOKEN_BUILDING, performanceMonitor);
         AccessTokenContent accessToken;
         try {
-            TokenBuilder tokenBuilder = tokenBuilders.get(issuerConfig.getIssuerIdentifier());
-            Optional<AccessTokenContent> tokenOpt = tokenBuilder.createAccessToken(decodedJwt);
+            Optional<AccessTokenContent> tokenOpt = validators.tokenBuilder().createAccessToken(decodedJwt);
             if (tokenOpt.isEmpty()) {
                 LOGGER.debug("Access token building failed");
                 throw new TokenValidationException(
@@ -226,20 +526,106 @@ public class AccessTokenValidationPipeline {
         MetricsTicker claimsTicker = MetricsTickerFactory.createStartedTicker(MeasurementType.CLAIMS_VALIDATION, performanceMonitor);
         AccessTokenContent validatedToken;
         try {
-            // Create ValidationContext with cached current time to eliminate synchronous OffsetDateTime.now() calls
-            // Use clock skew of 60 seconds as per ExpirationValidator.CLOCK_SKEW_SECONDS
-            ValidationContext context = new ValidationContext(60);
-            TokenClaimValidator claimValidator = claimValidators.get(issuerConfig.getIssuerIdentifier());
-            validatedToken = (AccessTokenContent) claimValidator.validate(accessToken, context);
+            validatedToken = (AccessTokenContent) validators.claimValidator().validate(accessToken, context);
         } finally {
             claimsTicker.stopAndRecord();
         }
 
         LOGGER.debug("Token successfully validated");
 
-        // 9. Store in cache for future lookups
-        cache.put(tokenString, validatedToken, performanceMonitor);
+        // 9. Store in cache for future lookups, unless the issuer was changed during the validation
+        if (issuerValidators.get(validators.issuer()) == validators) {
+            cache.put(tokenString, validatedToken, performanceMonitor);
+        }
 
         return validatedToken;
     }
+
+    /**
+     * Validates the token signature with the validator of the token issuer, recording the
+     * SIGNATURE_VALIDATION metrics.
+     *
+     * @param signatureValidator the signature validator of the token issuer
+     * @param decodedJwt the decoded token
+     * @param keyInfo the key resolved by the signature validator, null for key trial
+     * @param sharedVerifier the signature verifier shared within a batch group, may be null
+     * @throws TokenValidationException if the signature is invalid
+     */
+    private void validateSignature(TokenSignatureValidator signatureValidator, DecodedJwt decodedJwt,
+            @Nullable KeyInfo keyInfo, @Nullable SharedSignatureVerifier sharedVerifier) {
+        MetricsTicker signatureTicker = MetricsTickerFactory.createStartedTicker(MeasurementType.SIGNATURE_VALIDATION, performanceMonitor);
+        try {
+            signatureValidator.validateSignature(decodedJwt, keyInfo, sharedVerifier);
+        } finally {
+            signatureTicker.stopAndRecord();
+        }
+    }
+
+    /**
+     * Rejects tokens based on the header alone, using the {@link KeyIdIssuerIndex}.
+     * <p>
+     * Tokens without {@code kid} or {@code alg} are passed on unchanged, so that the
+     * header validation reports them consistently. Both rejections require the index to be
+     * complete, otherwise an issuer whose keys are not indexed may still own the key. Unknown
+     * key IDs are only rejected while no issuer could refresh its keys on demand, i.e. the rate
+     * limit of every on-demand refresh is cooling down: the refresh is triggered by the signature
+     * validation of the issuer named in the token, never for all issuers at once.
+     *
+     * @param header the decoded token header
+     * @throws TokenValidationException if the key ID is unknown to all loaded JWKS or the
+     *                                  algorithm is not accepted by any issuer owning the key
+     */
+    private void preScreenHeader(JwtHeader header) {
+        Optional<String> kid = header.getKid();
+        Optional<String> alg = header.getAlg();
+        if (kid.isEmpty() || alg.isEmpty()) {
+            return;
+        }
+
+        if (!keyIdIssuerIndex.isComplete()) {
+            // Not all JWKS are indexed, the regular validation decides
+            return;
+        }
+        List<IssuerConfig> owners = keyIdIssuerIndex.lookup(kid.get());
+        if (owners.isEmpty()) {
+            if (!keyIdIssuerIndex.isMissConclusive()) {
+                // The issuer named by the token may know the key after its on-demand refresh,
+                // which also starts the rate limit making subsequent misses conclusive
+                return;
+            }
+            if (securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.KEY_NOT_FOUND)) {
+                LOGGER.warn(JWTValidationLogMessages.WARN.KEY_NOT_FOUND, kid.get());
+            }
+            securityEventCounter.increment(SecurityEventCounter.EventType.KEY_NOT_FOUND);
+            throw new TokenValidationException(
+                    SecurityEventCounter.EventType.KEY_NOT_FOUND,
+                    () -> "Key not found for key ID: %s. The key is not part of any configured JWKS.".formatted(kid.get())
+            );
+        }
+
+        String algorithm = alg.get();
+        if (owners.stream().noneMatch(config -> config.getAlgorithmPreferences().isSupported(algorithm))) {
+            if (securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.UNSUPPORTED_ALGORITHM)) {
+                LOGGER.warn(JWTValidationLogMessages.WARN.UNSUPPORTED_ALGORITHM, algorithm);
+            }
+            securityEventCounter.increment(SecurityEventCounter.EventType.UNSUPPORTED_ALGORITHM);
+            throw new TokenValidationException(
+                    SecurityEventCounter.EventType.UNSUPPORTED_ALGORITHM,
+                    () -> "Unsupported algorithm: %s".formatted(algorithm)
+            );
+        }
+    }
+
+    /**
+     * Tokens of a batch sharing this key are verified with the same public key and algorithm.
+     * The key is identified by kid, or by x5t#S256 for tokens without kid.
+     */
+    private record BatchGroupKey(String issuer, String kid, String alg) {
+    }
+
+    /**
+     * A cache miss of a batch, decoded and with resolved issuer configuration.
+     */
+    private record BatchEntry(int index, String tokenString, DecodedJwt decodedJwt, IssuerConfig issuerConfig) {
+    }
 }
@@ -109,6 +109,15 @@ String rawToken
         return header != null ? header.getKid() : Optional.empty();
     }
 
+    /**
+     * Gets the x5t#S256 (X.509 certificate SHA-256 thumbprint) from the JWT token header.
+     *
+     * @return an Optional containing the thumbprint if present
+     */
+    public Optional<String> getX5tS256() {
+        return header != null ? header.getX5tS256() : Optional.empty();
+    }
+
     /**
      * Gets the alg (algorithm) from the JWT token header.
      *
@@ -21,14 +21,9 @@ import de.cuioss.sheriff.oauth.core.JWTValidationLogMessages;
 import de.cuioss.sheriff.oauth.core.domain.context.ValidationContext;
 import de.cuioss.sheriff.oauth.core.domain.token.IdTokenContent;
 import de.cuioss.sheriff.oauth.core.exception.TokenValidationException;
-import de.cuioss.sheriff.oauth.core.pipeline.validator.TokenClaimValidator;
-import de.cuioss.sheriff.oauth.core.pipeline.validator.TokenHeaderValidator;
-import de.cuioss.sheriff.oauth.core.pipeline.validator.TokenSignatureValidator;
 import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
 import de.cuioss.tools.logging.CuiLogger;
 
-import java.util.Map;
-
 /**
  * Pipeline for validating ID tokens.
  * <p>
@@ -67,10 +62,7 @@ public class IdTokenValidationPipeline {
 
     private final NonValidatingJwtParser jwtParser;
     private final IssuerConfigResolver issuerConfigResolver;
-    private final Map<String, TokenSignatureValidator> signatureValidators;
-    private final Map<String, TokenBuilder> tokenBuilders;
-    private final Map<String, TokenClaimValidator> claimValidators;
-    private final Map<String, TokenHeaderValidator> headerValidators;
+    private final IssuerValidatorRegistry issuerValidators;
     private final SecurityEventCounter securityEventCounter;
 
     /**
@@ -78,25 +70,16 @@ public class IdTokenValidationPipeline {
      *
      * @param jwtParser the JWT parser for decoding tokens
      * @param issuerConfigResolver the resolver for issuer configurations
-     * @param signatureValidators pre-created signature validators keyed by issuer
-     * @param tokenBuilders pre-created token builders keyed by issuer
-     * @param claimValidators pre-created claim validators keyed by issuer
-     * @param headerValidators pre-created header validators keyed by issuer
+     * @param issuerValidators the registry of the pre-created validators keyed by issuer
      * @param securityEventCounter the security event counter for tracking operations
      */
     public IdTokenValidationPipeline(NonValidatingJwtParser jwtParser,
             IssuerConfigResolver issuerConfigResolver,
-            Map<String, TokenSignatureValidator> signatureValidators,
-            Map<String, TokenBuilder> tokenBuilders,
-            Map<String, TokenClaimValidator> claimValidators,
-            Map<String, TokenHeaderValidator> headerValidators,
+            IssuerValidatorRegistry issuerValidators,
             SecurityEventCounter securityEventCounter) {
         this.jwtParser = jwtParser;
         this.issuerConfigResolver = issuerConfigResolver;
-        this.signatureValidators = signatureValidators;
-        this.tokenBuilders = tokenBuilders;
-        this.claimValidators = claimValidators;
-        this.headerValidators = headerValidators;
+        this.issuerValidators = issuerValidators;
         this.securityEventCounter = securityEventCounter;
     }
 
@@ -122,7 +105,9 @@ public class IdTokenValidationPipeline {
 
         // 2. Extract issuer
         String issuerString = decodedJwt.getIssuer().orElseThrow(() -> {
-            LOGGER.warn(JWTValidationLogMessages.WARN.MISSING_CLAIM, "iss");
+            if (securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.MISSING_CLAIM)) {
+                LOGGER.warn(JWTValidationLogMessages.WARN.MISSING_CLAIM, "iss");
+            }
             securityEventCounter.increment(SecurityEventCounter.EventType.MISSING_CLAIM);
             return new TokenValidationException(
                     SecurityEventCounter.EventType.MISSING_CLAIM,
@@ -133,21 +118,17 @@ public class IdTokenValidationPipeline {
         // 3. Resolve issuer config
         IssuerConfig issuerConfig = issuerConfigResolver.resolveConfig(issuerString);
 
+        // One consistent set of validators for all steps, even if the issuer is updated meanwhile
+        IssuerValidators validators = issuerValidators.resolve(issuerConfig.getIssuerIdentifier());
+
         // 4. Validate header
-        TokenHeaderValidator headerValidator = headerValidators.get(issuerConfig.getIssuerIdentifier());
-        headerValidator.validate(decodedJwt);
+        validators.headerValidator().validate(decodedJwt);
 
         // 5. Validate signature
-        // Note: signatureValidator is guaranteed to exist because TokenValidator
-        // creates validators for all configured issuers during construction
-        TokenSignatureValidator signatureValidator = signatureValidators.get(issuerConfig.getIssuerIdentifier());
-        signatureValidator.validateSignature(decodedJwt);
+        validators.signatureValidator().validateSignature(decodedJwt);
 
         // 6. Build token
-        // Note: tokenBuilder is guaranteed to exist because TokenValidator
-        // creates builders for all configured issuers during construction
-        TokenBuilder tokenBuilder = tokenBuilders.get(issuerConfig.getIssuerIdentifier());
-        IdTokenContent token = tokenBuilder.createIdToken(decodedJwt)
+        IdTokenContent token = validators.tokenBuilder().createIdToken(decodedJwt)
                 .orElseThrow(() -> {
                     LOGGER.debug("ID token building failed");
                     return new TokenValidationException(
@@ -159,11 +140,8 @@ public class IdTokenValidationPipeline {
         // 7. Validate claims
         // Create ValidationContext with cached current time to eliminate synchronous OffsetDateTime.now() calls
         // Use clock skew of 60 seconds as per ExpirationValidator.CLOCK_SKEW_SECONDS
-        // Note: claimValidator is guaranteed to exist because TokenValidator
-        // creates validators for all configured issuers during construction
         ValidationContext context = new ValidationContext(60);
-        TokenClaimValidator claimValidator = claimValidators.get(issuerConfig.getIssuerIdentifier());
-        IdTokenContent validatedToken = (IdTokenContent) claimValidator.validate(token, context);
+        IdTokenContent validatedToken = (IdTokenContent) validators.claimValidator().validate(token, context);
 
         LOGGER.debug("Successfully validated ID token");
 
@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.pipeline;
+
+import de.cuioss.sheriff.oauth.core.exception.TokenValidationException;
+import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Copy-on-write registry of the {@link IssuerValidators} by issuer identifier.
+ * <p>
+ * Lookups read an immutable map published via a volatile field and are therefore lock-free.
+ * Registering, replacing or removing an issuer copies the map and publishes the copy, so issuers
+ * can be added and removed at runtime without rebuilding the validators of all other issuers.
+ * Writes are rare and serialized.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author Oliver Wolff
+ * @since 1.0
+ */
+public class IssuerValidatorRegistry {
+
+    private final SecurityEventCounter securityEventCounter;
+
+    @SuppressWarnings("java:S3077") // Map.copyOf() creates truly immutable map, safe for concurrent reads after volatile publication
+    private volatile Map<String, IssuerValidators> validators;
+
+    /**
+     * Creates a registry containing the given validators.
+     *
+     * @param validators           the initial validators
+     * @param securityEventCounter the counter for lookups of issuers not registered
+     */
+    public IssuerValidatorRegistry(Collection<IssuerValidators> validators, SecurityEventCounter securityEventCounter) {
+        Map<String, IssuerValidators> initial = new HashMap<>();
+        validators.forEach(bundle -> initial.put(bundle.issuer(), bundle));
+        this.validators = Map.copyOf(initial);
+        this.securityEventCounter = securityEventCounter;
+    }
+
+    /**
+     * Returns the validators of the given issuer.
+     *
+     * @param issuer the issuer identifier
+     * @return the validators, never null
+     * @throws TokenValidationException if the issuer is not registered, e.g. because it was
+     *                                  unregistered while the token was validated
+     */
+    public IssuerValidators resolve(String issuer) {
+        IssuerValidators bundle = validators.get(issuer);
+        if (bundle == null) {
+            securityEventCounter.increment(SecurityEventCounter.EventType.NO_ISSUER_CONFIG);
+            throw new TokenValidationException(
+                    SecurityEventCounter.EventType.NO_ISSUER_CONFIG,
+                    () -> "No validators registered for issuer: " + issuer
+            );
+        }
+        return bundle;
+    }
+
+    /**
+     * @param issuer the issuer identifier
+     * @return the validators of the issuer, {@code null} if not registered
+     */
+    public @Nullable IssuerValidators get(String issuer) {
+        return validators.get(issuer);
+    }
+
+    /**
+     * @return the identifiers of all registered issuers
+     */
+    public Set<String> issuers() {
+        return validators.keySet();
+    }
+
+    /**
+     * Registers the given validators, replacing those of the same issuer.
+     *
+     * @param bundle the validators to register
+     * @return the replaced validators, {@code null} if the issuer was not registered
+     */
+    public synchronized @Nullable IssuerValidators put(IssuerValidators bundle) {
+        Map<String, IssuerValidators> copy = new HashMap<>(validators);
+        IssuerValidators previous = copy.put(bundle.issuer(), bundle);
+        validators = Map.copyOf(copy);
+        return previous;
+    }
+
+    /**
+     * Removes the validators of the given issuer.
+     *
+     * @param issuer the issuer identifier
+     * @return the removed validators, {@code null} if the issuer was not registered
+     */
+    public synchronized @Nullable IssuerValidators remove(String issuer) {
+        if (!validators.containsKey(issuer)) {
+            return null;
+        }
+        Map<String, IssuerValidators> copy = new HashMap<>(validators);
+        IssuerValidators previous = copy.remove(issuer);
+        validators = Map.copyOf(copy);
+        return previous;
+    }
+}
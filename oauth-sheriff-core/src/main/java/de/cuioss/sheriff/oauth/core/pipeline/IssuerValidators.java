@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.pipeline;
+
+import de.cuioss.sheriff.oauth.core.IssuerConfig;
+import de.cuioss.sheriff.oauth.core.pipeline.validator.PreSignatureClaimValidator;
+import de.cuioss.sheriff.oauth.core.pipeline.validator.TokenClaimValidator;
+import de.cuioss.sheriff.oauth.core.pipeline.validator.TokenHeaderValidator;
+import de.cuioss.sheriff.oauth.core.pipeline.validator.TokenSignatureValidator;
+import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
+import de.cuioss.tools.logging.CuiLogger;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Immutable bundle of the validators pre-created for one issuer.
+ * <p>
+ * The validation pipelines look up the bundle of a token issuer once per token and use it
+ * for all validation steps, so that a concurrent update of the issuer never mixes validators
+ * of the old and the new configuration within one validation.
+ *
+ * @param issuerConfig               the issuer configuration the validators are created for
+ * @param signatureValidator         the signature validator using the JWKS loader of the issuer
+ * @param tokenBuilder               the builder of the typed token content
+ * @param claimValidator             the claim validator
+ * @param headerValidator            the header validator
+ * @param preSignatureClaimValidator the pre-signature claim validator, {@code null} unless
+ *                                   {@link IssuerConfig#isPreSignatureClaimValidation()} is enabled
+ * @author Oliver Wolff
+ * @since 1.0
+ */
+public record IssuerValidators(
+IssuerConfig issuerConfig,
+TokenSignatureValidator signatureValidator,
+TokenBuilder tokenBuilder,
+TokenClaimValidator claimValidator,
+TokenHeaderValidator headerValidator,
+@Nullable PreSignatureClaimValidator preSignatureClaimValidator
+) {
+
+    private static final CuiLogger LOGGER = new CuiLogger(IssuerValidators.class);
+
+    /**
+     * Creates the validators of the given issuer.
+     *
+     * @param issuerConfig         the issuer configuration
+     * @param securityEventCounter the counter for security events of the validators
+     * @return the bundle of validators
+     */
+    public static IssuerValidators create(IssuerConfig issuerConfig, SecurityEventCounter securityEventCounter) {
+        PreSignatureClaimValidator preSignatureClaimValidator = issuerConfig.isPreSignatureClaimValidation()
+                ? new PreSignatureClaimValidator(issuerConfig, securityEventCounter)
+                : null;
+        IssuerValidators validators = new IssuerValidators(issuerConfig,
+                new TokenSignatureValidator(issuerConfig.getJwksLoader(), securityEventCounter,
+                        issuerConfig.getAlgorithmPreferences(), issuerConfig.getMaxKeyTrials(),
+                        issuerConfig.getKeyTrialsPerSecond()),
+                new TokenBuilder(issuerConfig),
+                new TokenClaimValidator(issuerConfig, securityEventCounter),
+                new TokenHeaderValidator(issuerConfig, securityEventCounter),
+                preSignatureClaimValidator);
+        LOGGER.debug("Pre-created validators for issuer: %s", issuerConfig.getIssuerIdentifier());
+        return validators;
+    }
+
+    /**
+     * @return the issuer identifier of the configuration
+     */
+    public String issuer() {
+        return issuerConfig.getIssuerIdentifier();
+    }
+}
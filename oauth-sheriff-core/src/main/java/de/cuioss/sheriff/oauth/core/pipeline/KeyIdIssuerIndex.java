@@ -0,0 +1,257 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.pipeline;
+
+import de.cuioss.http.client.LoaderStatus;
+import de.cuioss.sheriff.oauth.core.IssuerConfig;
+import de.cuioss.sheriff.oauth.core.jwks.JwksLoader;
+import de.cuioss.sheriff.oauth.core.jwks.key.KeyInfo;
+import de.cuioss.tools.logging.CuiLogger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Global index mapping key IDs (kid) to the issuers whose JWKS contain them.
+ * <p>
+ * The index enables header-only routing and rejection: given the {@code kid} of a token
+ * header, it answers which issuers could have signed the token, without decoding the payload.
+ * It is built from the keys of all enabled issuers:
+ * <ul>
+ *   <li>The mapping is an immutable map, published together with the completeness flag by a
+ *       single volatile write, so that a lookup is one hash probe, for known and unknown key IDs
+ *       alike, and junk tokens cannot grow the index.</li>
+ *   <li>The index is rebuilt whenever an issuer is registered or removed and whenever a JWKS
+ *       loader reports changed keys or status via {@link JwksLoader#addKeyChangeListener(Runnable)},
+ *       e.g. after a key rotation. Loaders are never probed per token, so lookups never trigger
+ *       a JWKS refresh.</li>
+ * </ul>
+ * <p>
+ * The index only states which issuers own a key ID if the keys of all issuers are known, see
+ * {@link #isComplete()}. While any loader is still loading or unhealthy, is released after
+ * being idle or does not support change notifications, a key ID missing from the index may
+ * still belong to that issuer. With an open set of issuers, e.g. issuers instantiated from
+ * templates on their first token, the index is never complete. A key ID missing from a complete
+ * index may moreover appear with the next on-demand refresh of an issuer, unless the rate limit
+ * of every such refresh is cooling down, see {@link #isMissConclusive()}. That refresh is left
+ * to the signature validation of the issuer the token names, so that unknown key IDs never
+ * trigger refreshes of all issuers.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author Oliver Wolff
+ * @since 1.0
+ */
+public class KeyIdIssuerIndex {
+
+    private static final CuiLogger LOGGER = new CuiLogger(KeyIdIssuerIndex.class);
+
+    private final boolean openIssuerSet;
+    private final Runnable keyChangeListener = this::rebuild;
+
+    /**
+     * Loaders notifying {@link #keyChangeListener}, only their keys are indexed.
+     * Guarded by {@code this}.
+     */
+    private final Set<JwksLoader> notifyingLoaders = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Guarded by {@code this}.
+     */
+    private List<IssuerConfig> issuerConfigs;
+
+    @SuppressWarnings("java:S3077") // IndexState is immutable, safe for concurrent reads after volatile publication
+    private volatile IndexState state = IndexState.EMPTY;
+
+    /**
+     * Creates a new index for the given issuer configurations. Disabled configurations are ignored.
+     *
+     * @param issuerConfigs the issuer configurations whose JWKS are indexed
+     */
+    public KeyIdIssuerIndex(Collection<IssuerConfig> issuerConfigs) {
+        this(issuerConfigs, false);
+    }
+
+    /**
+     * Creates a new index for the given issuer configurations. Disabled configurations are ignored.
+     *
+     * @param issuerConfigs the issuer configurations whose JWKS are indexed
+     * @param openIssuerSet {@code true} if further issuers may appear with their first token,
+     *                      so that the index is never {@link #isComplete() complete}
+     */
+    public KeyIdIssuerIndex(Collection<IssuerConfig> issuerConfigs, boolean openIssuerSet) {
+        this.openIssuerSet = openIssuerSet;
+        // Notifications arriving meanwhile wait for the initial rebuild
+        synchronized (this) {
+            this.issuerConfigs = issuerConfigs.stream().filter(IssuerConfig::isEnabled).toList();
+            this.issuerConfigs.forEach(this::listen);
+            rebuild();
+        }
+    }
+
+    /**
+     * Resolves the issuers whose JWKS contain the given key ID.
+     *
+     * @param kid the key ID from the token header, must not be null
+     * @return the issuer configurations owning the key, empty if no indexed JWKS contains it
+     */
+    public List<IssuerConfig> lookup(String kid) {
+        return state.owners().getOrDefault(kid, List.of());
+    }
+
+    /**
+     * Adds the given issuer to the index, replacing a configuration of the same issuer.
+     * Disabled configurations only remove the previous configuration.
+     *
+     * @param issuerConfig the configuration whose JWKS is indexed
+     */
+    public synchronized void register(IssuerConfig issuerConfig) {
+        List<IssuerConfig> updated = new ArrayList<>(issuerConfigs.size() + 1);
+        for (IssuerConfig config : issuerConfigs) {
+            if (config.getIssuerIdentifier().equals(issuerConfig.getIssuerIdentifier())) {
+                forget(config);
+            } else {
+                updated.add(config);
+            }
+        }
+        if (issuerConfig.isEnabled()) {
+            updated.add(issuerConfig);
+            listen(issuerConfig);
+        }
+        issuerConfigs = List.copyOf(updated);
+        rebuild();
+    }
+
+    /**
+     * Removes the given issuer from the index.
+     *
+     * @param issuer the identifier of the removed issuer
+     */
+    public synchronized void unregister(String issuer) {
+        List<IssuerConfig> updated = new ArrayList<>(issuerConfigs.size());
+        for (IssuerConfig config : issuerConfigs) {
+            if (config.getIssuerIdentifier().equals(issuer)) {
+                forget(config);
+            } else {
+                updated.add(config);
+            }
+        }
+        issuerConfigs = List.copyOf(updated);
+        rebuild();
+    }
+
+    /**
+     * Checks whether the keys of all enabled issuers are indexed, making negative lookups conclusive.
+     *
+     * @return {@code true} if the set of issuers is closed and the JWKS loaders of all issuers
+     * report {@link LoaderStatus#OK} and notify key changes
+     */
+    public boolean isComplete() {
+        return state.complete();
+    }
+
+    /**
+     * Checks whether a key ID missing from the index is unknown to all issuers, so that the token
+     * can be rejected without resolving its issuer.
+     *
+     * @return {@code true} if the index is {@link #isComplete() complete} and no issuer could
+     * currently refresh its keys on demand for unknown key IDs, see
+     * {@link JwksLoader#isOnDemandRefreshAvailable()}
+     */
+    public boolean isMissConclusive() {
+        IndexState current = state;
+        if (!current.complete()) {
+            return false;
+        }
+        // Evaluated per miss: the rate limit of the on-demand refresh expires without notification
+        for (JwksLoader loader : current.onDemandLoaders()) {
+            if (loader.isOnDemandRefreshAvailable()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void listen(IssuerConfig config) {
+        JwksLoader loader = config.getJwksLoader();
+        if (loader != null && !notifyingLoaders.contains(loader) && loader.addKeyChangeListener(keyChangeListener)) {
+            notifyingLoaders.add(loader);
+        }
+    }
+
+    private void forget(IssuerConfig config) {
+        JwksLoader loader = config.getJwksLoader();
+        if (loader != null) {
+            // The listener stays registered at the loader, its notifications only cause a rebuild
+            notifyingLoaders.remove(loader);
+        }
+    }
+
+    /**
+     * Rebuilds the index from the current keys of all issuers and publishes it.
+     */
+    private synchronized void rebuild() {
+        Map<String, List<IssuerConfig>> owners = new HashMap<>();
+        boolean complete = !openIssuerSet;
+        List<JwksLoader> onDemandLoaders = new ArrayList<>();
+        for (IssuerConfig config : issuerConfigs) {
+            JwksLoader loader = config.getJwksLoader();
+            if (loader == null || !notifyingLoaders.contains(loader) || loader.getLoaderStatus() != LoaderStatus.OK) {
+                complete = false;
+                continue;
+            }
+            if (loader.isRefreshedOnDemand()) {
+                onDemandLoaders.add(loader);
+            }
+            for (KeyInfo key : loader.getAvailableKeys()) {
+                owners.computeIfAbsent(key.keyId(), kid -> new ArrayList<>(1)).add(config);
+            }
+        }
+        Map<String, List<IssuerConfig>> published = new HashMap<>(owners.size());
+        owners.forEach((kid, configs) -> published.put(kid, List.copyOf(configs)));
+        state = new IndexState(Map.copyOf(published), complete, List.copyOf(onDemandLoaders));
+        LOGGER.debug("Rebuilt key ID index with %s key IDs, complete: %s, refreshed on demand: %s",
+                published.size(), complete, onDemandLoaders.size());
+    }
+
+    /**
+     * Gets the number of indexed key IDs.
+     * Package-private for testing purposes.
+     *
+     * @return the number of key IDs currently indexed
+     */
+    int size() {
+        return state.owners().size();
+    }
+
+    /**
+     * The published state of the index.
+     *
+     * @param owners          the issuers by key ID
+     * @param complete        whether the keys of all issuers are indexed
+     * @param onDemandLoaders the indexed loaders refreshing their keys on demand
+     */
+    private record IndexState(Map<String, List<IssuerConfig>> owners, boolean complete, List<JwksLoader> onDemandLoaders) {
+
+        static final IndexState EMPTY = new IndexState(Map.of(), false, List.of());
+    }
+}
@@ -26,10 +26,11 @@ import de.cuioss.tools.logging.CuiLogger;
 import de.cuioss.tools.string.MoreStrings;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.jspecify.annotations.Nullable;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.function.Consumer;
 
 /**
  * This class provides a unified way to parse JWT tokens and extract common information
@@ -39,7 +40,8 @@ import java.util.Base64;
  * <ul>
  *   <li>Token size validation to prevent memory exhaustion</li>
  *   <li>Payload size validation for JSON parsing</li>
- *   <li>Standard Base64 decoding for JWT parts</li>
+ *   <li>Standard Base64 decoding for JWT parts (HotSpot intrinsic, vectorized on x86/aarch64)</li>
+ *   <li>Decoded part size is checked before allocating the decoded buffer</li>
  *   <li>Proper character encoding handling</li>
  *   <li>JSON depth limits to prevent stack overflow attacks</li>
  *   <li>JSON array size limits to prevent denial-of-service attacks</li>
@@ -202,7 +204,7 @@ public class NonValidatingJwtParser {
      * @throws TokenValidationException if the token is invalid or cannot be parsed
      */
     public DecodedJwt decodeOpaqueToken(String token) {
-        return decodeInternal(token, false, false);
+        return decodeInternal(token, null, false, false);
     }
 
     /**
@@ -224,68 +226,52 @@ public class NonValidatingJwtParser {
      * @throws TokenValidationException if the token is invalid or cannot be parsed
      */
     public DecodedJwt decode(String token, boolean logWarnings) {
-        return decodeInternal(token, logWarnings, true);
+        return decodeInternal(token, null, logWarnings, true);
+    }
+
+    /**
+     * Decodes a JWT token, passing the header to the given screen before the payload is decoded.
+     * <p>
+     * This enables cheap pre-screening of tokens (key ID, algorithm) before the potentially
+     * large payload is decoded. Size, format and header are checked exactly like in
+     * {@link #decode(String)} and before the screen is called, so that a token rejected by the
+     * screen reports the same event as before for any structural defect.
+     *
+     * @param token        the JWT token string to parse
+     * @param headerScreen called with the decoded header, rejects the token by throwing a
+     *                     {@link TokenValidationException}
+     * @return the DecodedJwt if parsing is successful
+     * @throws TokenValidationException if the token is invalid, cannot be parsed or is rejected by the screen
+     */
+    public DecodedJwt decode(String token, Consumer<JwtHeader> headerScreen) {
+        return decodeInternal(token, headerScreen, true, true);
     }
 
     /**
      * Internal method that handles token decoding with configurable logging and security tracking.
      *
      * @param token the JWT token string to parse
+     * @param headerScreen the screen called with the header before the payload is decoded, may be null
      * @param logWarnings whether to log warnings when decoding fails
      * @param trackSecurityEvents whether to track security events on failures
      * @return the DecodedJwt if parsing is successful
      * @throws TokenValidationException if the token is invalid or cannot be parsed
      */
-    @SuppressWarnings("java:S3776") // owolff: Justified - complexity due to logging and security event tracking
-    private DecodedJwt decodeInternal(String token, boolean logWarnings, boolean trackSecurityEvents) {
-        // Check if token is empty
-        if (MoreStrings.isEmpty(token)) {
-            if (logWarnings) {
-                LOGGER.warn(JWTValidationLogMessages.WARN.TOKEN_IS_EMPTY);
-            }
-            if (trackSecurityEvents) {
-                securityEventCounter.increment(SecurityEventCounter.EventType.TOKEN_EMPTY);
-            }
-            throw new TokenValidationException(
-                    SecurityEventCounter.EventType.TOKEN_EMPTY,
-                    "Token is empty or null"
-            );
-        }
-
-        // Check if token size exceeds maximum
-        if (token.getBytes(StandardCharsets.UTF_8).length > config.getMaxTokenSize()) {
-            if (logWarnings) {
-                LOGGER.warn(JWTValidationLogMessages.WARN.TOKEN_SIZE_EXCEEDED, config.getMaxTokenSize());
-            }
-            if (trackSecurityEvents) {
-                securityEventCounter.increment(SecurityEventCounter.EventType.TOKEN_SIZE_EXCEEDED);
-            }
-            throw new TokenValidationException(
-                    SecurityEventCounter.EventType.TOKEN_SIZE_EXCEEDED,
-                    JWTValidationLogMessages.WARN.TOKEN_SIZE_EXCEEDED.format(config.getMaxTokenSize())
-            );
-        }
+    private DecodedJwt decodeInternal(String token, @Nullable Consumer<JwtHeader> headerScreen,
+            boolean logWarnings, boolean trackSecurityEvents) {
+        checkTokenSize(token, logWarnings, trackSecurityEvents);
 
         // Split token and validate format
         String[] parts = token.split("\\.");
         if (parts.length != 3) {
-            if (logWarnings) {
-                LOGGER.warn(JWTValidationLogMessages.WARN.INVALID_JWT_FORMAT, parts.length);
-            }
-            if (trackSecurityEvents) {
-                securityEventCounter.increment(SecurityEventCounter.EventType.INVALID_JWT_FORMAT);
-            }
-            throw new TokenValidationException(
-                    SecurityEventCounter.EventType.INVALID_JWT_FORMAT,
-                    JWTValidationLogMessages.WARN.INVALID_JWT_FORMAT.format(parts.length)
-            );
+            throw invalidFormat(parts.length, logWarnings, trackSecurityEvents);
         }
 
         try {
             // Decode token parts
-            return decodeTokenParts(parts, token, logWarnings, trackSecurityEvents);
+            return decodeTokenParts(parts, token, headerScreen, logWarnings, trackSecurityEvents);
         } catch (IllegalArgumentException e) {
-            if (logWarnings) {
+            if (logWarnings && securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.FAILED_TO_DECODE_JWT)) {
                 LOGGER.warn(e, JWTValidationLogMessages.WARN.FAILED_TO_DECODE_JWT);
             }
             if (trackSecurityEvents) {
@@ -293,7 +279,7 @@ public class NonValidatingJwtParser {
             }
             throw new TokenValidationException(
                     SecurityEventCounter.EventType.FAILED_TO_DECODE_JWT,
-                    "Failed to decode JWT: %s".formatted(e.getMessage()),
+                    () -> "Failed to decode JWT: %s".formatted(e.getMessage()),
                     e
             );
         }
@@ -305,15 +291,20 @@ public class NonValidatingJwtParser {
      *
      * @param parts                the token parts
      * @param token                the original token
+     * @param headerScreen         the screen called with the header before the payload is decoded, may be null
      * @param logWarnings          whether to log warnings
      * @param trackSecurityEvents  whether to track security events
      * @return the DecodedJwt if decoding is successful
      * @throws TokenValidationException if decoding fails
      */
-    private DecodedJwt decodeTokenParts(String[] parts, String token, boolean logWarnings, boolean trackSecurityEvents) {
+    private DecodedJwt decodeTokenParts(String[] parts, String token, @Nullable Consumer<JwtHeader> headerScreen,
+            boolean logWarnings, boolean trackSecurityEvents) {
         try {
             // Decode the header (first part) to JwtHeader using DSL-JSON
             JwtHeader header = decodeJwtHeader(parts[0]);
+            if (headerScreen != null) {
+                headerScreen.accept(header);
+            }
 
             // Decode the payload (second part) to MapRepresentation using DSL-JSON
             MapRepresentation body = decodePayload(parts[1]);
@@ -324,7 +315,7 @@ public class NonValidatingJwtParser {
             return new DecodedJwt(header, body, signature, parts, token);
         } catch (IOException e) {
             // IOException from DSL-JSON deserialization
-            if (logWarnings) {
+            if (logWarnings && securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.FAILED_TO_DECODE_JWT)) {
                 LOGGER.warn(e, JWTValidationLogMessages.WARN.FAILED_TO_DECODE_JWT);
             }
             if (trackSecurityEvents) {
@@ -332,7 +323,7 @@ public class NonValidatingJwtParser {
             }
             throw new TokenValidationException(
                     SecurityEventCounter.EventType.FAILED_TO_DECODE_JWT,
-                    "Failed to decode JWT parts: " + e.getMessage(),
+                    () -> "Failed to decode JWT parts: " + e.getMessage(),
                     e
             );
         }
@@ -346,10 +337,9 @@ public class NonValidatingJwtParser {
      * @throws IOException if decoding fails
      */
     private JwtHeader decodeJwtHeader(String encodedHeader) throws IOException {
-        String decodedJson = decodeBase64UrlPart(encodedHeader);
+        byte[] jsonBytes = decodeBase64UrlPart(encodedHeader);
         DslJson<Object> dslJson = config.getDslJson();
 
-        byte[] jsonBytes = decodedJson.getBytes();
         JwtHeader header = dslJson.deserialize(JwtHeader.class, jsonBytes, jsonBytes.length);
 
         if (header == null) {
@@ -370,41 +360,142 @@ public class NonValidatingJwtParser {
      * @throws IOException if decoding fails
      */
     private MapRepresentation decodePayload(String encodedPayload) throws IOException {
-        String decodedJson = decodeBase64UrlPart(encodedPayload);
+        byte[] jsonBytes = decodeBase64UrlPart(encodedPayload);
         DslJson<Object> dslJson = config.getDslJson();
 
-        return MapRepresentation.fromJson(dslJson, decodedJson);
+        return MapRepresentation.fromJson(dslJson, jsonBytes);
     }
 
     /**
-     * Decodes a Base64Url encoded part to JSON string.
+     * Decodes a Base64Url encoded part to the raw JSON bytes.
+     * <p>
+     * The JDK decoder is used deliberately: HotSpot replaces its block decoding with a
+     * vectorized intrinsic (AVX2/AVX-512 on x86, NEON on aarch64) that also validates the
+     * alphabet, which outperforms any hand-written scalar decoder. This method therefore
+     * focuses on avoiding work around the decoder:
+     * <ul>
+     *   <li>The decoded size is derived from the encoded length, so oversized parts are
+     *       rejected before the decoded buffer is allocated</li>
+     *   <li>The decoded bytes are handed to DSL-JSON directly, without an intermediate
+     *       String and the associated charset round trip</li>
+     * </ul>
      *
      * @param encodedPart the Base64Url encoded part
-     * @return the decoded JSON string
+     * @return the decoded JSON bytes (UTF-8)
      */
-    private String decodeBase64UrlPart(String encodedPart) {
+    private byte[] decodeBase64UrlPart(String encodedPart) {
         try {
-            byte[] decodedBytes = Base64.getUrlDecoder().decode(encodedPart);
+            // Check payload size limit to prevent memory exhaustion attacks.
+            // Every 4 characters carry 3 bytes, at most 2 characters may be padding.
+            long minimumDecodedSize = (encodedPart.length() * 3L >> 2) - 2;
+            if (minimumDecodedSize > config.getMaxPayloadSize()) {
+                throw decodedPartSizeExceeded();
+            }
 
-            // Check payload size limit to prevent memory exhaustion attacks
+            byte[] decodedBytes = Base64.getUrlDecoder().decode(encodedPart);
             if (decodedBytes.length > config.getMaxPayloadSize()) {
-                LOGGER.warn(JWTValidationLogMessages.WARN.DECODED_PART_SIZE_EXCEEDED, config.getMaxPayloadSize());
-                securityEventCounter.increment(SecurityEventCounter.EventType.DECODED_PART_SIZE_EXCEEDED);
-                throw new TokenValidationException(
-                        SecurityEventCounter.EventType.DECODED_PART_SIZE_EXCEEDED,
-                        JWTValidationLogMessages.WARN.DECODED_PART_SIZE_EXCEEDED.format(config.getMaxPayloadSize())
-                );
+                throw decodedPartSizeExceeded();
             }
 
-            return new String(decodedBytes, StandardCharsets.UTF_8);
+            return decodedBytes;
         } catch (IllegalArgumentException e) {
             throw new TokenValidationException(
                     SecurityEventCounter.EventType.FAILED_TO_DECODE_JWT,
-                    "Failed to decode Base64Url part: " + e.getMessage(),
+                    () -> "Failed to decode Base64Url part: " + e.getMessage(),
                     e
             );
         }
     }
 
+    /**
+     * Checks that the token is neither empty nor exceeds the maximum token size.
+     *
+     * @param token the token to check
+     * @param logWarnings whether to log warnings
+     * @param trackSecurityEvents whether to track security events
+     * @throws TokenValidationException if the token is empty or too large
+     */
+    private void checkTokenSize(String token, boolean logWarnings, boolean trackSecurityEvents) {
+        if (MoreStrings.isEmpty(token)) {
+            if (logWarnings && securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.TOKEN_EMPTY)) {
+                LOGGER.warn(JWTValidationLogMessages.WARN.TOKEN_IS_EMPTY);
+            }
+            if (trackSecurityEvents) {
+                securityEventCounter.increment(SecurityEventCounter.EventType.TOKEN_EMPTY);
+            }
+            throw new TokenValidationException(
+                    SecurityEventCounter.EventType.TOKEN_EMPTY,
+                    "Token is empty or null"
+            );
+        }
+
+        if (exceedsMaxTokenSize(token, config.getMaxTokenSize())) {
+            if (logWarnings && securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.TOKEN_SIZE_EXCEEDED)) {
+                LOGGER.warn(JWTValidationLogMessages.WARN.TOKEN_SIZE_EXCEEDED, config.getMaxTokenSize());
+            }
+            if (trackSecurityEvents) {
+                securityEventCounter.increment(SecurityEventCounter.EventType.TOKEN_SIZE_EXCEEDED);
+            }
+            throw new TokenValidationException(
+                    SecurityEventCounter.EventType.TOKEN_SIZE_EXCEEDED,
+                    () -> JWTValidationLogMessages.WARN.TOKEN_SIZE_EXCEEDED.format(config.getMaxTokenSize())
+            );
+        }
+    }
+
+    private TokenValidationException invalidFormat(int partCount, boolean logWarnings, boolean trackSecurityEvents) {
+        if (logWarnings && securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.INVALID_JWT_FORMAT)) {
+            LOGGER.warn(JWTValidationLogMessages.WARN.INVALID_JWT_FORMAT, partCount);
+        }
+        if (trackSecurityEvents) {
+            securityEventCounter.increment(SecurityEventCounter.EventType.INVALID_JWT_FORMAT);
+        }
+        return new TokenValidationException(
+                SecurityEventCounter.EventType.INVALID_JWT_FORMAT,
+                () -> JWTValidationLogMessages.WARN.INVALID_JWT_FORMAT.format(partCount)
+        );
+    }
+
+    private TokenValidationException decodedPartSizeExceeded() {
+        if (securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.DECODED_PART_SIZE_EXCEEDED)) {
+            LOGGER.warn(JWTValidationLogMessages.WARN.DECODED_PART_SIZE_EXCEEDED, config.getMaxPayloadSize());
+        }
+        securityEventCounter.increment(SecurityEventCounter.EventType.DECODED_PART_SIZE_EXCEEDED);
+        return new TokenValidationException(
+                SecurityEventCounter.EventType.DECODED_PART_SIZE_EXCEEDED,
+                () -> JWTValidationLogMessages.WARN.DECODED_PART_SIZE_EXCEEDED.format(config.getMaxPayloadSize())
+        );
+    }
+
+    /**
+     * Checks whether the UTF-8 encoded size of the token exceeds the given limit.
+     * <p>
+     * The encoded size is computed without encoding the token, avoiding a copy of the
+     * complete token for every validation. Valid JWTs are pure ASCII, so this usually
+     * boils down to a single scan.
+     *
+     * @param token the token to check
+     * @param maxTokenSize the maximum size in bytes
+     * @return {@code true} if the token exceeds the limit
+     */
+    static boolean exceedsMaxTokenSize(String token, int maxTokenSize) {
+        int length = token.length();
+        if (length > maxTokenSize) {
+            return true;
+        }
+        long encodedSize = length;
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c >= 0x80) {
+                // 2 bytes up to U+07FF, 3 bytes otherwise, a surrogate pair encodes to 4 bytes
+                encodedSize += c < 0x800 || Character.isSurrogate(c) ? 1 : 2;
+                if (encodedSize > maxTokenSize) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
 
 }
@@ -0,0 +1,285 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.pipeline;
+
+import de.cuioss.sheriff.oauth.core.JWTValidationLogMessages;
+import de.cuioss.sheriff.oauth.core.exception.TokenValidationException;
+import de.cuioss.sheriff.oauth.core.pipeline.SignatureVerificationLimiterConfig.OverloadStrategy;
+import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
+import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter.EventType;
+import de.cuioss.tools.logging.CuiLogger;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Adaptive concurrency limiter for the signature verification of access tokens.
+ * <p>
+ * A burst of cache misses, e.g. after a deployment or a key rotation, would otherwise run an
+ * unbounded number of RSA or ECDSA verifications concurrently and saturate all cores. The
+ * limiter admits at most {@link #getLimit()} verifications at a time and adapts that limit
+ * using AIMD:
+ * <ul>
+ *   <li>Each verification completing within the latency threshold increases the limit by
+ *   {@code 1 / limit}, i.e. by about one per round of verifications</li>
+ *   <li>A verification exceeding the latency threshold multiplies the limit with the
+ *   backoff ratio, at most once per round: slow verifications started before the last
+ *   decrease were admitted under the previous limit and leave the limit unchanged</li>
+ * </ul>
+ * Tokens arriving while the limit is reached are rejected with
+ * {@link EventType#SIGNATURE_VERIFICATION_OVERLOADED}, either immediately or after waiting
+ * for a permit up to the configured deadline, see {@link OverloadStrategy}. Callers may map
+ * this event type to a retryable response such as HTTP 503.
+ * <p>
+ * The limiter is applied by the {@link AccessTokenValidationPipeline} after the cache lookup,
+ * so cache hits never wait behind verifications. Admission is a compare-and-set on the
+ * in-flight counter; the lock is only used by tokens waiting for a permit.
+ * <p>
+ * The getters expose the current state for monitoring. This class is thread-safe.
+ *
+ * @author Oliver Wolff
+ * @since 1.0
+ */
+public final class SignatureVerificationLimiter {
+
+    private static final CuiLogger LOGGER = new CuiLogger(SignatureVerificationLimiter.class);
+
+    private final SecurityEventCounter securityEventCounter;
+    private final LongSupplier nanoClock;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final boolean queueing;
+    private final long maxQueueWaitNanos;
+
+    /**
+     * The fractional limit as raw double bits, allowing lock-free additive increases.
+     */
+    private final AtomicLong limitBits;
+    /**
+     * The time of the last multiplicative decrease, or of the creation of this limiter.
+     */
+    private final AtomicLong lastDecreaseNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+
+    /**
+     * Creates a new limiter.
+     *
+     * @param config the limiter configuration
+     * @param securityEventCounter the counter for rejected verifications
+     * @throws IllegalArgumentException if the configuration is inconsistent
+     */
+    public SignatureVerificationLimiter(SignatureVerificationLimiterConfig config,
+            SecurityEventCounter securityEventCounter) {
+        this(config, securityEventCounter, System::nanoTime);
+    }
+
+    SignatureVerificationLimiter(SignatureVerificationLimiterConfig config,
+            SecurityEventCounter securityEventCounter, LongSupplier nanoClock) {
+        if (config.getMinLimit() < 1 || config.getMaxLimit() < config.getMinLimit()) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= minLimit <= maxLimit, but were minLimit=%s, maxLimit=%s"
+                    .formatted(config.getMinLimit(), config.getMaxLimit()));
+        }
+        if (config.getBackoffRatio() <= 0 || config.getBackoffRatio() >= 1) {
+            throw new IllegalArgumentException("backoffRatio must be between 0 and 1, but was " + config.getBackoffRatio());
+        }
+        if (config.getLatencyThreshold().isNegative() || config.getMaxQueueWait().isNegative()) {
+            throw new IllegalArgumentException("Durations must not be negative: " + config);
+        }
+        this.securityEventCounter = securityEventCounter;
+        this.nanoClock = nanoClock;
+        this.minLimit = config.getMinLimit();
+        this.maxLimit = config.getMaxLimit();
+        this.latencyThresholdNanos = config.getLatencyThreshold().toNanos();
+        this.backoffRatio = config.getBackoffRatio();
+        this.queueing = config.getOverloadStrategy() == OverloadStrategy.QUEUE;
+        this.maxQueueWaitNanos = config.getMaxQueueWait().toNanos();
+        int initialLimit = Math.clamp(config.getInitialLimit(), minLimit, maxLimit);
+        this.limitBits = new AtomicLong(Double.doubleToRawLongBits(initialLimit));
+        this.lastDecreaseNanos = new AtomicLong(nanoClock.getAsLong());
+        LOGGER.debug("Created SignatureVerificationLimiter with %s", config);
+    }
+
+    /**
+     * Runs the given signature verification once a permit is available.
+     * <p>
+     * The latency of the verification adjusts the limit, regardless of whether the signature
+     * is valid, since the cost of an invalid signature is the same.
+     *
+     * @param verification the signature verification, may throw {@link TokenValidationException}
+     * @throws TokenValidationException with {@link EventType#SIGNATURE_VERIFICATION_OVERLOADED}
+     *                                  if no permit is available, or from the verification itself
+     */
+    public void execute(Runnable verification) {
+        acquire();
+        long start = nanoClock.getAsLong();
+        try {
+            verification.run();
+        } finally {
+            release(start, nanoClock.getAsLong());
+        }
+    }
+
+    /**
+     * @return the current concurrency limit
+     */
+    public int getLimit() {
+        return (int) currentLimit();
+    }
+
+    /**
+     * @return the number of verifications currently running
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return the number of tokens currently waiting for a permit
+     */
+    public int getQueued() {
+        return queued.get();
+    }
+
+    /**
+     * @return the total number of admitted verifications
+     */
+    public long getAdmittedCount() {
+        return admitted.sum();
+    }
+
+    /**
+     * @return the total number of tokens rejected due to overload
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    private void acquire() {
+        if (tryAcquirePermit() || (queueing && awaitPermit())) {
+            admitted.increment();
+            return;
+        }
+        reject();
+    }
+
+    private boolean tryAcquirePermit() {
+        int limit = getLimit();
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private boolean awaitPermit() {
+        // Registering before taking the lock ensures a concurrent release signals this thread
+        queued.incrementAndGet();
+        lock.lock();
+        try {
+            long remaining = maxQueueWaitNanos;
+            while (!tryAcquirePermit()) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = permitReleased.awaitNanos(remaining);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lock.unlock();
+            queued.decrementAndGet();
+        }
+    }
+
+    private void release(long startNanos, long endNanos) {
+        inFlight.decrementAndGet();
+        if (endNanos - startNanos <= latencyThresholdNanos) {
+            adjustLimit(false);
+        } else if (claimDecrease(startNanos, endNanos)) {
+            adjustLimit(true);
+        }
+        if (queued.get() > 0) {
+            lock.lock();
+            try {
+                permitReleased.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Claims the decrease for a slow verification, unless it started before the last decrease:
+     * the slow verifications of one round then cut the limit only once.
+     */
+    private boolean claimDecrease(long startNanos, long endNanos) {
+        long lastDecrease;
+        do {
+            lastDecrease = lastDecreaseNanos.get();
+            if (startNanos - lastDecrease < 0) {
+                return false;
+            }
+        } while (!lastDecreaseNanos.compareAndSet(lastDecrease, endNanos));
+        return true;
+    }
+
+    private void adjustLimit(boolean overloaded) {
+        long currentBits;
+        long newBits;
+        do {
+            currentBits = limitBits.get();
+            double limit = Double.longBitsToDouble(currentBits);
+            double newLimit = overloaded
+                    ? Math.max(minLimit, limit * backoffRatio)
+                    : Math.min(maxLimit, limit + 1 / limit);
+            newBits = Double.doubleToRawLongBits(newLimit);
+        } while (currentBits != newBits && !limitBits.compareAndSet(currentBits, newBits));
+    }
+
+    private double currentLimit() {
+        return Double.longBitsToDouble(limitBits.get());
+    }
+
+    private void reject() {
+        rejected.increment();
+        int limit = getLimit();
+        int running = inFlight.get();
+        if (securityEventCounter.isLoggingPermitted(EventType.SIGNATURE_VERIFICATION_OVERLOADED)) {
+            LOGGER.warn(JWTValidationLogMessages.WARN.SIGNATURE_VERIFICATION_OVERLOADED, running, limit);
+        }
+        securityEventCounter.increment(EventType.SIGNATURE_VERIFICATION_OVERLOADED);
+        throw new TokenValidationException(
+                EventType.SIGNATURE_VERIFICATION_OVERLOADED,
+                () -> "Signature verification rejected due to overload, concurrency limit of %s reached".formatted(limit)
+        );
+    }
+}
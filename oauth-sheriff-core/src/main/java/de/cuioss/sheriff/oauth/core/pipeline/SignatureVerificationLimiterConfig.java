@@ -0,0 +1,151 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.pipeline;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the admission control of signature verifications, see
+ * {@link SignatureVerificationLimiter}.
+ * <p>
+ * The limiter bounds the number of concurrent signature verifications of access tokens. The
+ * limit adapts between {@link #getMinLimit()} and {@link #getMaxLimit()} using AIMD: it grows
+ * additively while verifications complete within {@link #getLatencyThreshold()} and shrinks by
+ * {@link #getBackoffRatio()} whenever a verification takes longer. Tokens arriving while the
+ * limit is reached are either rejected immediately or wait up to {@link #getMaxQueueWait()},
+ * depending on the {@link OverloadStrategy}.
+ * <p>
+ * Usage example:
+ * <pre>
+ * SignatureVerificationLimiterConfig config = SignatureVerificationLimiterConfig.builder()
+ *     .maxLimit(32)
+ *     .latencyThreshold(Duration.ofMillis(10))
+ *     .overloadStrategy(OverloadStrategy.FAIL_FAST)
+ *     .build();
+ * </pre>
+ *
+ * @author Oliver Wolff
+ * @since 1.0
+ */
+@Builder
+@Getter
+@ToString
+public class SignatureVerificationLimiterConfig {
+
+    private static final int AVAILABLE_PROCESSORS = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Default initial limit: one verification per available processor.
+     */
+    public static final int DEFAULT_INITIAL_LIMIT = AVAILABLE_PROCESSORS;
+
+    /**
+     * Default lower bound of the limit.
+     */
+    public static final int DEFAULT_MIN_LIMIT = 1;
+
+    /**
+     * Default upper bound of the limit: four verifications per available processor.
+     */
+    public static final int DEFAULT_MAX_LIMIT = AVAILABLE_PROCESSORS * 4;
+
+    /**
+     * Default latency above which a verification is considered a sign of overload.
+     */
+    public static final Duration DEFAULT_LATENCY_THRESHOLD = Duration.ofMillis(20);
+
+    /**
+     * Default factor applied to the limit on overload.
+     */
+    public static final double DEFAULT_BACKOFF_RATIO = 0.9;
+
+    /**
+     * Default maximum time a token waits for a permit with {@link OverloadStrategy#QUEUE}.
+     */
+    public static final Duration DEFAULT_MAX_QUEUE_WAIT = Duration.ofMillis(100);
+
+    /**
+     * Behavior for tokens arriving while the concurrency limit is reached.
+     */
+    public enum OverloadStrategy {
+
+        /**
+         * Reject the token immediately.
+         */
+        FAIL_FAST,
+
+        /**
+         * Wait for a permit up to {@link #getMaxQueueWait()}, reject the token afterwards.
+         */
+        QUEUE
+    }
+
+    /**
+     * The limit used before any verification completed.
+     */
+    @Builder.Default
+    private final int initialLimit = DEFAULT_INITIAL_LIMIT;
+
+    /**
+     * The lower bound of the limit, must be at least 1.
+     */
+    @Builder.Default
+    private final int minLimit = DEFAULT_MIN_LIMIT;
+
+    /**
+     * The upper bound of the limit, must not be lower than {@link #minLimit}.
+     */
+    @Builder.Default
+    private final int maxLimit = DEFAULT_MAX_LIMIT;
+
+    /**
+     * Verifications taking longer decrease the limit, faster ones increase it.
+     */
+    @Builder.Default
+    private final Duration latencyThreshold = DEFAULT_LATENCY_THRESHOLD;
+
+    /**
+     * The factor applied to the limit on overload, must be greater than 0 and lower than 1.
+     */
+    @Builder.Default
+    private final double backoffRatio = DEFAULT_BACKOFF_RATIO;
+
+    /**
+     * The behavior for tokens arriving while the limit is reached.
+     */
+    @Builder.Default
+    private final OverloadStrategy overloadStrategy = OverloadStrategy.QUEUE;
+
+    /**
+     * The maximum time a token waits for a permit, only used with {@link OverloadStrategy#QUEUE}.
+     */
+    @Builder.Default
+    private final Duration maxQueueWait = DEFAULT_MAX_QUEUE_WAIT;
+
+    /**
+     * Creates a default configuration.
+     *
+     * @return a configuration queueing tokens up to 100ms with a limit between 1 and four
+     * verifications per available processor
+     */
+    public static SignatureVerificationLimiterConfig defaultConfig() {
+        return SignatureVerificationLimiterConfig.builder().build();
+    }
+}
@@ -24,7 +24,7 @@ import de.cuioss.sheriff.oauth.core.domain.token.TokenContent;
 import de.cuioss.sheriff.oauth.core.exception.TokenValidationException;
 import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
 import de.cuioss.tools.logging.CuiLogger;
-import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
 
 import java.util.List;
 import java.util.Set;
@@ -42,22 +42,40 @@ import java.util.Set;
  *   <li>If audience is missing, azp claim can serve as fallback</li>
  *   <li>At least one token audience must match an expected audience</li>
  * </ul>
+ * <p>
+ * The audience lookup is prepared at construction: a single expected audience, the common case,
+ * is matched by a plain string comparison, so that the validation of a matching token does not allocate.
  *
  * @author Oliver Wolff
  * @since 1.0
  */
-@RequiredArgsConstructor
 public class AudienceValidator {
 
     private static final CuiLogger LOGGER = new CuiLogger(AudienceValidator.class);
-    private static final String AUDIENCE_MATCHES_EXPECTED_AUDIENCE_S = "Token audience matches expected audience: %s";
-
+    private static final String AUDIENCE_MATCHES_EXPECTED_AUDIENCE = "Token audience matches expected audience";
 
     private final Set<String> expectedAudience;
 
+    /**
+     * The only expected audience, if exactly one is configured, otherwise {@code null}.
+     */
+    @Nullable
+    private final String singleExpectedAudience;
 
     private final SecurityEventCounter securityEventCounter;
 
+    /**
+     * Creates a new AudienceValidator.
+     *
+     * @param expectedAudience the expected audience values, empty to skip validation
+     * @param securityEventCounter the counter for security events
+     */
+    public AudienceValidator(Set<String> expectedAudience, SecurityEventCounter securityEventCounter) {
+        this.expectedAudience = expectedAudience;
+        this.singleExpectedAudience = expectedAudience.size() == 1 ? expectedAudience.iterator().next() : null;
+        this.securityEventCounter = securityEventCounter;
+    }
+
     /**
      * Validates the audience claim of the token.
      *
@@ -70,14 +88,21 @@ public class AudienceValidator {
             return;
         }
 
-        var audienceClaim = token.getClaimOption(ClaimName.AUDIENCE);
+        ClaimValue audienceClaim = token.getClaims().get(ClaimName.AUDIENCE.getName());
 
-        if (audienceClaim.isEmpty() || audienceClaim.get().isNotPresentForClaimValueType()) {
+        if (audienceClaim == null || audienceClaim.isNotPresentForClaimValueType()) {
             handleMissingAudience(token);
             return;
         }
 
-        validateAudienceClaim(audienceClaim.get());
+        validateAudienceClaim(audienceClaim);
+    }
+
+    private boolean isExpectedAudience(String audience) {
+        if (singleExpectedAudience != null) {
+            return singleExpectedAudience.equals(audience);
+        }
+        return expectedAudience.contains(audience);
     }
 
     private void handleMissingAudience(TokenContent token) {
@@ -86,11 +111,13 @@ public class AudienceValidator {
         }
 
         if (TokenType.ID_TOKEN.equals(token.getTokenType())) {
-            LOGGER.warn(JWTValidationLogMessages.WARN.MISSING_CLAIM, ClaimName.AUDIENCE.getName());
+            if (securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.MISSING_CLAIM)) {
+                LOGGER.warn(JWTValidationLogMessages.WARN.MISSING_CLAIM, ClaimName.AUDIENCE.getName());
+            }
             securityEventCounter.increment(SecurityEventCounter.EventType.MISSING_CLAIM);
             throw new TokenValidationException(
                     SecurityEventCounter.EventType.MISSING_CLAIM,
-                    "Missing required audience claim in ID token. Expected audience: " + expectedAudience + ", Available claims: " + token.getClaims().keySet()
+                    () -> "Missing required audience claim in ID token. Expected audience: " + expectedAudience + ", Available claims: " + token.getClaims().keySet()
             );
         } else {
             LOGGER.debug("Audience claim is optional for access tokens, so if it's not present, validation passes");
@@ -101,7 +128,7 @@ public class AudienceValidator {
         var azpClaim = token.getClaimOption(ClaimName.AUTHORIZED_PARTY);
         if (azpClaim.isPresent() && !azpClaim.get().isEmpty()) {
             String azp = azpClaim.get().getOriginalString();
-            if (expectedAudience.contains(azp)) {
+            if (isExpectedAudience(azp)) {
                 LOGGER.debug("Audience claim is missing but azp claim matches expected audience: %s", azp);
                 return true;
             }
@@ -115,49 +142,49 @@ public class AudienceValidator {
         } else if (claim.getType() == ClaimValueType.STRING) {
             validateStringAudience(claim.getOriginalString());
         } else {
-            LOGGER.warn(JWTValidationLogMessages.WARN.AUDIENCE_MISMATCH, claim.getOriginalString(), expectedAudience);
+            if (securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.AUDIENCE_MISMATCH)) {
+                LOGGER.warn(JWTValidationLogMessages.WARN.AUDIENCE_MISMATCH, claim.getOriginalString(), expectedAudience);
+            }
             securityEventCounter.increment(SecurityEventCounter.EventType.AUDIENCE_MISMATCH);
             throw new TokenValidationException(
                     SecurityEventCounter.EventType.AUDIENCE_MISMATCH,
-                    "Unexpected audience claim type: " + claim.getType() + ". Expected STRING or STRING_LIST. Audience value: " + claim.getOriginalString() + ", Expected audience: " + expectedAudience
+                    () -> "Unexpected audience claim type: " + claim.getType() + ". Expected STRING or STRING_LIST. Audience value: " + claim.getOriginalString() + ", Expected audience: " + expectedAudience
             );
         }
     }
 
     private void validateStringListAudience(List<String> audienceList) {
-        // Use streaming operations to avoid temporary collections and improve performance
-        boolean hasMatch = audienceList.stream()
-                .anyMatch(audience -> {
-                    if (expectedAudience.contains(audience)) {
-                        LOGGER.debug(AUDIENCE_MATCHES_EXPECTED_AUDIENCE_S, audience);
-                        return true;
-                    }
-                    return false;
-                });
-
-        if (hasMatch) {
-            return;
+        // Indexed loop: the lists created by the claim mappers are random access, no iterator needed
+        for (int i = 0; i < audienceList.size(); i++) {
+            if (isExpectedAudience(audienceList.get(i))) {
+                LOGGER.debug(AUDIENCE_MATCHES_EXPECTED_AUDIENCE);
+                return;
+            }
         }
 
-        LOGGER.warn(JWTValidationLogMessages.WARN.AUDIENCE_MISMATCH, audienceList, expectedAudience);
+        if (securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.AUDIENCE_MISMATCH)) {
+            LOGGER.warn(JWTValidationLogMessages.WARN.AUDIENCE_MISMATCH, audienceList, expectedAudience);
+        }
         securityEventCounter.increment(SecurityEventCounter.EventType.AUDIENCE_MISMATCH);
         throw new TokenValidationException(
                 SecurityEventCounter.EventType.AUDIENCE_MISMATCH,
-                "Audience mismatch: token audience " + audienceList + " does not match any expected audience " + expectedAudience
+                () -> "Audience mismatch: token audience " + audienceList + " does not match any expected audience " + expectedAudience
         );
     }
 
     private void validateStringAudience(String singleAudience) {
-        if (expectedAudience.contains(singleAudience)) {
-            LOGGER.debug(AUDIENCE_MATCHES_EXPECTED_AUDIENCE_S, singleAudience);
+        if (isExpectedAudience(singleAudience)) {
+            LOGGER.debug(AUDIENCE_MATCHES_EXPECTED_AUDIENCE);
             return;
         }
 
-        LOGGER.warn(JWTValidationLogMessages.WARN.AUDIENCE_MISMATCH, singleAudience, expectedAudience);
+        if (securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.AUDIENCE_MISMATCH)) {
+            LOGGER.warn(JWTValidationLogMessages.WARN.AUDIENCE_MISMATCH, singleAudience, expectedAudience);
+        }
         securityEventCounter.increment(SecurityEventCounter.EventType.AUDIENCE_MISMATCH);
         throw new TokenValidationException(
                 SecurityEventCounter.EventType.AUDIENCE_MISMATCH,
-                "Audience mismatch: token audience '" + singleAudience + "' does not match any expected audience " + expectedAudience + ". Please verify the client_id or audience configuration."
+                () -> "Audience mismatch: token audience '" + singleAudience + "' does not match any expected audience " + expectedAudience + ". Please verify the client_id or audience configuration."
         );
     }
 }
\ No newline at end of file
@@ -17,6 +17,7 @@ package de.cuioss.sheriff.oauth.core.pipeline.validator;
 
 import de.cuioss.sheriff.oauth.core.JWTValidationLogMessages;
 import de.cuioss.sheriff.oauth.core.domain.claim.ClaimName;
+import de.cuioss.sheriff.oauth.core.domain.claim.ClaimValue;
 import de.cuioss.sheriff.oauth.core.domain.token.TokenContent;
 import de.cuioss.sheriff.oauth.core.exception.TokenValidationException;
 import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
@@ -69,9 +70,11 @@ public class AuthorizedPartyValidator {
             return;
         }
 
-        var azpObj = token.getClaimOption(ClaimName.AUTHORIZED_PARTY);
-        if (azpObj.isEmpty() || azpObj.get().isEmpty()) {
-            LOGGER.warn(JWTValidationLogMessages.WARN.MISSING_CLAIM, ClaimName.AUTHORIZED_PARTY.getName());
+        ClaimValue azpClaim = token.getClaims().get(ClaimName.AUTHORIZED_PARTY.getName());
+        if (azpClaim == null || azpClaim.isEmpty()) {
+            if (securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.MISSING_CLAIM)) {
+                LOGGER.warn(JWTValidationLogMessages.WARN.MISSING_CLAIM, ClaimName.AUTHORIZED_PARTY.getName());
+            }
             securityEventCounter.increment(SecurityEventCounter.EventType.MISSING_CLAIM);
             throw new TokenValidationException(
                     SecurityEventCounter.EventType.MISSING_CLAIM,
@@ -79,15 +82,17 @@ public class AuthorizedPartyValidator {
             );
         }
 
-        String azp = azpObj.get().getOriginalString();
+        String azp = azpClaim.getOriginalString();
         if (!expectedClientId.contains(azp)) {
-            LOGGER.warn(JWTValidationLogMessages.WARN.AZP_MISMATCH, azp, expectedClientId);
+            if (securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.AZP_MISMATCH)) {
+                LOGGER.warn(JWTValidationLogMessages.WARN.AZP_MISMATCH, azp, expectedClientId);
+            }
             securityEventCounter.increment(SecurityEventCounter.EventType.AZP_MISMATCH);
             throw new TokenValidationException(
                     SecurityEventCounter.EventType.AZP_MISMATCH,
-                    "Authorized party mismatch: token azp '%s' does not match any expected client ID %s".formatted(azp, expectedClientId)
+                    () -> "Authorized party mismatch: token azp '%s' does not match any expected client ID %s".formatted(azp, expectedClientId)
             );
         }
-        LOGGER.debug("Successfully validated authorized party: %s", azp);
+        LOGGER.debug("Successfully validated authorized party");
     }
 }
\ No newline at end of file
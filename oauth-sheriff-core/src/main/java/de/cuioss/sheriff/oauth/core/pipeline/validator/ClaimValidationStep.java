@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.pipeline.validator;
+
+import de.cuioss.sheriff.oauth.core.domain.context.ValidationContext;
+import de.cuioss.sheriff.oauth.core.domain.token.TokenContent;
+import de.cuioss.sheriff.oauth.core.exception.TokenValidationException;
+
+/**
+ * A single step of the claim validation plan compiled by {@link TokenClaimValidator}.
+ * <p>
+ * The built-in checks (mandatory claims, audience, authorized party, not before, expiration)
+ * are steps, and custom steps can be added per issuer via
+ * {@link de.cuioss.sheriff.oauth.core.IssuerConfig.IssuerConfigBuilder#claimValidationStep(ClaimValidationStep)}.
+ * Custom steps run after the built-in ones, in the order they were added.
+ * <p>
+ * Steps are executed for every validated token and must be thread-safe. To keep the
+ * validation of valid tokens free of allocations, implementations should precompute
+ * everything they need at construction and only allocate when rejecting a token.
+ * <p>
+ * A rejecting step reports the violation the same way as the built-in validators: it logs a
+ * warning, increments the corresponding {@link de.cuioss.sheriff.oauth.core.security.SecurityEventCounter}
+ * event and throws a {@link TokenValidationException} carrying that event type.
+ *
+ * @author Oliver Wolff
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface ClaimValidationStep {
+
+    /**
+     * Validates the given token.
+     *
+     * @param token the token content to validate
+     * @param context the validation context containing cached current time
+     * @throws TokenValidationException if the token is rejected by this step
+     */
+    void validate(TokenContent token, ValidationContext context);
+}
@@ -16,6 +16,8 @@
 package de.cuioss.sheriff.oauth.core.pipeline.validator;
 
 import de.cuioss.sheriff.oauth.core.JWTValidationLogMessages;
+import de.cuioss.sheriff.oauth.core.domain.claim.ClaimName;
+import de.cuioss.sheriff.oauth.core.domain.claim.ClaimValue;
 import de.cuioss.sheriff.oauth.core.domain.context.ValidationContext;
 import de.cuioss.sheriff.oauth.core.domain.token.TokenContent;
 import de.cuioss.sheriff.oauth.core.exception.TokenValidationException;
@@ -23,6 +25,8 @@ import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
 import de.cuioss.tools.logging.CuiLogger;
 import lombok.RequiredArgsConstructor;
 
+import java.time.OffsetDateTime;
+
 /**
  * Validator for JWT expiration and time-based claims.
  * <p>
@@ -34,6 +38,8 @@ import lombok.RequiredArgsConstructor;
  * <p>
  * The validator includes a 60-second clock skew tolerance for the not-before validation
  * to account for time differences between token issuer and validator.
+ * <p>
+ * Claims are read directly from the claim map, so that validating a valid token does not allocate.
  *
  * @author Oliver Wolff
  * @since 1.0
@@ -58,13 +64,20 @@ public class ExpirationValidator {
      * @throws TokenValidationException if the token is expired
      */
     public void validateNotExpired(TokenContent token, ValidationContext context) {
-        LOGGER.debug("validate expiration. Can be done directly, because %s", token);
-        if (token.isExpired(context)) {
-            LOGGER.warn(JWTValidationLogMessages.WARN.TOKEN_EXPIRED);
+        LOGGER.debug("validate expiration. Can be done directly");
+        ClaimValue expiration = token.getClaims().get(ClaimName.EXPIRATION.getName());
+        if (expiration == null || expiration.getDateTime() == null) {
+            // Same contract as TokenContent#getExpirationTime(), presence is ensured by the mandatory claims validation
+            throw new IllegalStateException("ExpirationTime claim not present in token");
+        }
+        if (context.isExpired(expiration.getDateTime())) {
+            if (securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.TOKEN_EXPIRED)) {
+                LOGGER.warn(JWTValidationLogMessages.WARN.TOKEN_EXPIRED);
+            }
             securityEventCounter.increment(SecurityEventCounter.EventType.TOKEN_EXPIRED);
             throw new TokenValidationException(
                     SecurityEventCounter.EventType.TOKEN_EXPIRED,
-                    "Token is expired. Current time: " + context.getCurrentTime() + " (with " + context.getClockSkewSeconds() + "s clock skew tolerance)"
+                    () -> "Token is expired. Current time: " + context.getCurrentTime() + " (with " + context.getClockSkewSeconds() + "s clock skew tolerance)"
             );
         }
         LOGGER.debug("Token is not expired");
@@ -90,20 +103,23 @@ public class ExpirationValidator {
      * @throws TokenValidationException if the "not before" time is invalid
      */
     public void validateNotBefore(TokenContent token, ValidationContext context) {
-        var notBefore = token.getNotBefore();
-        if (notBefore.isEmpty()) {
+        ClaimValue notBeforeClaim = token.getClaims().get(ClaimName.NOT_BEFORE.getName());
+        OffsetDateTime notBefore = notBeforeClaim != null ? notBeforeClaim.getDateTime() : null;
+        if (notBefore == null) {
             LOGGER.debug("Not before claim is optional, so if it's not present, validation passes");
             return;
         }
 
-        if (context.isNotBeforeInvalid(notBefore.get())) {
-            LOGGER.warn(JWTValidationLogMessages.WARN.TOKEN_NBF_FUTURE);
+        if (context.isNotBeforeInvalid(notBefore)) {
+            if (securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.TOKEN_NBF_FUTURE)) {
+                LOGGER.warn(JWTValidationLogMessages.WARN.TOKEN_NBF_FUTURE);
+            }
             securityEventCounter.increment(SecurityEventCounter.EventType.TOKEN_NBF_FUTURE);
             throw new TokenValidationException(
                     SecurityEventCounter.EventType.TOKEN_NBF_FUTURE,
-                    "Token not valid yet: not before time is more than " + context.getClockSkewSeconds() + " seconds in the future. Not before time: " + notBefore.get() + ", Current time: " + context.getCurrentTime() + " (with " + context.getClockSkewSeconds() + "s clock skew tolerance)"
+                    () -> "Token not valid yet: not before time is more than " + context.getClockSkewSeconds() + " seconds in the future. Not before time: " + notBefore + ", Current time: " + context.getCurrentTime() + " (with " + context.getClockSkewSeconds() + "s clock skew tolerance)"
             );
         }
-        LOGGER.debug("Not before claim is present, and not more than " + context.getClockSkewSeconds() + " seconds in the future");
+        LOGGER.debug("Not before claim is present, and not more than the clock skew tolerance in the future");
     }
 }
\ No newline at end of file
@@ -0,0 +1,133 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.pipeline.validator;
+
+import de.cuioss.sheriff.oauth.core.jwks.key.KeyInfo;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Selects and limits the keys tried for tokens identifying their key neither by "kid" nor by
+ * "x5t#S256".
+ * <p>
+ * Without key identifier the signature has to be verified against the keys of the issuer one
+ * after another. To keep the cost per token bounded:
+ * <ul>
+ *   <li>At most {@code maxTrials} keys compatible with the token algorithm are tried</li>
+ *   <li>Keys that verified a token most recently are tried first, so that tokens of an issuer
+ *       signing with one key usually need a single verification</li>
+ *   <li>The trial verifications of all tokens are limited to {@code trialsPerSecond}, so that
+ *       forged tokens without key identifier cannot multiply the verification load</li>
+ * </ul>
+ * This class is thread-safe.
+ *
+ * @author Oliver Wolff
+ * @since 1.0
+ */
+final class KeyTrial {
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Bounds the success history, e.g. for issuers rotating their keys frequently.
+     */
+    private static final int MAX_TRACKED_KEYS = 64;
+
+    private final int maxTrials;
+    private final int trialsPerSecond;
+    private final LongSupplier nanoClock;
+    private final AtomicLong successSequence = new AtomicLong();
+    private final Map<String, Long> lastSuccess = new ConcurrentHashMap<>();
+    private final AtomicLong windowStart;
+    private final AtomicInteger windowTrials = new AtomicInteger();
+
+    /**
+     * @param maxTrials       the maximum number of keys tried per token, must be positive
+     * @param trialsPerSecond the maximum number of trial verifications per second, must be positive
+     */
+    KeyTrial(int maxTrials, int trialsPerSecond) {
+        this(maxTrials, trialsPerSecond, System::nanoTime);
+    }
+
+    /**
+     * Constructor with a custom clock, for testing purposes.
+     */
+    KeyTrial(int maxTrials, int trialsPerSecond, LongSupplier nanoClock) {
+        this.maxTrials = maxTrials;
+        this.trialsPerSecond = trialsPerSecond;
+        this.nanoClock = nanoClock;
+        this.windowStart = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * Selects the keys to try, the most recently successful first.
+     *
+     * @param keys       the available keys of the issuer
+     * @param compatible the filter for keys compatible with the token algorithm
+     * @return at most {@code maxTrials} keys
+     */
+    List<KeyInfo> candidates(List<KeyInfo> keys, Predicate<KeyInfo> compatible) {
+        // Stable sort, keys never successful keep their JWKS order
+        return keys.stream()
+                .filter(compatible)
+                .sorted(Comparator.comparingLong((KeyInfo key) -> lastSuccess.getOrDefault(key.keyId(), 0L)).reversed())
+                .limit(maxTrials)
+                .toList();
+    }
+
+    /**
+     * Takes a permit for one trial verification.
+     *
+     * @return {@code true} if the verification may run, {@code false} if the limit per second is reached
+     */
+    boolean tryAcquire() {
+        long now = nanoClock.getAsLong();
+        long start = windowStart.get();
+        if (now - start >= WINDOW_NANOS && windowStart.compareAndSet(start, now)) {
+            windowTrials.set(0);
+        }
+        return windowTrials.incrementAndGet() <= trialsPerSecond;
+    }
+
+    /**
+     * Records that the given key verified a token, so that it is tried first for the next tokens.
+     *
+     * @param key the successful key
+     */
+    void recordSuccess(KeyInfo key) {
+        lastSuccess.put(key.keyId(), successSequence.incrementAndGet());
+        if (lastSuccess.size() > MAX_TRACKED_KEYS) {
+            lastSuccess.entrySet().stream()
+                    .min(Map.Entry.comparingByValue())
+                    .ifPresent(oldest -> lastSuccess.remove(oldest.getKey(), oldest.getValue()));
+        }
+    }
+
+    /**
+     * @return the maximum number of trial verifications per second
+     */
+    int getTrialsPerSecond() {
+        return trialsPerSecond;
+    }
+}
@@ -17,18 +17,18 @@ package de.cuioss.sheriff.oauth.core.pipeline.validator;
 
 import de.cuioss.sheriff.oauth.core.IssuerConfig;
 import de.cuioss.sheriff.oauth.core.JWTValidationLogMessages;
+import de.cuioss.sheriff.oauth.core.TokenType;
 import de.cuioss.sheriff.oauth.core.domain.claim.ClaimName;
 import de.cuioss.sheriff.oauth.core.domain.claim.ClaimValue;
 import de.cuioss.sheriff.oauth.core.domain.token.TokenContent;
 import de.cuioss.sheriff.oauth.core.exception.TokenValidationException;
 import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
 import de.cuioss.tools.logging.CuiLogger;
-import lombok.RequiredArgsConstructor;
 
-import java.util.Set;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeSet;
-import java.util.stream.Collectors;
 
 /**
  * Validator for mandatory JWT claims based on token type.
@@ -40,21 +40,42 @@ import java.util.stream.Collectors;
  * The validator checks both claim presence and claim value validity. For certain claims like "sub" (subject),
  * the validation can be configured per-issuer to accommodate identity providers that don't include the
  * subject claim in access tokens by default.
+ * <p>
+ * The claim names to check are computed per token type at construction, taking the issuer configuration
+ * into account, so that the validation of a complete token does not allocate.
  *
  * @author Oliver Wolff
  * @since 1.0
  */
-@RequiredArgsConstructor
 public class MandatoryClaimsValidator {
 
     private static final CuiLogger LOGGER = new CuiLogger(MandatoryClaimsValidator.class);
 
-
-    private final IssuerConfig issuerConfig;
-
+    /**
+     * Mandatory claim names per token type, without claims made optional by the issuer configuration.
+     */
+    private final Map<TokenType, String[]> mandatoryClaimNames;
 
     private final SecurityEventCounter securityEventCounter;
 
+    /**
+     * Creates a new MandatoryClaimsValidator and computes the mandatory claims for all token types.
+     *
+     * @param issuerConfig the issuer configuration, e.g. determining whether the subject claim is optional
+     * @param securityEventCounter the counter for security events
+     */
+    public MandatoryClaimsValidator(IssuerConfig issuerConfig, SecurityEventCounter securityEventCounter) {
+        this.securityEventCounter = securityEventCounter;
+        Map<TokenType, String[]> names = new EnumMap<>(TokenType.class);
+        for (TokenType tokenType : TokenType.values()) {
+            names.put(tokenType, tokenType.getMandatoryClaims().stream()
+                    .map(ClaimName::getName)
+                    .filter(claimName -> !shouldSkipClaimValidation(issuerConfig, claimName))
+                    .toArray(String[]::new));
+        }
+        this.mandatoryClaimNames = names;
+    }
+
     /**
      * Validates whether all mandatory claims for the current token type are present and set.
      *
@@ -62,34 +83,23 @@ public class MandatoryClaimsValidator {
      * @throws TokenValidationException if any mandatory claims are missing
      */
     public void validateMandatoryClaims(TokenContent tokenContent) {
-        var mandatoryNames = tokenContent.getTokenType().getMandatoryClaims().stream()
-                .map(ClaimName::getName)
-                .collect(Collectors.toSet());
-
-        LOGGER.debug("%s, verifying mandatory claims: %s", tokenContent.getTokenType(), mandatoryNames);
-
-        SortedSet<String> missingClaims = collectMissingClaims(tokenContent, mandatoryNames);
-
-        if (missingClaims.isEmpty()) {
-            LOGGER.debug("All mandatory claims are present and set as expected");
-            return;
+        String[] mandatoryNames = mandatoryClaimNames.get(tokenContent.getTokenType());
+        for (String claimName : mandatoryNames) {
+            if (isClaimMissing(tokenContent, claimName)) {
+                // Slow path, only taken for invalid tokens
+                handleMissingClaims(tokenContent, collectMissingClaims(tokenContent, mandatoryNames));
+            }
         }
-
-        handleMissingClaims(tokenContent, missingClaims);
+        LOGGER.debug("All mandatory claims are present and set as expected");
     }
 
-    private SortedSet<String> collectMissingClaims(TokenContent tokenContent, Set<String> mandatoryNames) {
+    private SortedSet<String> collectMissingClaims(TokenContent tokenContent, String[] mandatoryNames) {
         SortedSet<String> missingClaims = new TreeSet<>();
 
         for (var claimName : mandatoryNames) {
-            // Check if this claim should be skipped based on issuer configuration
-            if (shouldSkipClaimValidation(claimName)) {
-                LOGGER.debug("Skipping validation for claim '%s' due to issuer configuration (claimSubOptional=true)", claimName);
-                continue;
-            }
-
             if (isClaimMissing(tokenContent, claimName)) {
                 missingClaims.add(claimName);
+                logMissingClaimValue(tokenContent, claimName);
             }
         }
 
@@ -104,29 +114,29 @@ public class MandatoryClaimsValidator {
      * access tokens by default.
      * </p>
      *
+     * @param issuerConfig the issuer configuration
      * @param claimName the name of the claim to check
      * @return {@code true} if validation should be skipped, {@code false} otherwise
      */
-    private boolean shouldSkipClaimValidation(String claimName) {
+    private static boolean shouldSkipClaimValidation(IssuerConfig issuerConfig, String claimName) {
         // Skip validation for "sub" claim if issuer configuration allows it
-        return ClaimName.SUBJECT.getName().equals(claimName) && issuerConfig.isClaimSubOptional();
-    }
-
-    private boolean isClaimMissing(TokenContent tokenContent, String claimName) {
-        if (!tokenContent.getClaims().containsKey(claimName)) {
+        if (ClaimName.SUBJECT.getName().equals(claimName) && issuerConfig.isClaimSubOptional()) {
+            LOGGER.debug("Skipping validation for claim '%s' due to issuer configuration (claimSubOptional=true)", claimName);
             return true;
         }
+        return false;
+    }
 
+    private static boolean isClaimMissing(TokenContent tokenContent, String claimName) {
         ClaimValue claimValue = tokenContent.getClaims().get(claimName);
-        if (!claimValue.isPresent()) {
-            logMissingClaimValue(claimName, claimValue);
-            return true;
-        }
-
-        return false;
+        return claimValue == null || !claimValue.isPresent();
     }
 
-    private void logMissingClaimValue(String claimName, ClaimValue claimValue) {
+    private static void logMissingClaimValue(TokenContent tokenContent, String claimName) {
+        ClaimValue claimValue = tokenContent.getClaims().get(claimName);
+        if (claimValue == null) {
+            return;
+        }
         var claimNameEnum = ClaimName.fromString(claimName);
         if (claimNameEnum.isPresent()) {
             LOGGER.debug("Claim %s is present but not set as expected: %s. Specification: %s",
@@ -137,14 +147,14 @@ public class MandatoryClaimsValidator {
     }
 
     private void handleMissingClaims(TokenContent tokenContent, SortedSet<String> missingClaims) {
-        LOGGER.warn(JWTValidationLogMessages.WARN.MISSING_CLAIM, missingClaims);
+        if (securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.MISSING_CLAIM)) {
+            LOGGER.warn(JWTValidationLogMessages.WARN.MISSING_CLAIM, missingClaims);
+        }
         securityEventCounter.increment(SecurityEventCounter.EventType.MISSING_CLAIM);
 
-        String errorMessage = buildErrorMessage(tokenContent, missingClaims);
-
         throw new TokenValidationException(
                 SecurityEventCounter.EventType.MISSING_CLAIM,
-                errorMessage
+                () -> buildErrorMessage(tokenContent, missingClaims)
         );
     }
 
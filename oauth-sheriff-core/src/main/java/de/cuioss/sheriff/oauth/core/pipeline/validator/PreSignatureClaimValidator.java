@@ -0,0 +1,241 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.pipeline.validator;
+
+import de.cuioss.sheriff.oauth.core.IssuerConfig;
+import de.cuioss.sheriff.oauth.core.JWTValidationLogMessages;
+import de.cuioss.sheriff.oauth.core.TokenType;
+import de.cuioss.sheriff.oauth.core.domain.claim.ClaimName;
+import de.cuioss.sheriff.oauth.core.domain.context.ValidationContext;
+import de.cuioss.sheriff.oauth.core.exception.TokenValidationException;
+import de.cuioss.sheriff.oauth.core.json.MapRepresentation;
+import de.cuioss.sheriff.oauth.core.pipeline.DecodedJwt;
+import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
+import de.cuioss.tools.collect.MoreCollections;
+import de.cuioss.tools.logging.CuiLogger;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Cheap claim checks on the decoded, not yet verified payload.
+ * <p>
+ * Runs before the signature verification, so that tokens which would be rejected by the
+ * claim validation anyway do not cost a cryptographic verify. Checked are, in the order of
+ * {@link TokenClaimValidator}:
+ * <ol>
+ *   <li>Mandatory claims - only their presence, see below</li>
+ *   <li>Audience (aud) - only if an expected audience is configured</li>
+ *   <li>Authorized party (azp) - only if an expected client ID is configured, see below</li>
+ *   <li>Not before time (nbf) - with the clock skew tolerance of the {@link ValidationContext}</li>
+ *   <li>Expiration time (exp)</li>
+ * </ol>
+ * <p>
+ * Rejections use the same log messages, security events and exceptions as {@link AudienceValidator}
+ * and {@link ExpirationValidator}. As soon as a check cannot be decided cheaply and unambiguously
+ * (missing mandatory claims, custom claim mappers for a checked claim, azp fallback for a missing
+ * audience, a missing or mismatching azp), the remaining checks are skipped and the token is
+ * passed on unchanged to the regular validation, which still runs completely after the signature
+ * verification. A token violating several claims is therefore reported by the same violation as
+ * without this validator, and only tokens the regular claim validation would reject are rejected.
+ *
+ * @author Oliver Wolff
+ * @since 1.0
+ */
+public class PreSignatureClaimValidator {
+
+    private static final CuiLogger LOGGER = new CuiLogger(PreSignatureClaimValidator.class);
+
+    private final String[] mandatoryClaimNames;
+    private final boolean mandatoryClaimsMapped;
+    private final Set<String> expectedAudience;
+    private final boolean checkAudience;
+    private final boolean audienceMapped;
+    private final Set<String> expectedClientId;
+    private final boolean authorizedPartyMapped;
+    private final boolean checkNotBefore;
+    private final boolean checkExpiration;
+    private final SecurityEventCounter securityEventCounter;
+
+    /**
+     * Creates a new PreSignatureClaimValidator.
+     *
+     * @param issuerConfig the issuer configuration providing the expected audience, client IDs and custom claim mappers
+     * @param securityEventCounter the counter for security events
+     */
+    public PreSignatureClaimValidator(IssuerConfig issuerConfig, SecurityEventCounter securityEventCounter) {
+        // Same claims as MandatoryClaimsValidator for access tokens
+        this.mandatoryClaimNames = TokenType.ACCESS_TOKEN.getMandatoryClaims().stream()
+                .map(ClaimName::getName)
+                .filter(claimName -> !(ClaimName.SUBJECT.getName().equals(claimName) && issuerConfig.isClaimSubOptional()))
+                .toArray(String[]::new);
+        // Custom mappers may interpret a claim differently, in that case only the regular validation decides
+        this.mandatoryClaimsMapped = Stream.of(mandatoryClaimNames).anyMatch(issuerConfig.getClaimMappers()::containsKey);
+        this.expectedAudience = issuerConfig.getExpectedAudience();
+        this.checkAudience = !expectedAudience.isEmpty();
+        this.audienceMapped = issuerConfig.getClaimMappers().containsKey(ClaimName.AUDIENCE.getName());
+        this.expectedClientId = issuerConfig.getExpectedClientId();
+        this.authorizedPartyMapped = issuerConfig.getClaimMappers().containsKey(ClaimName.AUTHORIZED_PARTY.getName());
+        this.checkNotBefore = !issuerConfig.getClaimMappers().containsKey(ClaimName.NOT_BEFORE.getName());
+        this.checkExpiration = !issuerConfig.getClaimMappers().containsKey(ClaimName.EXPIRATION.getName());
+        this.securityEventCounter = securityEventCounter;
+    }
+
+    /**
+     * Validates the claims of the decoded token in the order of the regular claim validation,
+     * up to the first claim that cannot be decided before the signature verification.
+     *
+     * @param decodedJwt the decoded token, signature not yet verified
+     * @param context the validation context containing cached current time
+     * @throws TokenValidationException if one of the claims is violated
+     */
+    public void validate(DecodedJwt decodedJwt, ValidationContext context) {
+        MapRepresentation body = decodedJwt.getBody();
+        if (!isMandatoryClaimsPresent(body)) {
+            return;
+        }
+        if (checkAudience && !isAudienceValid(body)) {
+            return;
+        }
+        if (!MoreCollections.isEmpty(expectedClientId) && !isAuthorizedPartyValid(body)) {
+            return;
+        }
+        if (checkNotBefore) {
+            validateNotBefore(body, context);
+        }
+        if (checkExpiration) {
+            validateNotExpired(body, context);
+        }
+    }
+
+    /**
+     * The mandatory claims are checked first by the regular validation, a token missing one of
+     * them must not be rejected for a later claim.
+     *
+     * @return true if all mandatory claims are present, false if the regular validation decides
+     */
+    private boolean isMandatoryClaimsPresent(MapRepresentation body) {
+        if (mandatoryClaimsMapped) {
+            return false;
+        }
+        for (String claimName : mandatoryClaimNames) {
+            if (body.getValue(claimName).isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return true if the audience matches, false if the regular validation decides
+     * @throws TokenValidationException if the audience does not match
+     */
+    private boolean isAudienceValid(MapRepresentation body) {
+        if (audienceMapped) {
+            return false;
+        }
+        Optional<Object> audienceClaim = body.getValue(ClaimName.AUDIENCE.getName());
+        if (audienceClaim.isEmpty()) {
+            // Possible azp fallback, decided by the regular validation
+            return false;
+        }
+
+        // Same representation as JsonCollectionMapper, so the log output matches AudienceValidator
+        List<String> audienceList = audienceClaim.get() instanceof List<?> list
+                ? list.stream().map(Object::toString).toList()
+                : List.of(audienceClaim.get().toString());
+        if (audienceList.isEmpty()) {
+            // Treated as missing by the regular validation
+            return false;
+        }
+        for (String audience : audienceList) {
+            if (expectedAudience.contains(audience)) {
+                return true;
+            }
+        }
+
+        if (securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.AUDIENCE_MISMATCH)) {
+            LOGGER.warn(JWTValidationLogMessages.WARN.AUDIENCE_MISMATCH, audienceList, expectedAudience);
+        }
+        securityEventCounter.increment(SecurityEventCounter.EventType.AUDIENCE_MISMATCH);
+        throw new TokenValidationException(
+                SecurityEventCounter.EventType.AUDIENCE_MISMATCH,
+                () -> "Audience mismatch: token audience " + audienceList + " does not match any expected audience " + expectedAudience
+        );
+    }
+
+    /**
+     * Mismatching and missing azp claims are reported by the regular validation.
+     *
+     * @return true if the authorized party matches an expected client ID
+     */
+    private boolean isAuthorizedPartyValid(MapRepresentation body) {
+        if (authorizedPartyMapped) {
+            return false;
+        }
+        return body.getString(ClaimName.AUTHORIZED_PARTY.getName())
+                .filter(expectedClientId::contains)
+                .isPresent();
+    }
+
+    private void validateNotBefore(MapRepresentation body, ValidationContext context) {
+        Optional<OffsetDateTime> notBefore = getNumericDate(body, ClaimName.NOT_BEFORE.getName());
+        if (notBefore.isEmpty() || !context.isNotBeforeInvalid(notBefore.get())) {
+            return;
+        }
+
+        if (securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.TOKEN_NBF_FUTURE)) {
+            LOGGER.warn(JWTValidationLogMessages.WARN.TOKEN_NBF_FUTURE);
+        }
+        securityEventCounter.increment(SecurityEventCounter.EventType.TOKEN_NBF_FUTURE);
+        throw new TokenValidationException(
+                SecurityEventCounter.EventType.TOKEN_NBF_FUTURE,
+                () -> "Token not valid yet: not before time is more than " + context.getClockSkewSeconds() + " seconds in the future. Not before time: " + notBefore.get() + ", Current time: " + context.getCurrentTime() + " (with " + context.getClockSkewSeconds() + "s clock skew tolerance)"
+        );
+    }
+
+    private void validateNotExpired(MapRepresentation body, ValidationContext context) {
+        Optional<OffsetDateTime> expiration = getNumericDate(body, ClaimName.EXPIRATION.getName());
+        if (expiration.isEmpty() || !context.isExpired(expiration.get())) {
+            return;
+        }
+
+        if (securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.TOKEN_EXPIRED)) {
+            LOGGER.warn(JWTValidationLogMessages.WARN.TOKEN_EXPIRED);
+        }
+        securityEventCounter.increment(SecurityEventCounter.EventType.TOKEN_EXPIRED);
+        throw new TokenValidationException(
+                SecurityEventCounter.EventType.TOKEN_EXPIRED,
+                () -> "Token is expired. Current time: " + context.getCurrentTime() + " (with " + context.getClockSkewSeconds() + "s clock skew tolerance)"
+        );
+    }
+
+    /**
+     * Reads a NumericDate claim the same way as
+     * {@link de.cuioss.sheriff.oauth.core.domain.claim.mapper.OffsetDateTimeMapper}.
+     *
+     * @return the date, empty if the claim is missing or not numeric
+     */
+    private static Optional<OffsetDateTime> getNumericDate(MapRepresentation body, String claimName) {
+        return body.getNumber(claimName)
+                .map(number -> OffsetDateTime.ofInstant(Instant.ofEpochSecond(number.longValue()), ZoneId.systemDefault()));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.pipeline.validator;
+
+import org.jspecify.annotations.Nullable;
+
+import java.security.PublicKey;
+import java.security.Signature;
+
+/**
+ * Holder of one {@link Signature} initialized for verification, shared by the signature
+ * verifications of several tokens.
+ * <p>
+ * {@link Signature#verify(byte[])} resets the instance to the state after
+ * {@link Signature#initVerify(PublicKey)}, so tokens signed with the same key and algorithm can
+ * be verified one after another without creating and initializing a new instance per token.
+ * This is used by batch validation, which groups tokens by issuer, key ID and algorithm.
+ * <p>
+ * The held instance is only reused for the exact same key and algorithm; a rotated key
+ * replaces it. This class is not thread-safe, each thread needs its own instance.
+ *
+ * @author Oliver Wolff
+ * @see TokenSignatureValidator#validateSignature(de.cuioss.sheriff.oauth.core.pipeline.DecodedJwt, SharedSignatureVerifier)
+ * @since 1.0
+ */
+public final class SharedSignatureVerifier {
+
+    @Nullable
+    private Signature signature;
+
+    @Nullable
+    private PublicKey publicKey;
+
+    @Nullable
+    private String algorithm;
+
+    /**
+     * @param algorithm the JWT algorithm of the next verification
+     * @param publicKey the key of the next verification
+     * @return the held instance if it was initialized for the given key and algorithm, otherwise null
+     */
+    @Nullable
+    Signature get(String algorithm, PublicKey publicKey) {
+        if (this.publicKey == publicKey && algorithm.equals(this.algorithm)) {
+            return signature;
+        }
+        return null;
+    }
+
+    /**
+     * Holds the given instance, initialized for the given key and algorithm.
+     */
+    void set(String algorithm, PublicKey publicKey, Signature signature) {
+        this.algorithm = algorithm;
+        this.publicKey = publicKey;
+        this.signature = signature;
+    }
+
+    /**
+     * Discards the held instance, e.g. after a verification failed with an exception and left
+     * it in an undefined state.
+     */
+    void reset() {
+        this.algorithm = null;
+        this.publicKey = null;
+        this.signature = null;
+    }
+}
@@ -25,6 +25,8 @@ import de.cuioss.tools.collect.MoreCollections;
 import de.cuioss.tools.logging.CuiLogger;
 import lombok.Getter;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -57,6 +59,12 @@ import java.util.Set;
  *   <li>{@link MandatoryClaimsValidator} - for mandatory claims validation</li>
  *   <li>{@link AuthorizedPartyValidator} - for authorized party validation</li>
  * </ul>
+ * <p>
+ * <strong>Validation Plan:</strong> At construction, the {@link IssuerConfig} is compiled into an
+ * immutable, ordered array of {@link ClaimValidationStep}s. Steps that cannot fail for the issuer
+ * (audience without expected audience, azp without expected client ID) are left out, and the custom
+ * steps of {@link IssuerConfig#getClaimValidationSteps()} are appended after the built-in ones.
+ * Validating a token is a single loop over this array, which does not allocate for valid tokens.
  *
  * @author Oliver Wolff
  * @since 1.0
@@ -71,10 +79,10 @@ public class TokenClaimValidator {
     @Getter
     private final Set<String> expectedClientId;
 
-    private final AudienceValidator audienceValidator;
-    private final ExpirationValidator expirationValidator;
-    private final MandatoryClaimsValidator mandatoryClaimsValidator;
-    private final AuthorizedPartyValidator authorizedPartyValidator;
+    /**
+     * The compiled validation plan, executed in order.
+     */
+    private final ClaimValidationStep[] validationPlan;
 
     /**
      * Constructs a TokenClaimValidator with the specified IssuerConfig.
@@ -86,10 +94,7 @@ public class TokenClaimValidator {
         this.expectedAudience = issuerConfig.getExpectedAudience();
         this.expectedClientId = issuerConfig.getExpectedClientId();
 
-        this.audienceValidator = new AudienceValidator(expectedAudience, securityEventCounter);
-        this.expirationValidator = new ExpirationValidator(securityEventCounter);
-        this.mandatoryClaimsValidator = new MandatoryClaimsValidator(issuerConfig, securityEventCounter);
-        this.authorizedPartyValidator = new AuthorizedPartyValidator(expectedClientId, securityEventCounter);
+        this.validationPlan = compileValidationPlan(issuerConfig, securityEventCounter);
 
         if (MoreCollections.isEmpty(expectedAudience)) {
             LOGGER.warn(JWTValidationLogMessages.WARN.MISSING_RECOMMENDED_ELEMENT, "expectedAudience");
@@ -116,14 +121,51 @@ public class TokenClaimValidator {
      * @throws TokenValidationException if validation fails
      */
     public TokenContent validate(TokenContent token, ValidationContext context) {
-        LOGGER.trace("Validating token: %s", token);
-        mandatoryClaimsValidator.validateMandatoryClaims(token);
-        audienceValidator.validateAudience(token);
-        authorizedPartyValidator.validateAuthorizedParty(token);
-        expirationValidator.validateNotBefore(token, context);
-        expirationValidator.validateNotExpired(token, context);
+        LOGGER.trace("Validating token");
+        for (ClaimValidationStep step : validationPlan) {
+            step.validate(token, context);
+        }
         LOGGER.debug("Token is valid");
         return token;
     }
 
+    /**
+     * Compiles the issuer configuration into the ordered validation plan.
+     * The order of the built-in steps determines which violation is reported for tokens violating several claims.
+     */
+    private ClaimValidationStep[] compileValidationPlan(IssuerConfig issuerConfig, SecurityEventCounter securityEventCounter) {
+        List<ClaimValidationStep> steps = new ArrayList<>();
+
+        MandatoryClaimsValidator mandatoryClaimsValidator = new MandatoryClaimsValidator(issuerConfig, securityEventCounter);
+        steps.add((token, context) -> mandatoryClaimsValidator.validateMandatoryClaims(token));
+
+        if (!MoreCollections.isEmpty(expectedAudience)) {
+            AudienceValidator audienceValidator = new AudienceValidator(expectedAudience, securityEventCounter);
+            steps.add((token, context) -> audienceValidator.validateAudience(token));
+        }
+
+        if (!MoreCollections.isEmpty(expectedClientId)) {
+            AuthorizedPartyValidator authorizedPartyValidator = new AuthorizedPartyValidator(expectedClientId, securityEventCounter);
+            steps.add((token, context) -> authorizedPartyValidator.validateAuthorizedParty(token));
+        }
+
+        ExpirationValidator expirationValidator = new ExpirationValidator(securityEventCounter);
+        steps.add(expirationValidator::validateNotBefore);
+        steps.add(expirationValidator::validateNotExpired);
+
+        steps.addAll(issuerConfig.getClaimValidationSteps());
+
+        LOGGER.debug("Compiled claim validation plan with %s steps for issuer %s", steps.size(), issuerConfig.getIssuerIdentifier());
+        return steps.toArray(ClaimValidationStep[]::new);
+    }
+
+    /**
+     * Gets the number of steps of the compiled validation plan.
+     * Package-private for testing purposes.
+     *
+     * @return the number of validation steps
+     */
+    int getValidationPlanSize() {
+        return validationPlan.length;
+    }
 }
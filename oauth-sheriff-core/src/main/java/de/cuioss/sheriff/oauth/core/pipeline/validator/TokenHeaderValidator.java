@@ -72,7 +72,8 @@ public class TokenHeaderValidator {
      * This validator checks:
      * <ul>
      *   <li>Algorithm (alg) claim presence and support</li>
-     *   <li>Key ID (kid) claim presence for signature validation</li>
+     *   <li>Key ID (kid) claim presence for signature validation, unless the key is identified by
+     *       "x5t#S256" or key trial is enabled via {@link IssuerConfig#getMaxKeyTrials()}</li>
      *   <li>Absence of embedded JWK to prevent CVE-2018-0114 attacks</li>
      * </ul>
      * <p>
@@ -105,7 +106,9 @@ public class TokenHeaderValidator {
     private void validateNoEmbeddedJwk(DecodedJwt decodedJwt) {
         JwtHeader header = decodedJwt.getHeader();
         if (header.getJwk().isPresent()) {
-            LOGGER.warn(JWTValidationLogMessages.WARN.UNSUPPORTED_ALGORITHM, "Embedded JWK");
+            if (securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.UNSUPPORTED_ALGORITHM)) {
+                LOGGER.warn(JWTValidationLogMessages.WARN.UNSUPPORTED_ALGORITHM, "Embedded JWK");
+            }
             securityEventCounter.increment(SecurityEventCounter.EventType.UNSUPPORTED_ALGORITHM);
             throw new TokenValidationException(
                     SecurityEventCounter.EventType.UNSUPPORTED_ALGORITHM,
@@ -124,7 +127,9 @@ public class TokenHeaderValidator {
         var algorithm = decodedJwt.getAlg();
 
         if (algorithm.isEmpty()) {
-            LOGGER.warn(JWTValidationLogMessages.WARN.MISSING_CLAIM, "alg");
+            if (securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.MISSING_CLAIM)) {
+                LOGGER.warn(JWTValidationLogMessages.WARN.MISSING_CLAIM, "alg");
+            }
             securityEventCounter.increment(SecurityEventCounter.EventType.MISSING_CLAIM);
             throw new TokenValidationException(
                     SecurityEventCounter.EventType.MISSING_CLAIM,
@@ -133,11 +138,13 @@ public class TokenHeaderValidator {
         }
 
         if (!issuerConfig.getAlgorithmPreferences().isSupported(algorithm.get())) {
-            LOGGER.warn(JWTValidationLogMessages.WARN.UNSUPPORTED_ALGORITHM, algorithm.get());
+            if (securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.UNSUPPORTED_ALGORITHM)) {
+                LOGGER.warn(JWTValidationLogMessages.WARN.UNSUPPORTED_ALGORITHM, algorithm.get());
+            }
             securityEventCounter.increment(SecurityEventCounter.EventType.UNSUPPORTED_ALGORITHM);
             throw new TokenValidationException(
                     SecurityEventCounter.EventType.UNSUPPORTED_ALGORITHM,
-                    "Unsupported algorithm: %s".formatted(algorithm.get())
+                    () -> "Unsupported algorithm: %s".formatted(algorithm.get())
             );
         }
 
@@ -146,7 +153,9 @@ public class TokenHeaderValidator {
 
     /**
      * Validates that the token contains a key ID (kid) claim in the header.
-     * The kid is required for signature validation to identify the correct key.
+     * The kid is required for signature validation to identify the correct key, unless the
+     * token identifies its key by certificate thumbprint (x5t#S256) or the issuer tries its keys
+     * for tokens without key identifier.
      *
      * @param decodedJwt the decoded JWT Token
      * @throws TokenValidationException if the kid claim is missing
@@ -154,7 +163,18 @@ public class TokenHeaderValidator {
     private void validateKeyId(DecodedJwt decodedJwt) {
         var kid = decodedJwt.getKid();
         if (kid.isEmpty()) {
-            LOGGER.warn(JWTValidationLogMessages.WARN.MISSING_CLAIM, "kid");
+            var thumbprint = decodedJwt.getX5tS256();
+            if (thumbprint.isPresent()) {
+                LOGGER.debug("Key is identified by x5t#S256: %s", thumbprint.get());
+                return;
+            }
+            if (issuerConfig.getMaxKeyTrials() > 0) {
+                LOGGER.debug("Token without key identifier, trying up to %s keys", issuerConfig.getMaxKeyTrials());
+                return;
+            }
+            if (securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.MISSING_CLAIM)) {
+                LOGGER.warn(JWTValidationLogMessages.WARN.MISSING_CLAIM, "kid");
+            }
             securityEventCounter.increment(SecurityEventCounter.EventType.MISSING_CLAIM);
             JwtHeader header = decodedJwt.getHeader();
             StringBuilder headerInfo = new StringBuilder("Available header claims:");
@@ -183,7 +203,7 @@ public class TokenHeaderValidator {
 
             throw new TokenValidationException(
                     SecurityEventCounter.EventType.MISSING_CLAIM,
-                    "Missing required key ID (kid) claim in token header. " + headerInfo
+                    () -> "Missing required key ID (kid) claim in token header. " + headerInfo
             );
         }
         LOGGER.debug("Key ID is valid: %s", kid.get());
@@ -15,9 +15,11 @@
  */
 package de.cuioss.sheriff.oauth.core.pipeline.validator;
 
+import de.cuioss.sheriff.oauth.core.IssuerConfig;
 import de.cuioss.sheriff.oauth.core.JWTValidationLogMessages;
 import de.cuioss.sheriff.oauth.core.exception.TokenValidationException;
 import de.cuioss.sheriff.oauth.core.jwks.JwksLoader;
+import de.cuioss.sheriff.oauth.core.jwks.key.KeyInfo;
 import de.cuioss.sheriff.oauth.core.pipeline.DecodedJwt;
 import de.cuioss.sheriff.oauth.core.pipeline.SignatureTemplateManager;
 import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
@@ -25,9 +27,12 @@ import de.cuioss.sheriff.oauth.core.security.SignatureAlgorithmPreferences;
 import de.cuioss.sheriff.oauth.core.util.EcdsaSignatureFormatConverter;
 import de.cuioss.tools.logging.CuiLogger;
 import lombok.Getter;
+import org.jspecify.annotations.Nullable;
 
 import java.nio.charset.StandardCharsets;
 import java.security.*;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Validator for JWT Token signatures.
@@ -35,6 +40,12 @@ import java.security.*;
  * This class validates the signature of a JWT Token using a public key
  * retrieved from a configured JwksLoader.
  * <p>
+ * The key is identified by the "kid" header, or by the "x5t#S256" header for tokens without
+ * "kid". Tokens carrying neither are only accepted if key trial is enabled via
+ * {@link IssuerConfig#getMaxKeyTrials()}: their signature is verified against a bounded number
+ * of keys compatible with the algorithm, the most recently successful keys first, and limited
+ * to {@link IssuerConfig#getKeyTrialsPerSecond()} verifications per second.
+ * <p>
  * It assumes that header validation (algorithm, issuer) has already been
  * performed by {@link TokenHeaderValidator}.
  * <p>
@@ -69,8 +80,12 @@ public class TokenSignatureValidator {
 
     private final SignatureTemplateManager signatureTemplateManager;
 
+    @Nullable
+    private final KeyTrial keyTrial;
+
     /**
      * Constructs a TokenSignatureValidator with the specified JwksLoader, SecurityEventCounter, and SignatureAlgorithmPreferences.
+     * Tokens without key identifier are not accepted.
      *
      * @param jwksLoader             the JWKS loader to use for key retrieval
      * @param securityEventCounter   the counter for security events
@@ -79,9 +94,27 @@ public class TokenSignatureValidator {
     public TokenSignatureValidator(JwksLoader jwksLoader,
             SecurityEventCounter securityEventCounter,
             SignatureAlgorithmPreferences algorithmPreferences) {
+        this(jwksLoader, securityEventCounter, algorithmPreferences, 0, IssuerConfig.DEFAULT_KEY_TRIALS_PER_SECOND);
+    }
+
+    /**
+     * Constructs a TokenSignatureValidator trying keys for tokens without key identifier.
+     *
+     * @param jwksLoader             the JWKS loader to use for key retrieval
+     * @param securityEventCounter   the counter for security events
+     * @param algorithmPreferences   the signature algorithm preferences for provider optimization
+     * @param maxKeyTrials           the maximum number of keys tried per token without "kid" and
+     *                               "x5t#S256", {@code 0} to reject such tokens
+     * @param keyTrialsPerSecond     the maximum number of trial verifications per second
+     */
+    public TokenSignatureValidator(JwksLoader jwksLoader,
+            SecurityEventCounter securityEventCounter,
+            SignatureAlgorithmPreferences algorithmPreferences,
+            int maxKeyTrials, int keyTrialsPerSecond) {
         this.jwksLoader = jwksLoader;
         this.securityEventCounter = securityEventCounter;
         this.signatureTemplateManager = new SignatureTemplateManager(algorithmPreferences);
+        this.keyTrial = maxKeyTrials > 0 ? new KeyTrial(maxKeyTrials, keyTrialsPerSecond) : null;
     }
 
     /**
@@ -96,8 +129,8 @@ public class TokenSignatureValidator {
      * <p>
      * This validator is responsible for:
      * <ul>
-     *   <li>Key ID (kid) claim presence validation</li>
-     *   <li>Key retrieval from JWKS</li>
+     *   <li>Key retrieval from JWKS by key ID (kid) or certificate thumbprint (x5t#S256)</li>
+     *   <li>Bounded key trial for tokens without both, if enabled</li>
      *   <li>Algorithm compatibility between token and key</li>
      *   <li>Cryptographic signature verification</li>
      * </ul>
@@ -105,54 +138,179 @@ public class TokenSignatureValidator {
      * @param decodedJwt the decoded JWT Token to validate
      * @throws TokenValidationException if the signature is invalid
      */
-    @SuppressWarnings("java:S3655") // owolff: False Positive: isPresent is checked before calling get()
     public void validateSignature(DecodedJwt decodedJwt) {
-        LOGGER.debug("Validating validation signature");
+        validateSignature(decodedJwt, null);
+    }
+
+    /**
+     * Validates the signature of a decoded JWT Token, reusing the initialized verifier held by
+     * the given {@link SharedSignatureVerifier} if it matches key and algorithm of the token.
+     * <p>
+     * Behaves exactly like {@link #validateSignature(DecodedJwt)} otherwise.
+     *
+     * @param decodedJwt the decoded JWT Token to validate
+     * @param sharedVerifier the verifier shared with previous verifications, may be null
+     * @throws TokenValidationException if the signature is invalid
+     */
+    public void validateSignature(DecodedJwt decodedJwt, @Nullable SharedSignatureVerifier sharedVerifier) {
+        validateSignature(decodedJwt, resolveKey(decodedJwt), sharedVerifier);
+    }
+
+    /**
+     * Resolves the key identified by the token header, by key ID or by certificate thumbprint.
+     * <p>
+     * A lookup of an unknown key ID may wait for the on-demand refresh of the JWKS, see
+     * {@link JwksLoader#isRefreshedOnDemand()}. Callers limiting concurrent verifications
+     * resolve the key before admission and pass it to
+     * {@link #validateSignature(DecodedJwt, KeyInfo, SharedSignatureVerifier)}.
+     *
+     * @param decodedJwt the decoded JWT Token
+     * @return the key, null for tokens without key identifier, which are verified by key trial
+     * @throws TokenValidationException with {@code KEY_NOT_FOUND} if the identified key is missing
+     */
+    @Nullable
+    public KeyInfo resolveKey(DecodedJwt decodedJwt) {
+        var kid = decodedJwt.getKid();
+        if (kid.isPresent()) {
+            return requireKey(jwksLoader.getKeyInfo(kid.get()), "key ID", kid.get());
+        }
+        var thumbprint = decodedJwt.getX5tS256();
+        if (thumbprint.isPresent()) {
+            return requireKey(jwksLoader.getKeyInfoByThumbprint(thumbprint.get()), "x5t#S256", thumbprint.get());
+        }
+        return null;
+    }
 
-        // Get the kid from the validation header - precondition: already validated by TokenHeaderValidator
-        var kid = decodedJwt.getKid().orElseThrow(() ->
-                new IllegalStateException("Key ID (kid) should have been validated by TokenHeaderValidator"));
+    /**
+     * Validates the signature of a decoded JWT Token with the key resolved by
+     * {@link #resolveKey(DecodedJwt)}.
+     *
+     * @param decodedJwt the decoded JWT Token to validate
+     * @param keyInfo the resolved key, null for tokens without key identifier
+     * @param sharedVerifier the verifier shared with previous verifications, may be null
+     * @throws TokenValidationException if the signature is invalid
+     */
+    public void validateSignature(DecodedJwt decodedJwt, @Nullable KeyInfo keyInfo,
+            @Nullable SharedSignatureVerifier sharedVerifier) {
+        LOGGER.debug("Validating validation signature");
 
         // Get the algorithm from the validation header - precondition: already validated by TokenHeaderValidator
         var algorithm = decodedJwt.getAlg().orElseThrow(() ->
                 new IllegalStateException("Algorithm (alg) should have been validated by TokenHeaderValidator"));
 
-        // Signature validation is performed in verifySignature method
+        if (keyInfo != null) {
+            verifyWithKey(decodedJwt, keyInfo, algorithm, sharedVerifier);
+            return;
+        }
+
+        // Without key identifier - precondition: only accepted by TokenHeaderValidator with key trial enabled
+        if (keyTrial == null) {
+            throw new IllegalStateException("Key ID (kid) should have been validated by TokenHeaderValidator");
+        }
+        verifyWithKeyTrial(keyTrial, decodedJwt, algorithm, sharedVerifier);
+    }
 
-        // Get the key from the JwksLoader
-        var keyInfo = jwksLoader.getKeyInfo(kid);
+    /**
+     * @return the key, if present
+     * @throws TokenValidationException with {@code KEY_NOT_FOUND} if the key is missing
+     */
+    private KeyInfo requireKey(Optional<KeyInfo> keyInfo, String identifierType, String identifier) {
         if (keyInfo.isEmpty()) {
-            LOGGER.warn(JWTValidationLogMessages.WARN.KEY_NOT_FOUND, kid);
+            if (securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.KEY_NOT_FOUND)) {
+                LOGGER.warn(JWTValidationLogMessages.WARN.KEY_NOT_FOUND, identifier);
+            }
             securityEventCounter.increment(SecurityEventCounter.EventType.KEY_NOT_FOUND);
             throw new TokenValidationException(
                     SecurityEventCounter.EventType.KEY_NOT_FOUND,
-                    "Key not found for key ID: %s. Please verify the key exists in the JWKS endpoint or configuration.".formatted(kid)
+                    () -> "Key not found for %s: %s. Please verify the key exists in the JWKS endpoint or configuration.".formatted(identifierType, identifier)
             );
         }
+        return keyInfo.get();
+    }
 
+    /**
+     * Verifies the signature with the key identified by the token header.
+     */
+    private void verifyWithKey(DecodedJwt decodedJwt, KeyInfo keyInfo, String algorithm,
+            @Nullable SharedSignatureVerifier sharedVerifier) {
         // Verify that the key's algorithm matches the validation's algorithm
-        if (!isAlgorithmCompatible(algorithm, keyInfo.get().algorithm())) {
-            LOGGER.warn(JWTValidationLogMessages.WARN.UNSUPPORTED_ALGORITHM, algorithm);
+        if (!isAlgorithmCompatible(algorithm, keyInfo.algorithm())) {
+            if (securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.UNSUPPORTED_ALGORITHM)) {
+                LOGGER.warn(JWTValidationLogMessages.WARN.UNSUPPORTED_ALGORITHM, algorithm);
+            }
             securityEventCounter.increment(SecurityEventCounter.EventType.UNSUPPORTED_ALGORITHM);
             throw new TokenValidationException(
                     SecurityEventCounter.EventType.UNSUPPORTED_ALGORITHM,
-                    "Algorithm not compatible with key: %s is not compatible with %s".formatted(algorithm, keyInfo.get().algorithm())
+                    () -> "Algorithm not compatible with key: %s is not compatible with %s".formatted(algorithm, keyInfo.algorithm())
             );
         }
 
         // Verify the signature
         try {
             LOGGER.debug("All checks passed, verifying signature");
-            verifySignature(decodedJwt, keyInfo.get().key(), algorithm);
+            verifySignature(decodedJwt, keyInfo.key(), algorithm, sharedVerifier);
         } catch (IllegalArgumentException e) {
-            LOGGER.warn(e, JWTValidationLogMessages.ERROR.SIGNATURE_VALIDATION_FAILED, e.getMessage());
-            securityEventCounter.increment(SecurityEventCounter.EventType.SIGNATURE_VALIDATION_FAILED);
+            throw signatureFailed(e);
+        }
+    }
+
+    /**
+     * Verifies the signature of a token without key identifier against the candidate keys of
+     * the {@link KeyTrial}. Every verification is counted as {@code KEY_TRIAL_VERIFICATION}.
+     */
+    private void verifyWithKeyTrial(KeyTrial trial, DecodedJwt decodedJwt, String algorithm,
+            @Nullable SharedSignatureVerifier sharedVerifier) {
+        List<KeyInfo> candidates = trial.candidates(jwksLoader.getAvailableKeys(),
+                key -> isAlgorithmCompatible(algorithm, key.algorithm()));
+        if (candidates.isEmpty()) {
+            if (securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.KEY_NOT_FOUND)) {
+                LOGGER.warn(JWTValidationLogMessages.WARN.KEY_NOT_FOUND, "none, alg " + algorithm);
+            }
+            securityEventCounter.increment(SecurityEventCounter.EventType.KEY_NOT_FOUND);
             throw new TokenValidationException(
-                    SecurityEventCounter.EventType.SIGNATURE_VALIDATION_FAILED,
-                    "Signature validation failed: %s".formatted(e.getMessage()),
-                    e
+                    SecurityEventCounter.EventType.KEY_NOT_FOUND,
+                    () -> "No key compatible with algorithm %s available for token without key ID".formatted(algorithm)
             );
         }
+
+        SignedData signedData = extractSignedData(decodedJwt);
+        for (KeyInfo candidate : candidates) {
+            if (!trial.tryAcquire()) {
+                if (securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.KEY_TRIAL_RATE_LIMITED)) {
+                    LOGGER.warn(JWTValidationLogMessages.WARN.KEY_TRIAL_RATE_LIMITED,
+                            jwksLoader.getIssuerIdentifier().orElse("unknown"), trial.getTrialsPerSecond());
+                }
+                securityEventCounter.increment(SecurityEventCounter.EventType.KEY_TRIAL_RATE_LIMITED);
+                throw new TokenValidationException(
+                        SecurityEventCounter.EventType.KEY_TRIAL_RATE_LIMITED,
+                        "Key trial rate limit exceeded for token without key ID"
+                );
+            }
+            securityEventCounter.increment(SecurityEventCounter.EventType.KEY_TRIAL_VERIFICATION);
+            try {
+                if (verify(signedData, candidate.key(), algorithm, sharedVerifier)) {
+                    LOGGER.debug("Signature is valid for key %s found by key trial", candidate.keyId());
+                    trial.recordSuccess(candidate);
+                    return;
+                }
+            } catch (InvalidKeyException | SignatureException e) {
+                if (sharedVerifier != null) {
+                    sharedVerifier.reset();
+                }
+                LOGGER.debug("Key %s not applicable to token without key ID: %s", candidate.keyId(), e.getMessage());
+            } catch (SignatureTemplateManager.UnsupportedAlgorithmException e) {
+                throw unsupportedAlgorithm(e);
+            }
+        }
+
+        if (securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.SIGNATURE_VALIDATION_FAILED)) {
+            LOGGER.warn(JWTValidationLogMessages.ERROR.SIGNATURE_VALIDATION_FAILED, "No key trial matched");
+        }
+        securityEventCounter.increment(SecurityEventCounter.EventType.SIGNATURE_VALIDATION_FAILED);
+        throw new TokenValidationException(
+                SecurityEventCounter.EventType.SIGNATURE_VALIDATION_FAILED,
+                () -> "Invalid signature: token without key ID matches none of %s candidate keys".formatted(candidates.size())
+        );
     }
 
     /**
@@ -161,48 +319,22 @@ public class TokenSignatureValidator {
      * @param decodedJwt the decoded JWT Token
      * @param publicKey  the public key to use for verification
      * @param algorithm  the algorithm to use for verification
+     * @param sharedVerifier the verifier shared with previous verifications, may be null
      * @throws TokenValidationException if the signature is invalid
      */
-    private void verifySignature(DecodedJwt decodedJwt, PublicKey publicKey, String algorithm) {
+    private void verifySignature(DecodedJwt decodedJwt, PublicKey publicKey, String algorithm,
+            @Nullable SharedSignatureVerifier sharedVerifier) {
         LOGGER.trace("Verifying signature:\nDecodedJwt: %s\nPublicKey: %s\nAlgorithm: %s", decodedJwt, publicKey, algorithm);
 
-        // Get the data to verify and signature bytes from DecodedJwt
-        String dataToVerify;
-        byte[] signatureBytes;
-        try {
-            dataToVerify = decodedJwt.getDataToVerify();
-            signatureBytes = decodedJwt.getSignatureAsDecodedBytes();
-        } catch (IllegalStateException e) {
-            LOGGER.warn(e, JWTValidationLogMessages.ERROR.SIGNATURE_VALIDATION_FAILED, e.getMessage());
-            securityEventCounter.increment(SecurityEventCounter.EventType.SIGNATURE_VALIDATION_FAILED);
-            throw new TokenValidationException(
-                    SecurityEventCounter.EventType.SIGNATURE_VALIDATION_FAILED,
-                    "Failed to extract JWT data for signature verification: %s".formatted(e.getMessage()),
-                    e
-            );
-        }
-
-        byte[] dataBytes = dataToVerify.getBytes(StandardCharsets.UTF_8);
+        SignedData signedData = extractSignedData(decodedJwt);
 
-        // Initialize the signature verifier with the appropriate algorithm
         try {
-            Signature verifier = signatureTemplateManager.getSignatureInstance(algorithm);
-            verifier.initVerify(publicKey);
-            verifier.update(dataBytes);
-
-            // Convert ECDSA signatures from IEEE P1363 to ASN.1/DER format if needed
-            byte[] verificationSignature = signatureBytes;
-            if (isEcdsaAlgorithm(algorithm)) {
-                LOGGER.debug("Converting ECDSA signature from IEEE P1363 to ASN.1/DER format for algorithm: %s", algorithm);
-                verificationSignature = EcdsaSignatureFormatConverter.toJCACompatibleSignature(signatureBytes, algorithm);
-            }
-
-            // Verify the signature
-            boolean isValid = verifier.verify(verificationSignature);
-            if (isValid) {
+            if (verify(signedData, publicKey, algorithm, sharedVerifier)) {
                 LOGGER.debug("Signature is valid");
             } else {
-                LOGGER.warn(JWTValidationLogMessages.ERROR.SIGNATURE_VALIDATION_FAILED, "Invalid signature");
+                if (securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.SIGNATURE_VALIDATION_FAILED)) {
+                    LOGGER.warn(JWTValidationLogMessages.ERROR.SIGNATURE_VALIDATION_FAILED, "Invalid signature");
+                }
                 securityEventCounter.increment(SecurityEventCounter.EventType.SIGNATURE_VALIDATION_FAILED);
                 throw new TokenValidationException(
                         SecurityEventCounter.EventType.SIGNATURE_VALIDATION_FAILED,
@@ -210,22 +342,110 @@ public class TokenSignatureValidator {
                 );
             }
         } catch (InvalidKeyException | SignatureException e) {
-            LOGGER.warn(e, JWTValidationLogMessages.ERROR.SIGNATURE_VALIDATION_FAILED, e.getMessage());
+            if (sharedVerifier != null) {
+                sharedVerifier.reset();
+            }
+            throw signatureFailed(e);
+        } catch (SignatureTemplateManager.UnsupportedAlgorithmException e) {
+            throw unsupportedAlgorithm(e);
+        }
+    }
+
+    /**
+     * Extracts the signed data and the signature bytes from the token.
+     *
+     * @param decodedJwt the decoded JWT Token
+     * @return the data to verify and the decoded signature
+     * @throws TokenValidationException if the token parts cannot be extracted
+     */
+    private SignedData extractSignedData(DecodedJwt decodedJwt) {
+        try {
+            return new SignedData(decodedJwt.getDataToVerify().getBytes(StandardCharsets.UTF_8),
+                    decodedJwt.getSignatureAsDecodedBytes());
+        } catch (IllegalStateException e) {
+            if (securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.SIGNATURE_VALIDATION_FAILED)) {
+                LOGGER.warn(e, JWTValidationLogMessages.ERROR.SIGNATURE_VALIDATION_FAILED, e.getMessage());
+            }
             securityEventCounter.increment(SecurityEventCounter.EventType.SIGNATURE_VALIDATION_FAILED);
             throw new TokenValidationException(
                     SecurityEventCounter.EventType.SIGNATURE_VALIDATION_FAILED,
-                    "Signature validation failed: %s".formatted(e.getMessage()),
+                    () -> "Failed to extract JWT data for signature verification: %s".formatted(e.getMessage()),
                     e
             );
-        } catch (SignatureTemplateManager.UnsupportedAlgorithmException e) {
+        }
+    }
+
+    /**
+     * Verifies the signed data with the given key, without reporting the result.
+     *
+     * @return {@code true} if the signature is valid for the key
+     * @throws InvalidKeyException if the key is not suitable for the algorithm
+     * @throws SignatureException if the signature cannot be processed or has an invalid format
+     */
+    private boolean verify(SignedData signedData, PublicKey publicKey, String algorithm,
+            @Nullable SharedSignatureVerifier sharedVerifier) throws InvalidKeyException, SignatureException {
+        // Convert ECDSA signatures from IEEE P1363 to ASN.1/DER format if needed.
+        // Converting before the update keeps a shared verifier clean if the conversion fails.
+        byte[] verificationSignature = signedData.signature();
+        if (isEcdsaAlgorithm(algorithm)) {
+            LOGGER.debug("Converting ECDSA signature from IEEE P1363 to ASN.1/DER format for algorithm: %s", algorithm);
+            verificationSignature = EcdsaSignatureFormatConverter.toJCACompatibleSignature(signedData.signature(), algorithm);
+        }
+
+        // Initialize the signature verifier with the appropriate algorithm
+        Signature verifier = initializedVerifier(publicKey, algorithm, sharedVerifier);
+        verifier.update(signedData.data());
+        return verifier.verify(verificationSignature);
+    }
+
+    private TokenValidationException signatureFailed(Exception e) {
+        if (securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.SIGNATURE_VALIDATION_FAILED)) {
             LOGGER.warn(e, JWTValidationLogMessages.ERROR.SIGNATURE_VALIDATION_FAILED, e.getMessage());
-            securityEventCounter.increment(SecurityEventCounter.EventType.UNSUPPORTED_ALGORITHM);
-            throw new TokenValidationException(
-                    SecurityEventCounter.EventType.UNSUPPORTED_ALGORITHM,
-                    "Algorithm not supported: %s".formatted(e.getMessage()),
-                    e
-            );
         }
+        securityEventCounter.increment(SecurityEventCounter.EventType.SIGNATURE_VALIDATION_FAILED);
+        return new TokenValidationException(
+                SecurityEventCounter.EventType.SIGNATURE_VALIDATION_FAILED,
+                () -> "Signature validation failed: %s".formatted(e.getMessage()),
+                e
+        );
+    }
+
+    private TokenValidationException unsupportedAlgorithm(SignatureTemplateManager.UnsupportedAlgorithmException e) {
+        if (securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.UNSUPPORTED_ALGORITHM)) {
+            LOGGER.warn(e, JWTValidationLogMessages.ERROR.SIGNATURE_VALIDATION_FAILED, e.getMessage());
+        }
+        securityEventCounter.increment(SecurityEventCounter.EventType.UNSUPPORTED_ALGORITHM);
+        return new TokenValidationException(
+                SecurityEventCounter.EventType.UNSUPPORTED_ALGORITHM,
+                () -> "Algorithm not supported: %s".formatted(e.getMessage()),
+                e
+        );
+    }
+
+    /**
+     * Provides a {@link Signature} initialized for verification with the given key, reusing the
+     * instance of the shared verifier if possible.
+     *
+     * @param publicKey the public key to use for verification
+     * @param algorithm the algorithm to use for verification
+     * @param sharedVerifier the verifier shared with previous verifications, may be null
+     * @return the initialized verifier
+     * @throws InvalidKeyException if the key is not suitable for the algorithm
+     */
+    private Signature initializedVerifier(PublicKey publicKey, String algorithm,
+            @Nullable SharedSignatureVerifier sharedVerifier) throws InvalidKeyException {
+        if (sharedVerifier != null) {
+            Signature shared = sharedVerifier.get(algorithm, publicKey);
+            if (shared != null) {
+                return shared;
+            }
+        }
+        Signature verifier = signatureTemplateManager.getSignatureInstance(algorithm);
+        verifier.initVerify(publicKey);
+        if (sharedVerifier != null) {
+            sharedVerifier.set(algorithm, publicKey, verifier);
+        }
+        return verifier;
     }
 
     /**
@@ -257,4 +477,10 @@ public class TokenSignatureValidator {
         // For exact matches
         return tokenAlgorithm.equals(keyAlgorithm);
     }
+
+    /**
+     * The signed part of a token and its decoded signature.
+     */
+    private record SignedData(byte[] data, byte[] signature) {
+    }
 }
@@ -79,7 +79,9 @@ public class TokenStringValidator {
     public void validate(String tokenString) {
         // Check null/blank/empty (MoreStrings.isBlank handles null internally)
         if (MoreStrings.isBlank(tokenString)) {
-            LOGGER.warn(JWTValidationLogMessages.WARN.TOKEN_IS_EMPTY);
+            if (securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.TOKEN_EMPTY)) {
+                LOGGER.warn(JWTValidationLogMessages.WARN.TOKEN_IS_EMPTY);
+            }
             securityEventCounter.increment(SecurityEventCounter.EventType.TOKEN_EMPTY);
             throw new TokenValidationException(
                     SecurityEventCounter.EventType.TOKEN_EMPTY,
@@ -90,11 +92,13 @@ public class TokenStringValidator {
         // Check size limit (use byte length for accurate size measurement)
         int tokenByteLength = tokenString.getBytes(StandardCharsets.UTF_8).length;
         if (tokenByteLength > maxTokenSize) {
-            LOGGER.warn(JWTValidationLogMessages.WARN.TOKEN_SIZE_EXCEEDED, maxTokenSize);
+            if (securityEventCounter.isLoggingPermitted(SecurityEventCounter.EventType.TOKEN_SIZE_EXCEEDED)) {
+                LOGGER.warn(JWTValidationLogMessages.WARN.TOKEN_SIZE_EXCEEDED, maxTokenSize);
+            }
             securityEventCounter.increment(SecurityEventCounter.EventType.TOKEN_SIZE_EXCEEDED);
             throw new TokenValidationException(
                     SecurityEventCounter.EventType.TOKEN_SIZE_EXCEEDED,
-                    "Token size %d exceeds maximum %d".formatted(tokenByteLength, maxTokenSize)
+                    () -> "Token size %d exceeds maximum %d".formatted(tokenByteLength, maxTokenSize)
             );
         }
     }
@@ -83,6 +83,8 @@ public class SecurityEventCounter {
         // Signature issues
         SIGNATURE_VALIDATION_FAILED(JWTValidationLogMessages.ERROR.SIGNATURE_VALIDATION_FAILED, EventCategory.INVALID_SIGNATURE),
         KEY_NOT_FOUND(JWTValidationLogMessages.WARN.KEY_NOT_FOUND, EventCategory.INVALID_SIGNATURE),
+        SIGNATURE_VERIFICATION_OVERLOADED(JWTValidationLogMessages.WARN.SIGNATURE_VERIFICATION_OVERLOADED, EventCategory.INVALID_SIGNATURE),
+        KEY_TRIAL_RATE_LIMITED(JWTValidationLogMessages.WARN.KEY_TRIAL_RATE_LIMITED, EventCategory.INVALID_SIGNATURE),
 
         // Algorithm issues
         UNSUPPORTED_ALGORITHM(JWTValidationLogMessages.WARN.UNSUPPORTED_ALGORITHM, EventCategory.INVALID_SIGNATURE),
@@ -94,7 +96,9 @@ public class SecurityEventCounter {
         ACCESS_TOKEN_CREATED(null, null),
         ID_TOKEN_CREATED(null, null),
         REFRESH_TOKEN_CREATED(null, null),
-        ACCESS_TOKEN_CACHE_HIT(null, null);
+        ACCESS_TOKEN_CACHE_HIT(null, null),
+        // Signature verifications with candidate keys for tokens without kid and x5t#S256
+        KEY_TRIAL_VERIFICATION(null, null);
 
         private final LogRecord logRecord;
         private final EventCategory category;
@@ -141,6 +145,39 @@ public class SecurityEventCounter {
 
     private final ConcurrentHashMap<EventType, AtomicLong> counters = new ConcurrentHashMap<>();
 
+    private final SecurityEventLogLimiter logLimiter;
+
+    /**
+     * Creates a new counter with the default {@link SecurityEventLogConfig}.
+     */
+    public SecurityEventCounter() {
+        this(SecurityEventLogConfig.defaultConfig());
+    }
+
+    /**
+     * Creates a new counter.
+     *
+     * @param logConfig the configuration for rate limiting the logging of security events
+     */
+    public SecurityEventCounter(SecurityEventLogConfig logConfig) {
+        this.logLimiter = new SecurityEventLogLimiter(logConfig);
+    }
+
+    /**
+     * Checks whether a warning for the given event type may be logged.
+     * <p>
+     * Components reporting a security event guard their log statement with this method, so
+     * that a flood of rejected tokens cannot turn logging into the bottleneck, see
+     * {@link SecurityEventLogConfig}. Suppressed events are summarized in a later log
+     * statement, at the latest when the counters are read after the interval has passed. The event must still be counted via {@link #increment(EventType)}.
+     *
+     * @param eventType the type of security event to be logged
+     * @return {@code true} if the warning should be logged, {@code false} if it is suppressed
+     */
+    public boolean isLoggingPermitted(EventType eventType) {
+        return logLimiter.tryAcquire(eventType);
+    }
+
     /**
      * Increments the counter for the specified event type.
      * <p>
@@ -160,6 +197,7 @@ public class SecurityEventCounter {
      * @return the current count, or 0 if the event has never been counted
      */
     public long getCount(EventType eventType) {
+        logLimiter.flushSummaries();
         AtomicLong counter = counters.get(eventType);
         return counter != null ? counter.get() : 0;
     }
@@ -170,6 +208,7 @@ public class SecurityEventCounter {
      * @return an unmodifiable map of event types to their current counts
      */
     public Map<EventType, Long> getCounters() {
+        logLimiter.flushSummaries();
         return counters.entrySet().stream()
                 .collect(Collectors.toUnmodifiableMap(
                         Map.Entry::getKey,
@@ -0,0 +1,122 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.security;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+import lombok.ToString;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Map;
+
+/**
+ * Configuration for the rate-limited logging of security events.
+ * <p>
+ * Rejected tokens are logged as warnings by the validation pipeline. To keep a flood of bad
+ * tokens from turning log I/O into the bottleneck, each {@link SecurityEventCounter.EventType}
+ * has a token bucket: the first {@code n} occurrences within an interval are logged, further
+ * occurrences are only counted and reported as a single summary when the next interval starts.
+ * Security event counting is not affected by this configuration.
+ * <p>
+ * The limit {@code n} can be configured per {@link EventCategory}, falling back to
+ * {@link #getMaxEventsPerInterval()}. A negative limit disables rate limiting, a limit of 0
+ * only logs the summaries.
+ * <p>
+ * Usage example:
+ * <pre>
+ * SecurityEventLogConfig config = SecurityEventLogConfig.builder()
+ *     .intervalSeconds(30)
+ *     .maxEventsPerInterval(50)
+ *     .categoryLimit(EventCategory.INVALID_SIGNATURE, 10)
+ *     .build();
+ * </pre>
+ *
+ * @author Oliver Wolff
+ * @since 1.0
+ */
+@Builder
+@Getter
+@ToString
+public class SecurityEventLogConfig {
+
+    /**
+     * Default length of a rate limiting interval in seconds.
+     */
+    public static final long DEFAULT_INTERVAL_SECONDS = 60;
+
+    /**
+     * Default number of warnings logged per event type and interval.
+     */
+    public static final int DEFAULT_MAX_EVENTS_PER_INTERVAL = 100;
+
+    /**
+     * Limit value disabling rate limiting.
+     */
+    public static final int UNLIMITED = -1;
+
+    /**
+     * The length of a rate limiting interval in seconds, must be positive.
+     */
+    @Builder.Default
+    private final long intervalSeconds = DEFAULT_INTERVAL_SECONDS;
+
+    /**
+     * The number of warnings logged per event type and interval, used for all categories
+     * without a specific limit.
+     */
+    @Builder.Default
+    private final int maxEventsPerInterval = DEFAULT_MAX_EVENTS_PER_INTERVAL;
+
+    /**
+     * Limits overriding {@link #maxEventsPerInterval} for single event categories.
+     */
+    @Singular
+    private final Map<EventCategory, Integer> categoryLimits;
+
+    /**
+     * Creates a default configuration.
+     *
+     * @return a configuration logging up to 100 warnings per event type and minute
+     */
+    public static SecurityEventLogConfig defaultConfig() {
+        return SecurityEventLogConfig.builder().build();
+    }
+
+    /**
+     * Creates a configuration that logs every security event.
+     *
+     * @return a configuration with rate limiting disabled
+     */
+    public static SecurityEventLogConfig unlimited() {
+        return SecurityEventLogConfig.builder()
+                .maxEventsPerInterval(UNLIMITED)
+                .build();
+    }
+
+    /**
+     * Resolves the limit for the given event category.
+     *
+     * @param category the event category, may be null for events without category
+     * @return the number of warnings logged per event type and interval, negative for unlimited
+     */
+    public int getLimit(@Nullable EventCategory category) {
+        if (category == null) {
+            return maxEventsPerInterval;
+        }
+        return categoryLimits.getOrDefault(category, maxEventsPerInterval);
+    }
+}
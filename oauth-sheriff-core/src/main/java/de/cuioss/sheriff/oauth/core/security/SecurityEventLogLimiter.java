@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.security;
+
+import de.cuioss.sheriff.oauth.core.JWTValidationLogMessages;
+import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter.EventType;
+import de.cuioss.tools.logging.CuiLogger;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets per {@link EventType} deciding whether a security event may be logged.
+ * <p>
+ * Each bucket allows the configured number of log statements per interval and is refilled
+ * completely when the interval has passed. Events exceeding the limit are counted, and the
+ * count is logged as a single summary by the first event of the following interval. If no
+ * further event of that type arrives, the summary is flushed by the first check of any event
+ * type at least one interval after the previous flush, or by {@link #flushSummaries()}, so a
+ * burst followed by silence is still reported.
+ * <p>
+ * The buckets are created at construction, so a check is a map lookup plus a few atomic
+ * operations. This class is thread-safe.
+ *
+ * @author Oliver Wolff
+ * @since 1.0
+ */
+final class SecurityEventLogLimiter {
+
+    private static final CuiLogger LOGGER = new CuiLogger(SecurityEventLogLimiter.class);
+
+    private final long intervalNanos;
+    private final LongSupplier nanoClock;
+    private final Map<EventType, Bucket> buckets = new EnumMap<>(EventType.class);
+    private final AtomicLong nextFlush;
+
+    SecurityEventLogLimiter(SecurityEventLogConfig config) {
+        this(config, System::nanoTime);
+    }
+
+    SecurityEventLogLimiter(SecurityEventLogConfig config, LongSupplier nanoClock) {
+        if (config.getIntervalSeconds() <= 0) {
+            throw new IllegalArgumentException("intervalSeconds must be positive, but was " + config.getIntervalSeconds());
+        }
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(config.getIntervalSeconds());
+        this.nanoClock = nanoClock;
+        long now = nanoClock.getAsLong();
+        this.nextFlush = new AtomicLong(now + intervalNanos);
+        for (EventType eventType : EventType.values()) {
+            int limit = config.getLimit(eventType.getCategory());
+            if (limit >= 0) {
+                buckets.put(eventType, new Bucket(eventType, limit, now));
+            }
+        }
+    }
+
+    /**
+     * Takes a token from the bucket of the given event type.
+     *
+     * @param eventType the event type to be logged
+     * @return {@code true} if the event may be logged, {@code false} if it is suppressed
+     */
+    boolean tryAcquire(EventType eventType) {
+        long now = nanoClock.getAsLong();
+        long flushDue = nextFlush.get();
+        if (now - flushDue >= 0 && nextFlush.compareAndSet(flushDue, now + intervalNanos)) {
+            flushSummaries(now);
+        }
+        Bucket bucket = buckets.get(eventType);
+        return bucket == null || bucket.tryAcquire(now);
+    }
+
+    /**
+     * Logs the summaries of suppressed events whose interval has passed, without waiting for
+     * the next event of their type.
+     */
+    void flushSummaries() {
+        flushSummaries(nanoClock.getAsLong());
+    }
+
+    private void flushSummaries(long now) {
+        for (Bucket bucket : buckets.values()) {
+            bucket.flush(now);
+        }
+    }
+
+    private final class Bucket {
+
+        private final EventType eventType;
+        private final int capacity;
+        private final AtomicInteger used = new AtomicInteger();
+        private final AtomicLong suppressed = new AtomicLong();
+        private volatile long windowStart;
+
+        Bucket(EventType eventType, int capacity, long now) {
+            this.eventType = eventType;
+            this.capacity = capacity;
+            this.windowStart = now;
+        }
+
+        boolean tryAcquire(long now) {
+            if (now - windowStart >= intervalNanos) {
+                startNewWindow(now);
+            }
+            // Checking first keeps the counter from overflowing under a sustained flood
+            if (used.get() < capacity && used.incrementAndGet() <= capacity) {
+                return true;
+            }
+            suppressed.incrementAndGet();
+            return false;
+        }
+
+        void flush(long now) {
+            if (suppressed.get() > 0 && now - windowStart >= intervalNanos) {
+                startNewWindow(now);
+            }
+        }
+
+        private synchronized void startNewWindow(long now) {
+            if (now - windowStart < intervalNanos) {
+                // Already started by a concurrent caller
+                return;
+            }
+            long suppressedCount = suppressed.getAndSet(0);
+            if (suppressedCount > 0) {
+                LOGGER.warn(JWTValidationLogMessages.WARN.SECURITY_EVENTS_SUPPRESSED,
+                        suppressedCount, eventType, TimeUnit.NANOSECONDS.toSeconds(now - windowStart));
+            }
+            used.set(0);
+            windowStart = now;
+        }
+    }
+}
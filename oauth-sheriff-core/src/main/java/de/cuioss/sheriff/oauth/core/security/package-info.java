@@ -25,6 +25,7 @@
  *   <li>{@link de.cuioss.sheriff.oauth.core.security.SignatureAlgorithmPreferences} - Manages algorithm preferences for JWT signature validation</li>
  *   <li>{@link de.cuioss.sheriff.oauth.core.security.JwkAlgorithmPreferences} - Manages algorithm preferences for JWK parsing</li>
  *   <li>{@link de.cuioss.sheriff.oauth.core.security.SecurityEventCounter} - Tracks security-relevant events for monitoring</li>
+ *   <li>{@link de.cuioss.sheriff.oauth.core.security.SecurityEventLogConfig} - Configures the rate-limited logging of security events</li>
  * </ul>
  * <p>
  * The classes in this package implement security best practices, including:
@@ -21,9 +21,18 @@ import de.cuioss.http.client.ResilientHttpHandler;
 import de.cuioss.http.client.result.HttpResult;
 import de.cuioss.http.client.retry.RetryStrategies;
 import de.cuioss.sheriff.oauth.core.json.WellKnownResult;
+import de.cuioss.tools.base.Preconditions;
 import de.cuioss.tools.logging.CuiLogger;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 /**
  * HTTP-based implementation for resolving OpenID Connect well-known configuration endpoints.
@@ -32,9 +41,15 @@ import java.util.Optional;
  * parsing well-known OIDC discovery documents. It handles HTTP operations, caching,
  * and provides convenient access to discovered endpoints.
  * <p>
- * The resolver loads the well-known configuration once and caches the result for
- * subsequent endpoint lookups. It provides methods to access common OIDC endpoints
- * like JWKS URI, issuer, authorization endpoint, etc.
+ * The discovery document is loaded asynchronously on a virtual thread and cached for the
+ * resolution TTL. Once the TTL has expired, {@link #resolve()} still returns the cached document
+ * immediately and re-resolves it in the background (stale-while-revalidate); concurrent callers
+ * share one pending load. A failed load is retried after the TTL, at the latest after 30
+ * seconds, and a failed re-resolution keeps the last valid document. Listeners registered via
+ * {@link #addChangeListener(Consumer)} are notified when a re-resolution changes the issuer or
+ * the JWKS URI, e.g. after the identity provider moved its keys.
+ * <p>
+ * The synchronous getters only block until the first load has completed.
  *
  * @author Oliver Wolff
  * @since 1.0
@@ -43,33 +58,149 @@ public class HttpWellKnownResolver implements LoadingStatusProvider {
 
     private static final CuiLogger LOGGER = new CuiLogger(HttpWellKnownResolver.class);
 
+    /**
+     * Default time a resolved discovery document is used before it is re-resolved.
+     */
+    public static final Duration DEFAULT_RESOLUTION_TTL = Duration.ofHours(1);
+
+    private static final Duration FAILURE_RETRY_INTERVAL = Duration.ofSeconds(30);
+
+    private static final Executor RESOLUTION_EXECUTOR =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("well-known-", 0).factory());
+
+    /**
+     * The outcome of a load, with the document served until the given time.
+     *
+     * @param result          the last valid document, {@code null} if none was loaded yet
+     * @param staleAfterNanos the {@link System#nanoTime()} after which the document is re-resolved
+     */
+    private record Resolution(WellKnownResult result, long staleAfterNanos) {
+
+        boolean isStale() {
+            return System.nanoTime() - staleAfterNanos >= 0;
+        }
+    }
+
     private final ResilientHttpHandler<WellKnownResult> wellKnownHandler;
-    private HttpResult<WellKnownResult> cachedResult;
+    private final Duration resolutionTtl;
+    private final AtomicReference<Resolution> resolution = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<Optional<WellKnownResult>>> pending = new AtomicReference<>();
+    private final List<Consumer<WellKnownResult>> changeListeners = new CopyOnWriteArrayList<>();
 
     /**
-     * Creates a new HttpWellKnownResolver with the specified configuration.
+     * Creates a new HttpWellKnownResolver with the specified configuration and the
+     * {@link #DEFAULT_RESOLUTION_TTL}.
      *
      * @param config the well-known configuration containing HTTP handler and parser settings
      */
     public HttpWellKnownResolver(WellKnownConfig config) {
+        this(config, DEFAULT_RESOLUTION_TTL);
+    }
+
+    /**
+     * Creates a new HttpWellKnownResolver with the specified configuration.
+     *
+     * @param config        the well-known configuration containing HTTP handler and parser settings
+     * @param resolutionTtl the time a resolved document is used before it is re-resolved, must be positive
+     */
+    public HttpWellKnownResolver(WellKnownConfig config, Duration resolutionTtl) {
+        Preconditions.checkArgument(resolutionTtl.isPositive(), "resolutionTtl must be positive");
         var converter = new WellKnownConfigurationConverter(config.getParserConfig().getDslJson());
         this.wellKnownHandler = new ResilientHttpHandler<>(config.getHttpHandler(), RetryStrategies.exponentialBackoff(), converter);
+        this.resolutionTtl = resolutionTtl;
         LOGGER.debug("Created HttpWellKnownResolver for well-known endpoint discovery");
     }
 
     /**
-     * Ensures the well-known configuration is loaded and cached.
+     * Resolves the well-known configuration without blocking the caller.
+     * <p>
+     * Completes immediately with the cached document if one was loaded before, starting a
+     * re-resolution in the background if it is stale. Otherwise completes once the first load,
+     * shared by all callers, has finished.
      *
-     * @return Optional containing the WellKnownResult if available and valid, empty otherwise
+     * @return future containing the WellKnownResult if available and valid, empty otherwise
      */
-    private Optional<WellKnownResult> ensureLoaded() {
-        if (cachedResult == null) {
-            cachedResult = wellKnownHandler.load();
+    public CompletableFuture<Optional<WellKnownResult>> resolve() {
+        Resolution current = resolution.get();
+        if (current == null) {
+            return startResolution();
+        }
+        if (current.isStale()) {
+            startResolution();
+        }
+        return CompletableFuture.completedFuture(Optional.ofNullable(current.result()));
+    }
+
+    /**
+     * Registers a listener notified on the resolving thread when a re-resolution changes the
+     * issuer or the JWKS URI of the document. Not notified for the first document.
+     *
+     * @param listener the listener, must not be null
+     */
+    public void addChangeListener(Consumer<WellKnownResult> listener) {
+        changeListeners.add(listener);
+    }
+
+    private CompletableFuture<Optional<WellKnownResult>> startResolution() {
+        CompletableFuture<Optional<WellKnownResult>> started = new CompletableFuture<>();
+        CompletableFuture<Optional<WellKnownResult>> running = pending.compareAndExchange(null, started);
+        if (running != null) {
+            return running;
+        }
+        RESOLUTION_EXECUTOR.execute(() -> {
+            try {
+                started.complete(load());
+            } catch (RuntimeException e) {
+                LOGGER.debug("Well-known resolution failed: %s", e.getMessage());
+                started.complete(Optional.empty());
+            } finally {
+                pending.compareAndSet(started, null);
+            }
+        });
+        return started;
+    }
+
+    /**
+     * Loads the document and replaces the cached resolution.
+     *
+     * @return the document to serve, the previous one if the load failed
+     */
+    private Optional<WellKnownResult> load() {
+        HttpResult<WellKnownResult> loaded = wellKnownHandler.load();
+        Resolution previous = resolution.get();
+        WellKnownResult previousResult = previous != null ? previous.result() : null;
+        long now = System.nanoTime();
+
+        if (!loaded.isSuccess() || loaded.getContent().filter(r -> !r.isEmpty()).isEmpty()) {
+            // Keep serving the last valid document, retry earlier than after a success
+            Duration retry = resolutionTtl.compareTo(FAILURE_RETRY_INTERVAL) < 0 ? resolutionTtl : FAILURE_RETRY_INTERVAL;
+            resolution.set(new Resolution(previousResult, now + retry.toNanos()));
+            LOGGER.debug("Well-known resolution failed, retrying in %s", retry);
+            return Optional.ofNullable(previousResult);
         }
-        if (cachedResult.isSuccess()) {
-            return cachedResult.getContent();
+
+        WellKnownResult result = loaded.getContent().get();
+        resolution.set(new Resolution(result, now + resolutionTtl.toNanos()));
+        if (previous != null && !sameEndpoints(previousResult, result)) {
+            LOGGER.debug("Well-known configuration changed, JWKS URI is now %s", result.getJwksUri().orElse(null));
+            changeListeners.forEach(listener -> listener.accept(result));
         }
-        return Optional.empty();
+        return Optional.of(result);
+    }
+
+    private static boolean sameEndpoints(WellKnownResult previous, WellKnownResult current) {
+        return previous != null
+                && previous.getIssuer().equals(current.getIssuer())
+                && previous.getJwksUri().equals(current.getJwksUri());
+    }
+
+    /**
+     * Ensures the well-known configuration is loaded, blocking only for the first load.
+     *
+     * @return Optional containing the WellKnownResult if available and valid, empty otherwise
+     */
+    private Optional<WellKnownResult> ensureLoaded() {
+        return resolve().join();
     }
 
     /**
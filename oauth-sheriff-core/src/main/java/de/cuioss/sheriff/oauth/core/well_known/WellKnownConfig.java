@@ -27,6 +27,7 @@ import lombok.ToString;
 
 import javax.net.ssl.SSLContext;
 import java.net.URI;
+import java.time.Duration;
 
 /**
  * Configuration for well-known endpoint discovery.
@@ -89,6 +90,17 @@ public class WellKnownConfig implements HttpHandlerProvider {
         return new HttpWellKnownResolver(this);
     }
 
+    /**
+     * Creates a new HttpWellKnownResolver using this configuration that re-resolves the
+     * discovery document after the given time.
+     *
+     * @param resolutionTtl the time a resolved document is used before it is re-resolved, must be positive
+     * @return a configured HttpWellKnownResolver instance
+     */
+    public HttpWellKnownResolver createResolver(Duration resolutionTtl) {
+        return new HttpWellKnownResolver(this, resolutionTtl);
+    }
+
     /**
      * Creates a new builder for WellKnownConfig.
      *
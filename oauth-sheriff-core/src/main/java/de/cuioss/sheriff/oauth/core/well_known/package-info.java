@@ -27,7 +27,7 @@
  * <p>
  * This package provides:
  * <ul>
- *   <li>Simple well-known configuration loading</li>
+ *   <li>Asynchronous well-known configuration loading with background re-resolution</li>
  *   <li>Configurable HTTP timeouts and SSL settings</li>
  *   <li>Direct integration with ResilientHttpHandler for caching</li>
  *   <li>DSL-JSON based parsing for optimal performance</li>
@@ -15,7 +15,11 @@
  */
 package de.cuioss.sheriff.oauth.core;
 
+import de.cuioss.http.client.LoaderStatus;
 import de.cuioss.sheriff.oauth.core.exception.TokenValidationException;
+import de.cuioss.sheriff.oauth.core.jwks.JwksLoader;
+import de.cuioss.sheriff.oauth.core.jwks.JwksType;
+import de.cuioss.sheriff.oauth.core.jwks.key.KeyInfo;
 import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
 import de.cuioss.sheriff.oauth.core.test.TestTokenHolder;
 import de.cuioss.sheriff.oauth.core.test.generator.TestTokenGenerators;
@@ -27,11 +31,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -411,4 +418,363 @@ class IssuerConfigResolverTest {
         }
     }
 
-}
\ No newline at end of file
+    @Nested
+    @DisplayName("Asynchronous Resolution Tests")
+    class AsynchronousResolutionTests {
+
+        @Test
+        @DisplayName("Complete immediately for loaded configs")
+        void completesImmediatelyForLoadedConfig() {
+            IssuerConfig config = tokenHolder1.getIssuerConfig();
+            IssuerConfigResolver resolver = new IssuerConfigResolver(List.of(config), securityEventCounter);
+
+            CompletableFuture<IssuerConfig> result = resolver.resolveConfigAsync(config.getIssuerIdentifier());
+
+            assertTrue(result.isDone());
+            assertSame(config, result.join());
+        }
+
+        @Test
+        @DisplayName("Fail for unknown issuers without blocking")
+        void failsForUnknownIssuer() {
+            IssuerConfigResolver resolver = new IssuerConfigResolver(
+                    List.of(tokenHolder1.getIssuerConfig()), securityEventCounter);
+
+            CompletableFuture<IssuerConfig> result = resolver.resolveConfigAsync("https://unknown-issuer.com");
+
+            assertTrue(result.isCompletedExceptionally());
+            CompletionException exception = assertThrows(CompletionException.class, result::join);
+            TokenValidationException cause = assertInstanceOf(TokenValidationException.class, exception.getCause());
+            assertEquals(SecurityEventCounter.EventType.NO_ISSUER_CONFIG, cause.getEventType());
+        }
+
+        @Test
+        @DisplayName("Chain on the loading future of issuers still loading")
+        void chainsOnLoadingFuture() {
+            PendingJwksLoader loader = new PendingJwksLoader(tokenHolder1.getPublicKeyAsLoader());
+            IssuerConfig config = pendingConfig(loader);
+            IssuerConfigResolver resolver = new IssuerConfigResolver(List.of(config), securityEventCounter);
+
+            CompletableFuture<IssuerConfig> result = resolver.resolveConfigAsync(config.getIssuerIdentifier());
+            assertFalse(result.isDone(), "Resolution must wait for the JWKS without blocking");
+
+            loader.complete(LoaderStatus.OK);
+
+            assertSame(config, result.join());
+        }
+
+        @Test
+        @DisplayName("Fail once the loading of issuers still loading fails")
+        void failsWhenLoadingFails() {
+            PendingJwksLoader loader = new PendingJwksLoader(tokenHolder1.getPublicKeyAsLoader());
+            IssuerConfig config = pendingConfig(loader);
+            IssuerConfigResolver resolver = new IssuerConfigResolver(List.of(config), securityEventCounter);
+
+            CompletableFuture<IssuerConfig> result = resolver.resolveConfigAsync(config.getIssuerIdentifier());
+            loader.complete(LoaderStatus.ERROR);
+
+            CompletionException exception = assertThrows(CompletionException.class, result::join);
+            assertInstanceOf(TokenValidationException.class, exception.getCause());
+            assertEquals(1, securityEventCounter.getCount(SecurityEventCounter.EventType.NO_ISSUER_CONFIG));
+        }
+
+        private IssuerConfig pendingConfig(JwksLoader loader) {
+            return IssuerConfig.builder()
+                    .issuerIdentifier("https://pending-issuer.com")
+                    .expectedAudience(TestTokenHolder.TEST_AUDIENCE)
+                    .jwksLoader(loader)
+                    .build();
+        }
+    }
+
+    @Nested
+    @DisplayName("Parallel Startup Tests")
+    class ParallelStartupTests {
+
+        @Test
+        @DisplayName("Limit the number of issuers loading at the same time")
+        void limitsConcurrentInitializations() {
+            PendingJwksLoader firstLoader = new PendingJwksLoader(tokenHolder1.getPublicKeyAsLoader());
+            PendingJwksLoader secondLoader = new PendingJwksLoader(tokenHolder2.getPublicKeyAsLoader());
+            IssuerStartupConfig startupConfig = IssuerStartupConfig.builder().maxConcurrentInitializations(1).build();
+
+            new IssuerConfigResolver(List.of(pendingConfig("https://first-issuer.com", firstLoader),
+                    pendingConfig("https://second-issuer.com", secondLoader)), securityEventCounter, startupConfig);
+
+            assertEquals(1, firstLoader.initCalls.get());
+            assertEquals(0, secondLoader.initCalls.get(), "Second issuer must wait for a permit");
+
+            firstLoader.complete(LoaderStatus.OK);
+
+            await("Second issuer started").atMost(2, TimeUnit.SECONDS)
+                    .until(() -> secondLoader.initCalls.get() == 1);
+        }
+
+        @Test
+        @DisplayName("Serve loaded issuers while others are still loading")
+        void servesLoadedIssuersWhileOthersAreLoading() {
+            IssuerConfig loadedConfig = tokenHolder1.getIssuerConfig();
+            PendingJwksLoader pendingLoader = new PendingJwksLoader(tokenHolder2.getPublicKeyAsLoader());
+            IssuerConfig pendingConfig = pendingConfig("https://pending-issuer.com", pendingLoader);
+            IssuerConfigResolver resolver = new IssuerConfigResolver(List.of(loadedConfig, pendingConfig), securityEventCounter);
+
+            assertSame(loadedConfig, resolver.resolveConfig(loadedConfig.getIssuerIdentifier()));
+            assertFalse(resolver.resolveConfigAsync(pendingConfig.getIssuerIdentifier()).isDone());
+        }
+
+        @Test
+        @DisplayName("Reject issuers still loading after the startup deadline until their loading completes")
+        void rejectsIssuersLoadingBeyondDeadline() {
+            PendingJwksLoader pendingLoader = new PendingJwksLoader(tokenHolder1.getPublicKeyAsLoader());
+            IssuerConfig config = pendingConfig("https://slow-issuer.com", pendingLoader);
+            IssuerStartupConfig startupConfig = IssuerStartupConfig.builder()
+                    .startupDeadline(Duration.ofMillis(100))
+                    .build();
+            IssuerConfigResolver resolver = new IssuerConfigResolver(List.of(config), securityEventCounter, startupConfig);
+
+            CompletionException exception = assertThrows(CompletionException.class,
+                    () -> resolver.resolveConfigAsync(config.getIssuerIdentifier()).join());
+            assertInstanceOf(TokenValidationException.class, exception.getCause());
+            await("Deadline reported").atMost(2, TimeUnit.SECONDS).untilAsserted(() ->
+                    LogAsserts.assertLogMessagePresentContaining(TestLogLevel.WARN,
+                            JWTValidationLogMessages.WARN.ISSUER_STARTUP_DEADLINE_EXCEEDED.resolveIdentifierString()));
+
+            pendingLoader.complete(LoaderStatus.OK);
+
+            assertSame(config, resolver.resolveConfig(config.getIssuerIdentifier()));
+        }
+
+        @Test
+        @DisplayName("Reject an invalid startup configuration")
+        void rejectsInvalidStartupConfig() {
+            List<IssuerConfig> configs = List.of(tokenHolder1.getIssuerConfig());
+            IssuerStartupConfig noConcurrency = IssuerStartupConfig.builder().maxConcurrentInitializations(0).build();
+            IssuerStartupConfig noDeadline = IssuerStartupConfig.builder().startupDeadline(Duration.ZERO).build();
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> new IssuerConfigResolver(configs, securityEventCounter, noConcurrency));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new IssuerConfigResolver(configs, securityEventCounter, noDeadline));
+        }
+
+        @Test
+        @DisplayName("Publish an issuer once its loader recovers from an unsuccessful initialization")
+        void publishesRecoveredIssuer() {
+            NotifyingJwksLoader loader = new NotifyingJwksLoader(tokenHolder1.getPublicKeyAsLoader());
+            IssuerConfig config = pendingConfig("https://following-issuer.com", loader);
+            IssuerConfigResolver resolver = new IssuerConfigResolver(List.of(config), securityEventCounter);
+            String issuer = config.getIssuerIdentifier();
+
+            // E.g. a follower of a JWKS exchange file started before the first publication
+            loader.complete(LoaderStatus.UNDEFINED);
+            assertThrows(TokenValidationException.class, () -> resolver.resolveConfig(issuer));
+
+            loader.recover();
+
+            assertSame(config, resolver.resolveConfig(issuer));
+        }
+
+        @Test
+        @DisplayName("Not publish a recovered issuer that was unregistered meanwhile")
+        void ignoresRecoveryOfUnregisteredIssuer() {
+            NotifyingJwksLoader loader = new NotifyingJwksLoader(tokenHolder1.getPublicKeyAsLoader());
+            IssuerConfig config = pendingConfig("https://following-issuer.com", loader);
+            IssuerConfigResolver resolver = new IssuerConfigResolver(List.of(config), securityEventCounter);
+            String issuer = config.getIssuerIdentifier();
+            loader.complete(LoaderStatus.UNDEFINED);
+
+            resolver.unregister(issuer);
+            loader.recover();
+
+            assertThrows(TokenValidationException.class, () -> resolver.resolveConfig(issuer));
+        }
+    }
+
+    @Nested
+    @DisplayName("Lazy Activation Tests")
+    class LazyActivationTests {
+
+        @Test
+        @DisplayName("Activate an issuer once on its first tokens")
+        void activatesIssuerOnFirstToken() {
+            PendingJwksLoader loader = new PendingJwksLoader(tokenHolder1.getPublicKeyAsLoader());
+            IssuerConfig config = pendingConfig("https://lazy-issuer.com", loader);
+            IssuerConfigResolver resolver = new IssuerConfigResolver(List.of(config), securityEventCounter,
+                    IssuerStartupConfig.builder().lazyActivation(true).build());
+
+            assertEquals(0, loader.initCalls.get(), "No issuer must be loaded on startup");
+
+            CompletableFuture<IssuerConfig> first = resolver.resolveConfigAsync(config.getIssuerIdentifier());
+            CompletableFuture<IssuerConfig> second = resolver.resolveConfigAsync(config.getIssuerIdentifier());
+            assertFalse(first.isDone());
+            assertEquals(1, loader.initCalls.get(), "Concurrent tokens must share the activation");
+
+            loader.complete(LoaderStatus.OK);
+
+            assertSame(config, first.join());
+            assertSame(config, second.join());
+            assertSame(config, resolver.resolveConfig(config.getIssuerIdentifier()));
+        }
+
+        @Test
+        @DisplayName("Release issuers without tokens for the idle timeout")
+        void releasesIdleIssuers() {
+            PendingJwksLoader idleLoader = loadedLoader(tokenHolder1);
+            PendingJwksLoader activeLoader = loadedLoader(tokenHolder2);
+            IssuerConfig idleConfig = pendingConfig("https://idle-issuer.com", idleLoader);
+            IssuerConfig activeConfig = pendingConfig("https://active-issuer.com", activeLoader);
+            IssuerConfigResolver resolver = new IssuerConfigResolver(List.of(idleConfig, activeConfig), securityEventCounter,
+                    IssuerStartupConfig.builder().lazyActivation(true).idleTimeout(Duration.ofMillis(100)).build());
+
+            assertSame(idleConfig, resolver.resolveConfig(idleConfig.getIssuerIdentifier()));
+            await().pollDelay(Duration.ofMillis(150)).until(() -> true);
+            assertSame(activeConfig, resolver.resolveConfig(activeConfig.getIssuerIdentifier()));
+
+            assertEquals(1, idleLoader.releaseCalls.get(), "Idle issuer must be released");
+            assertEquals(0, activeLoader.releaseCalls.get());
+            LogAsserts.assertLogMessagePresentContaining(TestLogLevel.INFO,
+                    JWTValidationLogMessages.INFO.ISSUER_RELEASED.resolveIdentifierString());
+
+            assertSame(idleConfig, resolver.resolveConfig(idleConfig.getIssuerIdentifier()));
+            assertEquals(2, idleLoader.initCalls.get(), "Released issuer must be activated again");
+        }
+
+        @Test
+        @DisplayName("Release the least recently used issuer beyond the maximum number of active issuers")
+        void releasesLeastRecentlyUsedIssuer() {
+            PendingJwksLoader firstLoader = loadedLoader(tokenHolder1);
+            PendingJwksLoader secondLoader = loadedLoader(tokenHolder2);
+            IssuerConfig firstConfig = pendingConfig("https://first-issuer.com", firstLoader);
+            IssuerConfig secondConfig = pendingConfig("https://second-issuer.com", secondLoader);
+            IssuerConfigResolver resolver = new IssuerConfigResolver(List.of(firstConfig, secondConfig), securityEventCounter,
+                    IssuerStartupConfig.builder().lazyActivation(true).maxActiveIssuers(1).build());
+
+            assertSame(firstConfig, resolver.resolveConfig(firstConfig.getIssuerIdentifier()));
+            assertSame(secondConfig, resolver.resolveConfig(secondConfig.getIssuerIdentifier()));
+
+            assertEquals(1, firstLoader.releaseCalls.get(), "Least recently used issuer must be released");
+            assertEquals(0, secondLoader.releaseCalls.get());
+        }
+
+        @Test
+        @DisplayName("Reject tokens of a failed activation without loading again")
+        void rejectsFailedActivationWithoutRetry() {
+            PendingJwksLoader loader = new PendingJwksLoader(tokenHolder1.getPublicKeyAsLoader());
+            loader.complete(LoaderStatus.ERROR);
+            IssuerConfig config = pendingConfig("https://failing-issuer.com", loader);
+            IssuerConfigResolver resolver = new IssuerConfigResolver(List.of(config), securityEventCounter,
+                    IssuerStartupConfig.builder().lazyActivation(true).build());
+            String issuer = config.getIssuerIdentifier();
+
+            assertThrows(TokenValidationException.class, () -> resolver.resolveConfig(issuer));
+            assertThrows(TokenValidationException.class, () -> resolver.resolveConfig(issuer));
+
+            assertEquals(1, loader.initCalls.get(), "Activation must not be retried immediately");
+            assertEquals(1, loader.releaseCalls.get(), "Failed loader must be released");
+        }
+
+        @Test
+        @DisplayName("Reject an invalid lazy activation configuration")
+        void rejectsInvalidLazyActivationConfig() {
+            List<IssuerConfig> configs = List.of(tokenHolder1.getIssuerConfig());
+            IssuerStartupConfig noIdleTimeout = IssuerStartupConfig.builder().idleTimeout(Duration.ZERO).build();
+            IssuerStartupConfig noActiveIssuers = IssuerStartupConfig.builder().maxActiveIssuers(0).build();
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> new IssuerConfigResolver(configs, securityEventCounter, noIdleTimeout));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new IssuerConfigResolver(configs, securityEventCounter, noActiveIssuers));
+        }
+
+        private PendingJwksLoader loadedLoader(TestTokenHolder tokenHolder) {
+            PendingJwksLoader loader = new PendingJwksLoader(tokenHolder.getPublicKeyAsLoader());
+            loader.complete(LoaderStatus.OK);
+            return loader;
+        }
+    }
+
+    private static IssuerConfig pendingConfig(String issuer, JwksLoader loader) {
+        return IssuerConfig.builder()
+                .issuerIdentifier(issuer)
+                .expectedAudience(TestTokenHolder.TEST_AUDIENCE)
+                .jwksLoader(loader)
+                .build();
+    }
+
+    /**
+     * JwksLoader whose loading is still in progress when the resolver is created, completed by the test.
+     */
+    static class PendingJwksLoader implements JwksLoader {
+
+        private final JwksLoader delegate;
+        private final CompletableFuture<LoaderStatus> loading = new CompletableFuture<>();
+        private final AtomicInteger initCalls = new AtomicInteger();
+        private final AtomicInteger releaseCalls = new AtomicInteger();
+        private volatile LoaderStatus status = LoaderStatus.LOADING;
+
+        PendingJwksLoader(JwksLoader delegate) {
+            this.delegate = delegate;
+        }
+
+        void complete(LoaderStatus result) {
+            status = result;
+            loading.complete(result);
+        }
+
+        @Override
+        public Optional<KeyInfo> getKeyInfo(String kid) {
+            return delegate.getKeyInfo(kid);
+        }
+
+        @Override
+        public JwksType getJwksType() {
+            return JwksType.MEMORY;
+        }
+
+        @Override
+        public Optional<String> getIssuerIdentifier() {
+            return Optional.empty();
+        }
+
+        @Override
+        public LoaderStatus getLoaderStatus() {
+            return status;
+        }
+
+        @Override
+        public CompletableFuture<LoaderStatus> initJWKSLoader(SecurityEventCounter securityEventCounter) {
+            // The resolver starts the loading without waiting for it
+            initCalls.incrementAndGet();
+            return loading;
+        }
+
+        @Override
+        public void release() {
+            releaseCalls.incrementAndGet();
+        }
+    }
+
+    /**
+     * Pending loader notifying key change listeners, whose status turns OK after an
+     * unsuccessful initialization, like a follower of a JWKS exchange file.
+     */
+    private static final class NotifyingJwksLoader extends PendingJwksLoader {
+
+        private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+        NotifyingJwksLoader(JwksLoader delegate) {
+            super(delegate);
+        }
+
+        void recover() {
+            complete(LoaderStatus.OK);
+            listeners.forEach(Runnable::run);
+        }
+
+        @Override
+        public boolean addKeyChangeListener(Runnable listener) {
+            listeners.add(listener);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests {@link IssuerTemplate} and {@link IssuerTemplateIndex}.
+ *
+ * @author Oliver Wolff
+ */
+@DisplayName("Tests IssuerTemplate")
+class IssuerTemplateTest {
+
+    private static final String REALMS = "https://idp.example.com/realms/";
+
+    private static IssuerTemplate template(String issuerPattern) {
+        return IssuerTemplate.builder()
+                .issuerPattern(issuerPattern)
+                .jwksUrlPattern("https://idp.example.com/{realm}/certs")
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Template")
+    class TemplateTests {
+
+        @Test
+        @DisplayName("Should extract the placeholder value")
+        void shouldExtractValue() {
+            IssuerTemplate template = template(REALMS + "{realm}");
+
+            assertEquals("tenant-1", template.extractValue(REALMS + "tenant-1"));
+            assertEquals(IssuerTemplate.DEFAULT_MAX_INSTANCES, template.getMaxInstances());
+        }
+
+        @Test
+        @DisplayName("Should match a placeholder in the middle of the pattern")
+        void shouldMatchSuffix() {
+            IssuerTemplate template = template("https://{realm}.idp.example.com");
+
+            assertEquals("tenant", template.extractValue("https://tenant.idp.example.com"));
+            assertNull(template.extractValue("https://tenant.idp.example.org"));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"", "a/b", "..", ".", "tenant?x=1", "user@evil.example.com", "tenant%2F"})
+        @DisplayName("Should reject values that could redirect the JWKS URL")
+        void shouldRejectUnsafeValues(String value) {
+            assertNull(template(REALMS + "{realm}").extractValue(REALMS + value));
+        }
+
+        @Test
+        @DisplayName("Should reject values exceeding the maximum length")
+        void shouldRejectLongValues() {
+            String value = "a".repeat(IssuerTemplate.MAX_VALUE_LENGTH + 1);
+
+            assertNull(template(REALMS + "{realm}").extractValue(REALMS + value));
+        }
+
+        @Test
+        @DisplayName("Should create the issuer configuration of a tenant")
+        void shouldCreateIssuerConfig() {
+            IssuerTemplate template = IssuerTemplate.builder()
+                    .issuerPattern(REALMS + "{realm}")
+                    .jwksUrlPattern(REALMS + "{realm}/protocol/openid-connect/certs")
+                    .issuerConfigCustomizer(builder -> builder.expectedAudience("my-client"))
+                    .build();
+
+            IssuerConfig issuerConfig = template.createIssuerConfig("tenant");
+
+            assertEquals(REALMS + "tenant", issuerConfig.getIssuerIdentifier());
+            assertEquals(Set.of("my-client"), issuerConfig.getExpectedAudience());
+            assertTrue(issuerConfig.isEnabled());
+        }
+
+        @Test
+        @DisplayName("Should reject invalid patterns")
+        void shouldRejectInvalidPatterns() {
+            var withoutPlaceholder = IssuerTemplate.builder()
+                    .issuerPattern(REALMS + "tenant")
+                    .jwksUrlPattern("https://idp.example.com/{realm}/certs");
+            assertThrows(IllegalArgumentException.class, withoutPlaceholder::build);
+
+            var twoPlaceholders = IssuerTemplate.builder()
+                    .issuerPattern("https://{host}/realms/{realm}")
+                    .jwksUrlPattern("https://{host}/{realm}/certs");
+            assertThrows(IllegalArgumentException.class, twoPlaceholders::build);
+
+            var jwksWithoutPlaceholder = IssuerTemplate.builder()
+                    .issuerPattern(REALMS + "{realm}")
+                    .jwksUrlPattern("https://idp.example.com/certs");
+            assertThrows(IllegalArgumentException.class, jwksWithoutPlaceholder::build);
+
+            var invalidLimit = IssuerTemplate.builder()
+                    .issuerPattern(REALMS + "{realm}")
+                    .jwksUrlPattern("https://idp.example.com/{realm}/certs")
+                    .maxInstances(0);
+            assertThrows(IllegalArgumentException.class, invalidLimit::build);
+        }
+    }
+
+    @Nested
+    @DisplayName("Index")
+    class IndexTests {
+
+        @Test
+        @DisplayName("Should prefer the template with the longest prefix")
+        void shouldPreferLongestPrefix() {
+            IssuerTemplate generic = template("https://idp.example.com/{path}");
+            IssuerTemplate realms = template(REALMS + "{realm}");
+            IssuerTemplateIndex index = new IssuerTemplateIndex(List.of(generic, realms));
+
+            IssuerTemplateIndex.Match match = index.match(REALMS + "tenant");
+            assertNotNull(match);
+            assertSame(realms, match.template());
+            assertEquals("tenant", match.value());
+
+            match = index.match("https://idp.example.com/other");
+            assertNotNull(match);
+            assertSame(generic, match.template());
+        }
+
+        @Test
+        @DisplayName("Should not match foreign issuers")
+        void shouldNotMatchForeignIssuers() {
+            IssuerTemplateIndex index = new IssuerTemplateIndex(List.of(template(REALMS + "{realm}")));
+
+            assertNull(index.match("https://other.example.com/realms/tenant"));
+            assertNull(index.match(REALMS));
+            assertNull(index.match("https://idp"));
+            assertTrue(new IssuerTemplateIndex(List.of()).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should reject duplicate templates")
+        void shouldRejectDuplicates() {
+            List<IssuerTemplate> templates = List.of(template(REALMS + "{realm}"), template(REALMS + "{realm}"));
+
+            assertThrows(IllegalArgumentException.class, () -> new IssuerTemplateIndex(templates));
+        }
+    }
+}
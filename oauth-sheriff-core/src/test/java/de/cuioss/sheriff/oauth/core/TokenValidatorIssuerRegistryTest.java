@@ -0,0 +1,152 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core;
+
+import de.cuioss.http.client.LoaderStatus;
+import de.cuioss.sheriff.oauth.core.domain.claim.ClaimName;
+import de.cuioss.sheriff.oauth.core.domain.claim.ClaimValue;
+import de.cuioss.sheriff.oauth.core.exception.TokenValidationException;
+import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter.EventType;
+import de.cuioss.sheriff.oauth.core.test.TestTokenHolder;
+import de.cuioss.sheriff.oauth.core.test.generator.TestTokenGenerators;
+import de.cuioss.test.juli.LogAsserts;
+import de.cuioss.test.juli.TestLogLevel;
+import de.cuioss.test.juli.junit5.EnableTestLogger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the runtime issuer registry of {@link TokenValidator}, i.e.
+ * {@link TokenValidator#registerIssuer(IssuerConfig)}, {@link TokenValidator#updateIssuer(IssuerConfig)}
+ * and {@link TokenValidator#unregisterIssuer(String)}.
+ *
+ * @author Oliver Wolff
+ */
+@EnableTestLogger
+@DisplayName("TokenValidator runtime issuer registry")
+class TokenValidatorIssuerRegistryTest {
+
+    private static final String TENANT_ISSUER = "https://tenant.example.com";
+
+    private TestTokenHolder defaultToken;
+    private TestTokenHolder tenantToken;
+    private TokenValidator tokenValidator;
+
+    @BeforeEach
+    void setUp() {
+        defaultToken = TestTokenGenerators.accessTokens().next();
+        tenantToken = TestTokenGenerators.accessTokens().next();
+        tenantToken.withClaim(ClaimName.ISSUER.getName(), ClaimValue.forPlainString(TENANT_ISSUER));
+        tokenValidator = TokenValidator.builder()
+                .issuerConfig(defaultToken.getIssuerConfig())
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Register")
+    class RegisterTests {
+
+        @Test
+        @DisplayName("Should validate tokens of an issuer registered at runtime")
+        void shouldValidateRegisteredIssuer() {
+            String rawToken = tenantToken.getRawToken();
+            assertThrows(TokenValidationException.class, () -> tokenValidator.createAccessToken(rawToken));
+
+            assertEquals(LoaderStatus.OK, tokenValidator.registerIssuer(tenantToken.getIssuerConfig()).join());
+
+            assertEquals(TENANT_ISSUER, tokenValidator.createAccessToken(rawToken).getIssuer());
+            assertNotNull(tokenValidator.createAccessToken(defaultToken.getRawToken()));
+            LogAsserts.assertLogMessagePresentContaining(TestLogLevel.INFO,
+                    JWTValidationLogMessages.INFO.ISSUER_REGISTERED.resolveIdentifierString());
+        }
+
+        @Test
+        @DisplayName("Should reject registering an issuer twice")
+        void shouldRejectDuplicateRegistration() {
+            IssuerConfig duplicate = defaultToken.getIssuerConfig();
+
+            assertThrows(IllegalArgumentException.class, () -> tokenValidator.registerIssuer(duplicate));
+        }
+    }
+
+    @Nested
+    @DisplayName("Update")
+    class UpdateTests {
+
+        @Test
+        @DisplayName("Should only drop the cached tokens of the updated issuer")
+        void shouldInvalidateOnlyUpdatedIssuer() {
+            tokenValidator.registerIssuer(tenantToken.getIssuerConfig()).join();
+            String defaultRaw = defaultToken.getRawToken();
+            String tenantRaw = tenantToken.getRawToken();
+            tokenValidator.createAccessToken(defaultRaw);
+            tokenValidator.createAccessToken(tenantRaw);
+
+            assertEquals(LoaderStatus.OK, tokenValidator.updateIssuer(tenantToken.getIssuerConfig()).join());
+            LogAsserts.assertLogMessagePresentContaining(TestLogLevel.INFO,
+                    JWTValidationLogMessages.INFO.ISSUER_UPDATED.resolveIdentifierString());
+
+            var counter = tokenValidator.getSecurityEventCounter();
+            long hits = counter.getCount(EventType.ACCESS_TOKEN_CACHE_HIT);
+            tokenValidator.createAccessToken(defaultRaw);
+            assertEquals(hits + 1, counter.getCount(EventType.ACCESS_TOKEN_CACHE_HIT),
+                    "Tokens of other issuers must stay cached");
+            assertEquals(TENANT_ISSUER, tokenValidator.createAccessToken(tenantRaw).getIssuer());
+            assertEquals(hits + 1, counter.getCount(EventType.ACCESS_TOKEN_CACHE_HIT),
+                    "Tokens of the updated issuer must be validated again");
+        }
+
+        @Test
+        @DisplayName("Should reject updating an unknown issuer")
+        void shouldRejectUnknownIssuer() {
+            IssuerConfig unknown = tenantToken.getIssuerConfig();
+
+            assertThrows(IllegalArgumentException.class, () -> tokenValidator.updateIssuer(unknown));
+        }
+    }
+
+    @Nested
+    @DisplayName("Unregister")
+    class UnregisterTests {
+
+        @Test
+        @DisplayName("Should reject tokens of an unregistered issuer")
+        void shouldRejectUnregisteredIssuer() {
+            tokenValidator.registerIssuer(tenantToken.getIssuerConfig()).join();
+            String tenantRaw = tenantToken.getRawToken();
+            tokenValidator.createAccessToken(tenantRaw);
+
+            assertTrue(tokenValidator.unregisterIssuer(TENANT_ISSUER));
+
+            var exception = assertThrows(TokenValidationException.class,
+                    () -> tokenValidator.createAccessToken(tenantRaw));
+            assertEquals(EventType.NO_ISSUER_CONFIG, exception.getEventType());
+            assertNotNull(tokenValidator.createAccessToken(defaultToken.getRawToken()));
+            LogAsserts.assertLogMessagePresentContaining(TestLogLevel.INFO,
+                    JWTValidationLogMessages.INFO.ISSUER_UNREGISTERED.resolveIdentifierString());
+        }
+
+        @Test
+        @DisplayName("Should report unknown issuers")
+        void shouldReportUnknownIssuer() {
+            assertFalse(tokenValidator.unregisterIssuer("https://unknown.example.com"));
+        }
+    }
+}
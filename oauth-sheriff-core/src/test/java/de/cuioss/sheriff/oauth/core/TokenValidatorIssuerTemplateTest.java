@@ -0,0 +1,172 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core;
+
+import de.cuioss.http.client.retry.RetryStrategy;
+import de.cuioss.sheriff.oauth.core.domain.claim.ClaimName;
+import de.cuioss.sheriff.oauth.core.domain.claim.ClaimValue;
+import de.cuioss.sheriff.oauth.core.exception.TokenValidationException;
+import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter.EventType;
+import de.cuioss.sheriff.oauth.core.test.InMemoryKeyMaterialHandler;
+import de.cuioss.sheriff.oauth.core.test.TestTokenHolder;
+import de.cuioss.sheriff.oauth.core.test.dispatcher.MultiIssuerJwksDispatcher;
+import de.cuioss.sheriff.oauth.core.test.generator.TestTokenGenerators;
+import de.cuioss.test.juli.LogAsserts;
+import de.cuioss.test.juli.TestLogLevel;
+import de.cuioss.test.juli.junit5.EnableTestLogger;
+import de.cuioss.test.mockwebserver.EnableMockWebServer;
+import de.cuioss.test.mockwebserver.URIBuilder;
+import lombok.Getter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the issuers of a {@link TokenValidator} instantiated from {@link IssuerTemplate}s.
+ *
+ * @author Oliver Wolff
+ */
+@EnableTestLogger
+@EnableMockWebServer
+@DisplayName("TokenValidator issuer templates")
+class TokenValidatorIssuerTemplateTest {
+
+    private static final String REALMS = "https://idp.example.com/realms/";
+
+    @Getter
+    private final MultiIssuerJwksDispatcher moduleDispatcher = new MultiIssuerJwksDispatcher();
+
+    private static TokenValidator createValidator(URIBuilder uriBuilder, int maxInstances) {
+        return createValidator(uriBuilder, maxInstances, IssuerStartupConfig.defaultConfig());
+    }
+
+    private static TokenValidator createValidator(URIBuilder uriBuilder, int maxInstances, IssuerStartupConfig startupConfig) {
+        // The dispatcher serves the JWKS of "issuer1" and "issuer2" at /{realm}/jwks.json
+        String jwksUrlPattern = uriBuilder.addPathSegment(MultiIssuerJwksDispatcher.ISSUER1_PATH)
+                .buildAsString().replace("issuer1", "{realm}");
+        IssuerTemplate template = IssuerTemplate.builder()
+                .issuerPattern(REALMS + "{realm}")
+                .jwksUrlPattern(jwksUrlPattern)
+                .issuerConfigCustomizer(builder -> builder
+                        .expectedAudience(TestTokenHolder.TEST_AUDIENCE)
+                        .expectedClientId(TestTokenHolder.TEST_CLIENT_ID))
+                .jwksLoaderCustomizer(builder -> builder
+                        .refreshIntervalSeconds(0)
+                        .retryStrategy(RetryStrategy.none()))
+                .maxInstances(maxInstances)
+                .build();
+        return TokenValidator.builder().issuerTemplate(template).issuerStartupConfig(startupConfig).build();
+    }
+
+    private static String tokenOfRealm(String realm, String keyId) {
+        return tokenOfRealm(realm, keyId, InMemoryKeyMaterialHandler.Algorithm.RS256);
+    }
+
+    private static String tokenOfRealm(String realm, String keyId, InMemoryKeyMaterialHandler.Algorithm algorithm) {
+        TestTokenHolder tokenHolder = TestTokenGenerators.accessTokens().next()
+                .withKeyId(keyId)
+                .withSigningAlgorithm(algorithm);
+        tokenHolder.withClaim(ClaimName.ISSUER.getName(), ClaimValue.forPlainString(REALMS + realm));
+        return tokenHolder.getRawToken();
+    }
+
+    @Test
+    @DisplayName("Should instantiate the issuer of a realm on its first token")
+    void shouldInstantiateIssuer(URIBuilder uriBuilder) {
+        TokenValidator tokenValidator = createValidator(uriBuilder, 10);
+        String token = tokenOfRealm("issuer1", MultiIssuerJwksDispatcher.ISSUER1_KID);
+
+        assertEquals(REALMS + "issuer1", tokenValidator.createAccessToken(token).getIssuer());
+        LogAsserts.assertLogMessagePresentContaining(TestLogLevel.INFO,
+                JWTValidationLogMessages.INFO.ISSUER_REGISTERED.resolveIdentifierString());
+
+        // Further tokens of the realm use the instantiated issuer
+        int calls = moduleDispatcher.getCallCounter();
+        String otherToken = tokenOfRealm("issuer1", MultiIssuerJwksDispatcher.ISSUER1_KID);
+        assertNotNull(tokenValidator.createAccessToken(otherToken));
+        assertEquals(calls, moduleDispatcher.getCallCounter(), "The JWKS must be loaded once per realm");
+    }
+
+    @Test
+    @DisplayName("Should reject tokens of an unknown realm")
+    void shouldRejectUnknownRealm(URIBuilder uriBuilder) {
+        TokenValidator tokenValidator = createValidator(uriBuilder, 10);
+        String token = tokenOfRealm("unknown", MultiIssuerJwksDispatcher.ISSUER1_KID);
+
+        var exception = assertThrows(TokenValidationException.class, () -> tokenValidator.createAccessToken(token));
+        assertEquals(EventType.NO_ISSUER_CONFIG, exception.getEventType());
+
+        // The failed realm is not loaded again for every token
+        int calls = moduleDispatcher.getCallCounter();
+        assertThrows(TokenValidationException.class, () -> tokenValidator.createAccessToken(token));
+        assertEquals(calls, moduleDispatcher.getCallCounter());
+    }
+
+    @Test
+    @DisplayName("Should reject realms beyond the maximum number of instances")
+    void shouldLimitInstances(URIBuilder uriBuilder) {
+        TokenValidator tokenValidator = createValidator(uriBuilder, 1);
+        assertNotNull(tokenValidator.createAccessToken(tokenOfRealm("issuer1", MultiIssuerJwksDispatcher.ISSUER1_KID)));
+
+        String token = tokenOfRealm("issuer2", MultiIssuerJwksDispatcher.ISSUER2_KID,
+                InMemoryKeyMaterialHandler.Algorithm.RS384);
+        var exception = assertThrows(TokenValidationException.class, () -> tokenValidator.createAccessToken(token));
+        assertEquals(EventType.NO_ISSUER_CONFIG, exception.getEventType());
+        LogAsserts.assertLogMessagePresentContaining(TestLogLevel.WARN,
+                JWTValidationLogMessages.WARN.ISSUER_TEMPLATE_LIMIT_REACHED.resolveIdentifierString());
+
+        // Unregistering frees the instance
+        assertTrue(tokenValidator.unregisterIssuer(REALMS + "issuer1"));
+        assertEquals(REALMS + "issuer2", tokenValidator.createAccessToken(token).getIssuer());
+    }
+
+    @Test
+    @DisplayName("Should discard failed lazily activated instances instead of keeping their slots")
+    void shouldDiscardFailedLazyInstances(URIBuilder uriBuilder) {
+        TokenValidator tokenValidator = createValidator(uriBuilder, 1,
+                IssuerStartupConfig.builder().lazyActivation(true).build());
+        String unknownRealm = tokenOfRealm("unknown", MultiIssuerJwksDispatcher.ISSUER1_KID);
+        var exception = assertThrows(TokenValidationException.class, () -> tokenValidator.createAccessToken(unknownRealm));
+        assertEquals(EventType.NO_ISSUER_CONFIG, exception.getEventType());
+
+        // The failed instance occupies the only slot until it is discarded
+        String token = tokenOfRealm("issuer1", MultiIssuerJwksDispatcher.ISSUER1_KID);
+        assertThrows(TokenValidationException.class, () -> tokenValidator.createAccessToken(token));
+
+        await("Failed instance discarded")
+                .atMost(IssuerConfigResolver.ACTIVATION_RETRY_SECONDS + 10, SECONDS)
+                .pollInterval(1, SECONDS)
+                .ignoreExceptionsInstanceOf(TokenValidationException.class)
+                .until(() -> tokenValidator.createAccessToken(token) != null);
+        assertEquals(REALMS + "issuer1", tokenValidator.createAccessToken(token).getIssuer());
+    }
+
+    @Test
+    @DisplayName("Should not match issuers outside the templates")
+    void shouldIgnoreForeignIssuers(URIBuilder uriBuilder) {
+        TokenValidator tokenValidator = createValidator(uriBuilder, 10);
+        TestTokenHolder tokenHolder = TestTokenGenerators.accessTokens().next();
+        tokenHolder.withClaim(ClaimName.ISSUER.getName(), ClaimValue.forPlainString("https://other.example.com"));
+        String token = tokenHolder.getRawToken();
+
+        var exception = assertThrows(TokenValidationException.class, () -> tokenValidator.createAccessToken(token));
+        assertEquals(EventType.NO_ISSUER_CONFIG, exception.getEventType());
+        assertEquals(0, moduleDispatcher.getCallCounter());
+    }
+}
@@ -19,11 +19,14 @@ import de.cuioss.sheriff.oauth.core.domain.claim.ClaimName;
 import de.cuioss.sheriff.oauth.core.domain.claim.ClaimValue;
 import de.cuioss.sheriff.oauth.core.exception.TokenValidationException;
 import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
+import de.cuioss.sheriff.oauth.core.security.SecurityEventLogConfig;
 import de.cuioss.sheriff.oauth.core.security.SignatureAlgorithmPreferences;
 import de.cuioss.sheriff.oauth.core.test.InMemoryJWKSFactory;
 import de.cuioss.sheriff.oauth.core.test.JwtTokenTamperingUtil;
 import de.cuioss.sheriff.oauth.core.test.TestTokenHolder;
 import de.cuioss.sheriff.oauth.core.test.junit.TestTokenSource;
+import de.cuioss.test.juli.LogAsserts;
+import de.cuioss.test.juli.TestLogLevel;
 import de.cuioss.test.juli.junit5.EnableTestLogger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -213,4 +216,25 @@ class TokenValidatorSecurityEventTest {
         assertEquals(0, tokenValidator.getSecurityEventCounter().getCount(SecurityEventCounter.EventType.TOKEN_EMPTY));
         assertEquals(0, tokenValidator.getSecurityEventCounter().getCount(SecurityEventCounter.EventType.INVALID_JWT_FORMAT));
     }
+
+    @Test
+    @DisplayName("Should rate limit warnings but count every event")
+    void shouldRateLimitWarnings() {
+        TokenValidator limitedValidator = TokenValidator.builder()
+                .issuerConfig(IssuerConfig.builder()
+                        .issuerIdentifier("Token-Test-testIssuer")
+                        .expectedAudience(TestTokenHolder.TEST_AUDIENCE)
+                        .jwksContent(InMemoryJWKSFactory.createDefaultJwks())
+                        .build())
+                .securityEventLogConfig(SecurityEventLogConfig.builder().maxEventsPerInterval(1).build())
+                .build();
+
+        for (int i = 0; i < 5; i++) {
+            assertThrows(TokenValidationException.class, () -> limitedValidator.createAccessToken(""));
+        }
+
+        assertEquals(5, limitedValidator.getSecurityEventCounter().getCount(SecurityEventCounter.EventType.TOKEN_EMPTY));
+        LogAsserts.assertSingleLogMessagePresentContaining(TestLogLevel.WARN,
+                JWTValidationLogMessages.WARN.TOKEN_IS_EMPTY.resolveIdentifierString());
+    }
 }
@@ -15,8 +15,10 @@
  */
 package de.cuioss.sheriff.oauth.core;
 
+import de.cuioss.http.client.LoaderStatus;
 import de.cuioss.sheriff.oauth.core.domain.claim.ClaimName;
 import de.cuioss.sheriff.oauth.core.domain.claim.ClaimValue;
+import de.cuioss.sheriff.oauth.core.domain.token.AccessTokenContent;
 import de.cuioss.sheriff.oauth.core.exception.TokenValidationException;
 import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
 import de.cuioss.sheriff.oauth.core.test.InMemoryJWKSFactory;
@@ -34,6 +36,16 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -325,4 +337,260 @@ class TokenValidatorTest {
 
     }
 
+    @Nested
+    @DisplayName("Result API")
+    class ValidationResultTests {
+
+        @Test
+        @DisplayName("Should return success for a valid access token")
+        void shouldReturnSuccessForValidAccessToken() {
+            TestTokenHolder tokenHolder = TestTokenGenerators.accessTokens().next();
+            TokenValidator validator = TokenValidator.builder().issuerConfig(tokenHolder.getIssuerConfig()).build();
+
+            var result = validator.validateAccessToken(tokenHolder.getRawToken());
+
+            var success = assertInstanceOf(ValidationResult.Success.class, result);
+            assertTrue(result.isValid());
+            assertEquals(tokenHolder.getRawToken(), result.toOptional().orElseThrow().getRawToken());
+            assertNotNull(success.content());
+            assertEquals(1, validator.getSecurityEventCounter().getCount(SecurityEventCounter.EventType.ACCESS_TOKEN_CREATED));
+        }
+
+        @Test
+        @DisplayName("Should return failure instead of throwing for an empty token")
+        void shouldReturnFailureForEmptyToken() {
+            var result = assertDoesNotThrow(() -> tokenValidator.validateAccessToken(""));
+
+            var failure = assertInstanceOf(ValidationResult.Failure.class, result);
+            assertFalse(result.isValid());
+            assertTrue(result.toOptional().isEmpty());
+            assertEquals(SecurityEventCounter.EventType.TOKEN_EMPTY, failure.eventType());
+            assertEquals(1, tokenValidator.getSecurityEventCounter().getCount(SecurityEventCounter.EventType.TOKEN_EMPTY));
+        }
+
+        @ParameterizedTest
+        @TestTokenSource(value = TokenType.ACCESS_TOKEN, count = 2)
+        @DisplayName("Should report the same event type as the throwing API")
+        void shouldReportSameEventTypeAsThrowingApi(TestTokenHolder tokenHolder) {
+            tokenHolder.withClaim(ClaimName.ISSUER.getName(), ClaimValue.forPlainString("https://unknown-issuer.com"));
+            String token = tokenHolder.getRawToken();
+
+            var failure = assertInstanceOf(ValidationResult.Failure.class, tokenValidator.validateAccessToken(token));
+            var exception = assertThrows(TokenValidationException.class,
+                    () -> tokenValidator.createAccessToken(token));
+
+            assertEquals(exception.getEventType(), failure.eventType());
+            assertTrue(failure.message().contains("https://unknown-issuer.com"));
+        }
+
+        @ParameterizedTest
+        @TestTokenSource(value = TokenType.ID_TOKEN, count = 2)
+        @DisplayName("Should validate ID token")
+        void shouldValidateIdToken(TestTokenHolder tokenHolder) {
+            TokenValidator validator = TokenValidator.builder().issuerConfig(tokenHolder.getIssuerConfig()).build();
+
+            assertTrue(validator.validateIdToken(tokenHolder.getRawToken()).isValid());
+            var failure = assertInstanceOf(ValidationResult.Failure.class, validator.validateIdToken("invalid"));
+            assertEquals(SecurityEventCounter.EventType.INVALID_JWT_FORMAT, failure.eventType());
+        }
+
+        @Test
+        @DisplayName("Should validate refresh token")
+        void shouldValidateRefreshToken() {
+            assertTrue(tokenValidator.validateRefreshToken("not-a-jwt-validation").isValid());
+
+            var failure = assertInstanceOf(ValidationResult.Failure.class, tokenValidator.validateRefreshToken(" "));
+            assertEquals(SecurityEventCounter.EventType.TOKEN_EMPTY, failure.eventType());
+        }
+    }
+
+    @Nested
+    @DisplayName("Asynchronous Validation Tests")
+    class AsyncValidationTests {
+
+        private final AtomicInteger executedTasks = new AtomicInteger();
+
+        private final Executor countingExecutor = task -> {
+            executedTasks.incrementAndGet();
+            task.run();
+        };
+
+        @Test
+        @DisplayName("Should validate cache misses on the verification executor and complete cache hits inline")
+        void shouldCompleteCacheHitsInline() throws Exception {
+            TestTokenHolder tokenHolder = TestTokenGenerators.accessTokens().next();
+            TokenValidator validator = TokenValidator.builder()
+                    .issuerConfig(tokenHolder.getIssuerConfig())
+                    .verificationExecutor(countingExecutor)
+                    .build();
+
+            AccessTokenContent first = validator.createAccessTokenAsync(tokenHolder.getRawToken())
+                    .toCompletableFuture().get(5, TimeUnit.SECONDS);
+            assertEquals(1, executedTasks.get());
+
+            CompletableFuture<AccessTokenContent> second = validator.createAccessTokenAsync(tokenHolder.getRawToken())
+                    .toCompletableFuture();
+
+            assertTrue(second.isDone(), "Cache hit must complete inline");
+            assertEquals(first.getRawToken(), second.join().getRawToken());
+            assertEquals(1, executedTasks.get(), "Cache hit must not use the executor");
+            assertEquals(2, validator.getSecurityEventCounter().getCount(SecurityEventCounter.EventType.ACCESS_TOKEN_CREATED));
+        }
+
+        @Test
+        @DisplayName("Should validate on the default executor")
+        void shouldValidateOnDefaultExecutor() throws Exception {
+            TestTokenHolder tokenHolder = TestTokenGenerators.accessTokens().next();
+            TokenValidator validator = TokenValidator.builder().issuerConfig(tokenHolder.getIssuerConfig()).build();
+
+            AccessTokenContent result = validator.createAccessTokenAsync(tokenHolder.getRawToken())
+                    .toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+            assertEquals(tokenHolder.getRawToken(), result.getRawToken());
+        }
+
+        @ParameterizedTest
+        @TestTokenSource(value = TokenType.ACCESS_TOKEN, count = 2)
+        @DisplayName("Should complete exceptionally with the same event type as the synchronous API")
+        void shouldCompleteExceptionallyWithSameEventType(TestTokenHolder tokenHolder) {
+            tokenHolder.withClaim(ClaimName.ISSUER.getName(), ClaimValue.forPlainString("https://unknown-issuer.com"));
+            String token = tokenHolder.getRawToken();
+
+            CompletableFuture<AccessTokenContent> result = tokenValidator.createAccessTokenAsync(token).toCompletableFuture();
+            var exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+
+            var cause = assertInstanceOf(TokenValidationException.class, exception.getCause());
+            assertEquals(SecurityEventCounter.EventType.NO_ISSUER_CONFIG, cause.getEventType());
+        }
+
+        @Test
+        @DisplayName("Should reject empty tokens without using the executor")
+        void shouldRejectEmptyTokenInline() {
+            TestTokenHolder tokenHolder = TestTokenGenerators.accessTokens().next();
+            TokenValidator validator = TokenValidator.builder()
+                    .issuerConfig(tokenHolder.getIssuerConfig())
+                    .verificationExecutor(countingExecutor)
+                    .build();
+
+            CompletableFuture<AccessTokenContent> result = validator.createAccessTokenAsync("").toCompletableFuture();
+
+            assertTrue(result.isCompletedExceptionally());
+            assertEquals(0, executedTasks.get());
+        }
+
+        @Test
+        @DisplayName("Should reject tokens if the verification executor is saturated")
+        void shouldRejectWhenExecutorSaturated() {
+            TestTokenHolder tokenHolder = TestTokenGenerators.accessTokens().next();
+            TokenValidator validator = TokenValidator.builder()
+                    .issuerConfig(tokenHolder.getIssuerConfig())
+                    .verificationExecutor(task -> {
+                        throw new RejectedExecutionException("saturated");
+                    })
+                    .build();
+
+            CompletableFuture<AccessTokenContent> result = validator.createAccessTokenAsync(tokenHolder.getRawToken())
+                    .toCompletableFuture();
+
+            var exception = assertThrows(ExecutionException.class, result::get);
+            var cause = assertInstanceOf(TokenValidationException.class, exception.getCause());
+            assertEquals(SecurityEventCounter.EventType.SIGNATURE_VERIFICATION_OVERLOADED, cause.getEventType());
+            LogAsserts.assertLogMessagePresentContaining(TestLogLevel.WARN,
+                    JWTValidationLogMessages.WARN.VERIFICATION_EXECUTOR_SATURATED.resolveIdentifierString());
+        }
+
+        @Test
+        @DisplayName("Should reject tokens if the verification executor is saturated once the JWKS is loaded")
+        void shouldRejectWhenExecutorSaturatedAfterLoading() {
+            TestTokenHolder tokenHolder = TestTokenGenerators.accessTokens().next();
+            var loader = new IssuerConfigResolverTest.PendingJwksLoader(tokenHolder.getPublicKeyAsLoader());
+            TokenValidator validator = TokenValidator.builder()
+                    .issuerConfig(IssuerConfig.builder()
+                            .issuerIdentifier(tokenHolder.getIssuerConfig().getIssuerIdentifier())
+                            .expectedAudience(TestTokenHolder.TEST_AUDIENCE)
+                            .jwksLoader(loader)
+                            .build())
+                    .verificationExecutor(task -> {
+                        // Accepts the decoding, rejects the continuation after loading
+                        if (executedTasks.incrementAndGet() > 1) {
+                            throw new RejectedExecutionException("saturated");
+                        }
+                        task.run();
+                    })
+                    .build();
+
+            CompletableFuture<AccessTokenContent> result = validator.createAccessTokenAsync(tokenHolder.getRawToken())
+                    .toCompletableFuture();
+            assertFalse(result.isDone(), "Validation must wait for the JWKS");
+            loader.complete(LoaderStatus.OK);
+
+            var exception = assertThrows(ExecutionException.class, result::get);
+            var cause = assertInstanceOf(TokenValidationException.class, exception.getCause());
+            assertEquals(SecurityEventCounter.EventType.SIGNATURE_VERIFICATION_OVERLOADED, cause.getEventType());
+            assertEquals(1, validator.getSecurityEventCounter()
+                    .getCount(SecurityEventCounter.EventType.SIGNATURE_VERIFICATION_OVERLOADED));
+            LogAsserts.assertLogMessagePresentContaining(TestLogLevel.WARN,
+                    JWTValidationLogMessages.WARN.VERIFICATION_EXECUTOR_SATURATED.resolveIdentifierString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch Validation Tests")
+    class BatchValidationTests {
+
+        @Test
+        @DisplayName("Should report a result per token in input order")
+        void shouldReportResultPerToken() {
+            String first = TestTokenGenerators.accessTokens().next().getRawToken();
+            String second = TestTokenGenerators.accessTokens().next().getRawToken();
+            TestTokenHolder unknownIssuer = TestTokenGenerators.accessTokens().next();
+            unknownIssuer.withClaim(ClaimName.ISSUER.getName(), ClaimValue.forPlainString("https://unknown-issuer.com"));
+
+            List<ValidationResult<AccessTokenContent>> results = tokenValidator.createAccessTokens(
+                    List.of(first, "", unknownIssuer.getRawToken(), second, first));
+
+            assertEquals(5, results.size());
+            assertEquals(first, results.get(0).toOptional().orElseThrow().getRawToken());
+            assertEquals(SecurityEventCounter.EventType.TOKEN_EMPTY,
+                    assertInstanceOf(ValidationResult.Failure.class, results.get(1)).eventType());
+            assertEquals(SecurityEventCounter.EventType.NO_ISSUER_CONFIG,
+                    assertInstanceOf(ValidationResult.Failure.class, results.get(2)).eventType());
+            assertEquals(second, results.get(3).toOptional().orElseThrow().getRawToken());
+            assertSame(results.get(0), results.get(4), "Duplicate tokens should be validated once");
+            assertEquals(3, tokenValidator.getSecurityEventCounter().getCount(SecurityEventCounter.EventType.ACCESS_TOKEN_CREATED));
+        }
+
+        @Test
+        @DisplayName("Should serve cached tokens from the cache")
+        void shouldUseCache() {
+            String token = TestTokenGenerators.accessTokens().next().getRawToken();
+            AccessTokenContent cached = tokenValidator.createAccessToken(token);
+
+            List<ValidationResult<AccessTokenContent>> results = tokenValidator.createAccessTokens(List.of(token));
+
+            assertSame(cached, results.getFirst().toOptional().orElseThrow());
+        }
+
+        @Test
+        @DisplayName("Should validate groups concurrently on the given executor")
+        void shouldValidateOnExecutor() {
+            List<String> tokens = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                tokens.add(TestTokenGenerators.accessTokens().next().getRawToken());
+            }
+
+            List<ValidationResult<AccessTokenContent>> results = tokenValidator.createAccessTokens(tokens, ForkJoinPool.commonPool());
+
+            assertEquals(tokens.size(), results.size());
+            for (int i = 0; i < tokens.size(); i++) {
+                assertEquals(tokens.get(i), results.get(i).toOptional().orElseThrow().getRawToken());
+            }
+        }
+
+        @Test
+        @DisplayName("Should return an empty list for an empty batch")
+        void shouldHandleEmptyBatch() {
+            assertTrue(tokenValidator.createAccessTokens(List.of()).isEmpty());
+        }
+    }
 }
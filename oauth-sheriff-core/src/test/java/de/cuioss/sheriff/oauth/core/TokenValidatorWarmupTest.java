@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core;
+
+import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter.EventType;
+import de.cuioss.sheriff.oauth.core.security.SignatureAlgorithmPreferences;
+import de.cuioss.sheriff.oauth.core.test.InMemoryJWKSFactory;
+import de.cuioss.sheriff.oauth.core.test.generator.TestTokenGenerators;
+import de.cuioss.test.generator.junit.EnableGeneratorController;
+import de.cuioss.test.juli.LogAsserts;
+import de.cuioss.test.juli.TestLogLevel;
+import de.cuioss.test.juli.junit5.EnableTestLogger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link TokenValidator#warmup(int)} and {@link TokenValidatorWarmup}.
+ *
+ * @author Oliver Wolff
+ */
+@EnableTestLogger
+@EnableGeneratorController
+@DisplayName("TokenValidator JIT warmup")
+class TokenValidatorWarmupTest {
+
+    @Nested
+    @DisplayName("Synthetic Tokens")
+    class SyntheticTokenTests {
+
+        @Test
+        @DisplayName("Should validate synthetic tokens for all default algorithms")
+        void shouldValidateAllDefaultAlgorithms() {
+            var warmup = new TokenValidatorWarmup(ParserConfig.builder().build(),
+                    SignatureAlgorithmPreferences.getDefaultPreferredAlgorithms());
+
+            assertEquals(SignatureAlgorithmPreferences.getDefaultPreferredAlgorithms(), warmup.getAlgorithms());
+
+            long validations = warmup.run(performed -> performed < 90);
+
+            assertEquals(90, validations);
+            var counter = warmup.getWarmupValidator().getSecurityEventCounter();
+            assertEquals(90, counter.getCount(EventType.ACCESS_TOKEN_CREATED));
+            assertEquals(0, counter.getCount(EventType.SIGNATURE_VALIDATION_FAILED));
+            LogAsserts.assertLogMessagePresentContaining(TestLogLevel.INFO,
+                    JWTValidationLogMessages.INFO.WARMUP_COMPLETED.resolveIdentifierString());
+        }
+
+        @Test
+        @DisplayName("Should skip algorithms without signing scheme")
+        void shouldSkipUnknownAlgorithms() {
+            var warmup = new TokenValidatorWarmup(ParserConfig.builder().build(), List.of("RS256", "EdDSA"));
+
+            assertEquals(List.of("RS256"), warmup.getAlgorithms());
+            assertEquals(3, warmup.run(performed -> performed < 3));
+        }
+    }
+
+    @Nested
+    @DisplayName("TokenValidator API")
+    class TokenValidatorApiTests {
+
+        @Test
+        @DisplayName("Should warm up without touching the security event counter")
+        void shouldNotTouchSecurityEventCounter() {
+            var tokenValidator = TokenValidator.builder()
+                    .issuerConfig(TestTokenGenerators.accessTokens().next().getIssuerConfig())
+                    .build();
+
+            long validations = tokenValidator.warmup(2);
+
+            assertEquals(2L * SignatureAlgorithmPreferences.getDefaultPreferredAlgorithms().size(), validations);
+            var counter = tokenValidator.getSecurityEventCounter();
+            assertEquals(0, counter.getCount(EventType.ACCESS_TOKEN_CREATED));
+            assertEquals(0, counter.getCount(EventType.NO_ISSUER_CONFIG));
+        }
+
+        @Test
+        @DisplayName("Should only warm up the algorithms of the configured issuers")
+        void shouldWarmUpConfiguredAlgorithms() {
+            var issuerConfig = IssuerConfig.builder()
+                    .issuerIdentifier("https://issuer.example.com")
+                    .algorithmPreferences(new SignatureAlgorithmPreferences(List.of("ES256")))
+                    .jwksContent(InMemoryJWKSFactory.createDefaultJwks())
+                    .build();
+            var tokenValidator = TokenValidator.builder().issuerConfig(issuerConfig).build();
+
+            assertEquals(5, tokenValidator.warmup(5));
+        }
+
+        @Test
+        @DisplayName("Should warm up for the given duration")
+        void shouldWarmUpForDuration() {
+            var tokenValidator = TokenValidator.builder()
+                    .issuerConfig(TestTokenGenerators.accessTokens().next().getIssuerConfig())
+                    .build();
+
+            assertTrue(tokenValidator.warmup(Duration.ofMillis(100)) > 0);
+        }
+    }
+}
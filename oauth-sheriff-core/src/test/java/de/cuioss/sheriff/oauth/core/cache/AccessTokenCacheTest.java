@@ -438,6 +438,28 @@ class AccessTokenCacheTest {
         assertEquals(10, cache.size());
     }
 
+    @Test
+    void invalidateIssuerRemovesOnlyTokensOfThatIssuer() {
+        // Given - tokens of two issuers
+        for (int i = 0; i < 3; i++) {
+            cache.put("first-" + i, createAccessToken("https://first.example.com",
+                    OffsetDateTime.now().plusHours(1)), performanceMonitor);
+            cache.put("second-" + i, createAccessToken("https://second.example.com",
+                    OffsetDateTime.now().plusHours(1)), performanceMonitor);
+        }
+        assertEquals(6, cache.size());
+
+        // When
+        int removed = cache.invalidateIssuer("https://first.example.com");
+
+        // Then
+        assertEquals(3, removed);
+        assertEquals(3, cache.size());
+        assertTrue(cache.get("first-0", performanceMonitor).isEmpty());
+        assertTrue(cache.get("second-0", performanceMonitor).isPresent());
+        assertEquals(0, cache.invalidateIssuer("https://unknown.example.com"));
+    }
+
     @Test
     void shouldHandleCacheEvictionProperly() {
         // Given - fill cache to capacity first
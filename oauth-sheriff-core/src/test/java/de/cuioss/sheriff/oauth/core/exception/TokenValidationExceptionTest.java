@@ -0,0 +1,102 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.exception;
+
+import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter.EventType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for {@link TokenValidationException}.
+ *
+ * @author Oliver Wolff
+ */
+@DisplayName("TokenValidationException")
+class TokenValidationExceptionTest {
+
+    @Test
+    @DisplayName("Should not capture a stack trace")
+    void shouldBeStackless() {
+        var exception = new TokenValidationException(EventType.TOKEN_EXPIRED, "expired");
+
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(EventType.TOKEN_EXPIRED, exception.getEventType());
+        assertEquals(EventType.TOKEN_EXPIRED.getCategory(), exception.getCategory());
+        assertEquals("expired", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should not record suppressed exceptions")
+    void shouldNotRecordSuppressed() {
+        var exception = new TokenValidationException(EventType.TOKEN_EXPIRED, "expired");
+
+        exception.addSuppressed(new IllegalStateException("suppressed"));
+
+        assertEquals(0, exception.getSuppressed().length);
+    }
+
+    @Test
+    @DisplayName("Should keep the cause")
+    void shouldKeepCause() {
+        var cause = new IllegalArgumentException("bad signature");
+        var exception = new TokenValidationException(EventType.SIGNATURE_VALIDATION_FAILED,
+                () -> "Signature validation failed: " + cause.getMessage(), cause);
+
+        assertSame(cause, exception.getCause());
+        assertEquals("Signature validation failed: bad signature", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should build a supplied message lazily and only once")
+    void shouldBuildMessageLazily() {
+        var calls = new AtomicInteger();
+        var exception = new TokenValidationException(EventType.AUDIENCE_MISMATCH,
+                () -> "message " + calls.incrementAndGet());
+
+        assertEquals(0, calls.get());
+        assertEquals("message 1", exception.getMessage());
+        assertEquals("message 1", exception.getMessage());
+        assertEquals(1, calls.get());
+        assertTrue(exception.toString().contains("message 1"));
+    }
+
+    @Test
+    @DisplayName("Should serialize with resolved message")
+    void shouldSerializeWithResolvedMessage() throws IOException, ClassNotFoundException {
+        var exception = new TokenValidationException(EventType.TOKEN_NBF_FUTURE, () -> "not yet valid");
+
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new ObjectOutputStream(bytes)) {
+            out.writeObject(exception);
+        }
+        TokenValidationException restored;
+        try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = (TokenValidationException) in.readObject();
+        }
+
+        assertEquals(EventType.TOKEN_NBF_FUTURE, restored.getEventType());
+        assertEquals("not yet valid", restored.getMessage());
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.jwks.file;
+
+import de.cuioss.http.client.LoaderStatus;
+import de.cuioss.sheriff.oauth.core.IssuerConfig;
+import de.cuioss.sheriff.oauth.core.JWTValidationLogMessages;
+import de.cuioss.sheriff.oauth.core.jwks.JwksType;
+import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
+import de.cuioss.sheriff.oauth.core.test.InMemoryJWKSFactory;
+import de.cuioss.test.juli.LogAsserts;
+import de.cuioss.test.juli.TestLogLevel;
+import de.cuioss.test.juli.junit5.EnableTestLogger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests {@link FileJwksLoader}.
+ *
+ * @author Oliver Wolff
+ */
+@EnableTestLogger
+@DisplayName("Tests FileJwksLoader")
+class FileJwksLoaderTest {
+
+    private static final String LOADED = JWTValidationLogMessages.INFO.JWKS_FILE_LOADED.resolveIdentifierString();
+    private static final String LOAD_FAILED = JWTValidationLogMessages.WARN.JWKS_FILE_LOAD_FAILED.resolveIdentifierString();
+
+    @TempDir
+    Path tempDir;
+
+    private Path jwksFile;
+    private FileJwksLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        jwksFile = tempDir.resolve("jwks.json");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (loader != null) {
+            loader.close();
+        }
+    }
+
+    private FileJwksLoader createLoader(Path file, Duration gracePeriod) {
+        loader = new FileJwksLoader(FileJwksLoaderConfig.builder()
+                .file(file)
+                .pollInterval(Duration.ofMillis(100))
+                .keyRotationGracePeriod(gracePeriod)
+                .build());
+        return loader;
+    }
+
+    private FileJwksLoader initLoader(Duration gracePeriod) {
+        FileJwksLoader created = createLoader(jwksFile, gracePeriod);
+        assertEquals(LoaderStatus.OK, created.initJWKSLoader(new SecurityEventCounter()).join());
+        return created;
+    }
+
+    private static void writeKey(Path file, String keyId) throws IOException {
+        Files.writeString(file, InMemoryJWKSFactory.createValidJwksWithKeyId(keyId));
+        // Ensure a new modification time on file systems with coarse timestamps
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(1)));
+    }
+
+    @Nested
+    @DisplayName("Loading")
+    class LoadingTests {
+
+        @Test
+        @DisplayName("Should load the keys on initialization")
+        void shouldLoadOnInitialization() throws IOException {
+            writeKey(jwksFile, "first");
+
+            FileJwksLoader fileLoader = initLoader(Duration.ofMinutes(5));
+
+            assertTrue(fileLoader.getKeyInfo("first").isPresent());
+            assertTrue(fileLoader.getKeyInfo("unknown").isEmpty());
+            assertEquals(JwksType.FILE, fileLoader.getJwksType());
+            assertTrue(fileLoader.getIssuerIdentifier().isEmpty());
+            LogAsserts.assertLogMessagePresentContaining(TestLogLevel.INFO, LOADED);
+        }
+
+        @Test
+        @DisplayName("Should report an error for a missing file and load it once it appears")
+        void shouldLoadLateFile() throws IOException {
+            FileJwksLoader fileLoader = createLoader(jwksFile, Duration.ofMinutes(5));
+
+            assertEquals(LoaderStatus.ERROR, fileLoader.initJWKSLoader(new SecurityEventCounter()).join());
+            LogAsserts.assertLogMessagePresentContaining(TestLogLevel.WARN, LOAD_FAILED);
+
+            writeKey(jwksFile, "first");
+            await("Late JWKS file").atMost(5, SECONDS).until(() -> fileLoader.getKeyInfo("first").isPresent());
+            assertEquals(LoaderStatus.OK, fileLoader.getLoaderStatus());
+        }
+
+        @Test
+        @DisplayName("Should reject invalid configuration")
+        void shouldRejectInvalidConfiguration() {
+            var builder = FileJwksLoaderConfig.builder();
+            assertThrows(IllegalArgumentException.class, builder::build);
+
+            var negativeGrace = FileJwksLoaderConfig.builder().file(jwksFile).keyRotationGracePeriod(Duration.ofSeconds(-1));
+            assertThrows(IllegalArgumentException.class, negativeGrace::build);
+
+            var zeroPoll = FileJwksLoaderConfig.builder().file(jwksFile).pollInterval(Duration.ZERO);
+            assertThrows(IllegalArgumentException.class, zeroPoll::build);
+        }
+    }
+
+    @Nested
+    @DisplayName("Reloading")
+    class ReloadingTests {
+
+        @Test
+        @DisplayName("Should reload a changed file and keep the replaced keys for the grace period")
+        void shouldReloadWithGracePeriod() throws IOException {
+            writeKey(jwksFile, "first");
+            FileJwksLoader fileLoader = initLoader(Duration.ofMinutes(5));
+
+            writeKey(jwksFile, "second");
+
+            await("Reloaded JWKS file").atMost(5, SECONDS).until(() -> fileLoader.getKeyInfo("second").isPresent());
+            assertTrue(fileLoader.getKeyInfo("first").isPresent(), "Replaced key must stay valid during the grace period");
+        }
+
+        @Test
+        @DisplayName("Should discard the replaced keys without grace period")
+        void shouldReloadWithoutGracePeriod() throws IOException {
+            writeKey(jwksFile, "first");
+            FileJwksLoader fileLoader = initLoader(Duration.ZERO);
+
+            writeKey(jwksFile, "second");
+            fileLoader.reloadIfChanged();
+
+            assertTrue(fileLoader.getKeyInfo("second").isPresent());
+            assertTrue(fileLoader.getKeyInfo("first").isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should skip the reload if only the modification time changed")
+        void shouldSkipUnchangedContent() throws IOException {
+            writeKey(jwksFile, "first");
+            FileJwksLoader fileLoader = initLoader(Duration.ofMinutes(5));
+
+            Files.setLastModifiedTime(jwksFile, FileTime.from(Instant.now().plusSeconds(10)));
+            fileLoader.reloadIfChanged();
+
+            LogAsserts.assertSingleLogMessagePresentContaining(TestLogLevel.INFO, LOADED);
+        }
+
+        @Test
+        @DisplayName("Should keep the current keys if the new content is invalid")
+        void shouldKeepKeysOnInvalidContent() throws IOException {
+            writeKey(jwksFile, "first");
+            FileJwksLoader fileLoader = initLoader(Duration.ofMinutes(5));
+
+            Files.writeString(jwksFile, "{ \"keys\": [");
+            Files.setLastModifiedTime(jwksFile, FileTime.from(Instant.now().plusSeconds(10)));
+            fileLoader.reloadIfChanged();
+
+            assertTrue(fileLoader.getKeyInfo("first").isPresent());
+            assertEquals(LoaderStatus.OK, fileLoader.getLoaderStatus());
+            LogAsserts.assertLogMessagePresentContaining(TestLogLevel.WARN, LOAD_FAILED);
+        }
+
+        @Test
+        @DisplayName("Should detect a swapped symbolic link as used by Kubernetes volume mounts")
+        void shouldDetectSwappedSymbolicLink() throws IOException {
+            Path first = Files.createDirectory(tempDir.resolve("..2026_01_01"));
+            Path second = Files.createDirectory(tempDir.resolve("..2026_01_02"));
+            writeKey(first.resolve("jwks.json"), "first");
+            writeKey(second.resolve("jwks.json"), "second");
+            Path data = tempDir.resolve("..data");
+            try {
+                Files.createSymbolicLink(data, first.getFileName());
+                Files.createSymbolicLink(jwksFile, Path.of("..data", "jwks.json"));
+            } catch (UnsupportedOperationException | IOException e) {
+                assumeTrue(false, "Symbolic links not supported: " + e.getMessage());
+            }
+            FileJwksLoader fileLoader = initLoader(Duration.ZERO);
+            assertTrue(fileLoader.getKeyInfo("first").isPresent());
+
+            // The swap never touches the watched file name, only its real path changes
+            Path swap = Files.createSymbolicLink(tempDir.resolve("..data_tmp"), second.getFileName());
+            Files.move(swap, data, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+            await("Swapped JWKS file").atMost(5, SECONDS).until(() -> fileLoader.getKeyInfo("second").isPresent());
+            assertTrue(fileLoader.getKeyInfo("first").isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should stop watching on release and load again on initialization")
+        void shouldReleaseAndReinitialize() throws IOException {
+            writeKey(jwksFile, "first");
+            FileJwksLoader fileLoader = initLoader(Duration.ofMinutes(5));
+
+            fileLoader.release();
+            assertEquals(LoaderStatus.UNDEFINED, fileLoader.getLoaderStatus());
+            assertTrue(fileLoader.getKeyInfo("first").isEmpty());
+
+            assertEquals(LoaderStatus.OK, fileLoader.initJWKSLoader(new SecurityEventCounter()).join());
+            assertTrue(fileLoader.getKeyInfo("first").isPresent());
+        }
+    }
+
+    @Test
+    @DisplayName("Should be created by the issuer configuration")
+    void shouldBeCreatedByIssuerConfig() throws IOException {
+        writeKey(jwksFile, "first");
+        var config = FileJwksLoaderConfig.builder().file(jwksFile).build();
+
+        IssuerConfig issuerConfig = IssuerConfig.builder()
+                .issuerIdentifier("https://issuer.example.com")
+                .fileJwksLoaderConfig(config)
+                .build();
+        assertInstanceOf(FileJwksLoader.class, issuerConfig.getJwksLoader());
+        loader = (FileJwksLoader) issuerConfig.getJwksLoader();
+
+        issuerConfig.initSecurityEventCounter(new SecurityEventCounter());
+        assertTrue(issuerConfig.getJwksLoader().getKeyInfo("first").isPresent());
+
+        var withoutIssuer = IssuerConfig.builder().fileJwksLoaderConfig(config);
+        assertThrows(IllegalArgumentException.class, withoutIssuer::build);
+    }
+}
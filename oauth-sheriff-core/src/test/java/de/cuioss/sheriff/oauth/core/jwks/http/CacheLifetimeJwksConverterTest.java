@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.jwks.http;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpHeaders;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the cache lifetime parsing of {@link CacheLifetimeJwksConverter}.
+ *
+ * @author Oliver Wolff
+ */
+@DisplayName("Tests CacheLifetimeJwksConverter")
+class CacheLifetimeJwksConverterTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+
+    private static HttpHeaders headers(Map<String, String> values) {
+        return HttpHeaders.of(values.entrySet().stream()
+                        .collect(Collectors.toMap(Map.Entry::getKey, e -> List.of(e.getValue()))),
+                (name, value) -> true);
+    }
+
+    private static String httpDate(Instant instant) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(instant.atOffset(ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Should use max-age")
+    void shouldUseMaxAge() {
+        assertEquals(Optional.of(Duration.ofSeconds(3600)),
+                CacheLifetimeJwksConverter.cacheLifetime(headers(Map.of("Cache-Control", "public, max-age=3600")), NOW));
+    }
+
+    @Test
+    @DisplayName("Should prefer max-age over Expires")
+    void shouldPreferMaxAge() {
+        var headers = headers(Map.of("Cache-Control", "max-age=60", "Expires", httpDate(NOW.plusSeconds(7200))));
+
+        assertEquals(Optional.of(Duration.ofSeconds(60)), CacheLifetimeJwksConverter.cacheLifetime(headers, NOW));
+    }
+
+    @Test
+    @DisplayName("Should treat no-cache and no-store as zero lifetime")
+    void shouldHandleNoCache() {
+        assertEquals(Optional.of(Duration.ZERO),
+                CacheLifetimeJwksConverter.cacheLifetime(headers(Map.of("Cache-Control", "no-cache")), NOW));
+        assertEquals(Optional.of(Duration.ZERO),
+                CacheLifetimeJwksConverter.cacheLifetime(headers(Map.of("Cache-Control", "private, no-store")), NOW));
+    }
+
+    @Test
+    @DisplayName("Should use Expires relative to Date")
+    void shouldUseExpiresRelativeToDate() {
+        Instant serverDate = NOW.minusSeconds(100);
+        var headers = headers(Map.of("Date", httpDate(serverDate), "Expires", httpDate(serverDate.plusSeconds(600))));
+
+        assertEquals(Optional.of(Duration.ofSeconds(600)), CacheLifetimeJwksConverter.cacheLifetime(headers, NOW));
+    }
+
+    @Test
+    @DisplayName("Should treat invalid or past Expires as zero lifetime")
+    void shouldHandleInvalidExpires() {
+        assertEquals(Optional.of(Duration.ZERO),
+                CacheLifetimeJwksConverter.cacheLifetime(headers(Map.of("Expires", "0")), NOW));
+        assertEquals(Optional.of(Duration.ZERO),
+                CacheLifetimeJwksConverter.cacheLifetime(headers(Map.of("Expires", httpDate(NOW.minusSeconds(10)))), NOW));
+    }
+
+    @Test
+    @DisplayName("Should return empty without cache headers")
+    void shouldReturnEmptyWithoutHeaders() {
+        assertTrue(CacheLifetimeJwksConverter.cacheLifetime(headers(Map.of()), NOW).isEmpty());
+        assertTrue(CacheLifetimeJwksConverter.cacheLifetime(headers(Map.of("Cache-Control", "public")), NOW).isEmpty());
+    }
+}
@@ -24,6 +24,9 @@ import de.cuioss.test.juli.junit5.EnableTestLogger;
 import de.cuioss.test.mockwebserver.EnableMockWebServer;
 import de.cuioss.test.mockwebserver.URIBuilder;
 import lombok.Getter;
+import lombok.NonNull;
+import mockwebserver3.MockResponse;
+import mockwebserver3.RecordedRequest;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -32,6 +35,7 @@ import org.junit.jupiter.api.Test;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -44,12 +48,13 @@ class HttpJwksLoaderAsyncInitializationTest {
     private static final String TEST_KID = InMemoryJWKSFactory.DEFAULT_KEY_ID;
 
     @Getter
-    private final JwksResolveDispatcher moduleDispatcher = new JwksResolveDispatcher();
+    private final GatedJwksDispatcher moduleDispatcher = new GatedJwksDispatcher();
 
     @BeforeEach
     void setUp() {
         moduleDispatcher.setCallCounter(0);
         moduleDispatcher.returnDefault();
+        moduleDispatcher.gate = null;
     }
 
     @Test
@@ -177,4 +182,102 @@ class HttpJwksLoaderAsyncInitializationTest {
             assertTrue(keyInfo.isPresent(), "Keys should be available after initialization");
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Repeated initJWKSLoader calls should load the JWKS only once")
+    void repeatedInitCallsShouldLoadOnce(URIBuilder uriBuilder) {
+        String jwksEndpoint = uriBuilder.addPathSegment(JwksResolveDispatcher.LOCAL_PATH).buildAsString();
+        HttpJwksLoaderConfig config = HttpJwksLoaderConfig.builder()
+                .jwksUrl(jwksEndpoint)
+                .issuerIdentifier("test-issuer")
+                .refreshIntervalSeconds(0)
+                .build();
+
+        try (HttpJwksLoader loader = new HttpJwksLoader(config)) {
+            SecurityEventCounter counter = new SecurityEventCounter();
+
+            assertEquals(LoaderStatus.OK, loader.initJWKSLoader(counter).join());
+            assertEquals(LoaderStatus.OK, loader.initJWKSLoader(counter).join());
+
+            assertEquals(1, moduleDispatcher.getCallCounter(), "The JWKS should be loaded only once");
+        }
+    }
+
+    @Test
+    @DisplayName("Released loader should drop its keys and load again on the next initJWKSLoader call")
+    void releasedLoaderShouldLoadAgain(URIBuilder uriBuilder) {
+        String jwksEndpoint = uriBuilder.addPathSegment(JwksResolveDispatcher.LOCAL_PATH).buildAsString();
+        HttpJwksLoaderConfig config = HttpJwksLoaderConfig.builder()
+                .jwksUrl(jwksEndpoint)
+                .issuerIdentifier("test-issuer")
+                .refreshIntervalSeconds(0)
+                .build();
+
+        try (HttpJwksLoader loader = new HttpJwksLoader(config)) {
+            SecurityEventCounter counter = new SecurityEventCounter();
+            assertEquals(LoaderStatus.OK, loader.initJWKSLoader(counter).join());
+
+            loader.release();
+
+            assertEquals(LoaderStatus.UNDEFINED, loader.getLoaderStatus());
+            assertTrue(loader.getKeyInfo(InMemoryJWKSFactory.DEFAULT_KEY_ID).isEmpty());
+
+            assertEquals(LoaderStatus.OK, loader.initJWKSLoader(counter).join());
+            assertTrue(loader.getKeyInfo(InMemoryJWKSFactory.DEFAULT_KEY_ID).isPresent());
+            assertEquals(2, moduleDispatcher.getCallCounter(), "The JWKS should be loaded again");
+        }
+    }
+
+    @Test
+    @DisplayName("Loader released during a slow initial load should stay released")
+    void releaseDuringInitialLoadShouldNotResurrectLoader(URIBuilder uriBuilder) throws InterruptedException {
+        String jwksEndpoint = uriBuilder.addPathSegment(JwksResolveDispatcher.LOCAL_PATH).buildAsString();
+        HttpJwksLoaderConfig config = HttpJwksLoaderConfig.builder()
+                .jwksUrl(jwksEndpoint)
+                .issuerIdentifier("test-issuer")
+                .refreshIntervalSeconds(60)
+                .build();
+        moduleDispatcher.gate = new CountDownLatch(1);
+
+        try (HttpJwksLoader loader = new HttpJwksLoader(config)) {
+            CompletableFuture<LoaderStatus> initialization = loader.initJWKSLoader(new SecurityEventCounter());
+            assertTrue(moduleDispatcher.requested.await(5, TimeUnit.SECONDS), "Initial load should reach the endpoint");
+
+            loader.release();
+            moduleDispatcher.gate.countDown();
+            initialization.join();
+
+            assertEquals(LoaderStatus.UNDEFINED, loader.getLoaderStatus(), "Released loader must not report loaded keys");
+            assertTrue(loader.getKeyInfo(TEST_KID).isEmpty(), "Keys of the interrupted load must be discarded");
+            assertFalse(loader.isBackgroundRefreshActive(), "Background refresh must not be started after release");
+
+            // A later initialization loads again
+            moduleDispatcher.gate = null;
+            assertEquals(LoaderStatus.OK, loader.initJWKSLoader(new SecurityEventCounter()).join());
+            assertTrue(loader.getKeyInfo(TEST_KID).isPresent());
+        }
+    }
+
+    /**
+     * Dispatcher holding the JWKS response back until the test opens the gate.
+     */
+    static class GatedJwksDispatcher extends JwksResolveDispatcher {
+
+        final CountDownLatch requested = new CountDownLatch(1);
+        volatile CountDownLatch gate;
+
+        @Override
+        public Optional<MockResponse> handleGet(@NonNull RecordedRequest request) {
+            requested.countDown();
+            CountDownLatch current = gate;
+            if (current != null) {
+                try {
+                    current.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return super.handleGet(request);
+        }
+    }
+}
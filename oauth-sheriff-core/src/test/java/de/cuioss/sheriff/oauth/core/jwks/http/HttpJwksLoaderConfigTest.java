@@ -28,6 +28,7 @@ import org.junit.jupiter.api.Test;
 import javax.net.ssl.SSLContext;
 import java.net.URI;
 import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 
@@ -428,4 +429,35 @@ class HttpJwksLoaderConfigTest {
         // HttpJwksLoaderConfig now implements HttpHandlerProvider, so getHttpHandler() returns the HttpHandler from WellKnownConfig
         assertNotNull(config.getHttpHandler(), "HttpHandler should be accessible via HttpHandlerProvider interface in well-known mode");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should provide defaults for adaptive refresh scheduling")
+    void shouldProvideAdaptiveRefreshDefaults() {
+        HttpJwksLoaderConfig config = HttpJwksLoaderConfig.builder()
+                .jwksUrl(VALID_URL)
+                .issuerIdentifier("test-issuer")
+                .build();
+
+        assertEquals(Duration.ofSeconds(30), config.getMinRefreshInterval());
+        assertEquals(Duration.ofHours(24), config.getMaxRefreshInterval());
+        assertEquals(0.1, config.getRefreshJitter());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid adaptive refresh parameters")
+    void shouldRejectInvalidAdaptiveRefreshParameters() {
+        var builder = HttpJwksLoaderConfig.builder();
+
+        assertThrows(IllegalArgumentException.class, () -> builder.minRefreshInterval(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> builder.maxRefreshInterval(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> builder.refreshJitter(-0.1));
+        assertThrows(IllegalArgumentException.class, () -> builder.refreshJitter(0.6));
+
+        var inverted = HttpJwksLoaderConfig.builder()
+                .jwksUrl(VALID_URL)
+                .issuerIdentifier("test-issuer")
+                .minRefreshInterval(Duration.ofHours(1))
+                .maxRefreshInterval(Duration.ofMinutes(1));
+        assertThrows(IllegalArgumentException.class, inverted::build);
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.jwks.http;
+
+import com.dslplatform.json.DslJson;
+import de.cuioss.http.client.LoaderStatus;
+import de.cuioss.http.client.retry.RetryStrategy;
+import de.cuioss.sheriff.oauth.core.JWTValidationLogMessages;
+import de.cuioss.sheriff.oauth.core.ParserConfig;
+import de.cuioss.sheriff.oauth.core.json.Jwks;
+import de.cuioss.sheriff.oauth.core.json.JwksSnapshot;
+import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
+import de.cuioss.sheriff.oauth.core.test.InMemoryJWKSFactory;
+import de.cuioss.sheriff.oauth.core.test.dispatcher.JwksResolveDispatcher;
+import de.cuioss.test.juli.LogAsserts;
+import de.cuioss.test.juli.TestLogLevel;
+import de.cuioss.test.juli.junit5.EnableTestLogger;
+import de.cuioss.test.mockwebserver.EnableMockWebServer;
+import de.cuioss.test.mockwebserver.URIBuilder;
+import lombok.Getter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the host-wide JWKS exchange of {@link HttpJwksLoader}. Two loaders in the same JVM
+ * compete for the exchange file like two processes, as the file lock is held by one instance only.
+ *
+ * @author Oliver Wolff
+ */
+@EnableTestLogger
+@DisplayName("Tests HttpJwksLoader JWKS exchange")
+@EnableMockWebServer
+class HttpJwksLoaderExchangeTest {
+
+    private static final String ISSUER = "test-issuer";
+
+    @Getter
+    private final JwksResolveDispatcher moduleDispatcher = new JwksResolveDispatcher();
+
+    @TempDir
+    Path tempDir;
+
+    private Path exchangeFile;
+    private SecurityEventCounter securityEventCounter;
+
+    @BeforeEach
+    void setUp() {
+        moduleDispatcher.setCallCounter(0);
+        moduleDispatcher.returnDefault();
+        securityEventCounter = new SecurityEventCounter();
+        exchangeFile = tempDir.resolve("exchange").resolve("test-issuer.jwks");
+    }
+
+    private HttpJwksLoader createLoader(String jwksUrl, Path file) {
+        HttpJwksLoaderConfig config = HttpJwksLoaderConfig.builder()
+                .jwksUrl(jwksUrl)
+                .issuerIdentifier(ISSUER)
+                .refreshIntervalSeconds(0)
+                .retryStrategy(RetryStrategy.none())
+                .exchangeFile(file)
+                .exchangePollInterval(Duration.ofMillis(50))
+                .build();
+        return new HttpJwksLoader(config);
+    }
+
+    private static String jwksUrl(URIBuilder uriBuilder) {
+        return uriBuilder.addPathSegment(JwksResolveDispatcher.LOCAL_PATH).buildAsString();
+    }
+
+    private static JwksSnapshot snapshot(String keyId) {
+        byte[] content = InMemoryJWKSFactory.createValidJwksWithKeyId(keyId).getBytes(StandardCharsets.UTF_8);
+        try {
+            DslJson<Object> dslJson = ParserConfig.builder().build().getDslJson();
+            Jwks jwks = dslJson.deserialize(Jwks.class, content, content.length);
+            return new JwksSnapshot(ISSUER, "https://example.com/jwks.json", System.currentTimeMillis(), jwks);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    @DisplayName("Should fetch the JWKS in one loader and serve it to the other")
+    void shouldFetchOnce(URIBuilder uriBuilder) {
+        String jwksUrl = jwksUrl(uriBuilder);
+        try (HttpJwksLoader fetching = createLoader(jwksUrl, exchangeFile);
+             HttpJwksLoader reading = createLoader(jwksUrl, exchangeFile)) {
+            assertEquals(LoaderStatus.OK, fetching.initJWKSLoader(securityEventCounter).join());
+            assertEquals(LoaderStatus.OK, reading.initJWKSLoader(securityEventCounter).join());
+
+            assertTrue(reading.getKeyInfo(InMemoryJWKSFactory.DEFAULT_KEY_ID).isPresent());
+            assertEquals(ISSUER, reading.getIssuerIdentifier().orElseThrow());
+            assertEquals(1, moduleDispatcher.getCallCounter());
+            LogAsserts.assertLogMessagePresentContaining(TestLogLevel.INFO,
+                    JWTValidationLogMessages.INFO.JWKS_EXCHANGE_FETCHING.resolveIdentifierString());
+            LogAsserts.assertLogMessagePresentContaining(TestLogLevel.INFO,
+                    JWTValidationLogMessages.INFO.JWKS_EXCHANGE_FOLLOWING.resolveIdentifierString());
+        }
+    }
+
+    @Test
+    @DisplayName("Should take over fetching once the fetching loader is closed")
+    void shouldTakeOver(URIBuilder uriBuilder) {
+        String jwksUrl = jwksUrl(uriBuilder);
+        HttpJwksLoader fetching = createLoader(jwksUrl, exchangeFile);
+        try (HttpJwksLoader reading = createLoader(jwksUrl, exchangeFile)) {
+            fetching.initJWKSLoader(securityEventCounter).join();
+            reading.initJWKSLoader(securityEventCounter).join();
+            moduleDispatcher.switchToOtherPublicKey();
+
+            fetching.close();
+
+            await("Load by the taking over loader").atMost(3, SECONDS)
+                    .until(() -> reading.getKeyInfo("alternative-key-id").isPresent());
+            assertEquals(2, moduleDispatcher.getCallCounter());
+            assertEquals(LoaderStatus.OK, reading.getLoaderStatus());
+        }
+    }
+
+    @Test
+    @DisplayName("Should wait for the first publication of the fetching process")
+    void shouldFollowLaterPublication(URIBuilder uriBuilder) throws IOException {
+        try (JwksExchangeFile otherProcess = new JwksExchangeFile(exchangeFile);
+             HttpJwksLoader reading = createLoader(jwksUrl(uriBuilder), exchangeFile)) {
+            assertTrue(otherProcess.tryLead());
+
+            assertEquals(LoaderStatus.UNDEFINED, reading.initJWKSLoader(securityEventCounter).join());
+            otherProcess.publish(snapshot("published-key"));
+
+            await("Published keys").atMost(3, SECONDS)
+                    .until(() -> reading.getKeyInfo("published-key").isPresent());
+            assertEquals(LoaderStatus.OK, reading.getLoaderStatus());
+            assertEquals(0, moduleDispatcher.getCallCounter());
+        }
+    }
+
+    @Test
+    @DisplayName("Should fetch itself if the exchange file is not accessible")
+    void shouldFallBackWithoutExchange(URIBuilder uriBuilder) throws IOException {
+        Path blocking = Files.createFile(tempDir.resolve("not-a-directory"));
+
+        try (HttpJwksLoader loader = createLoader(jwksUrl(uriBuilder), blocking.resolve("test-issuer.jwks"))) {
+            assertEquals(LoaderStatus.OK, loader.initJWKSLoader(securityEventCounter).join());
+            assertTrue(loader.getKeyInfo(InMemoryJWKSFactory.DEFAULT_KEY_ID).isPresent());
+            LogAsserts.assertLogMessagePresentContaining(TestLogLevel.WARN,
+                    JWTValidationLogMessages.WARN.JWKS_EXCHANGE_FAILED.resolveIdentifierString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Exchange file")
+    class FileTests {
+
+        @Test
+        @DisplayName("Should grant the lock to one instance at a time")
+        void shouldLockExclusively() throws IOException {
+            try (JwksExchangeFile first = new JwksExchangeFile(exchangeFile);
+                 JwksExchangeFile second = new JwksExchangeFile(exchangeFile)) {
+                assertTrue(first.tryLead());
+                assertFalse(second.tryLead());
+
+                first.close();
+
+                assertTrue(second.tryLead());
+                assertFalse(first.tryLead(), "Closed instances must not lead again");
+            }
+        }
+
+        @Test
+        @DisplayName("Should read each published version once")
+        void shouldReadChangedVersions() throws IOException {
+            try (JwksExchangeFile writer = new JwksExchangeFile(exchangeFile);
+                 JwksExchangeFile reader = new JwksExchangeFile(exchangeFile)) {
+                assertTrue(reader.readIfChanged().isEmpty(), "Nothing published yet");
+                assertTrue(writer.tryLead());
+
+                writer.publish(snapshot("first-key"));
+                JwksSnapshot first = reader.readIfChanged().orElseThrow();
+                assertEquals(ISSUER, first.issuer());
+                assertTrue(reader.readIfChanged().isEmpty(), "Unchanged version must not be read again");
+
+                writer.publish(snapshot("second-key"));
+                assertEquals(snapshot("second-key").jwks(), reader.readIfChanged().orElseThrow().jwks());
+            }
+        }
+
+        @Test
+        @DisplayName("Should read content larger than the initial mapping")
+        void shouldRemapGrowingContent() throws IOException {
+            try (JwksExchangeFile writer = new JwksExchangeFile(exchangeFile);
+                 JwksExchangeFile reader = new JwksExchangeFile(exchangeFile)) {
+                assertTrue(writer.tryLead());
+                writer.publish(snapshot("small"));
+                assertTrue(reader.readIfChanged().isPresent());
+
+                JwksSnapshot small = snapshot("small");
+                JwksSnapshot large = new JwksSnapshot(ISSUER, small.jwksUri(), small.savedAt(),
+                        new Jwks(Collections.nCopies(20, small.jwks().keys().get(0))));
+                writer.publish(large);
+
+                assertEquals(large.jwks(), reader.readIfChanged().orElseThrow().jwks());
+            }
+        }
+
+        @Test
+        @DisplayName("Should continue the version of a previous writer")
+        void shouldContinueVersion() throws IOException {
+            try (JwksExchangeFile reader = new JwksExchangeFile(exchangeFile)) {
+                try (JwksExchangeFile writer = new JwksExchangeFile(exchangeFile)) {
+                    assertTrue(writer.tryLead());
+                    writer.publish(snapshot("first-key"));
+                }
+                assertTrue(reader.readIfChanged().isPresent());
+
+                try (JwksExchangeFile writer = new JwksExchangeFile(exchangeFile)) {
+                    assertTrue(writer.tryLead());
+                    writer.publish(snapshot("second-key"));
+                }
+                assertEquals(snapshot("second-key").jwks(), reader.readIfChanged().orElseThrow().jwks());
+            }
+        }
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.jwks.http;
+
+import de.cuioss.sheriff.oauth.core.IssuerConfig;
+import de.cuioss.sheriff.oauth.core.JWTValidationLogMessages;
+import de.cuioss.sheriff.oauth.core.TokenValidator;
+import de.cuioss.sheriff.oauth.core.domain.claim.ClaimName;
+import de.cuioss.sheriff.oauth.core.domain.claim.ClaimValue;
+import de.cuioss.sheriff.oauth.core.exception.TokenValidationException;
+import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
+import de.cuioss.sheriff.oauth.core.test.InMemoryJWKSFactory;
+import de.cuioss.sheriff.oauth.core.test.TestTokenHolder;
+import de.cuioss.sheriff.oauth.core.test.dispatcher.JwksResolveDispatcher;
+import de.cuioss.sheriff.oauth.core.test.generator.TestTokenGenerators;
+import de.cuioss.test.juli.LogAsserts;
+import de.cuioss.test.juli.TestLogLevel;
+import de.cuioss.test.juli.junit5.EnableTestLogger;
+import de.cuioss.test.mockwebserver.EnableMockWebServer;
+import de.cuioss.test.mockwebserver.URIBuilder;
+import lombok.Getter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the on-demand refresh of {@link HttpJwksLoader} for unknown key IDs.
+ *
+ * @author Oliver Wolff
+ */
+@EnableTestLogger
+@DisplayName("Tests HttpJwksLoader on-demand refresh for unknown key IDs")
+@EnableMockWebServer
+class HttpJwksLoaderOnDemandRefreshTest {
+
+    private static final String ROTATED_KEY_ID = "alternative-key-id";
+
+    @Getter
+    private final JwksResolveDispatcher moduleDispatcher = new JwksResolveDispatcher();
+
+    private SecurityEventCounter securityEventCounter;
+
+    @BeforeEach
+    void setUp() {
+        moduleDispatcher.setCallCounter(0);
+        moduleDispatcher.returnDefault();
+        securityEventCounter = new SecurityEventCounter();
+    }
+
+    private HttpJwksLoader createLoader(URIBuilder uriBuilder, Duration interval, Duration wait) {
+        HttpJwksLoaderConfig config = HttpJwksLoaderConfig.builder()
+                .jwksUrl(uriBuilder.addPathSegment(JwksResolveDispatcher.LOCAL_PATH).buildAsString())
+                .issuerIdentifier("test-issuer")
+                .refreshIntervalSeconds(0)
+                .onDemandRefreshInterval(interval)
+                .onDemandRefreshWait(wait)
+                .build();
+        HttpJwksLoader loader = new HttpJwksLoader(config);
+        loader.initJWKSLoader(securityEventCounter).join();
+        return loader;
+    }
+
+    private static void awaitRateLimitInterval(Duration interval) {
+        await("Rate limit interval to elapse")
+                .pollDelay(interval.toMillis() + 50, MILLISECONDS)
+                .until(() -> true);
+    }
+
+    @Test
+    @DisplayName("Should load rotated key on demand without scheduled refresh")
+    void shouldLoadRotatedKeyOnDemand(URIBuilder uriBuilder) {
+        HttpJwksLoader loader = createLoader(uriBuilder, Duration.ofMillis(100), Duration.ZERO);
+        assertEquals(1, moduleDispatcher.getCallCounter());
+
+        moduleDispatcher.switchToOtherPublicKey();
+
+        await("Rotated key to be loaded on demand")
+                .atMost(3, SECONDS)
+                .until(() -> loader.getKeyInfo(ROTATED_KEY_ID).isPresent());
+
+        assertEquals(2, moduleDispatcher.getCallCounter(), "Exactly one on-demand refresh expected");
+        assertFalse(loader.isBackgroundRefreshActive(), "No scheduled refresh should be running");
+        LogAsserts.assertLogMessagePresentContaining(TestLogLevel.INFO,
+                JWTValidationLogMessages.INFO.JWKS_ON_DEMAND_REFRESH.resolveIdentifierString());
+
+        loader.close();
+    }
+
+    @Test
+    @DisplayName("Should return the rotated key if waiting for the refresh")
+    void shouldWaitForOnDemandRefresh(URIBuilder uriBuilder) {
+        Duration interval = Duration.ofMillis(100);
+        HttpJwksLoader loader = createLoader(uriBuilder, interval, Duration.ofSeconds(2));
+
+        moduleDispatcher.switchToOtherPublicKey();
+        awaitRateLimitInterval(interval);
+
+        assertTrue(loader.getKeyInfo(ROTATED_KEY_ID).isPresent(),
+                "Lookup should wait for the on-demand refresh and find the rotated key");
+        assertEquals(2, moduleDispatcher.getCallCounter());
+
+        loader.close();
+    }
+
+    @Test
+    @DisplayName("Should not refresh within the rate limit interval")
+    void shouldNotRefreshWithinInterval(URIBuilder uriBuilder) {
+        HttpJwksLoader loader = createLoader(uriBuilder, Duration.ofMinutes(1), Duration.ofSeconds(2));
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(loader.getKeyInfo("unknown-kid-" + i).isEmpty());
+        }
+
+        assertEquals(1, moduleDispatcher.getCallCounter(), "Unknown key IDs must not trigger loads within the interval");
+        assertTrue(loader.getKeyInfo(InMemoryJWKSFactory.DEFAULT_KEY_ID).isPresent());
+
+        loader.close();
+    }
+
+    @Test
+    @DisplayName("Should coalesce concurrent misses into a single refresh")
+    void shouldCoalesceConcurrentMisses(URIBuilder uriBuilder) {
+        Duration interval = Duration.ofMillis(500);
+        HttpJwksLoader loader = createLoader(uriBuilder, interval, Duration.ofSeconds(2));
+        awaitRateLimitInterval(interval);
+
+        IntStream.range(0, 50).parallel()
+                .forEach(i -> assertTrue(loader.getKeyInfo("unknown-kid-" + i).isEmpty()));
+
+        assertEquals(2, moduleDispatcher.getCallCounter(), "Concurrent misses should share one refresh");
+
+        loader.close();
+    }
+
+    @Test
+    @DisplayName("Should not refresh if disabled")
+    void shouldNotRefreshIfDisabled(URIBuilder uriBuilder) {
+        HttpJwksLoader loader = createLoader(uriBuilder, Duration.ZERO, Duration.ofSeconds(2));
+
+        moduleDispatcher.switchToOtherPublicKey();
+
+        assertTrue(loader.getKeyInfo(ROTATED_KEY_ID).isEmpty());
+        assertEquals(1, moduleDispatcher.getCallCounter());
+
+        loader.close();
+    }
+
+    @Nested
+    @DisplayName("Several Issuers")
+    class SeveralIssuersTests {
+
+        private static final int ISSUER_COUNT = 5;
+
+        @Test
+        @DisplayName("Should refresh only the issuer named by a token with unknown key ID")
+        void shouldRefreshOnlyNamedIssuer(URIBuilder uriBuilder) {
+            Duration interval = Duration.ofMillis(100);
+            String jwksUrl = uriBuilder.addPathSegment(JwksResolveDispatcher.LOCAL_PATH).buildAsString();
+            List<IssuerConfig> issuerConfigs = IntStream.range(0, ISSUER_COUNT)
+                    .mapToObj(i -> issuerConfig("https://issuer-" + i, jwksUrl + "?tenant=" + i, interval))
+                    .toList();
+            TokenValidator validator = TokenValidator.builder().issuerConfigs(issuerConfigs).build();
+            await("Issuer initialization").atMost(3, SECONDS)
+                    .until(() -> issuerConfigs.stream().allMatch(IssuerConfig::isLoaderStatusOK));
+            assertEquals(ISSUER_COUNT, moduleDispatcher.getCallCounter());
+            awaitRateLimitInterval(interval);
+
+            TestTokenHolder tokenHolder = TestTokenGenerators.accessTokens().next().withKeyId("unknown-kid");
+            tokenHolder.withClaim(ClaimName.ISSUER.getName(), ClaimValue.forPlainString("https://issuer-0"));
+            String token = tokenHolder.getRawToken();
+
+            TokenValidationException exception = assertThrows(TokenValidationException.class,
+                    () -> validator.createAccessToken(token));
+            assertEquals(SecurityEventCounter.EventType.KEY_NOT_FOUND, exception.getEventType());
+
+            await("On-demand refresh of the named issuer")
+                    .pollDelay(300, MILLISECONDS)
+                    .atMost(3, SECONDS)
+                    .until(() -> moduleDispatcher.getCallCounter() > ISSUER_COUNT);
+            assertEquals(ISSUER_COUNT + 1, moduleDispatcher.getCallCounter(),
+                    "An unknown key ID must refresh at most the JWKS of the issuer named in the token");
+        }
+
+        @Test
+        @DisplayName("Should reject unknown key IDs from the header with the default configuration")
+        void shouldRejectUnknownKeyIdFromHeaderByDefault(URIBuilder uriBuilder) {
+            String jwksUrl = uriBuilder.addPathSegment(JwksResolveDispatcher.LOCAL_PATH).buildAsString();
+            List<IssuerConfig> issuerConfigs = IntStream.range(0, ISSUER_COUNT)
+                    .mapToObj(i -> issuerConfig("https://issuer-" + i, HttpJwksLoaderConfig.builder()
+                            .jwksUrl(jwksUrl + "?tenant=" + i)
+                            .issuerIdentifier("https://issuer-" + i)
+                            .build()))
+                    .toList();
+            TokenValidator validator = TokenValidator.builder().issuerConfigs(issuerConfigs).build();
+            await("Issuer initialization").atMost(3, SECONDS)
+                    .until(() -> issuerConfigs.stream().allMatch(IssuerConfig::isLoaderStatusOK));
+
+            assertRejectedFromHeader(validator);
+            assertEquals(ISSUER_COUNT, moduleDispatcher.getCallCounter(), "No on-demand refresh expected");
+        }
+
+        @Test
+        @DisplayName("Should reject unknown key IDs from the header once the on-demand refresh is cooling down")
+        void shouldRejectFromHeaderWhileCoolingDown(URIBuilder uriBuilder) {
+            Duration interval = Duration.ofSeconds(2);
+            String jwksUrl = uriBuilder.addPathSegment(JwksResolveDispatcher.LOCAL_PATH).buildAsString();
+            IssuerConfig issuerConfig = issuerConfig("https://issuer-0", jwksUrl, interval);
+            TokenValidator validator = TokenValidator.builder().issuerConfig(issuerConfig).build();
+            await("Issuer initialization").atMost(3, SECONDS).until(issuerConfig::isLoaderStatusOK);
+            awaitRateLimitInterval(interval);
+
+            // The refresh is available, the issuer named by the token resolves the key ID
+            TestTokenHolder tokenHolder = TestTokenGenerators.accessTokens().next().withKeyId("unknown-kid");
+            tokenHolder.withClaim(ClaimName.ISSUER.getName(), ClaimValue.forPlainString("https://issuer-0"));
+            String token = tokenHolder.getRawToken();
+            assertThrows(TokenValidationException.class, () -> validator.createAccessToken(token));
+            await("On-demand refresh of the named issuer")
+                    .atMost(3, SECONDS)
+                    .until(() -> moduleDispatcher.getCallCounter() == 2);
+
+            assertRejectedFromHeader(validator);
+            assertEquals(2, moduleDispatcher.getCallCounter());
+        }
+
+        private static void assertRejectedFromHeader(TokenValidator validator) {
+            String header = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                    "{\"alg\":\"RS256\",\"typ\":\"JWT\",\"kid\":\"unknown-kid\"}".getBytes(StandardCharsets.UTF_8));
+            String token = header + ".!!not-base64!!.c2lnbmF0dXJl";
+
+            TokenValidationException exception = assertThrows(TokenValidationException.class,
+                    () -> validator.createAccessToken(token));
+
+            assertEquals(SecurityEventCounter.EventType.KEY_NOT_FOUND, exception.getEventType());
+            assertEquals(0, validator.getSecurityEventCounter().getCount(SecurityEventCounter.EventType.FAILED_TO_DECODE_JWT),
+                    "Payload must not be decoded");
+        }
+
+        private static IssuerConfig issuerConfig(String issuer, String jwksUrl, Duration interval) {
+            return issuerConfig(issuer, HttpJwksLoaderConfig.builder()
+                    .jwksUrl(jwksUrl)
+                    .issuerIdentifier(issuer)
+                    .refreshIntervalSeconds(0)
+                    .onDemandRefreshInterval(interval)
+                    .build());
+        }
+
+        private static IssuerConfig issuerConfig(String issuer, HttpJwksLoaderConfig jwksLoaderConfig) {
+            return IssuerConfig.builder()
+                    .issuerIdentifier(issuer)
+                    .expectedAudience(TestTokenHolder.TEST_AUDIENCE)
+                    .expectedClientId(TestTokenHolder.TEST_CLIENT_ID)
+                    .httpJwksLoaderConfig(jwksLoaderConfig)
+                    .build();
+        }
+    }
+
+    @Nested
+    @DisplayName("Configuration")
+    class ConfigurationTests {
+
+        @Test
+        @DisplayName("Should enable on-demand refresh by default")
+        void shouldEnableByDefault() {
+            HttpJwksLoaderConfig config = HttpJwksLoaderConfig.builder()
+                    .jwksUrl("https://example.com/jwks")
+                    .issuerIdentifier("test-issuer")
+                    .build();
+
+            assertTrue(config.isOnDemandRefreshEnabled());
+            assertEquals(Duration.ofSeconds(30), config.getOnDemandRefreshInterval());
+            assertEquals(Duration.ZERO, config.getOnDemandRefreshWait());
+        }
+
+        @Test
+        @DisplayName("Should reject negative durations")
+        void shouldRejectNegativeDurations() {
+            var builder = HttpJwksLoaderConfig.builder();
+            Duration negative = Duration.ofSeconds(-1);
+
+            assertThrows(IllegalArgumentException.class, () -> builder.onDemandRefreshInterval(negative));
+            assertThrows(IllegalArgumentException.class, () -> builder.onDemandRefreshWait(negative));
+        }
+    }
+}
@@ -31,7 +31,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
@@ -385,4 +388,54 @@ class HttpJwksLoaderSchedulerTest {
 
         loader.close();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should compute refresh delays from cache lifetime and failures")
+    void shouldComputeRefreshDelays() {
+        HttpJwksLoaderConfig config = HttpJwksLoaderConfig.builder()
+                .jwksUrl("https://example.com/jwks")
+                .issuerIdentifier("test-issuer")
+                .refreshIntervalSeconds(600)
+                .minRefreshInterval(Duration.ofSeconds(30))
+                .maxRefreshInterval(Duration.ofHours(1))
+                .refreshJitter(0)
+                .build();
+        HttpJwksLoader loader = new HttpJwksLoader(config);
+
+        // Without cache headers the configured interval applies
+        assertEquals(Duration.ofSeconds(600), loader.nextRefreshDelay(0, Optional.empty()));
+
+        // Cache lifetime is honored within the bounds
+        assertEquals(Duration.ofSeconds(1800), loader.nextRefreshDelay(0, Optional.of(Duration.ofSeconds(1800))));
+        assertEquals(Duration.ofSeconds(30), loader.nextRefreshDelay(0, Optional.of(Duration.ZERO)));
+        assertEquals(Duration.ofHours(1), loader.nextRefreshDelay(0, Optional.of(Duration.ofDays(7))));
+
+        // Exponential backoff after failures, capped at the refresh interval
+        assertEquals(Duration.ofSeconds(30), loader.nextRefreshDelay(1, Optional.of(Duration.ofHours(1))));
+        assertEquals(Duration.ofSeconds(60), loader.nextRefreshDelay(2, Optional.empty()));
+        assertEquals(Duration.ofSeconds(240), loader.nextRefreshDelay(4, Optional.empty()));
+        assertEquals(Duration.ofSeconds(600), loader.nextRefreshDelay(10, Optional.empty()));
+        assertEquals(Duration.ofSeconds(600), loader.nextRefreshDelay(100, Optional.empty()));
+    }
+
+    @Test
+    @DisplayName("Should randomize refresh delays within the jitter")
+    void shouldApplyJitter() {
+        HttpJwksLoaderConfig config = HttpJwksLoaderConfig.builder()
+                .jwksUrl("https://example.com/jwks")
+                .issuerIdentifier("test-issuer")
+                .refreshIntervalSeconds(100)
+                .refreshJitter(0.2)
+                .build();
+        HttpJwksLoader loader = new HttpJwksLoader(config);
+
+        Set<Duration> delays = new HashSet<>();
+        for (int i = 0; i < 50; i++) {
+            Duration delay = loader.nextRefreshDelay(0, Optional.empty());
+            assertTrue(delay.compareTo(Duration.ofSeconds(80)) >= 0 && delay.compareTo(Duration.ofSeconds(120)) <= 0,
+                    "Delay should be within 20% of the interval: " + delay);
+            delays.add(delay);
+        }
+        assertTrue(delays.size() > 1, "Delays should be randomized");
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.jwks.http;
+
+import de.cuioss.http.client.LoaderStatus;
+import de.cuioss.http.client.retry.RetryStrategy;
+import de.cuioss.sheriff.oauth.core.JWTValidationLogMessages;
+import de.cuioss.sheriff.oauth.core.json.JwksSnapshot;
+import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
+import de.cuioss.sheriff.oauth.core.test.InMemoryJWKSFactory;
+import de.cuioss.sheriff.oauth.core.test.dispatcher.JwksResolveDispatcher;
+import de.cuioss.test.juli.LogAsserts;
+import de.cuioss.test.juli.TestLogLevel;
+import de.cuioss.test.juli.junit5.EnableTestLogger;
+import de.cuioss.test.mockwebserver.EnableMockWebServer;
+import de.cuioss.test.mockwebserver.URIBuilder;
+import lombok.Getter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the persistent JWKS snapshots of {@link HttpJwksLoader}.
+ *
+ * @author Oliver Wolff
+ */
+@EnableTestLogger
+@DisplayName("Tests HttpJwksLoader JWKS snapshots")
+@EnableMockWebServer
+class HttpJwksLoaderSnapshotTest {
+
+    private static final String ISSUER = "test-issuer";
+
+    @Getter
+    private final JwksResolveDispatcher moduleDispatcher = new JwksResolveDispatcher();
+
+    @TempDir
+    Path tempDir;
+
+    private Path snapshotFile;
+    private SecurityEventCounter securityEventCounter;
+
+    @BeforeEach
+    void setUp() {
+        moduleDispatcher.setCallCounter(0);
+        moduleDispatcher.returnDefault();
+        securityEventCounter = new SecurityEventCounter();
+        snapshotFile = tempDir.resolve("snapshots").resolve("test-issuer.json");
+    }
+
+    private HttpJwksLoader createLoader(String jwksUrl, String issuer, Duration maxStale) {
+        return createLoader(jwksUrl, issuer, maxStale, 0);
+    }
+
+    private HttpJwksLoader createLoader(String jwksUrl, String issuer, Duration maxStale, int refreshIntervalSeconds) {
+        HttpJwksLoaderConfig config = HttpJwksLoaderConfig.builder()
+                .jwksUrl(jwksUrl)
+                .issuerIdentifier(issuer)
+                .refreshIntervalSeconds(refreshIntervalSeconds)
+                .retryStrategy(RetryStrategy.none())
+                .snapshotFile(snapshotFile)
+                .snapshotMaxStale(maxStale)
+                .build();
+        return new HttpJwksLoader(config);
+    }
+
+    private String writeSnapshotFromEndpoint(URIBuilder uriBuilder) {
+        String jwksUrl = uriBuilder.addPathSegment(JwksResolveDispatcher.LOCAL_PATH).buildAsString();
+        try (HttpJwksLoader loader = createLoader(jwksUrl, ISSUER, Duration.ofHours(1))) {
+            assertEquals(LoaderStatus.OK, loader.initJWKSLoader(securityEventCounter).join());
+        }
+        return jwksUrl;
+    }
+
+    private void backdateSnapshot(Duration age) {
+        JwksSnapshotStore store = new JwksSnapshotStore(snapshotFile);
+        JwksSnapshot snapshot = store.read().orElseThrow();
+        store.write(new JwksSnapshot(snapshot.issuer(), snapshot.jwksUri(),
+                System.currentTimeMillis() - age.toMillis(), snapshot.jwks()));
+    }
+
+    @Test
+    @DisplayName("Should persist the JWKS after a successful load")
+    void shouldWriteSnapshot(URIBuilder uriBuilder) {
+        String jwksUrl = writeSnapshotFromEndpoint(uriBuilder);
+
+        JwksSnapshot snapshot = new JwksSnapshotStore(snapshotFile).read().orElseThrow();
+        assertEquals(ISSUER, snapshot.issuer());
+        assertEquals(jwksUrl, snapshot.jwksUri());
+        assertFalse(snapshot.jwks().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should start from the snapshot while the endpoint is unavailable")
+    void shouldStartFromSnapshot(URIBuilder uriBuilder) {
+        String jwksUrl = writeSnapshotFromEndpoint(uriBuilder);
+        moduleDispatcher.returnError();
+
+        try (HttpJwksLoader loader = createLoader(jwksUrl, ISSUER, Duration.ofHours(1))) {
+            assertEquals(LoaderStatus.OK, loader.initJWKSLoader(securityEventCounter).join());
+            assertTrue(loader.getKeyInfo(InMemoryJWKSFactory.DEFAULT_KEY_ID).isPresent());
+            LogAsserts.assertLogMessagePresentContaining(TestLogLevel.INFO,
+                    JWTValidationLogMessages.INFO.JWKS_SNAPSHOT_LOADED.resolveIdentifierString());
+
+            // Failed revalidation keeps the snapshot keys
+            await("Revalidation attempt").atMost(3, SECONDS).until(() -> moduleDispatcher.getCallCounter() == 2);
+            assertEquals(LoaderStatus.OK, loader.getLoaderStatus());
+            assertTrue(loader.getKeyInfo(InMemoryJWKSFactory.DEFAULT_KEY_ID).isPresent());
+        }
+    }
+
+    @Test
+    @DisplayName("Should replace the snapshot keys after revalidation")
+    void shouldRevalidateSnapshot(URIBuilder uriBuilder) {
+        String jwksUrl = writeSnapshotFromEndpoint(uriBuilder);
+        moduleDispatcher.switchToOtherPublicKey();
+
+        try (HttpJwksLoader loader = createLoader(jwksUrl, ISSUER, Duration.ofHours(1))) {
+            loader.initJWKSLoader(securityEventCounter).join();
+
+            await("Rotated key from revalidation").atMost(3, SECONDS)
+                    .until(() -> loader.getKeyInfo("alternative-key-id").isPresent());
+            assertEquals(LoaderStatus.OK, loader.getLoaderStatus());
+        }
+    }
+
+    @Test
+    @DisplayName("Should ignore a snapshot exceeding the maximum stale age")
+    void shouldIgnoreStaleSnapshot(URIBuilder uriBuilder) {
+        String jwksUrl = writeSnapshotFromEndpoint(uriBuilder);
+        backdateSnapshot(Duration.ofHours(2));
+        moduleDispatcher.returnError();
+
+        try (HttpJwksLoader loader = createLoader(jwksUrl, ISSUER, Duration.ofHours(1))) {
+            assertEquals(LoaderStatus.ERROR, loader.initJWKSLoader(securityEventCounter).join());
+            assertTrue(loader.getKeyInfo(InMemoryJWKSFactory.DEFAULT_KEY_ID).isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("Should ignore a snapshot of another issuer")
+    void shouldIgnoreSnapshotOfOtherIssuer(URIBuilder uriBuilder) {
+        String jwksUrl = writeSnapshotFromEndpoint(uriBuilder);
+        moduleDispatcher.returnError();
+
+        try (HttpJwksLoader loader = createLoader(jwksUrl, "other-issuer", Duration.ofHours(1))) {
+            assertEquals(LoaderStatus.ERROR, loader.initJWKSLoader(securityEventCounter).join());
+        }
+    }
+
+    @Test
+    @DisplayName("Should discard the snapshot keys once the maximum stale age is exceeded")
+    void shouldExpireSnapshot(URIBuilder uriBuilder) {
+        String jwksUrl = writeSnapshotFromEndpoint(uriBuilder);
+        Duration maxStale = Duration.ofHours(1);
+        backdateSnapshot(maxStale.minusMillis(500));
+        moduleDispatcher.returnError();
+
+        try (HttpJwksLoader loader = createLoader(jwksUrl, ISSUER, maxStale)) {
+            assertEquals(LoaderStatus.OK, loader.initJWKSLoader(securityEventCounter).join());
+
+            await("Snapshot expiry").atMost(3, SECONDS)
+                    .until(() -> loader.getLoaderStatus() == LoaderStatus.ERROR);
+            assertTrue(loader.getKeyInfo(InMemoryJWKSFactory.DEFAULT_KEY_ID).isEmpty());
+            LogAsserts.assertLogMessagePresentContaining(TestLogLevel.WARN,
+                    JWTValidationLogMessages.WARN.JWKS_SNAPSHOT_EXPIRED.resolveIdentifierString());
+        }
+    }
+
+    @Test
+    @DisplayName("Should recover with the background refresh after the snapshot expired")
+    void shouldRecoverAfterSnapshotExpiry(URIBuilder uriBuilder) {
+        String jwksUrl = writeSnapshotFromEndpoint(uriBuilder);
+        Duration maxStale = Duration.ofHours(1);
+        backdateSnapshot(maxStale.minusMillis(500));
+        moduleDispatcher.returnError();
+
+        try (HttpJwksLoader loader = createLoader(jwksUrl, ISSUER, maxStale, 1)) {
+            assertEquals(LoaderStatus.OK, loader.initJWKSLoader(securityEventCounter).join());
+
+            await("Snapshot expiry").atMost(3, SECONDS)
+                    .until(() -> loader.getLoaderStatus() != LoaderStatus.OK);
+            assertTrue(loader.getKeyInfo(InMemoryJWKSFactory.DEFAULT_KEY_ID).isEmpty());
+
+            moduleDispatcher.returnDefault();
+
+            await("Recovery by background refresh").atMost(5, SECONDS)
+                    .until(() -> loader.getLoaderStatus() == LoaderStatus.OK);
+            assertTrue(loader.getKeyInfo(InMemoryJWKSFactory.DEFAULT_KEY_ID).isPresent());
+        }
+    }
+
+    @Test
+    @DisplayName("Should not expire the snapshot of a later initialization with the timer of a released one")
+    void shouldNotExpireSnapshotAfterRelease(URIBuilder uriBuilder) {
+        String jwksUrl = writeSnapshotFromEndpoint(uriBuilder);
+        Duration maxStale = Duration.ofHours(1);
+        backdateSnapshot(maxStale.minusMillis(500));
+        moduleDispatcher.returnError();
+
+        try (HttpJwksLoader loader = createLoader(jwksUrl, ISSUER, maxStale)) {
+            assertEquals(LoaderStatus.OK, loader.initJWKSLoader(securityEventCounter).join());
+            loader.release();
+
+            // A fresh snapshot for the next initialization, due before the first one's expiry
+            backdateSnapshot(Duration.ZERO);
+            assertEquals(LoaderStatus.OK, loader.initJWKSLoader(securityEventCounter).join());
+
+            await("Original snapshot expiry passed").pollDelay(1500, MILLISECONDS).atMost(3, SECONDS)
+                    .until(() -> true);
+            assertEquals(LoaderStatus.OK, loader.getLoaderStatus());
+            assertTrue(loader.getKeyInfo(InMemoryJWKSFactory.DEFAULT_KEY_ID).isPresent());
+        }
+    }
+
+    @Nested
+    @DisplayName("Snapshot store")
+    class StoreTests {
+
+        @Test
+        @DisplayName("Should return empty for a missing file")
+        void shouldHandleMissingFile() {
+            assertTrue(new JwksSnapshotStore(snapshotFile).read().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should return empty for a corrupt file")
+        void shouldHandleCorruptFile() throws IOException {
+            Files.createDirectories(snapshotFile.getParent());
+            Files.writeString(snapshotFile, "{ not json");
+
+            assertTrue(new JwksSnapshotStore(snapshotFile).read().isEmpty());
+            LogAsserts.assertLogMessagePresentContaining(TestLogLevel.WARN,
+                    JWTValidationLogMessages.WARN.JWKS_SNAPSHOT_READ_FAILED.resolveIdentifierString());
+        }
+
+        @Test
+        @DisplayName("Should reject a non-positive maximum stale age")
+        void shouldRejectInvalidMaxStale() {
+            var builder = HttpJwksLoaderConfig.builder();
+
+            assertThrows(IllegalArgumentException.class, () -> builder.snapshotMaxStale(Duration.ZERO));
+        }
+    }
+}
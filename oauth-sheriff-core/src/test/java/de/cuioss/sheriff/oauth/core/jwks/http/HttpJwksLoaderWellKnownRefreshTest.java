@@ -0,0 +1,156 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.jwks.http;
+
+import de.cuioss.http.client.LoaderStatus;
+import de.cuioss.http.client.retry.RetryStrategy;
+import de.cuioss.sheriff.oauth.core.JWTValidationLogMessages;
+import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
+import de.cuioss.sheriff.oauth.core.test.InMemoryKeyMaterialHandler;
+import de.cuioss.test.juli.LogAsserts;
+import de.cuioss.test.juli.TestLogLevel;
+import de.cuioss.test.juli.junit5.EnableTestLogger;
+import de.cuioss.test.mockwebserver.EnableMockWebServer;
+import de.cuioss.test.mockwebserver.URIBuilder;
+import de.cuioss.test.mockwebserver.dispatcher.HttpMethodMapper;
+import de.cuioss.test.mockwebserver.dispatcher.ModuleDispatcherElement;
+import lombok.Getter;
+import lombok.NonNull;
+import mockwebserver3.MockResponse;
+import mockwebserver3.RecordedRequest;
+import okhttp3.Headers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+
+import static jakarta.servlet.http.HttpServletResponse.SC_OK;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the background re-resolution of the well-known document by {@link HttpJwksLoader}.
+ *
+ * @author Oliver Wolff
+ */
+@EnableTestLogger
+@DisplayName("Tests HttpJwksLoader well-known re-resolution")
+@EnableMockWebServer
+class HttpJwksLoaderWellKnownRefreshTest {
+
+    private static final String WELL_KNOWN_PATH = "/.well-known/openid-configuration";
+    private static final String OLD_JWKS_PATH = "/old/jwks.json";
+    private static final String NEW_JWKS_PATH = "/new/jwks.json";
+    private static final String OLD_KID = "old-key";
+    private static final String NEW_KID = "new-key";
+
+    @Getter
+    private final DiscoveryDispatcher moduleDispatcher = new DiscoveryDispatcher();
+
+    private HttpJwksLoader createLoader(URIBuilder uriBuilder) {
+        HttpJwksLoaderConfig config = HttpJwksLoaderConfig.builder()
+                .wellKnownUrl(uriBuilder.addPathSegment(".well-known").addPathSegment("openid-configuration").buildAsString())
+                .refreshIntervalSeconds(1)
+                .refreshJitter(0)
+                .retryStrategy(RetryStrategy.none())
+                .wellKnownResolutionTtl(Duration.ofMillis(100))
+                .build();
+        return new HttpJwksLoader(config);
+    }
+
+    @Test
+    @DisplayName("Should switch to the JWKS URI of a re-resolved document")
+    void shouldSwitchJwksUri(URIBuilder uriBuilder) {
+        moduleDispatcher.jwksPath = OLD_JWKS_PATH;
+
+        try (HttpJwksLoader loader = createLoader(uriBuilder)) {
+            assertEquals(LoaderStatus.OK, loader.initJWKSLoader(new SecurityEventCounter()).join());
+            assertTrue(loader.getKeyInfo(OLD_KID).isPresent());
+
+            moduleDispatcher.jwksPath = NEW_JWKS_PATH;
+
+            await("Keys of the new JWKS URI").atMost(5, SECONDS)
+                    .until(() -> loader.getKeyInfo(NEW_KID).isPresent());
+            assertEquals(LoaderStatus.OK, loader.getLoaderStatus());
+            LogAsserts.assertLogMessagePresentContaining(TestLogLevel.INFO,
+                    JWTValidationLogMessages.INFO.JWKS_URI_CHANGED.resolveIdentifierString());
+        }
+    }
+
+    @Test
+    @DisplayName("Should recover from a failed initial discovery")
+    void shouldRecoverFromFailedDiscovery(URIBuilder uriBuilder) {
+        moduleDispatcher.jwksPath = null;
+
+        try (HttpJwksLoader loader = createLoader(uriBuilder)) {
+            assertEquals(LoaderStatus.ERROR, loader.initJWKSLoader(new SecurityEventCounter()).join());
+
+            moduleDispatcher.jwksPath = OLD_JWKS_PATH;
+
+            await("Recovered discovery").atMost(5, SECONDS)
+                    .until(() -> loader.getLoaderStatus() == LoaderStatus.OK);
+            assertTrue(loader.getKeyInfo(OLD_KID).isPresent());
+        }
+    }
+
+    /**
+     * Serves a discovery document announcing the JWKS URI given by {@link #jwksPath}, or one
+     * without JWKS URI if {@code null}, and the key sets of both JWKS URIs.
+     */
+    static class DiscoveryDispatcher implements ModuleDispatcherElement {
+
+        volatile String jwksPath;
+
+        @Override
+        public Optional<MockResponse> handleGet(@NonNull RecordedRequest request) {
+            String path = request.getPath();
+            if (path == null || request.getRequestUrl() == null) {
+                return Optional.empty();
+            }
+            if (path.endsWith(WELL_KNOWN_PATH)) {
+                String url = request.getRequestUrl().toString();
+                String issuer = url.substring(0, url.indexOf(WELL_KNOWN_PATH));
+                String current = jwksPath;
+                String jwksUri = current != null ? ",\"jwks_uri\":\"" + issuer + current + "\"" : "";
+                return Optional.of(json("{\"issuer\":\"" + issuer + "\"" + jwksUri + "}"));
+            }
+            if (path.endsWith(OLD_JWKS_PATH)) {
+                return Optional.of(json(InMemoryKeyMaterialHandler.createJwks(InMemoryKeyMaterialHandler.Algorithm.RS256, OLD_KID)));
+            }
+            if (path.endsWith(NEW_JWKS_PATH)) {
+                return Optional.of(json(InMemoryKeyMaterialHandler.createJwks(InMemoryKeyMaterialHandler.Algorithm.RS256, NEW_KID)));
+            }
+            return Optional.empty();
+        }
+
+        private static MockResponse json(String body) {
+            return new MockResponse(SC_OK, Headers.of("Content-Type", "application/json"), body);
+        }
+
+        @Override
+        public String getBaseUrl() {
+            return "";
+        }
+
+        @Override
+        public @NonNull Set<HttpMethodMapper> supportedMethods() {
+            return Set.of(HttpMethodMapper.GET);
+        }
+    }
+}
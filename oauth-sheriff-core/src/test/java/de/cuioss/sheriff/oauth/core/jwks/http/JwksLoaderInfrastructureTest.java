@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.jwks.http;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests {@link JwksLoaderInfrastructure}.
+ *
+ * @author Oliver Wolff
+ */
+@DisplayName("Tests JwksLoaderInfrastructure")
+class JwksLoaderInfrastructureTest {
+
+    private static HttpJwksLoaderConfig config(String host) {
+        return HttpJwksLoaderConfig.builder()
+                .jwksUrl("https://" + host + "/jwks.json")
+                .issuerIdentifier("https://" + host)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should share scheduler and TLS context across loader configurations")
+    void shouldShareByDefault() {
+        HttpJwksLoaderConfig first = config("first.example.com");
+        HttpJwksLoaderConfig second = config("second.example.com");
+
+        assertSame(JwksLoaderInfrastructure.shared(), first.getInfrastructure());
+        assertSame(first.getScheduledExecutorService(), second.getScheduledExecutorService());
+        assertSame(JwksLoaderInfrastructure.shared().getScheduler(), first.getScheduledExecutorService());
+        assertSame(first.getHttpHandler().getSslContext(), second.getHttpHandler().getSslContext());
+    }
+
+    @Test
+    @DisplayName("Should share the TLS context with well-known discovery and the discovered JWKS endpoint")
+    void shouldShareWithWellKnownDiscovery() {
+        HttpJwksLoaderConfig direct = config("direct.example.com");
+        HttpJwksLoaderConfig wellKnown = HttpJwksLoaderConfig.builder()
+                .wellKnownUrl("https://discovery.example.com/.well-known/openid-configuration")
+                .build();
+
+        assertSame(direct.getHttpHandler().getSslContext(), wellKnown.getHttpHandler().getSslContext());
+        assertSame(direct.getHttpHandler().getSslContext(),
+                wellKnown.getHttpHandler("https://discovery.example.com/jwks.json").getSslContext());
+    }
+
+    @Test
+    @DisplayName("Should use a dedicated infrastructure if configured")
+    void shouldUseDedicatedInfrastructure() {
+        JwksLoaderInfrastructure infrastructure = new JwksLoaderInfrastructure(2);
+        HttpJwksLoaderConfig config = HttpJwksLoaderConfig.builder()
+                .jwksUrl("https://example.com/jwks.json")
+                .issuerIdentifier("https://example.com")
+                .infrastructure(infrastructure)
+                .build();
+
+        assertSame(infrastructure, config.getInfrastructure());
+        assertSame(infrastructure.getScheduler(), config.getScheduledExecutorService());
+        assertNotSame(JwksLoaderInfrastructure.shared().getScheduler(), config.getScheduledExecutorService());
+    }
+
+    @Test
+    @DisplayName("Should limit concurrently running refreshes")
+    void shouldLimitConcurrentRefreshes() {
+        JwksLoaderInfrastructure infrastructure = new JwksLoaderInfrastructure(2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        List<CompletableFuture<Void>> refreshes = IntStream.range(0, 10)
+                .mapToObj(i -> infrastructure.submitRefresh(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    await().pollDelay(Duration.ofMillis(20)).until(() -> true);
+                    running.decrementAndGet();
+                }))
+                .toList();
+        CompletableFuture.allOf(refreshes.toArray(CompletableFuture[]::new)).join();
+
+        assertTrue(maxRunning.get() <= 2, "At most two refreshes may run concurrently, was " + maxRunning.get());
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive concurrency")
+    void shouldRejectInvalidConcurrency() {
+        assertThrows(IllegalArgumentException.class, () -> new JwksLoaderInfrastructure(0));
+        var builder = HttpJwksLoaderConfig.builder();
+        assertThrows(IllegalArgumentException.class, () -> builder.infrastructure(null));
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.jwks.http;
+
+import de.cuioss.http.client.LoaderStatus;
+import de.cuioss.http.client.retry.RetryStrategy;
+import de.cuioss.sheriff.oauth.core.IssuerConfig;
+import de.cuioss.sheriff.oauth.core.TokenValidator;
+import de.cuioss.sheriff.oauth.core.domain.claim.ClaimName;
+import de.cuioss.sheriff.oauth.core.domain.claim.ClaimValue;
+import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
+import de.cuioss.sheriff.oauth.core.test.InMemoryJWKSFactory;
+import de.cuioss.sheriff.oauth.core.test.TestTokenHolder;
+import de.cuioss.sheriff.oauth.core.test.dispatcher.JwksResolveDispatcher;
+import de.cuioss.sheriff.oauth.core.test.generator.TestTokenGenerators;
+import de.cuioss.test.juli.junit5.EnableTestLogger;
+import de.cuioss.test.mockwebserver.EnableMockWebServer;
+import de.cuioss.test.mockwebserver.URIBuilder;
+import lombok.Getter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests {@link SharedJwksEndpoints}.
+ *
+ * @author Oliver Wolff
+ */
+@EnableTestLogger
+@EnableMockWebServer
+@DisplayName("Tests SharedJwksEndpoints")
+class SharedJwksEndpointsTest {
+
+    private static final String FIRST_ISSUER = "https://idp.example.com/realms/first";
+    private static final String SECOND_ISSUER = "https://idp.example.com/realms/second";
+
+    @Getter
+    private final JwksResolveDispatcher moduleDispatcher = new JwksResolveDispatcher();
+
+    private SecurityEventCounter securityEventCounter;
+    private SharedJwksEndpoints endpoints;
+
+    @BeforeEach
+    void setUp() {
+        moduleDispatcher.setCallCounter(0);
+        moduleDispatcher.returnDefault();
+        securityEventCounter = new SecurityEventCounter();
+        endpoints = new SharedJwksEndpoints();
+    }
+
+    private static HttpJwksLoaderConfig config(String jwksUrl, String issuer) {
+        return HttpJwksLoaderConfig.builder()
+                .jwksUrl(jwksUrl)
+                .issuerIdentifier(issuer)
+                .refreshIntervalSeconds(0)
+                .retryStrategy(RetryStrategy.none())
+                .build();
+    }
+
+    private static String jwksUrl(URIBuilder uriBuilder) {
+        return uriBuilder.addPathSegment(JwksResolveDispatcher.LOCAL_PATH).buildAsString();
+    }
+
+    @Nested
+    @DisplayName("Loader sharing")
+    class SharingTests {
+
+        @Test
+        @DisplayName("Should load a JWKS URI once for all issuers referencing it")
+        void shouldLoadOnce(URIBuilder uriBuilder) {
+            String jwksUrl = jwksUrl(uriBuilder);
+            HttpJwksLoader first = new HttpJwksLoader(config(jwksUrl, FIRST_ISSUER));
+            HttpJwksLoader second = new HttpJwksLoader(config(jwksUrl, SECOND_ISSUER));
+            assertTrue(endpoints.attach(first));
+            assertTrue(endpoints.attach(second));
+
+            assertEquals(LoaderStatus.OK, first.initJWKSLoader(securityEventCounter).join());
+            assertEquals(LoaderStatus.OK, second.initJWKSLoader(securityEventCounter).join());
+
+            assertEquals(1, moduleDispatcher.getCallCounter());
+            assertEquals(1, endpoints.size());
+            assertSame(first.getKeyInfo(InMemoryJWKSFactory.DEFAULT_KEY_ID).orElseThrow(),
+                    second.getKeyInfo(InMemoryJWKSFactory.DEFAULT_KEY_ID).orElseThrow());
+            assertEquals(FIRST_ISSUER, first.getIssuerIdentifier().orElseThrow());
+            assertEquals(SECOND_ISSUER, second.getIssuerIdentifier().orElseThrow());
+        }
+
+        @Test
+        @DisplayName("Should keep serving the remaining issuers after one is released")
+        void shouldReferenceCount(URIBuilder uriBuilder) {
+            String jwksUrl = jwksUrl(uriBuilder);
+            HttpJwksLoader first = new HttpJwksLoader(config(jwksUrl, FIRST_ISSUER));
+            HttpJwksLoader second = new HttpJwksLoader(config(jwksUrl, SECOND_ISSUER));
+            endpoints.attach(first);
+            endpoints.attach(second);
+            first.initJWKSLoader(securityEventCounter).join();
+            second.initJWKSLoader(securityEventCounter).join();
+
+            first.release();
+            assertEquals(LoaderStatus.UNDEFINED, first.getLoaderStatus());
+            assertTrue(first.getKeyInfo(InMemoryJWKSFactory.DEFAULT_KEY_ID).isEmpty());
+            assertEquals(LoaderStatus.OK, second.getLoaderStatus());
+            assertTrue(second.getKeyInfo(InMemoryJWKSFactory.DEFAULT_KEY_ID).isPresent());
+            assertEquals(1, endpoints.size());
+
+            second.release();
+            assertEquals(0, endpoints.size());
+
+            // Re-initialization acquires a new endpoint loader
+            assertEquals(LoaderStatus.OK, first.initJWKSLoader(securityEventCounter).join());
+            assertEquals(2, moduleDispatcher.getCallCounter());
+            assertEquals(1, endpoints.size());
+        }
+
+        @Test
+        @DisplayName("Should not share loaders of different JWKS URIs")
+        void shouldSeparateEndpoints(URIBuilder uriBuilder) {
+            String jwksUrl = jwksUrl(uriBuilder);
+            HttpJwksLoader first = new HttpJwksLoader(config(jwksUrl, FIRST_ISSUER));
+            HttpJwksLoader second = new HttpJwksLoader(config(jwksUrl + "?tenant=second", SECOND_ISSUER));
+            endpoints.attach(first);
+            endpoints.attach(second);
+
+            first.initJWKSLoader(securityEventCounter).join();
+            second.initJWKSLoader(securityEventCounter).join();
+
+            assertEquals(2, endpoints.size());
+            assertEquals(2, moduleDispatcher.getCallCounter());
+        }
+    }
+
+    @Nested
+    @DisplayName("Eligibility")
+    class EligibilityTests {
+
+        @Test
+        @DisplayName("Should not attach loaders using snapshots or in-memory keys")
+        void shouldRejectIneligibleLoaders() {
+            HttpJwksLoader snapshot = new HttpJwksLoader(HttpJwksLoaderConfig.builder()
+                    .jwksUrl("https://example.com/jwks.json")
+                    .issuerIdentifier(FIRST_ISSUER)
+                    .snapshotFile(Path.of("target", "snapshot.json"))
+                    .build());
+
+            assertFalse(endpoints.attach(snapshot));
+            assertFalse(endpoints.attach(InMemoryJWKSFactory.createDefaultJwksLoader(securityEventCounter)));
+            assertFalse(endpoints.attach(null));
+        }
+
+        @Test
+        @DisplayName("Should not attach a loader twice or after its initialization")
+        void shouldRejectAttachedOrInitializedLoaders(URIBuilder uriBuilder) {
+            String jwksUrl = jwksUrl(uriBuilder);
+            HttpJwksLoader attached = new HttpJwksLoader(config(jwksUrl, FIRST_ISSUER));
+            HttpJwksLoader initialized = new HttpJwksLoader(config(jwksUrl, SECOND_ISSUER));
+            initialized.initJWKSLoader(securityEventCounter).join();
+
+            assertTrue(endpoints.attach(attached));
+            assertFalse(new SharedJwksEndpoints().attach(attached));
+            assertFalse(endpoints.attach(initialized));
+        }
+    }
+
+    @Test
+    @DisplayName("Should load the JWKS once for all issuers of a token validator sharing it")
+    void shouldShareWithinTokenValidator(URIBuilder uriBuilder) {
+        String jwksUrl = jwksUrl(uriBuilder);
+        IssuerConfig first = issuerConfig(jwksUrl, FIRST_ISSUER);
+        IssuerConfig second = issuerConfig(jwksUrl, SECOND_ISSUER);
+        TokenValidator validator = TokenValidator.builder()
+                .issuerConfig(first)
+                .issuerConfig(second)
+                .build();
+
+        await("Issuer initialization").atMost(3, SECONDS)
+                .until(() -> first.isLoaderStatusOK() && second.isLoaderStatusOK());
+
+        assertEquals(FIRST_ISSUER, validator.createAccessToken(tokenOf(FIRST_ISSUER)).getIssuer());
+        assertEquals(SECOND_ISSUER, validator.createAccessToken(tokenOf(SECOND_ISSUER)).getIssuer());
+        assertEquals(1, moduleDispatcher.getCallCounter());
+    }
+
+    private static IssuerConfig issuerConfig(String jwksUrl, String issuer) {
+        return IssuerConfig.builder()
+                .issuerIdentifier(issuer)
+                .expectedAudience(TestTokenHolder.TEST_AUDIENCE)
+                .expectedClientId(TestTokenHolder.TEST_CLIENT_ID)
+                .httpJwksLoaderConfig(config(jwksUrl, issuer))
+                .build();
+    }
+
+    private static String tokenOf(String issuer) {
+        TestTokenHolder tokenHolder = TestTokenGenerators.accessTokens().next();
+        tokenHolder.withClaim(ClaimName.ISSUER.getName(), ClaimValue.forPlainString(issuer));
+        return tokenHolder.getRawToken();
+    }
+}
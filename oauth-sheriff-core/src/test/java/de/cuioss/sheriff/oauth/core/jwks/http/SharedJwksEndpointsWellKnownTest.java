@@ -0,0 +1,193 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.jwks.http;
+
+import de.cuioss.http.client.LoaderStatus;
+import de.cuioss.http.client.retry.RetryStrategy;
+import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
+import de.cuioss.sheriff.oauth.core.test.InMemoryKeyMaterialHandler;
+import de.cuioss.test.juli.junit5.EnableTestLogger;
+import de.cuioss.test.mockwebserver.EnableMockWebServer;
+import de.cuioss.test.mockwebserver.URIBuilder;
+import de.cuioss.test.mockwebserver.dispatcher.HttpMethodMapper;
+import de.cuioss.test.mockwebserver.dispatcher.ModuleDispatcherElement;
+import lombok.Getter;
+import lombok.NonNull;
+import mockwebserver3.MockResponse;
+import mockwebserver3.RecordedRequest;
+import okhttp3.Headers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static jakarta.servlet.http.HttpServletResponse.SC_OK;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests {@link SharedJwksEndpoints} for loaders using well-known discovery: the issuers of one
+ * identity provider announce the same JWKS URI in their discovery documents.
+ *
+ * @author Oliver Wolff
+ */
+@EnableTestLogger
+@EnableMockWebServer
+@DisplayName("Tests SharedJwksEndpoints with well-known discovery")
+class SharedJwksEndpointsWellKnownTest {
+
+    private static final String WELL_KNOWN_PATH = "/.well-known/openid-configuration";
+    private static final String SHARED_JWKS_PATH = "/keys/jwks.json";
+    private static final String OTHER_JWKS_PATH = "/keys/other-jwks.json";
+    private static final String SHARED_KID = "shared-key";
+    private static final String OTHER_KID = "other-key";
+
+    @Getter
+    private final RealmDispatcher moduleDispatcher = new RealmDispatcher();
+
+    private SecurityEventCounter securityEventCounter;
+    private SharedJwksEndpoints endpoints;
+
+    @BeforeEach
+    void setUp() {
+        moduleDispatcher.firstJwksPath = SHARED_JWKS_PATH;
+        moduleDispatcher.jwksCalls.set(0);
+        securityEventCounter = new SecurityEventCounter();
+        endpoints = new SharedJwksEndpoints();
+    }
+
+    private static HttpJwksLoaderConfig config(String wellKnownUrl) {
+        return HttpJwksLoaderConfig.builder()
+                .wellKnownUrl(wellKnownUrl)
+                .refreshIntervalSeconds(0)
+                .retryStrategy(RetryStrategy.none())
+                .build();
+    }
+
+    private static String realmsUrl(URIBuilder uriBuilder) {
+        return uriBuilder.addPathSegment("realms").buildAsString();
+    }
+
+    @Test
+    @DisplayName("Should load a discovered JWKS URI once for all issuers announcing it")
+    void shouldLoadDiscoveredJwksUriOnce(URIBuilder uriBuilder) {
+        String realmsUrl = realmsUrl(uriBuilder);
+        HttpJwksLoader first = new HttpJwksLoader(config(realmsUrl + "/first" + WELL_KNOWN_PATH));
+        HttpJwksLoader second = new HttpJwksLoader(config(realmsUrl + "/second" + WELL_KNOWN_PATH));
+        assertTrue(endpoints.attach(first));
+        assertTrue(endpoints.attach(second));
+
+        assertEquals(LoaderStatus.OK, first.initJWKSLoader(securityEventCounter).join());
+        assertEquals(LoaderStatus.OK, second.initJWKSLoader(securityEventCounter).join());
+
+        assertEquals(1, moduleDispatcher.jwksCalls.get());
+        assertEquals(1, endpoints.size());
+        assertSame(first.getKeyInfo(SHARED_KID).orElseThrow(), second.getKeyInfo(SHARED_KID).orElseThrow());
+        assertEquals(realmsUrl + "/first", first.getIssuerIdentifier().orElseThrow());
+        assertEquals(realmsUrl + "/second", second.getIssuerIdentifier().orElseThrow());
+
+        first.release();
+        assertTrue(first.getKeyInfo(SHARED_KID).isEmpty());
+        assertTrue(second.getKeyInfo(SHARED_KID).isPresent());
+        assertEquals(1, endpoints.size());
+
+        second.release();
+        assertEquals(0, endpoints.size());
+    }
+
+    @Test
+    @DisplayName("Should switch the shared endpoint when the discovered JWKS URI changes")
+    void shouldSwitchEndpointOnReResolution(URIBuilder uriBuilder) {
+        String realmsUrl = realmsUrl(uriBuilder);
+        HttpJwksLoader first = new HttpJwksLoader(HttpJwksLoaderConfig.builder()
+                .wellKnownUrl(realmsUrl + "/first" + WELL_KNOWN_PATH)
+                .refreshIntervalSeconds(1)
+                .refreshJitter(0)
+                .retryStrategy(RetryStrategy.none())
+                .wellKnownResolutionTtl(Duration.ofMillis(100))
+                .build());
+        HttpJwksLoader second = new HttpJwksLoader(config(realmsUrl + "/second" + WELL_KNOWN_PATH));
+        endpoints.attach(first);
+        endpoints.attach(second);
+
+        try (first; second) {
+            assertEquals(LoaderStatus.OK, first.initJWKSLoader(securityEventCounter).join());
+            assertEquals(LoaderStatus.OK, second.initJWKSLoader(securityEventCounter).join());
+            assertEquals(1, endpoints.size());
+
+            moduleDispatcher.firstJwksPath = OTHER_JWKS_PATH;
+
+            await("Keys of the re-resolved JWKS URI").atMost(5, SECONDS)
+                    .until(() -> first.getKeyInfo(OTHER_KID).isPresent());
+            assertTrue(first.getKeyInfo(SHARED_KID).isEmpty());
+            assertTrue(second.getKeyInfo(SHARED_KID).isPresent());
+            assertEquals(2, endpoints.size());
+        }
+        assertEquals(0, endpoints.size());
+    }
+
+    /**
+     * Serves a discovery document for every realm below {@code /realms}. All realms announce the
+     * shared JWKS URI, except the realm {@code first} announcing {@link #firstJwksPath}.
+     */
+    static class RealmDispatcher implements ModuleDispatcherElement {
+
+        volatile String firstJwksPath = SHARED_JWKS_PATH;
+        final AtomicInteger jwksCalls = new AtomicInteger();
+
+        @Override
+        public Optional<MockResponse> handleGet(@NonNull RecordedRequest request) {
+            String path = request.getPath();
+            if (path == null || request.getRequestUrl() == null) {
+                return Optional.empty();
+            }
+            if (path.endsWith(WELL_KNOWN_PATH)) {
+                String url = request.getRequestUrl().toString();
+                String issuer = url.substring(0, url.indexOf(WELL_KNOWN_PATH));
+                String jwksPath = issuer.endsWith("/first") ? firstJwksPath : SHARED_JWKS_PATH;
+                String jwksUri = request.getRequestUrl().resolve(jwksPath).toString();
+                return Optional.of(json("{\"issuer\":\"" + issuer + "\",\"jwks_uri\":\"" + jwksUri + "\"}"));
+            }
+            if (path.endsWith(SHARED_JWKS_PATH)) {
+                jwksCalls.incrementAndGet();
+                return Optional.of(json(InMemoryKeyMaterialHandler.createJwks(InMemoryKeyMaterialHandler.Algorithm.RS256, SHARED_KID)));
+            }
+            if (path.endsWith(OTHER_JWKS_PATH)) {
+                return Optional.of(json(InMemoryKeyMaterialHandler.createJwks(InMemoryKeyMaterialHandler.Algorithm.RS256, OTHER_KID)));
+            }
+            return Optional.empty();
+        }
+
+        private static MockResponse json(String body) {
+            return new MockResponse(SC_OK, Headers.of("Content-Type", "application/json"), body);
+        }
+
+        @Override
+        public String getBaseUrl() {
+            return "";
+        }
+
+        @Override
+        public @NonNull Set<HttpMethodMapper> supportedMethods() {
+            return Set.of(HttpMethodMapper.GET);
+        }
+    }
+}
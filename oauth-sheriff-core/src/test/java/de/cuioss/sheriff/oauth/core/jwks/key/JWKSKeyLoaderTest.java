@@ -16,6 +16,8 @@
 package de.cuioss.sheriff.oauth.core.jwks.key;
 
 import de.cuioss.sheriff.oauth.core.ParserConfig;
+import de.cuioss.sheriff.oauth.core.json.JwkKey;
+import de.cuioss.sheriff.oauth.core.json.Jwks;
 import de.cuioss.sheriff.oauth.core.security.JwkAlgorithmPreferences;
 import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
 import de.cuioss.sheriff.oauth.core.test.InMemoryJWKSFactory;
@@ -28,6 +30,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -158,6 +163,15 @@ class JWKSKeyLoaderTest {
             boolean notEmpty = emptyLoader.isNotEmpty();
             assertFalse(notEmpty, "Loader should report empty when no keys are present");
         }
+
+        @Test
+        @DisplayName("Should expose all keys by key ID")
+        void shouldExposeAllKeys() {
+            var keys = keyLoader.getKeyInfos();
+            assertEquals(1, keys.size(), "Loader should expose its single key");
+            assertSame(keyLoader.getKeyInfo(TEST_KID).orElseThrow(), keys.get(TEST_KID));
+            assertThrows(UnsupportedOperationException.class, keys::clear, "Keys must not be modifiable");
+        }
     }
 
     @Nested
@@ -393,4 +407,66 @@ class JWKSKeyLoaderTest {
                     WARN.EC_KEY_PARSE_FAILED.resolveIdentifierString());
         }
     }
+
+    @Nested
+    @DisplayName("Key Reuse Tests")
+    class KeyReuseTests {
+
+        private Jwks parse(String content) throws IOException {
+            byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+            return ParserConfig.builder().build().getDslJson().deserialize(Jwks.class, bytes, bytes.length);
+        }
+
+        private JWKSKeyLoader load(Jwks jwks, JWKSKeyLoader previous, JwkAlgorithmPreferences preferences) {
+            JWKSKeyLoader loader = JWKSKeyLoader.builder()
+                    .jwksContent(jwks)
+                    .previousKeys(previous)
+                    .jwkAlgorithmPreferences(preferences)
+                    .build();
+            loader.initJWKSLoader(new SecurityEventCounter());
+            return loader;
+        }
+
+        @Test
+        @DisplayName("Should reuse unchanged keys and build changed ones")
+        void shouldReuseUnchangedKeys() throws IOException {
+            Jwks original = parse(InMemoryJWKSFactory.createMultiAlgorithmJwks());
+            JWKSKeyLoader previous = load(original, null, null);
+
+            JwkKey removed = original.keys().getFirst();
+            JwkKey added = parse(InMemoryJWKSFactory.createValidJwksWithKeyId("rotated-kid")).keys().getFirst();
+            List<JwkKey> rotated = new ArrayList<>(original.keys().subList(1, original.keys().size()));
+            rotated.add(added);
+            JWKSKeyLoader current = load(new Jwks(rotated), previous, null);
+
+            for (JwkKey retained : original.keys().subList(1, original.keys().size())) {
+                assertSame(previous.getKeyInfo(retained.kid()).orElseThrow(),
+                        current.getKeyInfo(retained.kid()).orElseThrow(),
+                        "Unchanged key should be reused: " + retained.kid());
+            }
+            assertTrue(current.getKeyInfo("rotated-kid").isPresent(), "Added key should be built");
+            assertFalse(current.getKeyInfo(removed.kid()).isPresent(), "Removed key should be gone");
+        }
+
+        @Test
+        @DisplayName("Should rebuild a key whose material changed under the same key ID")
+        void shouldRebuildChangedKeyMaterial() throws IOException {
+            JWKSKeyLoader previous = load(parse(InMemoryJWKSFactory.createValidJwksWithKeyId(
+                    InMemoryKeyMaterialHandler.Algorithm.RS256, TEST_KID)), null, null);
+            JWKSKeyLoader current = load(parse(InMemoryJWKSFactory.createValidJwksWithKeyId(
+                    InMemoryKeyMaterialHandler.Algorithm.ES256, TEST_KID)), previous, null);
+
+            assertNotEquals(previous.getKeyInfo(TEST_KID).orElseThrow(), current.getKeyInfo(TEST_KID).orElseThrow());
+        }
+
+        @Test
+        @DisplayName("Should not reuse keys across different algorithm preferences")
+        void shouldNotReuseAcrossPreferences() throws IOException {
+            Jwks jwks = parse(InMemoryJWKSFactory.createDefaultJwks());
+            JWKSKeyLoader previous = load(jwks, null, null);
+            JWKSKeyLoader current = load(jwks, previous, new JwkAlgorithmPreferences(List.of("RS256")));
+
+            assertNotSame(previous.getKeyInfo(TEST_KID).orElseThrow(), current.getKeyInfo(TEST_KID).orElseThrow());
+        }
+    }
 }
@@ -44,16 +44,16 @@ class JwkKeyHandlerTest {
                 "RS256",
                 "0vx7agoebGcQSuuPiLJXZptN9nndrQmbXEps2aiAFbWhM78LhWx4cbbfAAtVT86zwu1RK7aPFFxuhDR1L6tSoc_BJECPebWKRXjBZCiFV4n3oknjhMstn64tZ_2W-5JsGY4Hc5n9yBXArwl93lqt7_RN5w6Cf0h4QyQ5v-65YGjQR0_FDW2QvzqY368QQMicAtaSqzs8KJZgnYb9c7d0zgdAZHzu6qMQvRL5hajrn1n91CbOpbISD08qNLyrdkt-bFTWhAI4vMQFh6WeZu0fM4lFd2NcRwr3XPksINHaQ-G_xBniIqbw0Ls1jF44-csFCur-kEgU8awapJzKnqDKgw",
                 "AQAB",
-                null, null, null
+                null, null, null, null
         );
     }
 
     private JwkKey createRsaJwk(String n, String e) {
-        return new JwkKey("RSA", "test-key", null, n, e, null, null, null);
+        return new JwkKey("RSA", "test-key", null, n, e, null, null, null, null);
     }
 
     private JwkKey createEcJwk(String x, String y) {
-        return new JwkKey("EC", "test-key", null, null, null, "P-256", x, y);
+        return new JwkKey("EC", "test-key", null, null, null, "P-256", x, y, null);
     }
 
     @Test
@@ -255,7 +255,7 @@ class JwkKeyHandlerTest {
         // These are example values for P-256 curve (secp256r1)
         String x = "f83OJ3D2xF4P4QJrL6Z4pWQ2vQKj6k1b6QJ6Qn6QJ6Q";
         String y = "x_FEzRu9QJ6Qn6QJ6QJ6Qn6QJ6Qn6QJ6Qn6QJ6Qn6Q";
-        JwkKey jwk = new JwkKey("EC", "test-key", null, null, null, "P-256", x, y);
+        JwkKey jwk = new JwkKey("EC", "test-key", null, null, null, "P-256", x, y, null);
 
         Key key = JwkKeyHandler.parseEcKey(jwk);
 
@@ -265,7 +265,7 @@ class JwkKeyHandlerTest {
 
     @Test
     void shouldRejectEcKeyWithMissingCurve() {
-        JwkKey jwk = new JwkKey("EC", "test-key", null, null, null, null, "validXCoord", "validYCoord");
+        JwkKey jwk = new JwkKey("EC", "test-key", null, null, null, null, "validXCoord", "validYCoord", null);
 
         InvalidKeySpecException exception = assertThrows(
                 InvalidKeySpecException.class,
@@ -278,7 +278,7 @@ class JwkKeyHandlerTest {
 
     @Test
     void shouldRejectEcKeyWithUnsupportedCurve() {
-        JwkKey jwk = new JwkKey("EC", "test-key", null, null, null, "P-192", "validXCoord", "validYCoord");
+        JwkKey jwk = new JwkKey("EC", "test-key", null, null, null, "P-192", "validXCoord", "validYCoord", null);
 
         InvalidKeySpecException exception = assertThrows(
                 InvalidKeySpecException.class,
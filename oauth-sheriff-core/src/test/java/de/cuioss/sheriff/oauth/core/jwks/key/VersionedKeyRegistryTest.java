@@ -0,0 +1,124 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.jwks.key;
+
+import de.cuioss.sheriff.oauth.core.jwks.JwksType;
+import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
+import de.cuioss.sheriff.oauth.core.test.InMemoryJWKSFactory;
+import de.cuioss.sheriff.oauth.core.test.InMemoryKeyMaterialHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests {@link VersionedKeyRegistry}.
+ *
+ * @author Oliver Wolff
+ */
+@DisplayName("Tests VersionedKeyRegistry")
+class VersionedKeyRegistryTest {
+
+    private static final Duration GRACE = Duration.ofMinutes(5);
+
+    private static JWKSKeyLoader keySet(String jwks) {
+        JWKSKeyLoader loader = JWKSKeyLoader.builder()
+                .jwksContent(jwks)
+                .jwksType(JwksType.MEMORY)
+                .build();
+        loader.initJWKSLoader(new SecurityEventCounter());
+        return loader;
+    }
+
+    private static JWKSKeyLoader keys(String... keyIds) {
+        StringBuilder jwks = new StringBuilder("{\"keys\":[");
+        for (int i = 0; i < keyIds.length; i++) {
+            String single = InMemoryJWKSFactory.createValidJwksWithKeyId(keyIds[i]);
+            String key = single.substring(single.indexOf('[') + 1, single.lastIndexOf(']'));
+            jwks.append(i > 0 ? "," : "").append(key);
+        }
+        return keySet(jwks.append("]}").toString());
+    }
+
+    @Test
+    @DisplayName("Should serve the current keys and reject unknown key IDs")
+    void shouldServeCurrentKeys() {
+        VersionedKeyRegistry registry = VersionedKeyRegistry.EMPTY.rotate(keys("current"), Instant.now(), GRACE, 3);
+
+        assertTrue(registry.lookup("current").isPresent());
+        assertTrue(registry.lookup("unknown").isEmpty());
+        assertTrue(registry.lookup(null).isEmpty());
+        assertTrue(VersionedKeyRegistry.EMPTY.lookup("current").isEmpty());
+        assertNull(VersionedKeyRegistry.EMPTY.current());
+    }
+
+    @Test
+    @DisplayName("Should serve retired keys within the grace period only")
+    void shouldServeRetiredKeysWithinGracePeriod() {
+        Instant now = Instant.now();
+        VersionedKeyRegistry registry = VersionedKeyRegistry.EMPTY.rotate(keys("first"), now, GRACE, 3)
+                .rotate(keys("second"), now, GRACE, 3);
+
+        assertTrue(registry.lookup("first").isPresent());
+        assertTrue(registry.lookup("second").isPresent());
+
+        VersionedKeyRegistry expired = VersionedKeyRegistry.EMPTY.rotate(keys("first"), now, GRACE, 3)
+                .rotate(keys("second"), now.minus(GRACE).minusSeconds(1), GRACE, 3);
+        assertTrue(expired.lookup("first").isEmpty(), "Retired key beyond its grace period must not be served");
+        assertTrue(expired.lookup("second").isPresent());
+    }
+
+    @Test
+    @DisplayName("Should discard the replaced keys with zero grace period")
+    void shouldDiscardWithoutGracePeriod() {
+        VersionedKeyRegistry registry = VersionedKeyRegistry.EMPTY.rotate(keys("first"), Instant.now(), Duration.ZERO, 3)
+                .rotate(keys("second"), Instant.now(), Duration.ZERO, 3);
+
+        assertTrue(registry.lookup("first").isEmpty());
+        assertTrue(registry.lookup("second").isPresent());
+    }
+
+    @Test
+    @DisplayName("Should keep at most the configured number of retired key sets")
+    void shouldLimitRetiredKeySets() {
+        Instant now = Instant.now();
+        VersionedKeyRegistry registry = VersionedKeyRegistry.EMPTY;
+        for (String keyId : new String[]{"first", "second", "third", "fourth"}) {
+            registry = registry.rotate(keys(keyId), now, GRACE, 2);
+        }
+
+        assertTrue(registry.lookup("first").isEmpty(), "Oldest retired set exceeds the limit");
+        assertTrue(registry.lookup("second").isPresent());
+        assertTrue(registry.lookup("third").isPresent());
+        assertTrue(registry.lookup("fourth").isPresent());
+    }
+
+    @Test
+    @DisplayName("Should prefer the current key over a retired key with the same ID")
+    void shouldPreferCurrentKey() {
+        JWKSKeyLoader current = keySet(InMemoryJWKSFactory.createValidJwksWithKeyId(
+                InMemoryKeyMaterialHandler.Algorithm.RS384, "shared"));
+        VersionedKeyRegistry registry = VersionedKeyRegistry.EMPTY.rotate(keys("shared", "retired"), Instant.now(), GRACE, 3)
+                .rotate(current, Instant.now(), GRACE, 3);
+
+        assertSame(current.getKeyInfo("shared").orElseThrow(), registry.lookup("shared").orElseThrow());
+        assertTrue(registry.lookup("retired").isPresent());
+        assertSame(current, registry.current());
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.pipeline;
+
+import de.cuioss.sheriff.oauth.core.IssuerConfig;
+import de.cuioss.sheriff.oauth.core.JWTValidationLogMessages;
+import de.cuioss.sheriff.oauth.core.TokenValidator;
+import de.cuioss.sheriff.oauth.core.domain.claim.ClaimName;
+import de.cuioss.sheriff.oauth.core.domain.claim.ClaimValue;
+import de.cuioss.sheriff.oauth.core.domain.token.AccessTokenContent;
+import de.cuioss.sheriff.oauth.core.exception.TokenValidationException;
+import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
+import de.cuioss.sheriff.oauth.core.test.JwtTokenTamperingUtil;
+import de.cuioss.sheriff.oauth.core.test.TestTokenHolder;
+import de.cuioss.sheriff.oauth.core.test.generator.TestTokenGenerators;
+import de.cuioss.test.juli.LogAsserts;
+import de.cuioss.test.juli.TestLogLevel;
+import de.cuioss.test.juli.junit5.EnableTestLogger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link AccessTokenValidationPipeline} via {@link TokenValidator}.
+ */
+@EnableTestLogger
+@DisplayName("AccessTokenValidationPipeline Tests")
+class AccessTokenValidationPipelineTest {
+
+    /**
+     * Payload that cannot be decoded: if the pipeline touched it, validation would fail
+     * with FAILED_TO_DECODE_JWT instead of the expected header-based event.
+     */
+    private static final String UNDECODABLE_PAYLOAD = "!!not-base64!!";
+
+    private TokenValidator tokenValidator;
+    private TestTokenHolder tokenHolder;
+
+    @BeforeEach
+    void setUp() {
+        tokenHolder = TestTokenGenerators.accessTokens().next();
+        tokenValidator = TokenValidator.builder()
+                .issuerConfig(tokenHolder.getIssuerConfig())
+                .build();
+    }
+
+    private static String tokenWithHeader(String headerJson) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(headerJson.getBytes(StandardCharsets.UTF_8))
+                + "." + UNDECODABLE_PAYLOAD + ".c2lnbmF0dXJl";
+    }
+
+    @Test
+    @DisplayName("Should validate a valid access token")
+    void shouldValidateValidToken() {
+        AccessTokenContent result = tokenValidator.createAccessToken(tokenHolder.getRawToken());
+
+        assertNotNull(result);
+        assertEquals(tokenHolder.getRawToken(), result.getRawToken());
+    }
+
+    @Nested
+    @DisplayName("Header-First Pre-Screening Tests")
+    class HeaderPreScreeningTests {
+
+        @Test
+        @DisplayName("Should reject unknown key ID without decoding the payload")
+        void shouldRejectUnknownKeyIdFromHeader() {
+            String token = tokenWithHeader("{\"alg\":\"RS256\",\"typ\":\"JWT\",\"kid\":\"foreign-idp-key\"}");
+
+            TokenValidationException exception = assertThrows(TokenValidationException.class,
+                    () -> tokenValidator.createAccessToken(token));
+
+            assertEquals(SecurityEventCounter.EventType.KEY_NOT_FOUND, exception.getEventType());
+            assertEquals(1, tokenValidator.getSecurityEventCounter().getCount(SecurityEventCounter.EventType.KEY_NOT_FOUND));
+            assertEquals(0, tokenValidator.getSecurityEventCounter().getCount(SecurityEventCounter.EventType.FAILED_TO_DECODE_JWT),
+                    "Payload must not be decoded");
+            LogAsserts.assertLogMessagePresentContaining(TestLogLevel.WARN,
+                    JWTValidationLogMessages.WARN.KEY_NOT_FOUND.resolveIdentifierString());
+        }
+
+        @Test
+        @DisplayName("Should reject disallowed algorithm without decoding the payload")
+        void shouldRejectDisallowedAlgorithmFromHeader() {
+            String kid = tokenHolder.getKeyId();
+            String token = tokenWithHeader("{\"alg\":\"HS256\",\"typ\":\"JWT\",\"kid\":\"" + kid + "\"}");
+
+            TokenValidationException exception = assertThrows(TokenValidationException.class,
+                    () -> tokenValidator.createAccessToken(token));
+
+            assertEquals(SecurityEventCounter.EventType.UNSUPPORTED_ALGORITHM, exception.getEventType());
+            assertEquals(0, tokenValidator.getSecurityEventCounter().getCount(SecurityEventCounter.EventType.FAILED_TO_DECODE_JWT),
+                    "Payload must not be decoded");
+            LogAsserts.assertLogMessagePresentContaining(TestLogLevel.WARN,
+                    JWTValidationLogMessages.WARN.UNSUPPORTED_ALGORITHM.resolveIdentifierString());
+        }
+
+        @Test
+        @DisplayName("Should report malformed token before pre-screening the header")
+        void shouldCheckFormatBeforePreScreening() {
+            String token = tokenWithHeader("{\"alg\":\"RS256\",\"typ\":\"JWT\",\"kid\":\"foreign-idp-key\"}");
+            String twoPartToken = token.substring(0, token.lastIndexOf('.'));
+
+            TokenValidationException exception = assertThrows(TokenValidationException.class,
+                    () -> tokenValidator.createAccessToken(twoPartToken));
+
+            assertEquals(SecurityEventCounter.EventType.INVALID_JWT_FORMAT, exception.getEventType());
+            assertEquals(0, tokenValidator.getSecurityEventCounter().getCount(SecurityEventCounter.EventType.KEY_NOT_FOUND));
+        }
+
+        @Test
+        @DisplayName("Should leave tokens without key ID to the regular validation")
+        void shouldPassTokensWithoutKeyId() {
+            String token = tokenWithHeader("{\"alg\":\"RS256\",\"typ\":\"JWT\"}");
+
+            TokenValidationException exception = assertThrows(TokenValidationException.class,
+                    () -> tokenValidator.createAccessToken(token));
+
+            assertEquals(SecurityEventCounter.EventType.FAILED_TO_DECODE_JWT, exception.getEventType(),
+                    "Without kid the payload is decoded as before");
+        }
+    }
+
+    @Nested
+    @DisplayName("Pre-Signature Claim Check Tests")
+    class PreSignatureClaimCheckTests {
+
+        private TokenValidator validator(boolean preSignatureClaimValidation) {
+            IssuerConfig issuerConfig = IssuerConfig.builder()
+                    .issuerIdentifier(TestTokenHolder.TEST_ISSUER)
+                    .jwksLoader(tokenHolder.getPublicKeyAsLoader())
+                    .expectedAudience(TestTokenHolder.TEST_AUDIENCE)
+                    .expectedClientId(TestTokenHolder.TEST_CLIENT_ID)
+                    .preSignatureClaimValidation(preSignatureClaimValidation)
+                    .build();
+            return TokenValidator.builder().issuerConfig(issuerConfig).build();
+        }
+
+        private void expire() {
+            OffsetDateTime expired = OffsetDateTime.now().minusHours(1);
+            tokenHolder.withClaim(ClaimName.EXPIRATION.getName(),
+                    ClaimValue.forDateTime(String.valueOf(expired.toEpochSecond()), expired));
+        }
+
+        private String forgedExpiredToken() {
+            expire();
+            return JwtTokenTamperingUtil.applyTamperingStrategy(tokenHolder.getRawToken(),
+                    JwtTokenTamperingUtil.TamperingStrategy.MODIFY_SIGNATURE_LAST_CHAR);
+        }
+
+        private static SecurityEventCounter.EventType rejectionOf(TokenValidator validator, String token) {
+            return assertThrows(TokenValidationException.class, () -> validator.createAccessToken(token)).getEventType();
+        }
+
+        @Test
+        @DisplayName("Should reject expired token before signature verification")
+        void shouldRejectExpiredTokenBeforeSignature() {
+            TokenValidator validator = validator(true);
+            String token = forgedExpiredToken();
+
+            assertEquals(SecurityEventCounter.EventType.TOKEN_EXPIRED, rejectionOf(validator, token));
+            assertEquals(1, validator.getSecurityEventCounter().getCount(SecurityEventCounter.EventType.TOKEN_EXPIRED));
+            assertEquals(0, validator.getSecurityEventCounter().getCount(SecurityEventCounter.EventType.SIGNATURE_VALIDATION_FAILED),
+                    "Signature must not be verified");
+        }
+
+        @Test
+        @DisplayName("Should verify signature first by default")
+        void shouldVerifySignatureFirstByDefault() {
+            String token = forgedExpiredToken();
+
+            assertFalse(tokenHolder.getIssuerConfig().isPreSignatureClaimValidation());
+            assertEquals(SecurityEventCounter.EventType.SIGNATURE_VALIDATION_FAILED, rejectionOf(tokenValidator, token));
+            assertEquals(0, tokenValidator.getSecurityEventCounter().getCount(SecurityEventCounter.EventType.TOKEN_EXPIRED));
+        }
+
+        @Test
+        @DisplayName("Should verify signature first when pre-signature claim validation is disabled")
+        void shouldVerifySignatureFirstWhenDisabled() {
+            TokenValidator validator = validator(false);
+            String token = forgedExpiredToken();
+
+            assertEquals(SecurityEventCounter.EventType.SIGNATURE_VALIDATION_FAILED, rejectionOf(validator, token));
+            assertEquals(0, validator.getSecurityEventCounter().getCount(SecurityEventCounter.EventType.TOKEN_EXPIRED));
+        }
+
+        @Test
+        @DisplayName("Should report the same event for expired tokens with valid signature")
+        void shouldReportExpiredTokenWithValidSignature() {
+            TokenValidator validator = validator(true);
+            expire();
+            String token = tokenHolder.getRawToken();
+
+            assertEquals(SecurityEventCounter.EventType.TOKEN_EXPIRED, rejectionOf(validator, token));
+            assertEquals(1, validator.getSecurityEventCounter().getCount(SecurityEventCounter.EventType.TOKEN_EXPIRED),
+                    "Event must be counted exactly once");
+        }
+
+        @ParameterizedTest(name = "preSignatureClaimValidation={0}")
+        @ValueSource(booleans = {true, false})
+        @DisplayName("Should report a missing mandatory claim before the expiration")
+        void shouldReportMissingClaimBeforeExpiration(boolean preSignatureClaimValidation) {
+            TokenValidator validator = validator(preSignatureClaimValidation);
+            expire();
+            tokenHolder.withoutClaim(ClaimName.SUBJECT.getName());
+
+            assertEquals(SecurityEventCounter.EventType.MISSING_CLAIM, rejectionOf(validator, tokenHolder.getRawToken()));
+            assertEquals(0, validator.getSecurityEventCounter().getCount(SecurityEventCounter.EventType.TOKEN_EXPIRED));
+        }
+
+        @ParameterizedTest(name = "preSignatureClaimValidation={0}")
+        @ValueSource(booleans = {true, false})
+        @DisplayName("Should report a mismatching authorized party before the expiration")
+        void shouldReportAuthorizedPartyBeforeExpiration(boolean preSignatureClaimValidation) {
+            TokenValidator validator = validator(preSignatureClaimValidation);
+            expire();
+            tokenHolder.withAuthorizedParty("other-client");
+
+            assertEquals(SecurityEventCounter.EventType.AZP_MISMATCH, rejectionOf(validator, tokenHolder.getRawToken()));
+            assertEquals(0, validator.getSecurityEventCounter().getCount(SecurityEventCounter.EventType.TOKEN_EXPIRED));
+        }
+
+        @ParameterizedTest(name = "preSignatureClaimValidation={0}")
+        @ValueSource(booleans = {true, false})
+        @DisplayName("Should report an audience mismatch before the expiration")
+        void shouldReportAudienceBeforeExpiration(boolean preSignatureClaimValidation) {
+            TokenValidator validator = validator(preSignatureClaimValidation);
+            expire();
+            tokenHolder.withAudience(List.of("other-audience"));
+
+            assertEquals(SecurityEventCounter.EventType.AUDIENCE_MISMATCH, rejectionOf(validator, tokenHolder.getRawToken()));
+            assertEquals(0, validator.getSecurityEventCounter().getCount(SecurityEventCounter.EventType.TOKEN_EXPIRED));
+        }
+    }
+
+    @Nested
+    @DisplayName("Admission Control Tests")
+    class AdmissionControlTests {
+
+        @Test
+        @DisplayName("Should verify signatures through the limiter and bypass it for cache hits")
+        void shouldBypassLimiterForCacheHits() {
+            TokenValidator validator = TokenValidator.builder()
+                    .issuerConfig(tokenHolder.getIssuerConfig())
+                    .signatureVerificationLimiterConfig(SignatureVerificationLimiterConfig.builder()
+                            .overloadStrategy(SignatureVerificationLimiterConfig.OverloadStrategy.FAIL_FAST)
+                            .build())
+                    .build();
+            SignatureVerificationLimiter limiter = validator.getSignatureVerificationLimiter().orElseThrow();
+
+            validator.createAccessToken(tokenHolder.getRawToken());
+            validator.createAccessToken(tokenHolder.getRawToken());
+
+            assertEquals(1, limiter.getAdmittedCount(), "Cache hit must not pass the limiter");
+            assertEquals(0, limiter.getInFlight());
+            assertEquals(1, validator.getSecurityEventCounter().getCount(SecurityEventCounter.EventType.ACCESS_TOKEN_CACHE_HIT));
+        }
+
+        @Test
+        @DisplayName("Should not create a limiter by default")
+        void shouldNotLimitByDefault() {
+            assertTrue(tokenValidator.getSignatureVerificationLimiter().isEmpty());
+        }
+    }
+}
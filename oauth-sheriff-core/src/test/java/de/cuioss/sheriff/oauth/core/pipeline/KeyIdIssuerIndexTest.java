@@ -0,0 +1,337 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.pipeline;
+
+import de.cuioss.http.client.LoaderStatus;
+import de.cuioss.sheriff.oauth.core.IssuerConfig;
+import de.cuioss.sheriff.oauth.core.domain.claim.ClaimName;
+import de.cuioss.sheriff.oauth.core.domain.claim.ClaimValue;
+import de.cuioss.sheriff.oauth.core.jwks.JwksLoader;
+import de.cuioss.sheriff.oauth.core.jwks.JwksType;
+import de.cuioss.sheriff.oauth.core.jwks.key.KeyInfo;
+import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
+import de.cuioss.sheriff.oauth.core.test.TestTokenHolder;
+import de.cuioss.sheriff.oauth.core.test.generator.TestTokenGenerators;
+import de.cuioss.test.juli.junit5.EnableTestLogger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for {@link KeyIdIssuerIndex}.
+ */
+@EnableTestLogger
+@DisplayName("KeyIdIssuerIndex Tests")
+class KeyIdIssuerIndexTest {
+
+    private static IssuerConfig loadedIssuerConfig(String keyId) {
+        TestTokenHolder tokenHolder = TestTokenGenerators.accessTokens().next().withKeyId(keyId);
+        IssuerConfig issuerConfig = tokenHolder.getIssuerConfig();
+        issuerConfig.initSecurityEventCounter(new SecurityEventCounter());
+        return issuerConfig;
+    }
+
+    @Test
+    @DisplayName("Should resolve issuer owning a key ID")
+    void shouldResolveOwningIssuer() {
+        IssuerConfig issuerConfig = loadedIssuerConfig("key-one");
+        KeyIdIssuerIndex index = new KeyIdIssuerIndex(List.of(issuerConfig));
+
+        assertTrue(index.isComplete(), "Index should be complete once all JWKS are loaded");
+        assertTrue(index.isMissConclusive(), "In-memory JWKS are not refreshed on demand");
+        assertEquals(List.of(issuerConfig), index.lookup("key-one"));
+        assertEquals(1, index.size(), "Only the loaded key ID should be indexed");
+    }
+
+    @Test
+    @DisplayName("Should not grow on unknown key IDs")
+    void shouldNotGrowOnUnknownKeyIds() {
+        KeyIdIssuerIndex index = new KeyIdIssuerIndex(List.of(loadedIssuerConfig("key-one")));
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(index.lookup("junk-" + i).isEmpty());
+        }
+        assertEquals(1, index.size(), "Unknown key IDs must not grow the index");
+    }
+
+    @Test
+    @DisplayName("Should route key IDs to the correct issuer")
+    void shouldRouteToCorrectIssuer() {
+        IssuerConfig first = loadedIssuerConfig("key-one");
+        TestTokenHolder otherHolder = TestTokenGenerators.accessTokens().next().withKeyId("key-two");
+        otherHolder.withClaim(ClaimName.ISSUER.getName(), ClaimValue.forPlainString("https://other-issuer"));
+        IssuerConfig second = otherHolder.getIssuerConfig();
+        second.initSecurityEventCounter(new SecurityEventCounter());
+
+        KeyIdIssuerIndex index = new KeyIdIssuerIndex(List.of(first, second));
+
+        assertEquals(List.of(first), index.lookup("key-one"));
+        assertEquals(List.of(second), index.lookup("key-two"));
+    }
+
+    @Test
+    @DisplayName("Should be incomplete while a JWKS is not loaded")
+    void shouldBeIncompleteWhileNotLoaded() {
+        IssuerConfig notLoaded = TestTokenGenerators.accessTokens().next().getIssuerConfig();
+        KeyIdIssuerIndex index = new KeyIdIssuerIndex(List.of(loadedIssuerConfig("key-one"), notLoaded));
+
+        assertFalse(index.isComplete(), "Index must not be complete with an unloaded JWKS");
+        assertTrue(index.lookup("default-key-id").isEmpty(), "Unloaded JWKS must not be probed");
+    }
+
+    @Test
+    @DisplayName("Should ignore disabled issuers")
+    void shouldIgnoreDisabledIssuers() {
+        IssuerConfig disabled = IssuerConfig.builder()
+                .enabled(false)
+                .issuerIdentifier("https://disabled-issuer")
+                .jwksContent("{\"keys\":[]}")
+                .build();
+        KeyIdIssuerIndex index = new KeyIdIssuerIndex(List.of(loadedIssuerConfig("key-one"), disabled));
+
+        assertTrue(index.isComplete(), "Disabled issuers must not affect completeness");
+    }
+
+    @Test
+    @DisplayName("Should route key IDs of issuers registered and unregistered at runtime")
+    void shouldHandleRuntimeRegistration() {
+        IssuerConfig first = loadedIssuerConfig("key-one");
+        TestTokenHolder otherHolder = TestTokenGenerators.accessTokens().next().withKeyId("key-two");
+        otherHolder.withClaim(ClaimName.ISSUER.getName(), ClaimValue.forPlainString("https://other-issuer"));
+        IssuerConfig second = otherHolder.getIssuerConfig();
+        second.initSecurityEventCounter(new SecurityEventCounter());
+        KeyIdIssuerIndex index = new KeyIdIssuerIndex(List.of(first));
+        assertTrue(index.lookup("key-two").isEmpty());
+
+        index.register(second);
+        assertEquals(List.of(second), index.lookup("key-two"));
+
+        index.unregister(second.getIssuerIdentifier());
+        assertTrue(index.lookup("key-two").isEmpty(), "Unregistered issuer must not be resolved");
+        assertEquals(List.of(first), index.lookup("key-one"));
+    }
+
+    @Test
+    @DisplayName("Should index keys appearing after a key rotation")
+    void shouldIndexRotatedKeys() {
+        NotifyingJwksLoader loader = new NotifyingJwksLoader(LoaderStatus.OK, "key-one");
+        IssuerConfig issuerConfig = stubConfig("https://rotating-issuer", loader);
+        KeyIdIssuerIndex index = new KeyIdIssuerIndex(List.of(issuerConfig));
+        assertTrue(index.lookup("key-two").isEmpty());
+
+        loader.rotate("key-two");
+
+        assertEquals(List.of(issuerConfig), index.lookup("key-two"));
+        assertTrue(index.lookup("key-one").isEmpty(), "Retired key ID must not be resolved");
+        assertTrue(index.isComplete());
+    }
+
+    @Test
+    @DisplayName("Should list all issuers once a key ID appears in a second JWKS")
+    void shouldListAllOwnersOfSharedKeyId() {
+        NotifyingJwksLoader firstLoader = new NotifyingJwksLoader(LoaderStatus.OK, "shared-key");
+        NotifyingJwksLoader secondLoader = new NotifyingJwksLoader(LoaderStatus.OK, "other-key");
+        IssuerConfig first = stubConfig("https://first-issuer", firstLoader);
+        IssuerConfig second = stubConfig("https://second-issuer", secondLoader);
+        KeyIdIssuerIndex index = new KeyIdIssuerIndex(List.of(first, second));
+        assertEquals(List.of(first), index.lookup("shared-key"));
+
+        secondLoader.rotate("other-key", "shared-key");
+
+        assertEquals(List.of(first, second), index.lookup("shared-key"));
+    }
+
+    @Test
+    @DisplayName("Should become complete once a JWKS loaded after construction")
+    void shouldBecomeCompleteAfterLoading() {
+        NotifyingJwksLoader loader = new NotifyingJwksLoader(LoaderStatus.LOADING);
+        IssuerConfig issuerConfig = stubConfig("https://slow-issuer", loader);
+        KeyIdIssuerIndex index = new KeyIdIssuerIndex(List.of(issuerConfig));
+        assertFalse(index.isComplete());
+
+        loader.load(LoaderStatus.OK, "key-one");
+
+        assertTrue(index.isComplete(), "Index should be complete once the JWKS is loaded");
+        assertEquals(List.of(issuerConfig), index.lookup("key-one"));
+
+        loader.load(LoaderStatus.ERROR);
+        assertFalse(index.isComplete(), "Index must not be complete with an unhealthy JWKS");
+    }
+
+    @Test
+    @DisplayName("Should not be complete with a loader not notifying key changes")
+    void shouldNotBeCompleteWithoutNotifications() {
+        NotifyingJwksLoader loader = new NotifyingJwksLoader(LoaderStatus.OK, "key-one");
+        loader.notificationsSupported = false;
+        KeyIdIssuerIndex index = new KeyIdIssuerIndex(List.of(stubConfig("https://silent-issuer", loader)));
+
+        assertFalse(index.isComplete(), "Keys of loaders without notifications cannot be indexed");
+        assertTrue(index.lookup("key-one").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should not treat misses as conclusive while an issuer refreshes on demand")
+    void shouldNotConcludeMissesWithOnDemandRefresh() {
+        NotifyingJwksLoader loader = new NotifyingJwksLoader(LoaderStatus.OK, "key-one");
+        loader.refreshedOnDemand = true;
+        KeyIdIssuerIndex index = new KeyIdIssuerIndex(List.of(loadedIssuerConfig("key-two"),
+                stubConfig("https://refreshing-issuer", loader)));
+
+        assertTrue(index.isComplete());
+        assertFalse(index.isMissConclusive(), "Unknown key IDs may appear with the next on-demand refresh");
+        assertEquals(1, index.lookup("key-one").size());
+        assertEquals(0, loader.keyLookups.get(), "The index must never trigger an on-demand refresh");
+    }
+
+    @Test
+    @DisplayName("Should treat misses as conclusive while every on-demand refresh is cooling down")
+    void shouldConcludeMissesWhileCoolingDown() {
+        NotifyingJwksLoader loader = new NotifyingJwksLoader(LoaderStatus.OK, "key-one");
+        loader.refreshedOnDemand = true;
+        loader.coolingDown = true;
+        KeyIdIssuerIndex index = new KeyIdIssuerIndex(List.of(stubConfig("https://refreshing-issuer", loader)));
+
+        assertTrue(index.isMissConclusive(), "No refresh can resolve unknown key IDs within the rate limit");
+
+        loader.coolingDown = false;
+        assertFalse(index.isMissConclusive(), "The rate limit expires without notification");
+        assertEquals(0, loader.keyLookups.get(), "The index must never trigger an on-demand refresh");
+    }
+
+    @Test
+    @DisplayName("Should never be complete with an open set of issuers")
+    void shouldNotBeCompleteWithOpenIssuerSet() {
+        KeyIdIssuerIndex index = new KeyIdIssuerIndex(List.of(loadedIssuerConfig("key-one")), true);
+
+        assertFalse(index.isComplete(), "Unknown key IDs may belong to issuers not instantiated yet");
+        assertFalse(index.isMissConclusive());
+        assertEquals(1, index.lookup("key-one").size());
+    }
+
+    private static IssuerConfig stubConfig(String issuer, JwksLoader loader) {
+        return IssuerConfig.builder()
+                .issuerIdentifier(issuer)
+                .expectedAudience(TestTokenHolder.TEST_AUDIENCE)
+                .jwksLoader(loader)
+                .build();
+    }
+
+    /**
+     * JwksLoader whose keys and status are changed by the test, notifying its listeners like the real loaders.
+     */
+    private static final class NotifyingJwksLoader implements JwksLoader {
+
+        private static final PublicKey PUBLIC_KEY = generatePublicKey();
+
+        private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+        private final AtomicInteger keyLookups = new AtomicInteger();
+        private volatile List<KeyInfo> keys;
+        private volatile LoaderStatus status;
+        boolean notificationsSupported = true;
+        boolean refreshedOnDemand;
+        volatile boolean coolingDown;
+
+        NotifyingJwksLoader(LoaderStatus status, String... keyIds) {
+            this.status = status;
+            this.keys = toKeys(keyIds);
+        }
+
+        void rotate(String... keyIds) {
+            load(LoaderStatus.OK, keyIds);
+        }
+
+        void load(LoaderStatus next, String... keyIds) {
+            keys = toKeys(keyIds);
+            status = next;
+            listeners.forEach(Runnable::run);
+        }
+
+        private static List<KeyInfo> toKeys(String... keyIds) {
+            return Stream.of(keyIds).map(kid -> new KeyInfo(PUBLIC_KEY, "RS256", kid)).toList();
+        }
+
+        private static PublicKey generatePublicKey() {
+            try {
+                KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+                generator.initialize(2048);
+                return generator.generateKeyPair().getPublic();
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public Optional<KeyInfo> getKeyInfo(String kid) {
+            keyLookups.incrementAndGet();
+            return keys.stream().filter(key -> key.keyId().equals(kid)).findFirst();
+        }
+
+        @Override
+        public List<KeyInfo> getAvailableKeys() {
+            return keys;
+        }
+
+        @Override
+        public boolean addKeyChangeListener(Runnable listener) {
+            if (!notificationsSupported) {
+                return false;
+            }
+            listeners.add(listener);
+            return true;
+        }
+
+        @Override
+        public boolean isRefreshedOnDemand() {
+            return refreshedOnDemand;
+        }
+
+        @Override
+        public boolean isOnDemandRefreshAvailable() {
+            return refreshedOnDemand && !coolingDown;
+        }
+
+        @Override
+        public JwksType getJwksType() {
+            return JwksType.MEMORY;
+        }
+
+        @Override
+        public Optional<String> getIssuerIdentifier() {
+            return Optional.empty();
+        }
+
+        @Override
+        public LoaderStatus getLoaderStatus() {
+            return status;
+        }
+
+        @Override
+        public CompletableFuture<LoaderStatus> initJWKSLoader(SecurityEventCounter securityEventCounter) {
+            return CompletableFuture.completedFuture(status);
+        }
+    }
+}
@@ -18,6 +18,7 @@ package de.cuioss.sheriff.oauth.core.pipeline;
 import de.cuioss.sheriff.oauth.core.JWTValidationLogMessages;
 import de.cuioss.sheriff.oauth.core.ParserConfig;
 import de.cuioss.sheriff.oauth.core.exception.TokenValidationException;
+import de.cuioss.sheriff.oauth.core.json.JwtHeader;
 import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
 import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter.EventType;
 import de.cuioss.test.generator.junit.EnableGeneratorController;
@@ -34,7 +35,9 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -104,6 +107,82 @@ class NonValidatingJwtParserTest {
             // Verify raw token
             assertEquals(VALID_TOKEN, jwt.rawToken(), "Raw token should match original");
         }
+
+        @Test
+        @DisplayName("Should decode non-ASCII claim values as UTF-8")
+        void shouldDecodeUtf8ClaimValues() {
+            String header = "{\"alg\":\"RS256\",\"typ\":\"JWT\",\"kid\":\"schlüssel-1\"}";
+            String payload = "{\"sub\":\"1234567890\",\"name\":\"Jürgen Ñandú 日本\",\"iss\":\"https://example.com\"}";
+            String token = Base64.getUrlEncoder().withoutPadding().encodeToString(header.getBytes(StandardCharsets.UTF_8))
+                    + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                    + "." + ENCODED_SIGNATURE;
+
+            DecodedJwt jwt = parser.decode(token);
+
+            assertEquals("schlüssel-1", jwt.getKid().orElse(""), "Key ID should be decoded as UTF-8");
+            assertEquals("Jürgen Ñandú 日本", jwt.getBody().getString("name").orElse(""),
+                    "Claim value should be decoded as UTF-8");
+        }
+    }
+
+    @Nested
+    @DisplayName("Header Screening Tests")
+    class HeaderScreeningTests {
+
+        @Test
+        @DisplayName("Should pass the decoded header to the screen")
+        void shouldPassDecodedHeaderToScreen() {
+            List<JwtHeader> screened = new ArrayList<>();
+            DecodedJwt jwt = parser.decode(VALID_TOKEN, screened::add);
+
+            assertEquals(1, screened.size());
+            assertSame(screened.getFirst(), jwt.getHeader());
+            assertEquals("test-key-id", screened.getFirst().getKid().orElse(""));
+            assertEquals("https://example.com", jwt.getIssuer().orElse(""));
+        }
+
+        @Test
+        @DisplayName("Should screen the header before touching the payload")
+        void shouldScreenBeforePayload() {
+            String token = ENCODED_HEADER + ".!!invalid-payload!!." + ENCODED_SIGNATURE;
+
+            TokenValidationException exception = assertThrows(TokenValidationException.class,
+                    () -> parser.decode(token, header -> {
+                        throw new TokenValidationException(EventType.KEY_NOT_FOUND, "screened");
+                    }));
+
+            assertEquals(EventType.KEY_NOT_FOUND, exception.getEventType());
+        }
+
+        @Test
+        @DisplayName("Should check the part count before screening")
+        void shouldCheckPartCountBeforeScreening() {
+            SecurityEventCounter counter = new SecurityEventCounter();
+            NonValidatingJwtParser countingParser = NonValidatingJwtParser.builder().securityEventCounter(counter).build();
+            List<JwtHeader> screened = new ArrayList<>();
+
+            TokenValidationException exception = assertThrows(TokenValidationException.class,
+                    () -> countingParser.decode(ENCODED_HEADER + "." + ENCODED_PAYLOAD, screened::add));
+
+            assertEquals(EventType.INVALID_JWT_FORMAT, exception.getEventType());
+            assertEquals(1, counter.getCount(EventType.INVALID_JWT_FORMAT));
+            assertTrue(screened.isEmpty(), "Screen must not see malformed tokens");
+        }
+
+        @Test
+        @DisplayName("Should reject undecodable header without screening")
+        void shouldRejectUndecodableHeader() {
+            SecurityEventCounter counter = new SecurityEventCounter();
+            NonValidatingJwtParser countingParser = NonValidatingJwtParser.builder().securityEventCounter(counter).build();
+            List<JwtHeader> screened = new ArrayList<>();
+
+            TokenValidationException exception = assertThrows(TokenValidationException.class,
+                    () -> countingParser.decode("!!." + ENCODED_PAYLOAD + "." + ENCODED_SIGNATURE, screened::add));
+
+            assertEquals(EventType.FAILED_TO_DECODE_JWT, exception.getEventType());
+            assertEquals(1, counter.getCount(EventType.FAILED_TO_DECODE_JWT));
+            assertTrue(screened.isEmpty(), "Screen must not see undecodable headers");
+        }
     }
 
     @Nested
@@ -259,6 +338,22 @@ class NonValidatingJwtParserTest {
                     JWTValidationLogMessages.WARN.TOKEN_SIZE_EXCEEDED.resolveIdentifierString());
         }
 
+        @Test
+        @DisplayName("Should compute token size in UTF-8 bytes")
+        void shouldComputeTokenSizeInUtf8Bytes() {
+            assertFalse(NonValidatingJwtParser.exceedsMaxTokenSize("a".repeat(10), 10));
+            assertTrue(NonValidatingJwtParser.exceedsMaxTokenSize("a".repeat(11), 10));
+            // 'ü' takes two bytes in UTF-8: 5 chars, 10 bytes
+            assertFalse(NonValidatingJwtParser.exceedsMaxTokenSize("üüüüü", 10));
+            assertTrue(NonValidatingJwtParser.exceedsMaxTokenSize("üüüüüa", 10));
+            // '日' takes three bytes in UTF-8: 4 chars, 12 bytes
+            assertTrue(NonValidatingJwtParser.exceedsMaxTokenSize("日日日日", 10));
+            assertFalse(NonValidatingJwtParser.exceedsMaxTokenSize("日日日日", 12));
+            // A surrogate pair takes four bytes in UTF-8: 2 emoji, 8 bytes
+            assertTrue(NonValidatingJwtParser.exceedsMaxTokenSize("\uD83D\uDE00\uD83D\uDE00", 7));
+            assertFalse(NonValidatingJwtParser.exceedsMaxTokenSize("\uD83D\uDE00\uD83D\uDE00", 8));
+        }
+
         @Test
         @DisplayName("Should count DECODED_PART_SIZE_EXCEEDED event")
         void shouldCountDecodedPartSizeExceededEvent() {
@@ -0,0 +1,258 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.pipeline;
+
+import de.cuioss.sheriff.oauth.core.JWTValidationLogMessages;
+import de.cuioss.sheriff.oauth.core.exception.TokenValidationException;
+import de.cuioss.sheriff.oauth.core.pipeline.SignatureVerificationLimiterConfig.OverloadStrategy;
+import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
+import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter.EventType;
+import de.cuioss.test.juli.LogAsserts;
+import de.cuioss.test.juli.TestLogLevel;
+import de.cuioss.test.juli.junit5.EnableTestLogger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for {@link SignatureVerificationLimiter}.
+ * <p>
+ * Nested calls of {@link SignatureVerificationLimiter#execute(Runnable)} occupy permits without
+ * additional threads; the verification latency is controlled by a fake clock.
+ *
+ * @author Oliver Wolff
+ */
+@EnableTestLogger
+@DisplayName("SignatureVerificationLimiter")
+class SignatureVerificationLimiterTest {
+
+    private static final Runnable NOOP = () -> {
+    };
+
+    private final AtomicLong clock = new AtomicLong();
+    private SecurityEventCounter securityEventCounter;
+
+    @BeforeEach
+    void setUp() {
+        clock.set(TimeUnit.HOURS.toNanos(1));
+        securityEventCounter = new SecurityEventCounter();
+    }
+
+    private SignatureVerificationLimiter limiter(SignatureVerificationLimiterConfig config) {
+        return new SignatureVerificationLimiter(config, securityEventCounter, clock::get);
+    }
+
+    private Runnable slowVerification(Duration latency) {
+        return () -> clock.addAndGet(latency.toNanos());
+    }
+
+    @Nested
+    @DisplayName("Admission")
+    class AdmissionTests {
+
+        @Test
+        @DisplayName("Should reject verifications beyond the limit with fail-fast")
+        void shouldRejectBeyondLimit() {
+            var limiter = limiter(SignatureVerificationLimiterConfig.builder()
+                    .initialLimit(1)
+                    .overloadStrategy(OverloadStrategy.FAIL_FAST)
+                    .build());
+
+            limiter.execute(() -> {
+                assertEquals(1, limiter.getInFlight());
+                TokenValidationException exception = assertThrows(TokenValidationException.class,
+                        () -> limiter.execute(NOOP));
+                assertEquals(EventType.SIGNATURE_VERIFICATION_OVERLOADED, exception.getEventType());
+            });
+
+            assertEquals(0, limiter.getInFlight());
+            assertEquals(1, limiter.getAdmittedCount());
+            assertEquals(1, limiter.getRejectedCount());
+            assertEquals(1, securityEventCounter.getCount(EventType.SIGNATURE_VERIFICATION_OVERLOADED));
+            LogAsserts.assertSingleLogMessagePresentContaining(TestLogLevel.WARN,
+                    JWTValidationLogMessages.WARN.SIGNATURE_VERIFICATION_OVERLOADED.format(1, 1));
+        }
+
+        @Test
+        @DisplayName("Should release the permit if the verification fails")
+        void shouldReleasePermitOnFailure() {
+            var limiter = limiter(SignatureVerificationLimiterConfig.builder().initialLimit(1).build());
+            Runnable failing = () -> {
+                throw new TokenValidationException(EventType.SIGNATURE_VALIDATION_FAILED, "invalid");
+            };
+
+            assertThrows(TokenValidationException.class, () -> limiter.execute(failing));
+
+            assertEquals(0, limiter.getInFlight());
+            assertDoesNotThrow(() -> limiter.execute(NOOP));
+        }
+
+        @Test
+        @DisplayName("Should reject after the queue deadline")
+        void shouldRejectAfterQueueDeadline() {
+            var limiter = limiter(SignatureVerificationLimiterConfig.builder()
+                    .initialLimit(1)
+                    .maxLimit(1)
+                    .overloadStrategy(OverloadStrategy.QUEUE)
+                    .maxQueueWait(Duration.ofMillis(10))
+                    .build());
+
+            limiter.execute(() -> assertThrows(TokenValidationException.class, () -> limiter.execute(NOOP)));
+
+            assertEquals(1, limiter.getRejectedCount());
+            assertEquals(0, limiter.getQueued());
+        }
+
+        @Test
+        @DisplayName("Should admit a queued verification once a permit is released")
+        void shouldAdmitQueuedVerification() throws Exception {
+            var limiter = limiter(SignatureVerificationLimiterConfig.builder()
+                    .initialLimit(1)
+                    .maxLimit(1)
+                    .overloadStrategy(OverloadStrategy.QUEUE)
+                    .maxQueueWait(Duration.ofSeconds(10))
+                    .build());
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch finish = new CountDownLatch(1);
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                Future<?> holder = executor.submit(() -> limiter.execute(() -> {
+                    started.countDown();
+                    try {
+                        assertTrue(finish.await(10, TimeUnit.SECONDS));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+                assertTrue(started.await(10, TimeUnit.SECONDS));
+
+                Thread releaser = new Thread(() -> {
+                    while (limiter.getQueued() == 0) {
+                        Thread.onSpinWait();
+                    }
+                    finish.countDown();
+                });
+                releaser.start();
+
+                assertDoesNotThrow(() -> limiter.execute(NOOP));
+                holder.get(10, TimeUnit.SECONDS);
+                releaser.join();
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertEquals(2, limiter.getAdmittedCount());
+            assertEquals(0, limiter.getRejectedCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Adaptive Limit")
+    class AdaptiveLimitTests {
+
+        @Test
+        @DisplayName("Should increase the limit additively up to the maximum")
+        void shouldIncreaseLimit() {
+            var limiter = limiter(SignatureVerificationLimiterConfig.builder()
+                    .initialLimit(2)
+                    .maxLimit(4)
+                    .build());
+
+            limiter.execute(NOOP);
+            limiter.execute(NOOP);
+            assertEquals(2, limiter.getLimit(), "Limit grows by 1/limit per verification");
+
+            for (int i = 0; i < 100; i++) {
+                limiter.execute(NOOP);
+            }
+            assertEquals(4, limiter.getLimit());
+        }
+
+        @Test
+        @DisplayName("Should decrease the limit multiplicatively down to the minimum")
+        void shouldDecreaseLimit() {
+            var limiter = limiter(SignatureVerificationLimiterConfig.builder()
+                    .initialLimit(10)
+                    .minLimit(2)
+                    .maxLimit(10)
+                    .latencyThreshold(Duration.ofMillis(20))
+                    .backoffRatio(0.5)
+                    .build());
+
+            limiter.execute(slowVerification(Duration.ofMillis(50)));
+            assertEquals(5, limiter.getLimit());
+
+            limiter.execute(slowVerification(Duration.ofMillis(50)));
+            limiter.execute(slowVerification(Duration.ofMillis(50)));
+            assertEquals(2, limiter.getLimit());
+        }
+
+        @Test
+        @DisplayName("Should decrease the limit only once for concurrently slow verifications")
+        void shouldDecreaseLimitOncePerRound() {
+            var limiter = limiter(SignatureVerificationLimiterConfig.builder()
+                    .initialLimit(10)
+                    .minLimit(1)
+                    .maxLimit(10)
+                    .latencyThreshold(Duration.ofMillis(20))
+                    .backoffRatio(0.5)
+                    .build());
+            Runnable slow = slowVerification(Duration.ofMillis(50));
+
+            // Three overlapping slow verifications, all started before the first decrease
+            limiter.execute(() -> limiter.execute(() -> limiter.execute(slow)));
+            assertEquals(5, limiter.getLimit());
+
+            // The next round decreases again
+            limiter.execute(slow);
+            assertEquals(2, limiter.getLimit());
+        }
+
+        @Test
+        @DisplayName("Should clamp the initial limit into the configured bounds")
+        void shouldClampInitialLimit() {
+            var limiter = limiter(SignatureVerificationLimiterConfig.builder()
+                    .initialLimit(100)
+                    .maxLimit(8)
+                    .build());
+
+            assertEquals(8, limiter.getLimit());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject inconsistent configurations")
+    void shouldRejectInvalidConfig() {
+        var zeroMin = SignatureVerificationLimiterConfig.builder().minLimit(0).build();
+        var maxBelowMin = SignatureVerificationLimiterConfig.builder().minLimit(4).maxLimit(2).build();
+        var invalidRatio = SignatureVerificationLimiterConfig.builder().backoffRatio(1.0).build();
+
+        assertThrows(IllegalArgumentException.class, () -> new SignatureVerificationLimiter(zeroMin, securityEventCounter));
+        assertThrows(IllegalArgumentException.class, () -> new SignatureVerificationLimiter(maxBelowMin, securityEventCounter));
+        assertThrows(IllegalArgumentException.class, () -> new SignatureVerificationLimiter(invalidRatio, securityEventCounter));
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.pipeline.validator;
+
+import de.cuioss.sheriff.oauth.core.jwks.key.KeyInfo;
+import de.cuioss.sheriff.oauth.core.test.InMemoryKeyMaterialHandler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests {@link KeyTrial}.
+ *
+ * @author Oliver Wolff
+ */
+@DisplayName("Tests KeyTrial")
+class KeyTrialTest {
+
+    private static final KeyInfo FIRST = key("first");
+    private static final KeyInfo SECOND = key("second");
+    private static final KeyInfo THIRD = key("third");
+    private static final List<KeyInfo> KEYS = List.of(FIRST, SECOND, THIRD);
+
+    private static KeyInfo key(String keyId) {
+        return new KeyInfo(InMemoryKeyMaterialHandler.getDefaultPublicKey(), "RS256", keyId);
+    }
+
+    @Test
+    @DisplayName("Should limit candidates to compatible keys in JWKS order")
+    void shouldLimitCandidates() {
+        KeyTrial trial = new KeyTrial(2, 100);
+
+        assertEquals(List.of(FIRST, SECOND), trial.candidates(KEYS, key -> true));
+        assertEquals(List.of(SECOND, THIRD), trial.candidates(KEYS, key -> key != FIRST));
+        assertTrue(trial.candidates(KEYS, key -> false).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should try the most recently successful key first")
+    void shouldPreferRecentSuccess() {
+        KeyTrial trial = new KeyTrial(2, 100);
+
+        trial.recordSuccess(THIRD);
+        assertEquals(List.of(THIRD, FIRST), trial.candidates(KEYS, key -> true));
+
+        trial.recordSuccess(SECOND);
+        assertEquals(List.of(SECOND, THIRD), trial.candidates(KEYS, key -> true));
+    }
+
+    @Test
+    @DisplayName("Should limit trial verifications per second")
+    void shouldLimitTrialsPerSecond() {
+        AtomicLong clock = new AtomicLong();
+        KeyTrial trial = new KeyTrial(3, 2, clock::get);
+
+        assertTrue(trial.tryAcquire());
+        assertTrue(trial.tryAcquire());
+        assertFalse(trial.tryAcquire(), "Third trial within one second must be refused");
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        assertFalse(trial.tryAcquire(), "Window must not be reset before one second");
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertTrue(trial.tryAcquire(), "New window must grant trials again");
+        assertEquals(2, trial.getTrialsPerSecond());
+    }
+}
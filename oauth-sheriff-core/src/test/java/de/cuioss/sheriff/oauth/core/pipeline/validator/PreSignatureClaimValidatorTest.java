@@ -0,0 +1,236 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.pipeline.validator;
+
+import de.cuioss.sheriff.oauth.core.IssuerConfig;
+import de.cuioss.sheriff.oauth.core.JWTValidationLogMessages;
+import de.cuioss.sheriff.oauth.core.domain.claim.ClaimName;
+import de.cuioss.sheriff.oauth.core.domain.claim.ClaimValue;
+import de.cuioss.sheriff.oauth.core.domain.claim.mapper.IdentityMapper;
+import de.cuioss.sheriff.oauth.core.domain.context.ValidationContext;
+import de.cuioss.sheriff.oauth.core.exception.TokenValidationException;
+import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
+import de.cuioss.sheriff.oauth.core.test.TestTokenHolder;
+import de.cuioss.sheriff.oauth.core.test.generator.TestTokenGenerators;
+import de.cuioss.test.juli.LogAsserts;
+import de.cuioss.test.juli.TestLogLevel;
+import de.cuioss.test.juli.junit5.EnableTestLogger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for {@link PreSignatureClaimValidator}.
+ *
+ * @author Oliver Wolff
+ */
+@EnableTestLogger
+@DisplayName("PreSignatureClaimValidator")
+class PreSignatureClaimValidatorTest {
+
+    private SecurityEventCounter securityEventCounter;
+    private TestTokenHolder tokenHolder;
+    private PreSignatureClaimValidator validator;
+    private ValidationContext context;
+
+    @BeforeEach
+    void setup() {
+        securityEventCounter = new SecurityEventCounter();
+        tokenHolder = TestTokenGenerators.accessTokens().next();
+        validator = new PreSignatureClaimValidator(tokenHolder.getIssuerConfig(), securityEventCounter);
+        context = new ValidationContext(60);
+    }
+
+    private static ClaimValue dateTime(OffsetDateTime dateTime) {
+        return ClaimValue.forDateTime(String.valueOf(dateTime.toEpochSecond()), dateTime);
+    }
+
+    @Test
+    @DisplayName("Should pass valid token")
+    void shouldPassValidToken() {
+        assertDoesNotThrow(() -> validator.validate(tokenHolder.asDecodedJwt(), context));
+        assertEquals(0, securityEventCounter.getCount(SecurityEventCounter.EventType.TOKEN_EXPIRED));
+        assertEquals(0, securityEventCounter.getCount(SecurityEventCounter.EventType.AUDIENCE_MISMATCH));
+    }
+
+    @Nested
+    @DisplayName("Expiration")
+    class ExpirationTests {
+
+        @Test
+        @DisplayName("Should reject expired token")
+        void shouldRejectExpiredToken() {
+            tokenHolder.withClaim(ClaimName.EXPIRATION.getName(), dateTime(OffsetDateTime.now().minusHours(1)));
+
+            TokenValidationException exception = assertThrows(TokenValidationException.class,
+                    () -> validator.validate(tokenHolder.asDecodedJwt(), context));
+
+            assertEquals(SecurityEventCounter.EventType.TOKEN_EXPIRED, exception.getEventType());
+            assertTrue(exception.getMessage().contains("Token is expired"));
+            assertEquals(1, securityEventCounter.getCount(SecurityEventCounter.EventType.TOKEN_EXPIRED));
+            LogAsserts.assertLogMessagePresentContaining(TestLogLevel.WARN,
+                    JWTValidationLogMessages.WARN.TOKEN_EXPIRED.resolveIdentifierString());
+        }
+
+        @Test
+        @DisplayName("Should leave missing expiration to the regular validation")
+        void shouldPassMissingExpiration() {
+            tokenHolder.withoutClaim(ClaimName.EXPIRATION.getName());
+
+            assertDoesNotThrow(() -> validator.validate(tokenHolder.asDecodedJwt(), context));
+        }
+
+        @Test
+        @DisplayName("Should skip expiration check for custom claim mapper")
+        void shouldSkipExpirationWithCustomMapper() {
+            tokenHolder.withClaim(ClaimName.EXPIRATION.getName(), dateTime(OffsetDateTime.now().minusHours(1)));
+            IssuerConfig issuerConfig = IssuerConfig.builder()
+                    .issuerIdentifier(TestTokenHolder.TEST_ISSUER)
+                    .jwksLoader(tokenHolder.getPublicKeyAsLoader())
+                    .expectedAudience(TestTokenHolder.TEST_AUDIENCE)
+                    .claimMapper(ClaimName.EXPIRATION.getName(), new IdentityMapper())
+                    .build();
+            var customValidator = new PreSignatureClaimValidator(issuerConfig, securityEventCounter);
+
+            assertDoesNotThrow(() -> customValidator.validate(tokenHolder.asDecodedJwt(), context));
+        }
+    }
+
+    @Nested
+    @DisplayName("Not Before")
+    class NotBeforeTests {
+
+        @Test
+        @DisplayName("Should reject not-before time beyond clock skew")
+        void shouldRejectFutureNotBefore() {
+            tokenHolder.withClaim(ClaimName.NOT_BEFORE.getName(), dateTime(OffsetDateTime.now().plusMinutes(5)));
+
+            TokenValidationException exception = assertThrows(TokenValidationException.class,
+                    () -> validator.validate(tokenHolder.asDecodedJwt(), context));
+
+            assertEquals(SecurityEventCounter.EventType.TOKEN_NBF_FUTURE, exception.getEventType());
+            assertEquals(1, securityEventCounter.getCount(SecurityEventCounter.EventType.TOKEN_NBF_FUTURE));
+            LogAsserts.assertLogMessagePresentContaining(TestLogLevel.WARN,
+                    JWTValidationLogMessages.WARN.TOKEN_NBF_FUTURE.resolveIdentifierString());
+        }
+
+        @Test
+        @DisplayName("Should accept not-before time within clock skew")
+        void shouldAcceptNotBeforeWithinClockSkew() {
+            tokenHolder.withClaim(ClaimName.NOT_BEFORE.getName(), dateTime(OffsetDateTime.now().plusSeconds(30)));
+
+            assertDoesNotThrow(() -> validator.validate(tokenHolder.asDecodedJwt(), context));
+        }
+    }
+
+    @Nested
+    @DisplayName("Audience")
+    class AudienceTests {
+
+        @Test
+        @DisplayName("Should reject mismatching audience")
+        void shouldRejectMismatchingAudience() {
+            tokenHolder.withAudience(List.of("other-audience"));
+
+            TokenValidationException exception = assertThrows(TokenValidationException.class,
+                    () -> validator.validate(tokenHolder.asDecodedJwt(), context));
+
+            assertEquals(SecurityEventCounter.EventType.AUDIENCE_MISMATCH, exception.getEventType());
+            assertEquals(1, securityEventCounter.getCount(SecurityEventCounter.EventType.AUDIENCE_MISMATCH));
+            LogAsserts.assertLogMessagePresentContaining(TestLogLevel.WARN,
+                    JWTValidationLogMessages.WARN.AUDIENCE_MISMATCH.resolveIdentifierString());
+        }
+
+        @Test
+        @DisplayName("Should accept audience list containing the expected audience")
+        void shouldAcceptMatchingAudienceList() {
+            tokenHolder.withAudience(List.of("other-audience", TestTokenHolder.TEST_AUDIENCE));
+
+            assertDoesNotThrow(() -> validator.validate(tokenHolder.asDecodedJwt(), context));
+        }
+
+        @Test
+        @DisplayName("Should leave missing audience to the regular validation")
+        void shouldPassMissingAudience() {
+            tokenHolder.withoutClaim(ClaimName.AUDIENCE.getName());
+
+            assertDoesNotThrow(() -> validator.validate(tokenHolder.asDecodedJwt(), context));
+        }
+
+        @Test
+        @DisplayName("Should check audience before expiration, as the regular validation does")
+        void shouldReportAudienceBeforeExpiration() {
+            tokenHolder.withAudience(List.of("other-audience"));
+            tokenHolder.withClaim(ClaimName.EXPIRATION.getName(), dateTime(OffsetDateTime.now().minusHours(1)));
+
+            TokenValidationException exception = assertThrows(TokenValidationException.class,
+                    () -> validator.validate(tokenHolder.asDecodedJwt(), context));
+
+            assertEquals(SecurityEventCounter.EventType.AUDIENCE_MISMATCH, exception.getEventType());
+            assertEquals(0, securityEventCounter.getCount(SecurityEventCounter.EventType.TOKEN_EXPIRED));
+        }
+    }
+
+    @Nested
+    @DisplayName("Claim Order")
+    class ClaimOrderTests {
+
+        @BeforeEach
+        void expire() {
+            tokenHolder.withClaim(ClaimName.EXPIRATION.getName(), dateTime(OffsetDateTime.now().minusHours(1)));
+        }
+
+        @Test
+        @DisplayName("Should leave token missing a mandatory claim to the regular validation")
+        void shouldPassMissingMandatoryClaim() {
+            tokenHolder.withoutClaim(ClaimName.SUBJECT.getName());
+
+            assertDoesNotThrow(() -> validator.validate(tokenHolder.asDecodedJwt(), context));
+            assertEquals(0, securityEventCounter.getCount(SecurityEventCounter.EventType.TOKEN_EXPIRED));
+        }
+
+        @Test
+        @DisplayName("Should leave token without audience to the regular validation")
+        void shouldPassMissingAudience() {
+            tokenHolder.withoutClaim(ClaimName.AUDIENCE.getName());
+
+            assertDoesNotThrow(() -> validator.validate(tokenHolder.asDecodedJwt(), context));
+        }
+
+        @Test
+        @DisplayName("Should leave token with mismatching authorized party to the regular validation")
+        void shouldPassMismatchingAuthorizedParty() {
+            tokenHolder.withAuthorizedParty("other-client");
+
+            assertDoesNotThrow(() -> validator.validate(tokenHolder.asDecodedJwt(), context));
+        }
+
+        @Test
+        @DisplayName("Should check expiration once all preceding claims are valid")
+        void shouldRejectExpiredTokenWithValidPrecedingClaims() {
+            TokenValidationException exception = assertThrows(TokenValidationException.class,
+                    () -> validator.validate(tokenHolder.asDecodedJwt(), context));
+
+            assertEquals(SecurityEventCounter.EventType.TOKEN_EXPIRED, exception.getEventType());
+        }
+    }
+}
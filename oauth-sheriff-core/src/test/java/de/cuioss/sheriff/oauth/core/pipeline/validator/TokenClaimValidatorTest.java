@@ -22,6 +22,7 @@ import de.cuioss.sheriff.oauth.core.domain.claim.ClaimName;
 import de.cuioss.sheriff.oauth.core.domain.claim.ClaimValue;
 import de.cuioss.sheriff.oauth.core.domain.context.ValidationContext;
 import de.cuioss.sheriff.oauth.core.domain.token.TokenContent;
+import de.cuioss.sheriff.oauth.core.exception.TokenValidationException;
 import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
 import de.cuioss.sheriff.oauth.core.test.InMemoryJWKSFactory;
 import de.cuioss.sheriff.oauth.core.test.TestTokenHolder;
@@ -36,6 +37,9 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -191,4 +195,91 @@ class TokenClaimValidatorTest {
             assertEquals(TokenType.ID_TOKEN, result.getTokenType(), "Token type should be ID_TOKEN");
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Validation Plan")
+    class ValidationPlanTests {
+
+        private static final ClaimValidationStep REJECT_ALL = (token, context) -> {
+            throw new TokenValidationException(SecurityEventCounter.EventType.MISSING_CLAIM, "Rejected by custom step");
+        };
+
+        private IssuerConfig.IssuerConfigBuilder issuerConfigBuilder() {
+            return IssuerConfig.builder()
+                    .issuerIdentifier(TestTokenHolder.TEST_ISSUER)
+                    .jwksContent(InMemoryJWKSFactory.createDefaultJwks())
+                    .expectedAudience(TestTokenHolder.TEST_AUDIENCE)
+                    .expectedClientId(TestTokenHolder.TEST_CLIENT_ID);
+        }
+
+        private TestTokenHolder validToken() {
+            TestTokenHolder tokenHolder = TestTokenGenerators.accessTokens().next();
+            tokenHolder.withClaim(ClaimName.AUTHORIZED_PARTY.getName(), ClaimValue.forPlainString(TestTokenHolder.TEST_CLIENT_ID));
+            return tokenHolder;
+        }
+
+        @Test
+        @DisplayName("Should compile all built-in steps for fully configured issuer")
+        void shouldCompileAllBuiltInSteps() {
+            var validator = createValidator(issuerConfigBuilder().build());
+
+            // mandatory claims, audience, azp, not before, expiration
+            assertEquals(5, validator.getValidationPlanSize());
+        }
+
+        @Test
+        @DisplayName("Should omit audience and azp steps when not configured")
+        void shouldOmitUnconfiguredSteps() {
+            var issuerConfig = IssuerConfig.builder()
+                    .issuerIdentifier(TestTokenHolder.TEST_ISSUER)
+                    .jwksContent(InMemoryJWKSFactory.createDefaultJwks())
+                    .build();
+
+            var validator = createValidator(issuerConfig);
+
+            assertEquals(3, validator.getValidationPlanSize());
+        }
+
+        @Test
+        @DisplayName("Should run custom steps after the built-in steps in order")
+        void shouldRunCustomStepsInOrder() {
+            List<String> invocations = new ArrayList<>();
+            var validator = createValidator(issuerConfigBuilder()
+                    .claimValidationStep((token, context) -> invocations.add("first"))
+                    .claimValidationStep((token, context) -> invocations.add("second"))
+                    .build());
+
+            assertDoesNotThrow(() -> validator.validate(validToken(), VALIDATION_CONTEXT));
+
+            assertEquals(7, validator.getValidationPlanSize());
+            assertEquals(List.of("first", "second"), invocations);
+        }
+
+        @Test
+        @DisplayName("Should reject token by custom step")
+        void shouldRejectByCustomStep() {
+            var validator = createValidator(issuerConfigBuilder().claimValidationStep(REJECT_ALL).build());
+            TestTokenHolder tokenHolder = validToken();
+
+            TokenValidationException exception = assertThrows(TokenValidationException.class,
+                    () -> validator.validate(tokenHolder, VALIDATION_CONTEXT));
+
+            assertEquals("Rejected by custom step", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should not reach custom step when a built-in step rejects")
+        void shouldNotReachCustomStepOnBuiltInRejection() {
+            var validator = createValidator(issuerConfigBuilder().claimValidationStep(REJECT_ALL).build());
+            TestTokenHolder tokenHolder = validToken();
+            OffsetDateTime expired = OffsetDateTime.now().minusHours(1);
+            tokenHolder.withClaim(ClaimName.EXPIRATION.getName(),
+                    ClaimValue.forDateTime(String.valueOf(expired.toEpochSecond()), expired));
+
+            TokenValidationException exception = assertThrows(TokenValidationException.class,
+                    () -> validator.validate(tokenHolder, VALIDATION_CONTEXT));
+
+            assertEquals(SecurityEventCounter.EventType.TOKEN_EXPIRED, exception.getEventType());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.pipeline.validator;
+
+import de.cuioss.sheriff.oauth.core.JWTValidationLogMessages;
+import de.cuioss.sheriff.oauth.core.exception.TokenValidationException;
+import de.cuioss.sheriff.oauth.core.jwks.JwksLoader;
+import de.cuioss.sheriff.oauth.core.jwks.JwksLoaderFactory;
+import de.cuioss.sheriff.oauth.core.pipeline.DecodedJwt;
+import de.cuioss.sheriff.oauth.core.pipeline.NonValidatingJwtParser;
+import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
+import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter.EventType;
+import de.cuioss.sheriff.oauth.core.security.SignatureAlgorithmPreferences;
+import de.cuioss.sheriff.oauth.core.test.InMemoryJWKSFactory;
+import de.cuioss.sheriff.oauth.core.test.InMemoryKeyMaterialHandler;
+import de.cuioss.test.juli.LogAsserts;
+import de.cuioss.test.juli.TestLogLevel;
+import de.cuioss.test.juli.junit5.EnableTestLogger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Signature;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the validation of tokens without "kid" by {@link TokenSignatureValidator} using key trial.
+ *
+ * @author Oliver Wolff
+ */
+@EnableTestLogger
+@DisplayName("Tests TokenSignatureValidator key trial")
+class TokenSignatureValidatorKeyTrialTest {
+
+    private static final String PAYLOAD = "{\"iss\":\"https://example.com\",\"sub\":\"key-trial\"}";
+
+    private SecurityEventCounter securityEventCounter;
+    private NonValidatingJwtParser jwtParser;
+    private JwksLoader jwksLoader;
+
+    @BeforeEach
+    void setUp() {
+        securityEventCounter = new SecurityEventCounter();
+        jwtParser = NonValidatingJwtParser.builder().securityEventCounter(securityEventCounter).build();
+        jwksLoader = JwksLoaderFactory.createInMemoryLoader(InMemoryJWKSFactory.createDefaultJwks());
+        jwksLoader.initJWKSLoader(securityEventCounter);
+    }
+
+    @Test
+    @DisplayName("Should accept token without kid signed by an available key")
+    void shouldAcceptTokenWithoutKid() throws GeneralSecurityException {
+        TokenSignatureValidator validator = validator(3, 100);
+
+        DecodedJwt decodedJwt = jwtParser.decode(signedTokenWithoutKid(PAYLOAD));
+
+        assertDoesNotThrow(() -> validator.validateSignature(decodedJwt));
+        assertEquals(1, securityEventCounter.getCount(EventType.KEY_TRIAL_VERIFICATION));
+    }
+
+    @Test
+    @DisplayName("Should reject token without kid if no key matches")
+    void shouldRejectTamperedTokenWithoutKid() throws GeneralSecurityException {
+        TokenSignatureValidator validator = validator(3, 100);
+        String[] parts = signedTokenWithoutKid(PAYLOAD).split("\\.");
+        String tamperedPayload = encode("{\"iss\":\"https://example.com\",\"sub\":\"tampered\"}");
+
+        DecodedJwt decodedJwt = jwtParser.decode(parts[0] + "." + tamperedPayload + "." + parts[2]);
+
+        var exception = assertThrows(TokenValidationException.class, () -> validator.validateSignature(decodedJwt));
+        assertEquals(EventType.SIGNATURE_VALIDATION_FAILED, exception.getEventType());
+        assertEquals(1, securityEventCounter.getCount(EventType.KEY_TRIAL_VERIFICATION));
+    }
+
+    @Test
+    @DisplayName("Should reject token without kid once the trial rate limit is reached")
+    void shouldRateLimitKeyTrials() throws GeneralSecurityException {
+        TokenSignatureValidator validator = validator(3, 1);
+        DecodedJwt decodedJwt = jwtParser.decode(signedTokenWithoutKid(PAYLOAD));
+
+        assertDoesNotThrow(() -> validator.validateSignature(decodedJwt));
+        var exception = assertThrows(TokenValidationException.class, () -> validator.validateSignature(decodedJwt));
+
+        assertEquals(EventType.KEY_TRIAL_RATE_LIMITED, exception.getEventType());
+        assertEquals(1, securityEventCounter.getCount(EventType.KEY_TRIAL_RATE_LIMITED));
+        LogAsserts.assertLogMessagePresentContaining(TestLogLevel.WARN,
+                JWTValidationLogMessages.WARN.KEY_TRIAL_RATE_LIMITED.resolveIdentifierString());
+    }
+
+    private TokenSignatureValidator validator(int maxKeyTrials, int keyTrialsPerSecond) {
+        return new TokenSignatureValidator(jwksLoader, securityEventCounter, new SignatureAlgorithmPreferences(),
+                maxKeyTrials, keyTrialsPerSecond);
+    }
+
+    private static String signedTokenWithoutKid(String payload) throws GeneralSecurityException {
+        String signingInput = encode("{\"alg\":\"RS256\",\"typ\":\"JWT\"}") + "." + encode(payload);
+        Signature signature = Signature.getInstance("SHA256withRSA");
+        signature.initSign(InMemoryKeyMaterialHandler.getDefaultPrivateKey());
+        signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+        return signingInput + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signature.sign());
+    }
+
+    private static String encode(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
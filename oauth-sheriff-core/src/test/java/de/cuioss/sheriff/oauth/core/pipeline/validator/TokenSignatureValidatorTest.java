@@ -312,6 +312,50 @@ class TokenSignatureValidatorTest {
         assertEquals(initialCount + 1, securityEventCounter.getCount(SecurityEventCounter.EventType.UNSUPPORTED_ALGORITHM));
     }
 
+    @Test
+    @DisplayName("Should reuse the shared verifier for tokens signed with the same key")
+    void shouldReuseSharedVerifier() {
+        JwksLoader jwksLoader = JwksLoaderFactory.createInMemoryLoader(InMemoryJWKSFactory.createDefaultJwks());
+        jwksLoader.initJWKSLoader(securityEventCounter);
+        TokenSignatureValidator validator = new TokenSignatureValidator(jwksLoader, securityEventCounter, new SignatureAlgorithmPreferences());
+        var publicKey = jwksLoader.getKeyInfo(InMemoryJWKSFactory.DEFAULT_KEY_ID).orElseThrow().key();
+        var sharedVerifier = new SharedSignatureVerifier();
+
+        DecodedJwt first = jwtParser.decode(createToken());
+        assertDoesNotThrow(() -> validator.validateSignature(first, sharedVerifier));
+        var signature = sharedVerifier.get("RS256", publicKey);
+        assertNotNull(signature, "Verifier should be held after the first verification");
+
+        // An invalid signature in between must not affect subsequent verifications
+        String validToken = createToken();
+        String[] parts = validToken.split("\\.");
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                .replace("\"sub\":", "\"sub_modified\":");
+        String tamperedToken = parts[0] + "." + Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + "." + parts[2];
+        DecodedJwt tampered = jwtParser.decode(tamperedToken);
+        assertThrows(TokenValidationException.class, () -> validator.validateSignature(tampered, sharedVerifier));
+
+        DecodedJwt second = jwtParser.decode(validToken);
+        assertDoesNotThrow(() -> validator.validateSignature(second, sharedVerifier));
+        assertSame(signature, sharedVerifier.get("RS256", publicKey), "Verifier should be reused");
+    }
+
+    @Test
+    @DisplayName("Should verify the signature with a key resolved in advance")
+    void shouldVerifyWithResolvedKey() {
+        JwksLoader jwksLoader = JwksLoaderFactory.createInMemoryLoader(InMemoryJWKSFactory.createDefaultJwks());
+        jwksLoader.initJWKSLoader(securityEventCounter);
+        TokenSignatureValidator validator = new TokenSignatureValidator(jwksLoader, securityEventCounter, new SignatureAlgorithmPreferences());
+        DecodedJwt decodedJwt = jwtParser.decode(createToken());
+
+        var keyInfo = validator.resolveKey(decodedJwt);
+
+        assertNotNull(keyInfo);
+        assertEquals(InMemoryJWKSFactory.DEFAULT_KEY_ID, keyInfo.keyId());
+        assertDoesNotThrow(() -> validator.validateSignature(decodedJwt, keyInfo, null));
+    }
+
     /**
      * Creates a token without a kid in the header.
      */
@@ -27,6 +27,8 @@ import java.util.concurrent.atomic.AtomicInteger;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Test for {@link SecurityEventCounter}.
@@ -142,4 +144,15 @@ class SecurityEventCounterTest {
         assertEquals(expectedTotal, counter.getCount(SecurityEventCounter.EventType.TOKEN_EMPTY),
                 "Counter should equal total increments from all threads");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should rate limit logging independently of counting")
+    void shouldRateLimitLogging() {
+        var counter = new SecurityEventCounter(SecurityEventLogConfig.builder().maxEventsPerInterval(2).build());
+
+        assertTrue(counter.isLoggingPermitted(SecurityEventCounter.EventType.TOKEN_EXPIRED));
+        assertTrue(counter.isLoggingPermitted(SecurityEventCounter.EventType.TOKEN_EXPIRED));
+        assertFalse(counter.isLoggingPermitted(SecurityEventCounter.EventType.TOKEN_EXPIRED));
+        assertEquals(0, counter.getCount(SecurityEventCounter.EventType.TOKEN_EXPIRED), "Logging checks must not count events");
+    }
+}
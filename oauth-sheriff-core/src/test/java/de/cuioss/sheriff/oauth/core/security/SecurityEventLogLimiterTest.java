@@ -0,0 +1,174 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.core.security;
+
+import de.cuioss.sheriff.oauth.core.JWTValidationLogMessages;
+import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter.EventType;
+import de.cuioss.test.juli.LogAsserts;
+import de.cuioss.test.juli.TestLogLevel;
+import de.cuioss.test.juli.junit5.EnableTestLogger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for {@link SecurityEventLogLimiter}.
+ *
+ * @author Oliver Wolff
+ */
+@EnableTestLogger
+@DisplayName("SecurityEventLogLimiter")
+class SecurityEventLogLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        clock.set(TimeUnit.HOURS.toNanos(1));
+    }
+
+    private SecurityEventLogLimiter limiter(SecurityEventLogConfig config) {
+        return new SecurityEventLogLimiter(config, clock::get);
+    }
+
+    private void advanceSeconds(long seconds) {
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+
+    @Test
+    @DisplayName("Should permit the first events of an interval and suppress the rest")
+    void shouldPermitFirstEventsOnly() {
+        var limiter = limiter(SecurityEventLogConfig.builder().maxEventsPerInterval(3).build());
+
+        assertTrue(limiter.tryAcquire(EventType.TOKEN_EXPIRED));
+        assertTrue(limiter.tryAcquire(EventType.TOKEN_EXPIRED));
+        assertTrue(limiter.tryAcquire(EventType.TOKEN_EXPIRED));
+        assertFalse(limiter.tryAcquire(EventType.TOKEN_EXPIRED));
+        assertFalse(limiter.tryAcquire(EventType.TOKEN_EXPIRED));
+
+        // Buckets are independent per event type
+        assertTrue(limiter.tryAcquire(EventType.AUDIENCE_MISMATCH));
+        LogAsserts.assertNoLogMessagePresent(TestLogLevel.WARN, SecurityEventLogLimiter.class);
+    }
+
+    @Test
+    @DisplayName("Should refill the bucket and log a summary in the next interval")
+    void shouldLogSummaryInNextInterval() {
+        var limiter = limiter(SecurityEventLogConfig.builder()
+                .intervalSeconds(10)
+                .maxEventsPerInterval(1)
+                .build());
+        assertTrue(limiter.tryAcquire(EventType.KEY_NOT_FOUND));
+        assertFalse(limiter.tryAcquire(EventType.KEY_NOT_FOUND));
+        assertFalse(limiter.tryAcquire(EventType.KEY_NOT_FOUND));
+
+        advanceSeconds(10);
+
+        assertTrue(limiter.tryAcquire(EventType.KEY_NOT_FOUND));
+        LogAsserts.assertSingleLogMessagePresentContaining(TestLogLevel.WARN,
+                JWTValidationLogMessages.WARN.SECURITY_EVENTS_SUPPRESSED.format(2, EventType.KEY_NOT_FOUND, 10));
+    }
+
+    @Test
+    @DisplayName("Should flush the summary of an idle event type with the check of another type")
+    void shouldFlushSummaryOnOtherEvent() {
+        var limiter = limiter(SecurityEventLogConfig.builder()
+                .intervalSeconds(10)
+                .maxEventsPerInterval(1)
+                .build());
+        assertTrue(limiter.tryAcquire(EventType.KEY_NOT_FOUND));
+        assertFalse(limiter.tryAcquire(EventType.KEY_NOT_FOUND));
+
+        advanceSeconds(10);
+
+        assertTrue(limiter.tryAcquire(EventType.TOKEN_EXPIRED));
+        LogAsserts.assertSingleLogMessagePresentContaining(TestLogLevel.WARN,
+                JWTValidationLogMessages.WARN.SECURITY_EVENTS_SUPPRESSED.format(1, EventType.KEY_NOT_FOUND, 10));
+    }
+
+    @Test
+    @DisplayName("Should flush the summary once the interval has passed without further events")
+    void shouldFlushSummaryWithoutEvents() {
+        var limiter = limiter(SecurityEventLogConfig.builder()
+                .intervalSeconds(10)
+                .maxEventsPerInterval(1)
+                .build());
+        assertTrue(limiter.tryAcquire(EventType.KEY_NOT_FOUND));
+        assertFalse(limiter.tryAcquire(EventType.KEY_NOT_FOUND));
+
+        limiter.flushSummaries();
+        LogAsserts.assertNoLogMessagePresent(TestLogLevel.WARN, SecurityEventLogLimiter.class);
+
+        advanceSeconds(10);
+        limiter.flushSummaries();
+        limiter.flushSummaries();
+
+        LogAsserts.assertSingleLogMessagePresentContaining(TestLogLevel.WARN,
+                JWTValidationLogMessages.WARN.SECURITY_EVENTS_SUPPRESSED.format(1, EventType.KEY_NOT_FOUND, 10));
+    }
+
+    @Test
+    @DisplayName("Should not log a summary if nothing was suppressed")
+    void shouldNotLogEmptySummary() {
+        var limiter = limiter(SecurityEventLogConfig.builder().maxEventsPerInterval(5).build());
+        assertTrue(limiter.tryAcquire(EventType.TOKEN_EMPTY));
+
+        advanceSeconds(SecurityEventLogConfig.DEFAULT_INTERVAL_SECONDS);
+
+        assertTrue(limiter.tryAcquire(EventType.TOKEN_EMPTY));
+        LogAsserts.assertNoLogMessagePresent(TestLogLevel.WARN, SecurityEventLogLimiter.class);
+    }
+
+    @Test
+    @DisplayName("Should apply category limits")
+    void shouldApplyCategoryLimits() {
+        var limiter = limiter(SecurityEventLogConfig.builder()
+                .maxEventsPerInterval(1)
+                .categoryLimit(EventCategory.INVALID_SIGNATURE, 0)
+                .categoryLimit(EventCategory.INVALID_STRUCTURE, SecurityEventLogConfig.UNLIMITED)
+                .build());
+
+        assertFalse(limiter.tryAcquire(EventType.SIGNATURE_VALIDATION_FAILED));
+        assertTrue(limiter.tryAcquire(EventType.TOKEN_EXPIRED));
+        assertFalse(limiter.tryAcquire(EventType.TOKEN_EXPIRED));
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(limiter.tryAcquire(EventType.INVALID_JWT_FORMAT));
+        }
+    }
+
+    @Test
+    @DisplayName("Should permit everything when unlimited")
+    void shouldPermitEverythingWhenUnlimited() {
+        var limiter = limiter(SecurityEventLogConfig.unlimited());
+
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(limiter.tryAcquire(EventType.TOKEN_EXPIRED));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive interval")
+    void shouldRejectNonPositiveInterval() {
+        var config = SecurityEventLogConfig.builder().intervalSeconds(0).build();
+
+        assertThrows(IllegalArgumentException.class, () -> new SecurityEventLogLimiter(config));
+    }
+}
@@ -27,8 +27,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -231,4 +234,70 @@ class HttpWellKnownResolverTest {
         assertNotNull(wellKnown.getJwksUri(), "JWKS URI should be present in result");
         assertNotNull(wellKnown.getAuthorizationEndpoint(), "Authorization endpoint should be present in result");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should serve the cached document while re-resolving in the background")
+    void shouldReResolveStaleDocumentInBackground(URIBuilder uriBuilder) {
+        moduleDispatcher.returnDefault();
+
+        String wellKnownUrl = uriBuilder.addPathSegment(".well-known")
+                .addPathSegment("openid-configuration").buildAsString();
+
+        WellKnownConfig config = WellKnownConfig.builder()
+                .wellKnownUrl(wellKnownUrl)
+                .retryStrategy(RetryStrategy.none())
+                .build();
+
+        resolver = config.createResolver(Duration.ofMillis(50));
+
+        Optional<WellKnownResult> first = resolver.resolve().join();
+        assertTrue(first.isPresent(), "Initial resolution should succeed");
+        assertEquals(1, moduleDispatcher.getCallCounter());
+
+        // A failing re-resolution must not replace the last valid document
+        moduleDispatcher.returnError();
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertEquals(first, resolver.resolve().join(), "Stale document should be served");
+            assertTrue(moduleDispatcher.getCallCounter() > 1, "Stale document should be re-resolved");
+        });
+    }
+
+    @Test
+    @DisplayName("Should notify listeners if the discovered endpoints change")
+    void shouldNotifyListenersOnChange(URIBuilder uriBuilder) {
+        moduleDispatcher.returnDefault();
+
+        String wellKnownUrl = uriBuilder.addPathSegment(".well-known")
+                .addPathSegment("openid-configuration").buildAsString();
+
+        WellKnownConfig config = WellKnownConfig.builder()
+                .wellKnownUrl(wellKnownUrl)
+                .retryStrategy(RetryStrategy.none())
+                .build();
+
+        resolver = config.createResolver(Duration.ofMillis(50));
+        AtomicReference<WellKnownResult> changed = new AtomicReference<>();
+        resolver.addChangeListener(changed::set);
+
+        Optional<WellKnownResult> first = resolver.resolve().join();
+        assertTrue(first.isPresent(), "Initial resolution should succeed");
+        assertNull(changed.get(), "Initial resolution is no change");
+
+        moduleDispatcher.returnInvalidIssuer();
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            resolver.resolve();
+            assertNotNull(changed.get(), "Listener should be notified about the changed document");
+        });
+        assertNotEquals(first.get().getIssuer(), changed.get().getIssuer());
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive resolution TTL")
+    void shouldRejectInvalidResolutionTtl() {
+        WellKnownConfig config = WellKnownConfig.builder()
+                .wellKnownUrl("https://example.com/.well-known/openid-configuration")
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> config.createResolver(Duration.ZERO));
+    }
+}
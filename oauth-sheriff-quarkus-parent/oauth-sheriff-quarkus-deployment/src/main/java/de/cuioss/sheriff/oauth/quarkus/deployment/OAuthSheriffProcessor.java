@@ -44,7 +44,9 @@ import de.cuioss.sheriff.oauth.quarkus.interceptor.BearerTokenInterceptor;
 import de.cuioss.sheriff.oauth.quarkus.logging.CustomAccessLogFilter;
 import de.cuioss.sheriff.oauth.quarkus.metrics.JwtMetricsCollector;
 import de.cuioss.sheriff.oauth.quarkus.producer.BearerTokenProducer;
+import de.cuioss.sheriff.oauth.quarkus.producer.ReactiveTokenValidator;
 import de.cuioss.sheriff.oauth.quarkus.producer.TokenValidatorProducer;
+import de.cuioss.sheriff.oauth.quarkus.producer.TokenValidatorWarmupService;
 import de.cuioss.sheriff.oauth.quarkus.servlet.VertxServletObjectsResolver;
 import de.cuioss.tools.logging.CuiLogger;
 import de.cuioss.tools.logging.LogRecord;
@@ -239,6 +241,7 @@ public class OAuthSheriffProcessor {
                 "de.cuioss.sheriff.oauth.core.json._WellKnownConfiguration_DslJsonConverter",
                 "de.cuioss.sheriff.oauth.core.json._Jwks_DslJsonConverter",
                 "de.cuioss.sheriff.oauth.core.json._JwkKey_DslJsonConverter",
+                "de.cuioss.sheriff.oauth.core.json._JwksSnapshot_DslJsonConverter",
                 "de.cuioss.sheriff.oauth.core.json._JwtHeader_DslJsonConverter"));
     }
 
@@ -277,6 +280,8 @@ public class OAuthSheriffProcessor {
                 .addBeanClasses(
                         TokenValidatorProducer.class,
                         BearerTokenProducer.class,
+                        ReactiveTokenValidator.class,
+                        TokenValidatorWarmupService.class,
                         de.cuioss.sheriff.oauth.quarkus.config.IssuerConfigResolver.class,
                         ParserConfigResolver.class,
                         VertxServletObjectsResolver.class,
@@ -189,6 +189,14 @@ public final class OAuthSheriffQuarkusLogMessages {
                 .prefix(PREFIX)
                 .identifier(66)
                 .build();
+
+        // Warmup Messages (067-070)
+
+        public static final LogRecord STARTING_TOKEN_VALIDATOR_WARMUP = LogRecordModel.builder()
+                .template("Starting background JIT warmup of the token validation")
+                .prefix(PREFIX)
+                .identifier(67)
+                .build();
     }
 
     /**
@@ -248,6 +256,14 @@ public final class OAuthSheriffQuarkusLogMessages {
                 .prefix(PREFIX)
                 .identifier(136)
                 .build();
+
+        // Warmup Warnings (137-140)
+
+        public static final LogRecord TOKEN_VALIDATOR_WARMUP_FAILED = LogRecordModel.builder()
+                .template("JIT warmup of the token validation failed, continuing without warmup: %s")
+                .prefix(PREFIX)
+                .identifier(137)
+                .build();
     }
 
     /**
@@ -20,12 +20,14 @@ import de.cuioss.http.client.retry.RetryStrategy;
 import de.cuioss.sheriff.oauth.core.IssuerConfig;
 import de.cuioss.sheriff.oauth.core.domain.claim.mapper.KeycloakDefaultGroupsMapper;
 import de.cuioss.sheriff.oauth.core.domain.claim.mapper.KeycloakDefaultRolesMapper;
+import de.cuioss.sheriff.oauth.core.jwks.file.FileJwksLoaderConfig;
 import de.cuioss.sheriff.oauth.core.jwks.http.HttpJwksLoaderConfig;
 import de.cuioss.sheriff.oauth.core.security.SignatureAlgorithmPreferences;
 import de.cuioss.tools.logging.CuiLogger;
 import org.eclipse.microprofile.config.Config;
 import org.jspecify.annotations.Nullable;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -58,6 +60,11 @@ public class IssuerConfigResolver {
 
     private static final CuiLogger LOGGER = new CuiLogger(IssuerConfigResolver.class);
 
+    /**
+     * Prefix of JWKS file locations resolved from the classpath, these cannot be watched.
+     */
+    private static final String CLASSPATH_PREFIX = "classpath:";
+
     private final Config config;
     private final RetryStrategy retryStrategy;
 
@@ -188,6 +195,8 @@ public class IssuerConfigResolver {
         configureClientId(builder, issuerName);
         configureAlgorithmPreferences(builder, issuerName);
         configureClaimSubOptional(builder, issuerName);
+        configurePreSignatureClaimValidation(builder, issuerName);
+        configureKeyTrial(builder, issuerName);
 
         // Configure JWKS source (mutually exclusive)
         configureJwksSource(builder, issuerName);
@@ -289,6 +298,37 @@ public class IssuerConfigResolver {
         }
     }
 
+    /**
+     * Configures the pre-signature claim validation flag from properties.
+     */
+    private void configurePreSignatureClaimValidation(IssuerConfig.IssuerConfigBuilder builder, String issuerName) {
+        Optional<Boolean> preSignatureClaimValidation = config.getOptionalValue(
+                JwtPropertyKeys.ISSUERS.PRE_SIGNATURE_CLAIM_VALIDATION.formatted(issuerName),
+                Boolean.class
+        );
+
+        if (preSignatureClaimValidation.isPresent()) {
+            builder.preSignatureClaimValidation(preSignatureClaimValidation.get());
+            LOGGER.debug("Set pre-signature claim validation for %s: %s", issuerName, preSignatureClaimValidation.get());
+        }
+    }
+
+    /**
+     * Configures the key trial for tokens without key identifier from properties.
+     */
+    private void configureKeyTrial(IssuerConfig.IssuerConfigBuilder builder, String issuerName) {
+        config.getOptionalValue(JwtPropertyKeys.ISSUERS.MAX_KEY_TRIALS.formatted(issuerName), Integer.class)
+                .ifPresent(maxKeyTrials -> {
+                    builder.maxKeyTrials(maxKeyTrials);
+                    LOGGER.debug("Set max key trials for %s: %s", issuerName, maxKeyTrials);
+                });
+        config.getOptionalValue(JwtPropertyKeys.ISSUERS.KEY_TRIALS_PER_SECOND.formatted(issuerName), Integer.class)
+                .ifPresent(keyTrialsPerSecond -> {
+                    builder.keyTrialsPerSecond(keyTrialsPerSecond);
+                    LOGGER.debug("Set key trials per second for %s: %s", issuerName, keyTrialsPerSecond);
+                });
+    }
+
     /**
      * Configures the JWKS source for the issuer.
      * <p>
@@ -338,8 +378,17 @@ public class IssuerConfigResolver {
             }
 
         } else if (filePath.isPresent()) {
-            builder.jwksFilePath(filePath.get());
-            LOGGER.debug("Configured JWKS file path for %s: %s", issuerName, filePath.get());
+            boolean watch = config.getOptionalValue(
+                    JwtPropertyKeys.ISSUERS.JWKS_FILE_WATCH.formatted(issuerName),
+                    Boolean.class
+            ).orElse(false);
+            if (watch) {
+                builder.fileJwksLoaderConfig(createFileJwksLoaderConfig(issuerName, filePath.get()));
+                LOGGER.debug("Configured watched JWKS file for %s: %s", issuerName, filePath.get());
+            } else {
+                builder.jwksFilePath(filePath.get());
+                LOGGER.debug("Configured JWKS file path for %s: %s", issuerName, filePath.get());
+            }
 
         } else if (content.isPresent()) {
             builder.jwksContent(content.get());
@@ -347,6 +396,35 @@ public class IssuerConfigResolver {
         }
     }
 
+    /**
+     * Creates a FileJwksLoaderConfig for a watched JWKS file.
+     * <p>
+     * Uses builder defaults for optional values, letting the builder handle validation.
+     * </p>
+     *
+     * @throws IllegalArgumentException if the file path is a {@code classpath:} location
+     */
+    private FileJwksLoaderConfig createFileJwksLoaderConfig(String issuerName, String filePath) {
+        if (filePath.startsWith(CLASSPATH_PREFIX)) {
+            throw new IllegalArgumentException("JWKS file of issuer '%s' cannot be watched, classpath locations are no file system paths: %s"
+                    .formatted(issuerName, filePath));
+        }
+        FileJwksLoaderConfig.FileJwksLoaderConfigBuilder builder = FileJwksLoaderConfig.builder()
+                .file(Path.of(filePath));
+
+        config.getOptionalValue(
+                JwtPropertyKeys.ISSUERS.JWKS_FILE_POLL_INTERVAL_SECONDS.formatted(issuerName),
+                Integer.class
+        ).ifPresent(seconds -> builder.pollInterval(Duration.ofSeconds(seconds)));
+
+        config.getOptionalValue(
+                JwtPropertyKeys.ISSUERS.JWKS_FILE_KEY_ROTATION_GRACE_PERIOD_SECONDS.formatted(issuerName),
+                Integer.class
+        ).ifPresent(seconds -> builder.keyRotationGracePeriod(Duration.ofSeconds(seconds)));
+
+        return builder.build();
+    }
+
     /**
      * Creates an HttpJwksLoaderConfig for HTTP-based JWKS loading.
      * <p>
@@ -411,6 +489,55 @@ public class IssuerConfigResolver {
             LOGGER.debug("Set max retired key sets for %s: %s", issuerName, maxRetiredSets.get());
         }
 
+        // Configure the on-demand refresh for unknown key IDs
+        config.getOptionalValue(
+                JwtPropertyKeys.ISSUERS.ON_DEMAND_REFRESH_INTERVAL_SECONDS.formatted(issuerName),
+                Integer.class
+        ).ifPresent(seconds -> builder.onDemandRefreshInterval(Duration.ofSeconds(seconds)));
+
+        config.getOptionalValue(
+                JwtPropertyKeys.ISSUERS.ON_DEMAND_REFRESH_WAIT_MS.formatted(issuerName),
+                Long.class
+        ).ifPresent(millis -> builder.onDemandRefreshWait(Duration.ofMillis(millis)));
+
+        // Configure the adaptive scheduling of background refreshes
+        config.getOptionalValue(
+                JwtPropertyKeys.ISSUERS.MIN_REFRESH_INTERVAL_SECONDS.formatted(issuerName),
+                Integer.class
+        ).ifPresent(seconds -> builder.minRefreshInterval(Duration.ofSeconds(seconds)));
+
+        config.getOptionalValue(
+                JwtPropertyKeys.ISSUERS.MAX_REFRESH_INTERVAL_SECONDS.formatted(issuerName),
+                Integer.class
+        ).ifPresent(seconds -> builder.maxRefreshInterval(Duration.ofSeconds(seconds)));
+
+        config.getOptionalValue(
+                JwtPropertyKeys.ISSUERS.REFRESH_JITTER.formatted(issuerName),
+                Double.class
+        ).ifPresent(builder::refreshJitter);
+
+        // Configure the persistent JWKS snapshot
+        config.getOptionalValue(
+                JwtPropertyKeys.ISSUERS.SNAPSHOT_FILE.formatted(issuerName),
+                String.class
+        ).ifPresent(file -> builder.snapshotFile(Path.of(file)));
+
+        config.getOptionalValue(
+                JwtPropertyKeys.ISSUERS.SNAPSHOT_MAX_STALE_SECONDS.formatted(issuerName),
+                Long.class
+        ).ifPresent(seconds -> builder.snapshotMaxStale(Duration.ofSeconds(seconds)));
+
+        // Configure the JWKS exchange between the processes of the host
+        config.getOptionalValue(
+                JwtPropertyKeys.ISSUERS.EXCHANGE_FILE.formatted(issuerName),
+                String.class
+        ).ifPresent(file -> builder.exchangeFile(Path.of(file)));
+
+        config.getOptionalValue(
+                JwtPropertyKeys.ISSUERS.EXCHANGE_POLL_INTERVAL_MS.formatted(issuerName),
+                Long.class
+        ).ifPresent(millis -> builder.exchangePollInterval(Duration.ofMillis(millis)));
+
         // Set the retry strategy
         builder.retryStrategy(retryStrategy);
 
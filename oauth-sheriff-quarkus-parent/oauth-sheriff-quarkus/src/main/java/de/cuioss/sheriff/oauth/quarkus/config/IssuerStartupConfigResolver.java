@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.quarkus.config;
+
+import de.cuioss.sheriff.oauth.core.IssuerStartupConfig;
+import de.cuioss.tools.logging.CuiLogger;
+import lombok.RequiredArgsConstructor;
+import org.eclipse.microprofile.config.Config;
+
+import java.time.Duration;
+
+import static de.cuioss.sheriff.oauth.quarkus.config.JwtPropertyKeys.STARTUP;
+
+/**
+ * Resolves {@link IssuerStartupConfig} from Quarkus configuration.
+ * <p>
+ * Reads the maximum number of issuers loading at the same time, the startup deadline and
+ * the lazy activation settings, using the library defaults for properties not configured.
+ *
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+public class IssuerStartupConfigResolver {
+
+    private static final CuiLogger LOGGER = new CuiLogger(IssuerStartupConfigResolver.class);
+
+    private final Config config;
+
+    /**
+     * Resolves the issuer startup configuration from the Quarkus configuration.
+     *
+     * @return The resolved configuration, never null
+     */
+    public IssuerStartupConfig resolveIssuerStartupConfig() {
+        var builder = IssuerStartupConfig.builder();
+        config.getOptionalValue(STARTUP.MAX_CONCURRENT_INITIALIZATIONS, Integer.class)
+                .ifPresent(builder::maxConcurrentInitializations);
+        config.getOptionalValue(STARTUP.DEADLINE_SECONDS, Long.class)
+                .ifPresent(seconds -> builder.startupDeadline(Duration.ofSeconds(seconds)));
+        config.getOptionalValue(STARTUP.LAZY_ACTIVATION, Boolean.class)
+                .ifPresent(builder::lazyActivation);
+        config.getOptionalValue(STARTUP.IDLE_TIMEOUT_SECONDS, Long.class)
+                .ifPresent(seconds -> builder.idleTimeout(Duration.ofSeconds(seconds)));
+        config.getOptionalValue(STARTUP.MAX_ACTIVE_ISSUERS, Integer.class)
+                .ifPresent(builder::maxActiveIssuers);
+
+        IssuerStartupConfig startupConfig = builder.build();
+        LOGGER.debug("Resolved issuer startup configuration: %s", startupConfig);
+        return startupConfig;
+    }
+}
@@ -207,6 +207,49 @@ public final class JwtPropertyKeys {
          */
         public static final String CLAIM_SUB_OPTIONAL = BASE + "claim-sub-optional";
 
+        /**
+         * Whether cheap claim checks are performed before the signature verification.
+         * Template: "sheriff.oauth.issuers.%s.pre-signature-claim-validation"
+         * <p>
+         * When set to {@code true}, access tokens with a mismatching "aud", a future "nbf" or an
+         * expired "exp" claim are rejected before the expensive signature verification. Forged tokens
+         * violating one of these claims are then reported by their claim violation instead of a
+         * signature failure.
+         * </p>
+         * <p>
+         * Default value is {@code false}.
+         * </p>
+         *
+         * @see de.cuioss.sheriff.oauth.core.IssuerConfig#isPreSignatureClaimValidation()
+         */
+        public static final String PRE_SIGNATURE_CLAIM_VALIDATION = BASE + "pre-signature-claim-validation";
+
+        /**
+         * The maximum number of keys tried for tokens without "kid" and "x5t#S256".
+         * Template: "sheriff.oauth.issuers.%s.max-key-trials"
+         * <p>
+         * Such tokens are verified against at most this many keys compatible with their algorithm,
+         * the most recently successful keys first. With {@code 0} these tokens are rejected.
+         * </p>
+         * <p>
+         * Default value is {@code 0}.
+         * </p>
+         *
+         * @see de.cuioss.sheriff.oauth.core.IssuerConfig#getMaxKeyTrials()
+         */
+        public static final String MAX_KEY_TRIALS = BASE + "max-key-trials";
+
+        /**
+         * The maximum number of key trial verifications per second for the issuer.
+         * Template: "sheriff.oauth.issuers.%s.key-trials-per-second"
+         * <p>
+         * Default value is {@value de.cuioss.sheriff.oauth.core.IssuerConfig#DEFAULT_KEY_TRIALS_PER_SECOND}.
+         * </p>
+         *
+         * @see de.cuioss.sheriff.oauth.core.IssuerConfig#getKeyTrialsPerSecond()
+         */
+        public static final String KEY_TRIALS_PER_SECOND = BASE + "key-trials-per-second";
+
         // === JWKS Source Configuration (Mutually Exclusive) ===
 
         /**
@@ -261,6 +304,62 @@ public final class JwtPropertyKeys {
          */
         public static final String JWKS_FILE_PATH = JWKS_BASE + "file-path";
 
+        /**
+         * Whether the JWKS file is watched and reloaded whenever it changes.
+         * Template: "sheriff.oauth.issuers.%s.jwks.file-watch"
+         * <p>
+         * If enabled, the file configured by {@link #JWKS_FILE_PATH} is loaded by a
+         * {@link de.cuioss.sheriff.oauth.core.jwks.file.FileJwksLoader}, which reloads it atomically
+         * when it changes, e.g. when a mounted Kubernetes secret is rotated. Otherwise the file is
+         * read once on startup.
+         * </p>
+         * <p>
+         * Default value is {@code false}.
+         * </p>
+         * <p>
+         * <strong>Only applicable</strong> for {@link #JWKS_FILE_PATH} referencing a file system path,
+         * {@code classpath:} locations cannot be watched.
+         * </p>
+         *
+         * @see de.cuioss.sheriff.oauth.core.IssuerConfig.IssuerConfigBuilder#fileJwksLoaderConfig
+         */
+        public static final String JWKS_FILE_WATCH = JWKS_BASE + "file-watch";
+
+        /**
+         * Interval in seconds between two checks of a watched JWKS file.
+         * Template: "sheriff.oauth.issuers.%s.jwks.file-poll-interval-seconds"
+         * <p>
+         * Catches the changes not reported by the file system, e.g. of network file systems or of
+         * symbolic links swapped outside the watched directory.
+         * </p>
+         * <p>
+         * Default value is {@code 10}.
+         * </p>
+         * <p>
+         * <strong>Only applicable</strong> if {@link #JWKS_FILE_WATCH} is enabled.
+         * </p>
+         *
+         * @see de.cuioss.sheriff.oauth.core.jwks.file.FileJwksLoaderConfig#getPollInterval()
+         */
+        public static final String JWKS_FILE_POLL_INTERVAL_SECONDS = JWKS_BASE + "file-poll-interval-seconds";
+
+        /**
+         * Grace period in seconds for which the keys of a replaced JWKS file remain valid.
+         * Template: "sheriff.oauth.issuers.%s.jwks.file-key-rotation-grace-period-seconds"
+         * <p>
+         * Set to 0 to invalidate the replaced keys immediately.
+         * </p>
+         * <p>
+         * Default value is {@code 300} (5 minutes).
+         * </p>
+         * <p>
+         * <strong>Only applicable</strong> if {@link #JWKS_FILE_WATCH} is enabled.
+         * </p>
+         *
+         * @see de.cuioss.sheriff.oauth.core.jwks.file.FileJwksLoaderConfig#getKeyRotationGracePeriod()
+         */
+        public static final String JWKS_FILE_KEY_ROTATION_GRACE_PERIOD_SECONDS = JWKS_BASE + "file-key-rotation-grace-period-seconds";
+
         /**
          * JWKS content directly as a JSON string.
          * Template: "sheriff.oauth.issuers.%s.jwks.content"
@@ -371,6 +470,148 @@ public final class JwtPropertyKeys {
          */
         public static final String MAX_RETIRED_KEY_SETS = HTTP_BASE + "max-retired-key-sets";
 
+        /**
+         * Minimum interval in seconds between the last JWKS load and a refresh triggered by an
+         * unknown key ID.
+         * Template: "sheriff.oauth.issuers.%s.jwks.http.on-demand-refresh-interval-seconds"
+         * <p>
+         * A token with a key ID missing from the loaded JWKS, e.g. after the identity provider
+         * rotated its keys, triggers a single, rate-limited refresh instead of failing until the
+         * next scheduled refresh. Set to 0 to disable on-demand refreshes.
+         * </p>
+         * <p>
+         * Default value is {@code 30}.
+         * </p>
+         * <p>
+         * <strong>Only applicable</strong> for {@link #JWKS_URL} and {@link #WELL_KNOWN_URL}.
+         * </p>
+         *
+         * @see de.cuioss.sheriff.oauth.core.jwks.http.HttpJwksLoaderConfig#getOnDemandRefreshInterval()
+         */
+        public static final String ON_DEMAND_REFRESH_INTERVAL_SECONDS = HTTP_BASE + "on-demand-refresh-interval-seconds";
+
+        /**
+         * Maximum time in milliseconds a token with an unknown key ID waits for the on-demand refresh.
+         * Template: "sheriff.oauth.issuers.%s.jwks.http.on-demand-refresh-wait-ms"
+         * <p>
+         * Default value is {@code 0}: the token is rejected immediately and the refreshed keys
+         * are used for subsequent tokens.
+         * </p>
+         * <p>
+         * <strong>Only applicable</strong> for {@link #JWKS_URL} and {@link #WELL_KNOWN_URL}.
+         * </p>
+         *
+         * @see de.cuioss.sheriff.oauth.core.jwks.http.HttpJwksLoaderConfig#getOnDemandRefreshWait()
+         */
+        public static final String ON_DEMAND_REFRESH_WAIT_MS = HTTP_BASE + "on-demand-refresh-wait-ms";
+
+        /**
+         * Lower bound in seconds for background refresh intervals derived from cache headers.
+         * Template: "sheriff.oauth.issuers.%s.jwks.http.min-refresh-interval-seconds"
+         * <p>
+         * If the JWKS endpoint announces a lifetime via {@code Cache-Control: max-age} or
+         * {@code Expires}, the next background refresh is scheduled after this lifetime clamped
+         * to the minimum and maximum refresh interval. The minimum is also the initial delay of
+         * the exponential backoff after failed refreshes.
+         * </p>
+         * <p>
+         * Default value is {@code 30}.
+         * </p>
+         * <p>
+         * <strong>Only applicable</strong> for {@link #JWKS_URL} and {@link #WELL_KNOWN_URL}.
+         * </p>
+         *
+         * @see de.cuioss.sheriff.oauth.core.jwks.http.HttpJwksLoaderConfig#getMinRefreshInterval()
+         */
+        public static final String MIN_REFRESH_INTERVAL_SECONDS = HTTP_BASE + "min-refresh-interval-seconds";
+
+        /**
+         * Upper bound in seconds for background refresh intervals derived from cache headers.
+         * Template: "sheriff.oauth.issuers.%s.jwks.http.max-refresh-interval-seconds"
+         * <p>
+         * Default value is {@code 86400} (24 hours).
+         * </p>
+         * <p>
+         * <strong>Only applicable</strong> for {@link #JWKS_URL} and {@link #WELL_KNOWN_URL}.
+         * </p>
+         *
+         * @see de.cuioss.sheriff.oauth.core.jwks.http.HttpJwksLoaderConfig#getMaxRefreshInterval()
+         */
+        public static final String MAX_REFRESH_INTERVAL_SECONDS = HTTP_BASE + "max-refresh-interval-seconds";
+
+        /**
+         * Relative random deviation applied to every background refresh delay.
+         * Template: "sheriff.oauth.issuers.%s.jwks.http.refresh-jitter"
+         * <p>
+         * Must be between 0 and 0.5. Default value is {@code 0.1}, i.e. &plusmn;10%.
+         * </p>
+         * <p>
+         * <strong>Only applicable</strong> for {@link #JWKS_URL} and {@link #WELL_KNOWN_URL}.
+         * </p>
+         *
+         * @see de.cuioss.sheriff.oauth.core.jwks.http.HttpJwksLoaderConfig#getRefreshJitter()
+         */
+        public static final String REFRESH_JITTER = HTTP_BASE + "refresh-jitter";
+
+        /**
+         * File the last successfully loaded JWKS of the issuer is persisted to.
+         * Template: "sheriff.oauth.issuers.%s.jwks.http.snapshot-file"
+         * <p>
+         * On the next startup a snapshot not older than {@link #SNAPSHOT_MAX_STALE_SECONDS} is
+         * served immediately and revalidated in the background, so that readiness no longer
+         * waits for well-known discovery and the JWKS endpoint. Each issuer needs its own file.
+         * Not set by default, i.e. snapshots are disabled.
+         * </p>
+         * <p>
+         * <strong>Only applicable</strong> for {@link #JWKS_URL} and {@link #WELL_KNOWN_URL}.
+         * </p>
+         *
+         * @see de.cuioss.sheriff.oauth.core.jwks.http.HttpJwksLoaderConfig#getSnapshotFile()
+         */
+        public static final String SNAPSHOT_FILE = HTTP_BASE + "snapshot-file";
+
+        /**
+         * Maximum age in seconds of a JWKS snapshot used at startup.
+         * Template: "sheriff.oauth.issuers.%s.jwks.http.snapshot-max-stale-seconds"
+         * <p>
+         * Older snapshots are ignored, and the keys of a snapshot are discarded once it exceeds
+         * this age without a successful load from the endpoint.
+         * </p>
+         * <p>
+         * Default value is {@code 86400} (24 hours).
+         * </p>
+         *
+         * @see de.cuioss.sheriff.oauth.core.jwks.http.HttpJwksLoaderConfig#getSnapshotMaxStale()
+         */
+        public static final String SNAPSHOT_MAX_STALE_SECONDS = HTTP_BASE + "snapshot-max-stale-seconds";
+
+        /**
+         * File the JWKS of the issuer is exchanged through with the other processes of the host.
+         * Template: "sheriff.oauth.issuers.%s.jwks.http.exchange-file"
+         * <p>
+         * Only the process holding the lock of the file fetches the JWKS, all other processes
+         * configured with the same file read the keys from it. Each issuer needs its own file.
+         * Not set by default, i.e. every process fetches the JWKS itself.
+         * </p>
+         * <p>
+         * <strong>Only applicable</strong> for {@link #JWKS_URL} and {@link #WELL_KNOWN_URL}.
+         * </p>
+         *
+         * @see de.cuioss.sheriff.oauth.core.jwks.http.HttpJwksLoaderConfig#getExchangeFile()
+         */
+        public static final String EXCHANGE_FILE = HTTP_BASE + "exchange-file";
+
+        /**
+         * Interval in milliseconds at which processes not fetching the JWKS check the exchange file.
+         * Template: "sheriff.oauth.issuers.%s.jwks.http.exchange-poll-interval-ms"
+         * <p>
+         * Default value is {@code 1000}.
+         * </p>
+         *
+         * @see de.cuioss.sheriff.oauth.core.jwks.http.HttpJwksLoaderConfig#getExchangePollInterval()
+         */
+        public static final String EXCHANGE_POLL_INTERVAL_MS = HTTP_BASE + "exchange-poll-interval-ms";
+
         // === Keycloak Configuration ===
 
         /**
@@ -459,6 +700,17 @@ public final class JwtPropertyKeys {
              */
             public static final String TIMEOUT_SECONDS = BASE + ".timeout-seconds";
 
+            /**
+             * Whether the JWKS readiness check requires all issuers to be ready. If disabled, the
+             * check reports UP as soon as one issuer is ready, so that the healthy issuers serve
+             * traffic while others are still loading.
+             * Template: "sheriff.oauth.health.jwks.require-all-issuers"
+             * <p>
+             * Default value is {@code true}.
+             * </p>
+             */
+            public static final String REQUIRE_ALL_ISSUERS = BASE + ".require-all-issuers";
+
         }
     }
 
@@ -717,4 +969,248 @@ public final class JwtPropertyKeys {
         public static final String EVICTION_INTERVAL_SECONDS = BASE + ".eviction-interval-seconds";
     }
 
+    /**
+     * Properties related to the rate-limited logging of security events.
+     */
+    @UtilityClass
+    public static final class SECURITY_LOG {
+        /**
+         * Base path for security event logging configurations.
+         */
+        public static final String BASE = PREFIX + ".security-log";
+
+        /**
+         * Length of a rate limiting interval in seconds.
+         * Template: "sheriff.oauth.security-log.interval-seconds"
+         * <p>
+         * Default value is {@code 60} seconds.
+         * </p>
+         *
+         * @see de.cuioss.sheriff.oauth.core.security.SecurityEventLogConfig
+         */
+        public static final String INTERVAL_SECONDS = BASE + ".interval-seconds";
+
+        /**
+         * Number of warnings logged per security event type and interval.
+         * Template: "sheriff.oauth.security-log.max-events-per-interval"
+         * <p>
+         * Further events of the same type are counted and summarized in a single warning
+         * once the next interval starts. A negative value disables rate limiting.
+         * </p>
+         * <p>
+         * Default value is {@code 100}.
+         * </p>
+         *
+         * @see de.cuioss.sheriff.oauth.core.security.SecurityEventLogConfig
+         */
+        public static final String MAX_EVENTS_PER_INTERVAL = BASE + ".max-events-per-interval";
+
+        /**
+         * Number of warnings logged per security event type and interval for a single event category.
+         * Template: "sheriff.oauth.security-log.%s.max-events-per-interval"
+         * <p>
+         * The placeholder is the event category in kebab case: {@code invalid-structure},
+         * {@code invalid-signature} or {@code semantic-issues}. Overrides
+         * {@link #MAX_EVENTS_PER_INTERVAL} for that category.
+         * </p>
+         *
+         * @see de.cuioss.sheriff.oauth.core.security.EventCategory
+         */
+        public static final String CATEGORY_MAX_EVENTS_PER_INTERVAL = BASE + ".%s.max-events-per-interval";
+    }
+
+    /**
+     * Properties related to the admission control of signature verifications.
+     */
+    @UtilityClass
+    public static final class SIGNATURE_LIMITER {
+        /**
+         * Base path for signature verification limiter configurations.
+         */
+        public static final String BASE = PREFIX + ".signature-limiter";
+
+        /**
+         * Whether concurrent signature verifications of access tokens are limited.
+         * Template: "sheriff.oauth.signature-limiter.enabled"
+         * <p>
+         * Default value is {@code false}.
+         * </p>
+         *
+         * @see de.cuioss.sheriff.oauth.core.pipeline.SignatureVerificationLimiterConfig
+         */
+        public static final String ENABLED = BASE + DOT_ENABLED;
+
+        /**
+         * Concurrency limit used before the limit has adapted.
+         * Template: "sheriff.oauth.signature-limiter.initial-limit"
+         * <p>
+         * Default value is the number of available processors.
+         * </p>
+         */
+        public static final String INITIAL_LIMIT = BASE + ".initial-limit";
+
+        /**
+         * Lower bound of the adaptive concurrency limit.
+         * Template: "sheriff.oauth.signature-limiter.min-limit"
+         * <p>
+         * Default value is {@code 1}.
+         * </p>
+         */
+        public static final String MIN_LIMIT = BASE + ".min-limit";
+
+        /**
+         * Upper bound of the adaptive concurrency limit.
+         * Template: "sheriff.oauth.signature-limiter.max-limit"
+         * <p>
+         * Default value is four times the number of available processors.
+         * </p>
+         */
+        public static final String MAX_LIMIT = BASE + ".max-limit";
+
+        /**
+         * Verification latency in milliseconds above which the limit is decreased.
+         * Template: "sheriff.oauth.signature-limiter.latency-threshold-ms"
+         * <p>
+         * Default value is {@code 20} milliseconds.
+         * </p>
+         */
+        public static final String LATENCY_THRESHOLD_MS = BASE + ".latency-threshold-ms";
+
+        /**
+         * Factor applied to the limit when a verification exceeds the latency threshold.
+         * Template: "sheriff.oauth.signature-limiter.backoff-ratio"
+         * <p>
+         * Default value is {@code 0.9}.
+         * </p>
+         */
+        public static final String BACKOFF_RATIO = BASE + ".backoff-ratio";
+
+        /**
+         * Behavior for tokens arriving while the limit is reached: {@code queue} or {@code fail-fast}.
+         * Template: "sheriff.oauth.signature-limiter.overload-strategy"
+         * <p>
+         * Default value is {@code queue}.
+         * </p>
+         *
+         * @see de.cuioss.sheriff.oauth.core.pipeline.SignatureVerificationLimiterConfig.OverloadStrategy
+         */
+        public static final String OVERLOAD_STRATEGY = BASE + ".overload-strategy";
+
+        /**
+         * Maximum time in milliseconds a token waits for a permit with the {@code queue} strategy.
+         * Template: "sheriff.oauth.signature-limiter.max-queue-wait-ms"
+         * <p>
+         * Default value is {@code 100} milliseconds.
+         * </p>
+         */
+        public static final String MAX_QUEUE_WAIT_MS = BASE + ".max-queue-wait-ms";
+    }
+
+    /**
+     * Properties related to the JIT warmup of the token validation on startup.
+     */
+    @UtilityClass
+    public static final class WARMUP {
+        /**
+         * Base path for warmup configurations.
+         */
+        public static final String BASE = PREFIX + ".warmup";
+
+        /**
+         * Whether the token validation is warmed up on startup. While the warmup runs, the
+         * readiness check {@code jwt-warmup} reports DOWN.
+         * Template: "sheriff.oauth.warmup.enabled"
+         * <p>
+         * Default value is {@code false}.
+         * </p>
+         *
+         * @see de.cuioss.sheriff.oauth.core.TokenValidator#warmup(int)
+         */
+        public static final String ENABLED = BASE + DOT_ENABLED;
+
+        /**
+         * Number of validations per signature algorithm.
+         * Template: "sheriff.oauth.warmup.iterations"
+         * <p>
+         * Default value is {@link de.cuioss.sheriff.oauth.core.TokenValidator#DEFAULT_WARMUP_ITERATIONS}.
+         * </p>
+         */
+        public static final String ITERATIONS = BASE + ".iterations";
+
+        /**
+         * Duration of the warmup in milliseconds. If set, it takes precedence over
+         * {@link #ITERATIONS}.
+         * Template: "sheriff.oauth.warmup.duration-ms"
+         */
+        public static final String DURATION_MS = BASE + ".duration-ms";
+    }
+
+    /**
+     * Properties related to the initialization of the issuers on startup.
+     */
+    @UtilityClass
+    public static final class STARTUP {
+        /**
+         * Base path for startup configurations.
+         */
+        public static final String BASE = PREFIX + ".startup";
+
+        /**
+         * Maximum number of issuers loading their keys at the same time.
+         * Template: "sheriff.oauth.startup.max-concurrent-initializations"
+         * <p>
+         * Default value is {@link de.cuioss.sheriff.oauth.core.IssuerStartupConfig#DEFAULT_MAX_CONCURRENT_INITIALIZATIONS}.
+         * </p>
+         *
+         * @see de.cuioss.sheriff.oauth.core.IssuerStartupConfig#getMaxConcurrentInitializations()
+         */
+        public static final String MAX_CONCURRENT_INITIALIZATIONS = BASE + ".max-concurrent-initializations";
+
+        /**
+         * Time in seconds after which issuers still loading are reported and their tokens are
+         * rejected immediately until their loading completes.
+         * Template: "sheriff.oauth.startup.deadline-seconds"
+         * <p>
+         * Default value is {@code 30}.
+         * </p>
+         *
+         * @see de.cuioss.sheriff.oauth.core.IssuerStartupConfig#getStartupDeadline()
+         */
+        public static final String DEADLINE_SECONDS = BASE + ".deadline-seconds";
+
+        /**
+         * Whether issuers are activated on their first token instead of on startup.
+         * Template: "sheriff.oauth.startup.lazy-activation"
+         * <p>
+         * Default value is {@code false}.
+         * </p>
+         *
+         * @see de.cuioss.sheriff.oauth.core.IssuerStartupConfig#isLazyActivation()
+         */
+        public static final String LAZY_ACTIVATION = BASE + ".lazy-activation";
+
+        /**
+         * Time in seconds without tokens after which a lazily activated issuer is released.
+         * Template: "sheriff.oauth.startup.idle-timeout-seconds"
+         * <p>
+         * Default value is {@code 3600}.
+         * </p>
+         *
+         * @see de.cuioss.sheriff.oauth.core.IssuerStartupConfig#getIdleTimeout()
+         */
+        public static final String IDLE_TIMEOUT_SECONDS = BASE + ".idle-timeout-seconds";
+
+        /**
+         * Maximum number of lazily activated issuers, the least recently used issuer is
+         * released to activate another one.
+         * Template: "sheriff.oauth.startup.max-active-issuers"
+         * <p>
+         * Default value is unlimited.
+         * </p>
+         *
+         * @see de.cuioss.sheriff.oauth.core.IssuerStartupConfig#getMaxActiveIssuers()
+         */
+        public static final String MAX_ACTIVE_ISSUERS = BASE + ".max-active-issuers";
+    }
+
 }
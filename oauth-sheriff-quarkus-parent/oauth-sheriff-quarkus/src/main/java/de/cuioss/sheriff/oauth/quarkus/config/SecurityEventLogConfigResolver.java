@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.quarkus.config;
+
+import de.cuioss.sheriff.oauth.core.security.EventCategory;
+import de.cuioss.sheriff.oauth.core.security.SecurityEventLogConfig;
+import de.cuioss.tools.logging.CuiLogger;
+import lombok.RequiredArgsConstructor;
+import org.eclipse.microprofile.config.Config;
+
+import java.util.Locale;
+
+import static de.cuioss.sheriff.oauth.quarkus.config.JwtPropertyKeys.SECURITY_LOG;
+
+/**
+ * Resolves {@link SecurityEventLogConfig} from Quarkus configuration.
+ * <p>
+ * This resolver reads the rate limits for logging security events:
+ * <ul>
+ *   <li>Interval length in seconds</li>
+ *   <li>Maximum number of warnings per event type and interval</li>
+ *   <li>Optional overrides of that maximum per event category</li>
+ * </ul>
+ *
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+public class SecurityEventLogConfigResolver {
+
+    private static final CuiLogger LOGGER = new CuiLogger(SecurityEventLogConfigResolver.class);
+
+    private final Config config;
+
+    /**
+     * Resolves the security event log configuration from the Quarkus configuration.
+     * <p>
+     * Uses default values from the library if properties are not configured.
+     * </p>
+     *
+     * @return The resolved SecurityEventLogConfig
+     */
+    public SecurityEventLogConfig resolveSecurityEventLogConfig() {
+        var builder = SecurityEventLogConfig.builder()
+                .intervalSeconds(config.getOptionalValue(SECURITY_LOG.INTERVAL_SECONDS, Long.class)
+                        .orElse(SecurityEventLogConfig.DEFAULT_INTERVAL_SECONDS))
+                .maxEventsPerInterval(config.getOptionalValue(SECURITY_LOG.MAX_EVENTS_PER_INTERVAL, Integer.class)
+                        .orElse(SecurityEventLogConfig.DEFAULT_MAX_EVENTS_PER_INTERVAL));
+
+        for (EventCategory category : EventCategory.values()) {
+            String key = SECURITY_LOG.CATEGORY_MAX_EVENTS_PER_INTERVAL.formatted(toPropertyName(category));
+            config.getOptionalValue(key, Integer.class)
+                    .ifPresent(limit -> builder.categoryLimit(category, limit));
+        }
+
+        SecurityEventLogConfig logConfig = builder.build();
+        LOGGER.debug("Resolved security event log configuration: %s", logConfig);
+        return logConfig;
+    }
+
+    private static String toPropertyName(EventCategory category) {
+        return category.name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.quarkus.config;
+
+import de.cuioss.sheriff.oauth.core.pipeline.SignatureVerificationLimiterConfig;
+import de.cuioss.sheriff.oauth.core.pipeline.SignatureVerificationLimiterConfig.OverloadStrategy;
+import de.cuioss.tools.logging.CuiLogger;
+import lombok.RequiredArgsConstructor;
+import org.eclipse.microprofile.config.Config;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+
+import static de.cuioss.sheriff.oauth.quarkus.config.JwtPropertyKeys.SIGNATURE_LIMITER;
+
+/**
+ * Resolves {@link SignatureVerificationLimiterConfig} from Quarkus configuration.
+ * <p>
+ * The admission control of signature verifications is opt-in. Once enabled, this resolver
+ * reads:
+ * <ul>
+ *   <li>Initial, minimum and maximum concurrency limit</li>
+ *   <li>Latency threshold and backoff ratio of the adaptive limit</li>
+ *   <li>Overload strategy and maximum queue wait</li>
+ * </ul>
+ *
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+public class SignatureVerificationLimiterConfigResolver {
+
+    private static final CuiLogger LOGGER = new CuiLogger(SignatureVerificationLimiterConfigResolver.class);
+
+    private final Config config;
+
+    /**
+     * Resolves the signature verification limiter configuration from the Quarkus configuration.
+     * <p>
+     * Uses default values from the library if properties are not configured.
+     * </p>
+     *
+     * @return The resolved configuration, or empty if the limiter is not enabled
+     * @throws IllegalArgumentException if the overload strategy is unknown
+     */
+    public Optional<SignatureVerificationLimiterConfig> resolveSignatureVerificationLimiterConfig() {
+        boolean enabled = config.getOptionalValue(SIGNATURE_LIMITER.ENABLED, Boolean.class).orElse(false);
+        if (!enabled) {
+            LOGGER.debug("Signature verification limiter is disabled");
+            return Optional.empty();
+        }
+
+        var builder = SignatureVerificationLimiterConfig.builder()
+                .initialLimit(config.getOptionalValue(SIGNATURE_LIMITER.INITIAL_LIMIT, Integer.class)
+                        .orElse(SignatureVerificationLimiterConfig.DEFAULT_INITIAL_LIMIT))
+                .minLimit(config.getOptionalValue(SIGNATURE_LIMITER.MIN_LIMIT, Integer.class)
+                        .orElse(SignatureVerificationLimiterConfig.DEFAULT_MIN_LIMIT))
+                .maxLimit(config.getOptionalValue(SIGNATURE_LIMITER.MAX_LIMIT, Integer.class)
+                        .orElse(SignatureVerificationLimiterConfig.DEFAULT_MAX_LIMIT))
+                .backoffRatio(config.getOptionalValue(SIGNATURE_LIMITER.BACKOFF_RATIO, Double.class)
+                        .orElse(SignatureVerificationLimiterConfig.DEFAULT_BACKOFF_RATIO));
+        config.getOptionalValue(SIGNATURE_LIMITER.LATENCY_THRESHOLD_MS, Long.class)
+                .ifPresent(millis -> builder.latencyThreshold(Duration.ofMillis(millis)));
+        config.getOptionalValue(SIGNATURE_LIMITER.MAX_QUEUE_WAIT_MS, Long.class)
+                .ifPresent(millis -> builder.maxQueueWait(Duration.ofMillis(millis)));
+        config.getOptionalValue(SIGNATURE_LIMITER.OVERLOAD_STRATEGY, String.class)
+                .ifPresent(strategy -> builder.overloadStrategy(toOverloadStrategy(strategy)));
+
+        SignatureVerificationLimiterConfig limiterConfig = builder.build();
+        LOGGER.debug("Resolved signature verification limiter configuration: %s", limiterConfig);
+        return Optional.of(limiterConfig);
+    }
+
+    private static OverloadStrategy toOverloadStrategy(String value) {
+        return OverloadStrategy.valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+}
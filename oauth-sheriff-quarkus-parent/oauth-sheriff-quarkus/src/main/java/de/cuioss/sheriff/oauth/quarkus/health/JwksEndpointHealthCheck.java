@@ -42,6 +42,17 @@ import static de.cuioss.sheriff.oauth.quarkus.OAuthSheriffQuarkusLogMessages.WAR
  * readiness status for JWT validation JWKS endpoints. It only needs access
  * to the issuer configurations to check the health of their JWKS loaders.
  * </p>
+ * <p>
+ * The readiness of each issuer is reported separately as {@code READY}, {@code LOADING} or
+ * {@code FAILED}. By default the check is only UP once all issuers are ready. With
+ * {@link JwtPropertyKeys.HEALTH.JWKS#REQUIRE_ALL_ISSUERS} disabled it is UP as soon as one
+ * issuer is ready, so that the healthy issuers serve traffic while slow ones are still loading.
+ * </p>
+ * <p>
+ * With {@link JwtPropertyKeys.STARTUP#LAZY_ACTIVATION} issuers are only loaded on their first
+ * token. Issuers not activated yet, or released again, are reported as {@code INACTIVE} and
+ * are not waited for.
+ * </p>
  */
 @ApplicationScoped
 @Readiness
@@ -49,6 +60,8 @@ public class JwksEndpointHealthCheck implements HealthCheck {
 
     private static final CuiLogger LOGGER = new CuiLogger(JwksEndpointHealthCheck.class);
     private static final String DEFAULT_CACHE_SECONDS = "30";
+    private static final String DEFAULT_REQUIRE_ALL_ISSUERS = "true";
+    private static final String DEFAULT_LAZY_ACTIVATION = "false";
     private static final String HEALTHCHECK_NAME = "jwks-endpoints";
     private static final String ERROR_NO_ISSUER_CONFIGS = "No issuer configurations found";
     private static final String ERROR = "error";
@@ -58,12 +71,26 @@ public class JwksEndpointHealthCheck implements HealthCheck {
     private final List<IssuerConfig> issuerConfigs;
     private final ConcurrentHashMap<String, CachedResponse> healthCheckCache = new ConcurrentHashMap<>();
     private final long cacheTimeoutMillis;
+    private final boolean requireAllIssuers;
+    private final boolean lazyActivation;
+
+    public JwksEndpointHealthCheck(List<IssuerConfig> issuerConfigs, int cacheSeconds) {
+        this(issuerConfigs, cacheSeconds, true);
+    }
+
+    public JwksEndpointHealthCheck(List<IssuerConfig> issuerConfigs, int cacheSeconds, boolean requireAllIssuers) {
+        this(issuerConfigs, cacheSeconds, requireAllIssuers, false);
+    }
 
     @Inject
     public JwksEndpointHealthCheck(List<IssuerConfig> issuerConfigs,
-            @ConfigProperty(name = JwtPropertyKeys.HEALTH.JWKS.CACHE_SECONDS, defaultValue = DEFAULT_CACHE_SECONDS) int cacheSeconds) {
+            @ConfigProperty(name = JwtPropertyKeys.HEALTH.JWKS.CACHE_SECONDS, defaultValue = DEFAULT_CACHE_SECONDS) int cacheSeconds,
+            @ConfigProperty(name = JwtPropertyKeys.HEALTH.JWKS.REQUIRE_ALL_ISSUERS, defaultValue = DEFAULT_REQUIRE_ALL_ISSUERS) boolean requireAllIssuers,
+            @ConfigProperty(name = JwtPropertyKeys.STARTUP.LAZY_ACTIVATION, defaultValue = DEFAULT_LAZY_ACTIVATION) boolean lazyActivation) {
         this.issuerConfigs = issuerConfigs;
         this.cacheTimeoutMillis = TimeUnit.SECONDS.toMillis(cacheSeconds);
+        this.requireAllIssuers = requireAllIssuers;
+        this.lazyActivation = lazyActivation;
     }
 
     @Override
@@ -92,7 +119,7 @@ public class JwksEndpointHealthCheck implements HealthCheck {
         var responseBuilder = HealthCheckResponse.named(HEALTHCHECK_NAME).up();
 
         var results = issuerConfigs.stream()
-                .map(issuerConfig -> EndpointResult.fromIssuerConfig(issuerConfig.getIssuerIdentifier(), issuerConfig))
+                .map(issuerConfig -> EndpointResult.fromIssuerConfig(issuerConfig.getIssuerIdentifier(), issuerConfig, lazyActivation))
                 .toList();
 
         // Add all endpoint data to response
@@ -100,14 +127,17 @@ public class JwksEndpointHealthCheck implements HealthCheck {
             results.get(i).addToResponse(responseBuilder, "issuer." + i + ".");
         }
 
-        // Calculate overall readiness and loading status
-        boolean allReady = results.stream().allMatch(EndpointResult::isHealthy);
-        boolean anyLoading = results.stream().anyMatch(r -> r.status() == LoaderStatus.UNDEFINED);
+        // Calculate overall readiness and loading status, inactive issuers are not waited for
+        long activeCount = results.stream().filter(result -> !result.inactive()).count();
+        long readyCount = results.stream().filter(EndpointResult::isHealthy).count();
+        boolean allReady = readyCount == activeCount;
+        boolean anyLoading = results.stream().anyMatch(EndpointResult::isLoading);
 
         // Set overall health status with enhanced readiness reporting
         responseBuilder.withData("checkedEndpoints", results.size());
+        responseBuilder.withData("readyEndpoints", readyCount);
 
-        if (!allReady) {
+        if (requireAllIssuers ? !allReady : activeCount > 0 && readyCount == 0) {
             responseBuilder.down();
         }
 
@@ -138,26 +168,28 @@ public class JwksEndpointHealthCheck implements HealthCheck {
         }
     }
 
-    private record EndpointResult(String issuer, String jwksType, LoaderStatus status) {
+    private record EndpointResult(String issuer, String jwksType, LoaderStatus status, boolean inactive) {
 
         /**
          * Creates an EndpointResult from an issuer configuration.
          *
          * @param issuer the issuer name
          * @param issuerConfig the issuer configuration
+         * @param lazyActivation whether an undefined status means that the issuer is not activated
          * @return the endpoint result
          */
-        static EndpointResult fromIssuerConfig(String issuer, IssuerConfig issuerConfig) {
+        static EndpointResult fromIssuerConfig(String issuer, IssuerConfig issuerConfig, boolean lazyActivation) {
             try {
                 JwksLoader jwksLoader = issuerConfig.getJwksLoader();
 
                 LoaderStatus status = jwksLoader.getLoaderStatus();
                 LOGGER.debug("JWKS loader status for issuer %s: %s", issuer, status);
 
-                return new EndpointResult(issuer, jwksLoader.getJwksType().toString(), status);
+                return new EndpointResult(issuer, jwksLoader.getJwksType().toString(), status,
+                        lazyActivation && status == LoaderStatus.UNDEFINED);
             } catch (IllegalStateException | IllegalArgumentException e) {
                 LOGGER.warn(e, WARN.ERROR_CHECKING_JWKS_LOADER, issuer, e.getMessage());
-                return new EndpointResult(issuer, JwksType.NONE.toString(), LoaderStatus.ERROR);
+                return new EndpointResult(issuer, JwksType.NONE.toString(), LoaderStatus.ERROR, false);
             }
         }
 
@@ -172,6 +204,17 @@ public class JwksEndpointHealthCheck implements HealthCheck {
             responseBuilder.withData(prefix + "url", issuer);
             responseBuilder.withData(prefix + "jwksType", jwksType);
             responseBuilder.withData(prefix + "status", up ? STATUS_UP : STATUS_DOWN);
+            responseBuilder.withData(prefix + "readiness", readiness());
+        }
+
+        private String readiness() {
+            if (status == LoaderStatus.OK) {
+                return "READY";
+            }
+            if (inactive) {
+                return "INACTIVE";
+            }
+            return isLoading() ? "LOADING" : "FAILED";
         }
 
         /**
@@ -182,5 +225,14 @@ public class JwksEndpointHealthCheck implements HealthCheck {
         boolean isHealthy() {
             return status == LoaderStatus.OK;
         }
+
+        /**
+         * Checks if this endpoint has not completed its initial load yet.
+         *
+         * @return true if the status is UNDEFINED or LOADING and the issuer is active, false otherwise
+         */
+        boolean isLoading() {
+            return !inactive && (status == LoaderStatus.UNDEFINED || status == LoaderStatus.LOADING);
+        }
     }
 }
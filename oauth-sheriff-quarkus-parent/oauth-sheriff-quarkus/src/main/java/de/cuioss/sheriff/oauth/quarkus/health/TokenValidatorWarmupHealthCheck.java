@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.quarkus.health;
+
+import de.cuioss.sheriff.oauth.quarkus.producer.TokenValidatorWarmupService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+
+/**
+ * Readiness check for the JIT warmup of the token validation.
+ * <p>
+ * Reports DOWN while the warmup started by {@link TokenValidatorWarmupService} is running and
+ * UP once it has completed or if the warmup is disabled.
+ * </p>
+ */
+@ApplicationScoped
+@Readiness
+public class TokenValidatorWarmupHealthCheck implements HealthCheck {
+
+    private static final String HEALTHCHECK_NAME = "jwt-warmup";
+
+    private final TokenValidatorWarmupService warmupService;
+
+    @Inject
+    public TokenValidatorWarmupHealthCheck(TokenValidatorWarmupService warmupService) {
+        this.warmupService = warmupService;
+    }
+
+    @Override
+    public HealthCheckResponse call() {
+        return HealthCheckResponse.named(HEALTHCHECK_NAME)
+                .status(warmupService.isCompleted())
+                .withData("enabled", warmupService.isEnabled())
+                .withData("validations", warmupService.getValidations())
+                .build();
+    }
+}
@@ -16,11 +16,13 @@
 package de.cuioss.sheriff.oauth.quarkus.metrics;
 
 import de.cuioss.sheriff.oauth.core.TokenValidator;
+import de.cuioss.sheriff.oauth.core.pipeline.SignatureVerificationLimiter;
 import de.cuioss.sheriff.oauth.core.security.EventCategory;
 import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
 import de.cuioss.sheriff.oauth.quarkus.config.JwtPropertyKeys;
 import de.cuioss.tools.logging.CuiLogger;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
@@ -42,6 +44,7 @@ import static de.cuioss.sheriff.oauth.quarkus.OAuthSheriffQuarkusLogMessages.WAR
  * This collector registers metrics for security events:
  * <ul>
  *   <li>Security Event Counters - from {@link SecurityEventCounter}</li>
+ *   <li>Signature Verification Limiter Gauges - from {@link SignatureVerificationLimiter}, if configured</li>
  * </ul>
  * <p>
  * All metrics follow Micrometer naming conventions and include appropriate tags
@@ -49,6 +52,7 @@ import static de.cuioss.sheriff.oauth.quarkus.OAuthSheriffQuarkusLogMessages.WAR
  * <ul>
  *   <li>sheriff.oauth.validation.errors - Counter for validation errors by type</li>
  *   <li>sheriff.oauth.validation.success - Counter for successful operations by type</li>
+ *   <li>sheriff.oauth.signature.limiter.* - Gauges for limit, in-flight and queued signature verifications</li>
  * </ul>
  * <p>
  * Security event metrics include tags:
@@ -107,6 +111,9 @@ public class JwtMetricsCollector {
         // Register counters for all event types
         registerEventCounters();
 
+        // Register gauges for the optional admission control of signature verifications
+        tokenValidator.getSignatureVerificationLimiter().ifPresent(this::registerLimiterGauges);
+
         // Initialize the last known counts
         Map<SecurityEventCounter.EventType, Long> currentCounts = securityEventCounter.getCounters();
         lastKnownCounts.putAll(currentCounts);
@@ -161,6 +168,24 @@ public class JwtMetricsCollector {
         }
     }
 
+    /**
+     * Registers gauges reading the current state of the signature verification limiter.
+     * Rejections are covered by the counter of {@code SIGNATURE_VERIFICATION_OVERLOADED}.
+     *
+     * @param limiter the limiter of the token validator
+     */
+    private void registerLimiterGauges(SignatureVerificationLimiter limiter) {
+        Gauge.builder(MetricIdentifier.SIGNATURE_LIMITER.LIMIT, limiter, SignatureVerificationLimiter::getLimit)
+                .description("Current concurrency limit of signature verifications")
+                .register(registry);
+        Gauge.builder(MetricIdentifier.SIGNATURE_LIMITER.IN_FLIGHT, limiter, SignatureVerificationLimiter::getInFlight)
+                .description("Number of running signature verifications")
+                .register(registry);
+        Gauge.builder(MetricIdentifier.SIGNATURE_LIMITER.QUEUED, limiter, SignatureVerificationLimiter::getQueued)
+                .description("Number of tokens waiting for a signature verification permit")
+                .register(registry);
+        LOGGER.debug("Registered signature verification limiter gauges");
+    }
 
     /**
      * Updates all counters from the current state.
@@ -83,4 +83,30 @@ public final class MetricIdentifier {
          */
         public static final String DURATION = BASE + ".duration";
     }
+
+    /**
+     * Metrics related to the admission control of signature verifications.
+     */
+    @UtilityClass
+    public static final class SIGNATURE_LIMITER {
+        /**
+         * Base path for signature verification limiter metrics.
+         */
+        public static final String BASE = PREFIX + ".signature.limiter";
+
+        /**
+         * Gauge for the current adaptive concurrency limit.
+         */
+        public static final String LIMIT = BASE + ".limit";
+
+        /**
+         * Gauge for the number of running signature verifications.
+         */
+        public static final String IN_FLIGHT = BASE + ".in_flight";
+
+        /**
+         * Gauge for the number of tokens waiting for a permit.
+         */
+        public static final String QUEUED = BASE + ".queued";
+    }
 }
\ No newline at end of file
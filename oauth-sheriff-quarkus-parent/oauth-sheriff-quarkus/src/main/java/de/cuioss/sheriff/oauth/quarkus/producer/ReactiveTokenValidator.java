@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.quarkus.producer;
+
+import de.cuioss.sheriff.oauth.core.TokenValidator;
+import de.cuioss.sheriff.oauth.core.domain.token.AccessTokenContent;
+import de.cuioss.sheriff.oauth.core.exception.TokenValidationException;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.NonNull;
+
+/**
+ * Mutiny facade for the asynchronous access token validation of {@link TokenValidator}.
+ * <p>
+ * Reactive endpoints running on the event loop must not block on signature verification or on
+ * an issuer whose JWKS is still loading. This bean exposes
+ * {@link TokenValidator#createAccessTokenAsync(String)} as {@link Uni}: cached tokens emit
+ * immediately, all other tokens are validated on the verification executor of the
+ * {@link TokenValidator}.
+ * <p>
+ * Usage example:
+ * <pre>
+ * &#64;Inject
+ * ReactiveTokenValidator reactiveTokenValidator;
+ *
+ * public Uni&lt;String&gt; subject(String token) {
+ *     return reactiveTokenValidator.createAccessToken(token)
+ *         .map(accessToken -&gt; accessToken.getSubject().orElse("anonymous"));
+ * }
+ * </pre>
+ *
+ * @since 1.0
+ */
+@ApplicationScoped
+public class ReactiveTokenValidator {
+
+    private final TokenValidator tokenValidator;
+
+    @Inject
+    public ReactiveTokenValidator(TokenValidator tokenValidator) {
+        this.tokenValidator = tokenValidator;
+    }
+
+    /**
+     * Validates the given access token without blocking the subscriber.
+     * <p>
+     * The validation starts on subscription. Validation failures are emitted as
+     * {@link TokenValidationException}, carrying the same event type as the synchronous API.
+     *
+     * @param tokenString the token string to validate, must not be null
+     * @return a {@link Uni} emitting the parsed access token
+     */
+    public Uni<AccessTokenContent> createAccessToken(@NonNull String tokenString) {
+        return Uni.createFrom().completionStage(() -> tokenValidator.createAccessTokenAsync(tokenString));
+    }
+}
@@ -21,10 +21,14 @@ import de.cuioss.sheriff.oauth.core.ParserConfig;
 import de.cuioss.sheriff.oauth.core.TokenValidator;
 import de.cuioss.sheriff.oauth.core.cache.AccessTokenCacheConfig;
 import de.cuioss.sheriff.oauth.core.security.SecurityEventCounter;
+import de.cuioss.sheriff.oauth.core.security.SecurityEventLogConfig;
 import de.cuioss.sheriff.oauth.quarkus.config.AccessTokenCacheConfigResolver;
 import de.cuioss.sheriff.oauth.quarkus.config.IssuerConfigResolver;
+import de.cuioss.sheriff.oauth.quarkus.config.IssuerStartupConfigResolver;
 import de.cuioss.sheriff.oauth.quarkus.config.ParserConfigResolver;
 import de.cuioss.sheriff.oauth.quarkus.config.RetryStrategyConfigResolver;
+import de.cuioss.sheriff.oauth.quarkus.config.SecurityEventLogConfigResolver;
+import de.cuioss.sheriff.oauth.quarkus.config.SignatureVerificationLimiterConfigResolver;
 import de.cuioss.tools.logging.CuiLogger;
 import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -105,14 +109,6 @@ public class TokenValidatorProducer {
         IssuerConfigResolver issuerConfigResolver = new IssuerConfigResolver(config, retryStrategy);
         issuerConfigs = issuerConfigResolver.resolveIssuerConfigs();
 
-        // Create SecurityEventCounter for proper initialization
-        SecurityEventCounter eventCounter = new SecurityEventCounter();
-
-        // Initialize each IssuerConfig with SecurityEventCounter so JwksLoader can be used
-        for (IssuerConfig issuerConfig : issuerConfigs) {
-            issuerConfig.initSecurityEventCounter(eventCounter);
-        }
-
         // Resolve parser config using the dedicated resolver
         ParserConfigResolver parserConfigResolver = new ParserConfigResolver(config);
         ParserConfig parserConfig = parserConfigResolver.resolveParserConfig();
@@ -122,10 +118,23 @@ public class TokenValidatorProducer {
         AccessTokenCacheConfigResolver cacheConfigResolver = new AccessTokenCacheConfigResolver(config);
         AccessTokenCacheConfig cacheConfig = cacheConfigResolver.resolveCacheConfig();
 
-        // Create TokenValidator using builder pattern - it handles internal initialization
+        // Resolve rate limits for security event logging using the dedicated resolver
+        SecurityEventLogConfigResolver securityEventLogConfigResolver = new SecurityEventLogConfigResolver(config);
+        SecurityEventLogConfig securityEventLogConfig = securityEventLogConfigResolver.resolveSecurityEventLogConfig();
+
+        // Resolve the optional admission control for signature verifications
+        SignatureVerificationLimiterConfigResolver limiterConfigResolver = new SignatureVerificationLimiterConfigResolver(config);
+
+        // Resolve concurrency and deadline of the issuer initialization
+        IssuerStartupConfigResolver startupConfigResolver = new IssuerStartupConfigResolver(config);
+
+        // Create TokenValidator using builder pattern - it initializes the issuers in parallel without blocking
         TokenValidator.TokenValidatorBuilder builder = TokenValidator.builder()
                 .parserConfig(parserConfig)
-                .cacheConfig(cacheConfig);
+                .cacheConfig(cacheConfig)
+                .securityEventLogConfig(securityEventLogConfig)
+                .signatureVerificationLimiterConfig(limiterConfigResolver.resolveSignatureVerificationLimiterConfig().orElse(null))
+                .issuerStartupConfig(startupConfigResolver.resolveIssuerStartupConfig());
 
         // Add each issuer config to the builder
         for (IssuerConfig issuerConfig : issuerConfigs) {
@@ -134,9 +143,8 @@ public class TokenValidatorProducer {
 
         tokenValidator = builder.build();
 
-        // Use the same SecurityEventCounter instance we used for initialization
-        // Note: tokenValidator.getSecurityEventCounter() returns the same instance
-        this.securityEventCounter = eventCounter;
+        // Expose the SecurityEventCounter the issuers have been initialized with
+        this.securityEventCounter = tokenValidator.getSecurityEventCounter();
 
         LOGGER.info(INFO.JWT_VALIDATION_COMPONENTS_INITIALIZED, issuerConfigs.size());
     }
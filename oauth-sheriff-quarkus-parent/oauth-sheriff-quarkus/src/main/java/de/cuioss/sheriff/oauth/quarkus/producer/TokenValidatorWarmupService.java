@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.quarkus.producer;
+
+import de.cuioss.sheriff.oauth.core.TokenValidator;
+import de.cuioss.sheriff.oauth.quarkus.config.JwtPropertyKeys;
+import de.cuioss.tools.logging.CuiLogger;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.Config;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static de.cuioss.sheriff.oauth.quarkus.OAuthSheriffQuarkusLogMessages.INFO;
+import static de.cuioss.sheriff.oauth.quarkus.OAuthSheriffQuarkusLogMessages.WARN;
+
+/**
+ * Runs the JIT warmup of the {@link TokenValidator} on application startup.
+ * <p>
+ * If enabled via {@link JwtPropertyKeys.WARMUP#ENABLED}, the warmup runs on a background thread,
+ * so the startup itself is not delayed. The readiness check
+ * {@link de.cuioss.sheriff.oauth.quarkus.health.TokenValidatorWarmupHealthCheck} reports DOWN
+ * until the warmup has completed, keeping traffic away from a cold instance.
+ * <p>
+ * A failing warmup is logged and considered completed, since a cold instance is still able to
+ * validate tokens.
+ *
+ * @since 1.0
+ */
+@ApplicationScoped
+public class TokenValidatorWarmupService {
+
+    private static final CuiLogger LOGGER = new CuiLogger(TokenValidatorWarmupService.class);
+
+    private static final String THREAD_NAME = "TokenValidator-Warmup";
+
+    private final TokenValidator tokenValidator;
+    private final boolean enabled;
+    private final int iterations;
+    private final Optional<Long> durationMs;
+
+    private final AtomicBoolean completed = new AtomicBoolean();
+    private final AtomicLong validations = new AtomicLong();
+
+    @Inject
+    public TokenValidatorWarmupService(TokenValidator tokenValidator, Config config) {
+        this.tokenValidator = tokenValidator;
+        this.enabled = config.getOptionalValue(JwtPropertyKeys.WARMUP.ENABLED, Boolean.class).orElse(false);
+        this.iterations = config.getOptionalValue(JwtPropertyKeys.WARMUP.ITERATIONS, Integer.class)
+                .orElse(TokenValidator.DEFAULT_WARMUP_ITERATIONS);
+        this.durationMs = config.getOptionalValue(JwtPropertyKeys.WARMUP.DURATION_MS, Long.class);
+        this.completed.set(!enabled);
+    }
+
+    /**
+     * Starts the warmup in the background if enabled.
+     *
+     * @param event the startup event
+     */
+    void onStartup(@Observes StartupEvent event) {
+        if (!enabled) {
+            return;
+        }
+        LOGGER.info(INFO.STARTING_TOKEN_VALIDATOR_WARMUP);
+        Thread.ofPlatform().name(THREAD_NAME).daemon(true).start(this::runWarmup);
+    }
+
+    private void runWarmup() {
+        try {
+            long performed = durationMs.isPresent()
+                    ? tokenValidator.warmup(Duration.ofMillis(durationMs.get()))
+                    : tokenValidator.warmup(iterations);
+            validations.set(performed);
+        } catch (RuntimeException e) {
+            LOGGER.warn(e, WARN.TOKEN_VALIDATOR_WARMUP_FAILED, e.getMessage());
+        } finally {
+            completed.set(true);
+        }
+    }
+
+    /**
+     * @return whether the warmup is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return whether the warmup has completed; always true if the warmup is disabled
+     */
+    public boolean isCompleted() {
+        return completed.get();
+    }
+
+    /**
+     * @return the number of validations performed by the completed warmup
+     */
+    public long getValidations() {
+        return validations.get();
+    }
+}
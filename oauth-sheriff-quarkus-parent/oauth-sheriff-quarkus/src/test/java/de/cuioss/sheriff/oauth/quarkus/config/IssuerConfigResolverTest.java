@@ -16,6 +16,8 @@
 package de.cuioss.sheriff.oauth.quarkus.config;
 
 import de.cuioss.sheriff.oauth.core.IssuerConfig;
+import de.cuioss.sheriff.oauth.core.jwks.JwksType;
+import de.cuioss.sheriff.oauth.core.jwks.file.FileJwksLoader;
 import de.cuioss.sheriff.oauth.core.security.SignatureAlgorithmPreferences;
 import de.cuioss.sheriff.oauth.quarkus.test.TestConfig;
 import de.cuioss.test.juli.TestLogLevel;
@@ -249,6 +251,68 @@ class IssuerConfigResolverTest {
                     "Exception should indicate mutual exclusivity violation");
         }
 
+        @Test
+        @DisplayName("should read the JWKS file once by default")
+        void shouldReadJwksFileOnce() {
+            TestConfig config = new TestConfig(Map.of(
+                    JwtPropertyKeys.ISSUERS.ISSUER_IDENTIFIER.formatted(TEST_ISSUER), "https://example.com",
+                    JwtPropertyKeys.ISSUERS.JWKS_FILE_PATH.formatted(TEST_ISSUER), "target/jwks.json"
+            ));
+            IssuerConfigResolver resolver = new IssuerConfigResolver(config);
+
+            IssuerConfig issuer = resolver.resolveIssuerConfigs().getFirst();
+
+            assertEquals(JwksType.FILE, issuer.getJwksLoader().getJwksType());
+            assertFalse(issuer.getJwksLoader() instanceof FileJwksLoader, "Should not watch the file by default");
+        }
+
+        @Test
+        @DisplayName("should configure a watched JWKS file")
+        void shouldConfigureWatchedJwksFile() {
+            TestConfig config = new TestConfig(Map.of(
+                    JwtPropertyKeys.ISSUERS.ISSUER_IDENTIFIER.formatted(TEST_ISSUER), "https://example.com",
+                    JwtPropertyKeys.ISSUERS.JWKS_FILE_PATH.formatted(TEST_ISSUER), "target/jwks.json",
+                    JwtPropertyKeys.ISSUERS.JWKS_FILE_WATCH.formatted(TEST_ISSUER), "true",
+                    JwtPropertyKeys.ISSUERS.JWKS_FILE_POLL_INTERVAL_SECONDS.formatted(TEST_ISSUER), "30",
+                    JwtPropertyKeys.ISSUERS.JWKS_FILE_KEY_ROTATION_GRACE_PERIOD_SECONDS.formatted(TEST_ISSUER), "0"
+            ));
+            IssuerConfigResolver resolver = new IssuerConfigResolver(config);
+
+            IssuerConfig issuer = resolver.resolveIssuerConfigs().getFirst();
+
+            assertInstanceOf(FileJwksLoader.class, issuer.getJwksLoader());
+        }
+
+        @Test
+        @DisplayName("should reject watching a classpath JWKS file")
+        void shouldRejectWatchedClasspathJwksFile() {
+            TestConfig config = new TestConfig(Map.of(
+                    JwtPropertyKeys.ISSUERS.ISSUER_IDENTIFIER.formatted(TEST_ISSUER), "https://example.com",
+                    JwtPropertyKeys.ISSUERS.JWKS_FILE_PATH.formatted(TEST_ISSUER), "classpath:keys/test_public_key.jwks",
+                    JwtPropertyKeys.ISSUERS.JWKS_FILE_WATCH.formatted(TEST_ISSUER), "true"
+            ));
+            IssuerConfigResolver resolver = new IssuerConfigResolver(config);
+
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    resolver::resolveIssuerConfigs);
+
+            assertTrue(exception.getMessage().contains("cannot be watched"));
+        }
+
+        @Test
+        @DisplayName("should reject an invalid poll interval of a watched JWKS file")
+        void shouldRejectInvalidPollInterval() {
+            TestConfig config = new TestConfig(Map.of(
+                    JwtPropertyKeys.ISSUERS.ISSUER_IDENTIFIER.formatted(TEST_ISSUER), "https://example.com",
+                    JwtPropertyKeys.ISSUERS.JWKS_FILE_PATH.formatted(TEST_ISSUER), "target/jwks.json",
+                    JwtPropertyKeys.ISSUERS.JWKS_FILE_WATCH.formatted(TEST_ISSUER), "true",
+                    JwtPropertyKeys.ISSUERS.JWKS_FILE_POLL_INTERVAL_SECONDS.formatted(TEST_ISSUER), "0"
+            ));
+            IssuerConfigResolver resolver = new IssuerConfigResolver(config);
+
+            assertThrows(IllegalArgumentException.class, resolver::resolveIssuerConfigs);
+        }
+
     }
 
     @Nested
@@ -369,6 +433,40 @@ class IssuerConfigResolverTest {
             IssuerConfig issuer = result.getFirst();
             assertFalse(issuer.isClaimSubOptional(), "Should default claimSubOptional to false");
         }
+
+        @ParameterizedTest
+        @DisplayName("should configure preSignatureClaimValidation flag")
+        @CsvSource({
+                "true, true",
+                "false, false"
+        })
+        void shouldConfigurePreSignatureClaimValidation(String configuredValue, boolean expectedValue) {
+            TestConfig config = new TestConfig(Map.of(
+                    JwtPropertyKeys.ISSUERS.PRE_SIGNATURE_CLAIM_VALIDATION.formatted(TEST_ISSUER), configuredValue,
+                    JwtPropertyKeys.ISSUERS.JWKS_URL.formatted(TEST_ISSUER), "https://example.com/jwks"
+            ));
+            IssuerConfigResolver resolver = new IssuerConfigResolver(config);
+
+            List<IssuerConfig> result = resolver.resolveIssuerConfigs();
+
+            assertEquals(1, result.size());
+            assertEquals(expectedValue, result.getFirst().isPreSignatureClaimValidation(),
+                    "Should configure preSignatureClaimValidation to " + expectedValue);
+        }
+
+        @Test
+        @DisplayName("should default preSignatureClaimValidation to false when not specified")
+        void shouldDefaultPreSignatureClaimValidationToFalse() {
+            TestConfig config = new TestConfig(Map.of(
+                    JwtPropertyKeys.ISSUERS.JWKS_URL.formatted(TEST_ISSUER), "https://example.com/jwks"
+            ));
+            IssuerConfigResolver resolver = new IssuerConfigResolver(config);
+
+            List<IssuerConfig> result = resolver.resolveIssuerConfigs();
+
+            assertEquals(1, result.size());
+            assertFalse(result.getFirst().isPreSignatureClaimValidation(), "Should default preSignatureClaimValidation to false");
+        }
     }
 
     @Nested
@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.quarkus.config;
+
+import de.cuioss.sheriff.oauth.core.IssuerStartupConfig;
+import de.cuioss.test.juli.junit5.EnableTestLogger;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import org.eclipse.microprofile.config.Config;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static de.cuioss.sheriff.oauth.quarkus.config.JwtPropertyKeys.STARTUP;
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnableTestLogger
+class IssuerStartupConfigResolverTest {
+
+    @Test
+    void resolveWithDefaults() {
+        Config config = new SmallRyeConfigBuilder().build();
+
+        IssuerStartupConfig startupConfig = new IssuerStartupConfigResolver(config).resolveIssuerStartupConfig();
+
+        assertEquals(IssuerStartupConfig.DEFAULT_MAX_CONCURRENT_INITIALIZATIONS, startupConfig.getMaxConcurrentInitializations());
+        assertEquals(IssuerStartupConfig.DEFAULT_STARTUP_DEADLINE, startupConfig.getStartupDeadline());
+        assertFalse(startupConfig.isLazyActivation());
+        assertEquals(IssuerStartupConfig.DEFAULT_IDLE_TIMEOUT, startupConfig.getIdleTimeout());
+        assertEquals(IssuerStartupConfig.DEFAULT_MAX_ACTIVE_ISSUERS, startupConfig.getMaxActiveIssuers());
+    }
+
+    @Test
+    void resolveWithCustomValues() {
+        Config config = new SmallRyeConfigBuilder()
+                .withDefaultValues(Map.of(
+                        STARTUP.MAX_CONCURRENT_INITIALIZATIONS, "4",
+                        STARTUP.DEADLINE_SECONDS, "10"))
+                .build();
+
+        IssuerStartupConfig startupConfig = new IssuerStartupConfigResolver(config).resolveIssuerStartupConfig();
+
+        assertEquals(4, startupConfig.getMaxConcurrentInitializations());
+        assertEquals(Duration.ofSeconds(10), startupConfig.getStartupDeadline());
+    }
+
+    @Test
+    void resolveWithLazyActivation() {
+        Config config = new SmallRyeConfigBuilder()
+                .withDefaultValues(Map.of(
+                        STARTUP.LAZY_ACTIVATION, "true",
+                        STARTUP.IDLE_TIMEOUT_SECONDS, "600",
+                        STARTUP.MAX_ACTIVE_ISSUERS, "100"))
+                .build();
+
+        IssuerStartupConfig startupConfig = new IssuerStartupConfigResolver(config).resolveIssuerStartupConfig();
+
+        assertTrue(startupConfig.isLazyActivation());
+        assertEquals(Duration.ofSeconds(600), startupConfig.getIdleTimeout());
+        assertEquals(100, startupConfig.getMaxActiveIssuers());
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.quarkus.config;
+
+import de.cuioss.sheriff.oauth.core.security.EventCategory;
+import de.cuioss.sheriff.oauth.core.security.SecurityEventLogConfig;
+import de.cuioss.test.juli.junit5.EnableTestLogger;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import org.eclipse.microprofile.config.Config;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static de.cuioss.sheriff.oauth.quarkus.config.JwtPropertyKeys.SECURITY_LOG;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@EnableTestLogger
+class SecurityEventLogConfigResolverTest {
+
+    @Test
+    void resolveWithDefaults() {
+        Config config = new SmallRyeConfigBuilder().build();
+
+        SecurityEventLogConfig logConfig = new SecurityEventLogConfigResolver(config).resolveSecurityEventLogConfig();
+
+        assertEquals(SecurityEventLogConfig.DEFAULT_INTERVAL_SECONDS, logConfig.getIntervalSeconds());
+        assertEquals(SecurityEventLogConfig.DEFAULT_MAX_EVENTS_PER_INTERVAL, logConfig.getMaxEventsPerInterval());
+        assertEquals(SecurityEventLogConfig.DEFAULT_MAX_EVENTS_PER_INTERVAL, logConfig.getLimit(EventCategory.INVALID_SIGNATURE));
+    }
+
+    @Test
+    void resolveWithCustomValues() {
+        Map<String, String> properties = Map.of(
+                SECURITY_LOG.INTERVAL_SECONDS, "30",
+                SECURITY_LOG.MAX_EVENTS_PER_INTERVAL, "20",
+                SECURITY_LOG.CATEGORY_MAX_EVENTS_PER_INTERVAL.formatted("invalid-signature"), "5",
+                SECURITY_LOG.CATEGORY_MAX_EVENTS_PER_INTERVAL.formatted("semantic-issues"), "-1"
+        );
+        Config config = new SmallRyeConfigBuilder()
+                .withDefaultValues(properties)
+                .build();
+
+        SecurityEventLogConfig logConfig = new SecurityEventLogConfigResolver(config).resolveSecurityEventLogConfig();
+
+        assertEquals(30L, logConfig.getIntervalSeconds());
+        assertEquals(20, logConfig.getLimit(EventCategory.INVALID_STRUCTURE));
+        assertEquals(5, logConfig.getLimit(EventCategory.INVALID_SIGNATURE));
+        assertEquals(SecurityEventLogConfig.UNLIMITED, logConfig.getLimit(EventCategory.SEMANTIC_ISSUES));
+    }
+}
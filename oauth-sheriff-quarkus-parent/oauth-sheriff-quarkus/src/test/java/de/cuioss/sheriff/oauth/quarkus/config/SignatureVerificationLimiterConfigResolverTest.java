@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.quarkus.config;
+
+import de.cuioss.sheriff.oauth.core.pipeline.SignatureVerificationLimiterConfig;
+import de.cuioss.sheriff.oauth.core.pipeline.SignatureVerificationLimiterConfig.OverloadStrategy;
+import de.cuioss.test.juli.junit5.EnableTestLogger;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import org.eclipse.microprofile.config.Config;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static de.cuioss.sheriff.oauth.quarkus.config.JwtPropertyKeys.SIGNATURE_LIMITER;
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnableTestLogger
+class SignatureVerificationLimiterConfigResolverTest {
+
+    @Test
+    void resolveDisabledByDefault() {
+        Config config = new SmallRyeConfigBuilder().build();
+
+        assertTrue(new SignatureVerificationLimiterConfigResolver(config)
+                .resolveSignatureVerificationLimiterConfig().isEmpty());
+    }
+
+    @Test
+    void resolveWithDefaults() {
+        Config config = new SmallRyeConfigBuilder()
+                .withDefaultValues(Map.of(SIGNATURE_LIMITER.ENABLED, "true"))
+                .build();
+
+        SignatureVerificationLimiterConfig limiterConfig = new SignatureVerificationLimiterConfigResolver(config)
+                .resolveSignatureVerificationLimiterConfig().orElseThrow();
+
+        assertEquals(SignatureVerificationLimiterConfig.DEFAULT_MAX_LIMIT, limiterConfig.getMaxLimit());
+        assertEquals(SignatureVerificationLimiterConfig.DEFAULT_LATENCY_THRESHOLD, limiterConfig.getLatencyThreshold());
+        assertEquals(OverloadStrategy.QUEUE, limiterConfig.getOverloadStrategy());
+    }
+
+    @Test
+    void resolveWithCustomValues() {
+        Map<String, String> properties = Map.of(
+                SIGNATURE_LIMITER.ENABLED, "true",
+                SIGNATURE_LIMITER.INITIAL_LIMIT, "4",
+                SIGNATURE_LIMITER.MIN_LIMIT, "2",
+                SIGNATURE_LIMITER.MAX_LIMIT, "16",
+                SIGNATURE_LIMITER.LATENCY_THRESHOLD_MS, "5",
+                SIGNATURE_LIMITER.BACKOFF_RATIO, "0.5",
+                SIGNATURE_LIMITER.OVERLOAD_STRATEGY, "fail-fast",
+                SIGNATURE_LIMITER.MAX_QUEUE_WAIT_MS, "50"
+        );
+        Config config = new SmallRyeConfigBuilder()
+                .withDefaultValues(properties)
+                .build();
+
+        SignatureVerificationLimiterConfig limiterConfig = new SignatureVerificationLimiterConfigResolver(config)
+                .resolveSignatureVerificationLimiterConfig().orElseThrow();
+
+        assertEquals(4, limiterConfig.getInitialLimit());
+        assertEquals(2, limiterConfig.getMinLimit());
+        assertEquals(16, limiterConfig.getMaxLimit());
+        assertEquals(Duration.ofMillis(5), limiterConfig.getLatencyThreshold());
+        assertEquals(0.5, limiterConfig.getBackoffRatio());
+        assertEquals(OverloadStrategy.FAIL_FAST, limiterConfig.getOverloadStrategy());
+        assertEquals(Duration.ofMillis(50), limiterConfig.getMaxQueueWait());
+    }
+
+    @Test
+    void rejectUnknownOverloadStrategy() {
+        Config config = new SmallRyeConfigBuilder()
+                .withDefaultValues(Map.of(
+                        SIGNATURE_LIMITER.ENABLED, "true",
+                        SIGNATURE_LIMITER.OVERLOAD_STRATEGY, "drop-everything"))
+                .build();
+        var resolver = new SignatureVerificationLimiterConfigResolver(config);
+
+        assertThrows(IllegalArgumentException.class, resolver::resolveSignatureVerificationLimiterConfig);
+    }
+}
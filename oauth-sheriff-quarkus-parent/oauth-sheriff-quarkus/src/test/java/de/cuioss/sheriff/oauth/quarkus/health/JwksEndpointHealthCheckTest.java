@@ -311,6 +311,60 @@ class JwksEndpointHealthCheckTest {
                 "Status should be DOWN");
     }
 
+    @Test
+    @DisplayName("Health check should be UP with one ready issuer if not all issuers are required")
+    void healthCheckWithPartialReadiness() {
+        IssuerConfig healthyIssuerConfig = IssuerConfig.builder()
+                .issuerIdentifier("healthy-issuer")
+                .jwksLoader(new HealthyJwksLoader())
+                .build();
+        IssuerConfig unhealthyIssuerConfig = IssuerConfig.builder()
+                .issuerIdentifier("unhealthy-issuer")
+                .jwksLoader(new UnhealthyJwksLoader())
+                .build();
+        JwksEndpointHealthCheck partialHealthCheck = new JwksEndpointHealthCheck(
+                List.of(healthyIssuerConfig, unhealthyIssuerConfig), 30, false);
+
+        HealthCheckResponse response = partialHealthCheck.call();
+
+        assertEquals(HealthCheckResponse.Status.UP, response.getStatus(),
+                "Health check status should be UP with one ready issuer");
+        Map<String, Object> data = response.getData().orElseThrow();
+        assertEquals(1, ((Number) data.get("readyEndpoints")).intValue(),
+                "Should report one ready endpoint");
+        assertEquals("READY", data.get("issuer.0.readiness"),
+                "Healthy issuer should be READY");
+        assertEquals("FAILED", data.get("issuer.1.readiness"),
+                "Unhealthy issuer should be FAILED");
+    }
+
+    @Test
+    @DisplayName("Health check should not wait for inactive issuers with lazy activation")
+    void healthCheckWithLazyActivation() {
+        IssuerConfig activeIssuerConfig = IssuerConfig.builder()
+                .issuerIdentifier("active-issuer")
+                .jwksLoader(new HealthyJwksLoader())
+                .build();
+        IssuerConfig inactiveIssuerConfig = IssuerConfig.builder()
+                .issuerIdentifier("inactive-issuer")
+                .jwksLoader(new InactiveJwksLoader())
+                .build();
+        JwksEndpointHealthCheck lazyHealthCheck = new JwksEndpointHealthCheck(
+                List.of(activeIssuerConfig, inactiveIssuerConfig), 30, true, true);
+
+        HealthCheckResponse response = lazyHealthCheck.call();
+
+        assertEquals(HealthCheckResponse.Status.UP, response.getStatus(),
+                "Health check status should be UP if all active issuers are ready");
+        Map<String, Object> data = response.getData().orElseThrow();
+        assertEquals("READY", data.get("issuer.0.readiness"),
+                "Active issuer should be READY");
+        assertEquals("INACTIVE", data.get("issuer.1.readiness"),
+                "Issuer not activated yet should be INACTIVE");
+        assertEquals("COMPLETE", data.get("loading"),
+                "Inactive issuers should not be reported as loading");
+    }
+
     @Test
     @DisplayName("Health check should handle cache expiration")
     void healthCheckCacheExpiration() {
@@ -511,4 +565,14 @@ class JwksEndpointHealthCheckTest {
         }
 
     }
+
+    /**
+     * JwksLoader of an issuer that has not been activated yet.
+     */
+    private static class InactiveJwksLoader extends UnhealthyJwksLoader {
+        @Override
+        public LoaderStatus getLoaderStatus() {
+            return LoaderStatus.UNDEFINED;
+        }
+    }
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.quarkus.health;
+
+import de.cuioss.sheriff.oauth.quarkus.config.JwtTestProfile;
+import de.cuioss.test.juli.junit5.EnableTestLogger;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+@TestProfile(JwtTestProfile.class)
+@EnableTestLogger
+@DisplayName("TokenValidatorWarmupHealthCheck")
+class TokenValidatorWarmupHealthCheckTest {
+
+    @Inject
+    @Readiness
+    TokenValidatorWarmupHealthCheck healthCheck;
+
+    @Test
+    @DisplayName("should return UP status if the warmup is disabled")
+    void shouldBeUpIfDisabled() {
+        HealthCheckResponse response = healthCheck.call();
+
+        assertEquals("jwt-warmup", response.getName(), "Health check should have correct name");
+        assertEquals(HealthCheckResponse.Status.UP, response.getStatus(),
+                "Disabled warmup must not block readiness");
+        assertTrue(response.getData().isPresent(), "Health check data should be present");
+        Map<String, Object> data = response.getData().get();
+        assertEquals(false, data.get("enabled"), "Warmup should be disabled by default");
+    }
+}
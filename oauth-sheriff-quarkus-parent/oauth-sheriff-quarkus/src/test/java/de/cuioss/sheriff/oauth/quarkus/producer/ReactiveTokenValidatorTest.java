@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.sheriff.oauth.quarkus.producer;
+
+import de.cuioss.sheriff.oauth.core.exception.TokenValidationException;
+import de.cuioss.sheriff.oauth.quarkus.config.JwtTestProfile;
+import de.cuioss.test.juli.junit5.EnableTestLogger;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Quarkus integration tests for {@link ReactiveTokenValidator}.
+ */
+@QuarkusTest
+@TestProfile(JwtTestProfile.class)
+@EnableTestLogger
+class ReactiveTokenValidatorTest {
+
+    @Inject
+    ReactiveTokenValidator reactiveTokenValidator;
+
+    @Test
+    @DisplayName("Should emit a failure for invalid tokens")
+    void shouldFailForInvalidToken() {
+        var uni = reactiveTokenValidator.createAccessToken("invalid.token.format");
+
+        assertThrows(TokenValidationException.class, () -> uni.await().atMost(Duration.ofSeconds(5)),
+                "Reactive validation should reject invalid tokens");
+    }
+
+    @Test
+    @DisplayName("Should not start the validation before subscription")
+    void shouldBeLazy() {
+        assertDoesNotThrow(() -> reactiveTokenValidator.createAccessToken("invalid.token.format"));
+    }
+}